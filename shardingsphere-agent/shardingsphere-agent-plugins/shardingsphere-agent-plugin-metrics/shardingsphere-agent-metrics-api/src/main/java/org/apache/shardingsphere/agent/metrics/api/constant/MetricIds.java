@@ -49,6 +49,8 @@ public final class MetricIds {
     
     public static final String METADATA_INFO = "meta_data_info";
     
+    public static final String PROXY_DATA_SOURCE_BULKHEAD = "proxy_data_source_bulkhead";
+    
     public static final String PARSE_SQL_SELECT = "parse_sql_dml_select_total";
     
     public static final String PARSE_SQL_UPDATE = "parse_sql_dml_update_total";
@@ -70,4 +72,8 @@ public final class MetricIds {
     public static final String PARSE_DIST_SQL_RDL = "parse_dist_sql_rdl_total";
     
     public static final String PARSE_DIST_SQL_RAL = "parse_dist_sql_ral_total";
+    
+    public static final String MERGE_SPILL = "merge_spill_total";
+    
+    public static final String MERGE_SPILL_BYTES = "merge_spill_bytes_total";
 }
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.util.MetricsUtil;
+import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
+import org.apache.shardingsphere.infra.executor.kernel.thread.bulkhead.DataSourceBulkhead;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Data source bulkhead collector.
+ */
+public final class DataSourceBulkheadCollector extends Collector {
+    
+    private static final String RUNNING_COUNT = "running_count";
+    
+    private static final String QUEUE_DEPTH = "queue_depth";
+    
+    private static final String AVERAGE_WAIT_NANOS = "average_wait_nanos";
+    
+    private static final String MAX_WAIT_NANOS = "max_wait_nanos";
+    
+    private static final String REJECTED_COUNT = "rejected_count";
+    
+    private static final String PROXY_CONTEXT_CLASS = "org.apache.shardingsphere.proxy.backend.context.ProxyContext";
+    
+    private static final PrometheusWrapperFactory FACTORY = new PrometheusWrapperFactory();
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        if (!MetricsUtil.isClassExisted(PROXY_CONTEXT_CLASS) || null == ProxyContext.getInstance().getContextManager()) {
+            return Collections.emptyList();
+        }
+        Optional<GaugeMetricFamily> bulkheadInfo = FACTORY.createGaugeMetricFamily(MetricIds.PROXY_DATA_SOURCE_BULKHEAD);
+        if (!bulkheadInfo.isPresent()) {
+            return Collections.emptyList();
+        }
+        for (DataSourceBulkhead each : BackendExecutorContext.getInstance().getExecutorEngine().getExecutorServiceManager().getBulkheadScheduler().getBulkheads()) {
+            collect(bulkheadInfo.get(), each);
+        }
+        return Collections.singletonList(bulkheadInfo.get());
+    }
+    
+    private void collect(final GaugeMetricFamily metricFamily, final DataSourceBulkhead bulkhead) {
+        metricFamily.addMetric(Arrays.asList(bulkhead.getDatabaseName(), bulkhead.getDataSourceName(), RUNNING_COUNT), bulkhead.getRunningCount());
+        metricFamily.addMetric(Arrays.asList(bulkhead.getDatabaseName(), bulkhead.getDataSourceName(), QUEUE_DEPTH), bulkhead.getQueueDepth());
+        metricFamily.addMetric(Arrays.asList(bulkhead.getDatabaseName(), bulkhead.getDataSourceName(), AVERAGE_WAIT_NANOS), bulkhead.getAverageWaitNanos());
+        metricFamily.addMetric(Arrays.asList(bulkhead.getDatabaseName(), bulkhead.getDataSourceName(), MAX_WAIT_NANOS), bulkhead.getMaxWaitNanos());
+        metricFamily.addMetric(Arrays.asList(bulkhead.getDatabaseName(), bulkhead.getDataSourceName(), REJECTED_COUNT), bulkhead.getRejectedCount());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector.MetricFamilySamples;
+import io.prometheus.client.Collector.MetricFamilySamples.Sample;
+import org.apache.shardingsphere.agent.metrics.prometheus.ProxyContextRestorer;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DataSourceBulkheadCollectorTest extends ProxyContextRestorer {
+    
+    @Test
+    public void assertCollect() throws ExecutionException, InterruptedException {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE.getKey(), "1");
+        when(contextManager.getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(props));
+        ProxyContext.init(contextManager);
+        BackendExecutorContext.getInstance().getExecutorEngine().getExecutorServiceManager().getBulkheadScheduler().submit("foo_db", "foo_ds", null, () -> 1).get();
+        List<MetricFamilySamples> actual = new DataSourceBulkheadCollector().collect();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).samples.size(), is(5));
+        assertTrue(actual.get(0).samples.stream().anyMatch(each -> isSample(each, "queue_depth", 0D)));
+        assertTrue(actual.get(0).samples.stream().anyMatch(each -> isSample(each, "rejected_count", 0D)));
+    }
+    
+    private boolean isSample(final Sample sample, final String name, final double value) {
+        return sample.labelValues.equals(Arrays.asList("foo_db", "foo_ds", name)) && value == sample.value;
+    }
+}
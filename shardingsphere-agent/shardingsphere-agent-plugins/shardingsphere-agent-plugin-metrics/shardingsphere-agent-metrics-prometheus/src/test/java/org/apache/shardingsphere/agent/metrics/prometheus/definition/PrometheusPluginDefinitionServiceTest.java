@@ -26,6 +26,6 @@ public final class PrometheusPluginDefinitionServiceTest {
     
     @Test
     public void assertDefine() {
-        assertThat(new PrometheusPluginDefinitionService().install().size(), is(5));
+        assertThat(new PrometheusPluginDefinitionService().install().size(), is(6));
     }
 }
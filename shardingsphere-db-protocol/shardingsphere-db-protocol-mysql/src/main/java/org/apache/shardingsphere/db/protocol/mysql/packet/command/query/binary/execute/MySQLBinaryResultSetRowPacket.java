@@ -18,61 +18,51 @@
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.binary.BinaryColumnType;
 import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
-import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Binary result set row packet for MySQL.
  * 
  * @see <a href="https://dev.mysql.com/doc/internals/en/binary-protocol-resultset-row.html">Binary Protocol Resultset Row</a>
  */
-@RequiredArgsConstructor
 public final class MySQLBinaryResultSetRowPacket implements MySQLPacket {
     
     private static final int PACKET_HEADER = 0x00;
     
-    private static final int NULL_BITMAP_OFFSET = 2;
-    
     @Getter
     private final int sequenceId;
     
-    private final BinaryRow row;
+    private final MySQLBinaryRowEncoder encoder;
     
-    @Override
-    public void write(final MySQLPacketPayload payload) {
-        payload.writeInt1(PACKET_HEADER);
-        writeNullBitmap(payload);
-        writeValues(payload);
-    }
+    private final List<Object> values;
     
-    private void writeNullBitmap(final MySQLPacketPayload payload) {
-        for (int each : getNullBitmap().getNullBitmap()) {
-            payload.writeInt1(each);
+    public MySQLBinaryResultSetRowPacket(final int sequenceId, final BinaryRow row) {
+        this.sequenceId = sequenceId;
+        List<BinaryColumnType> columnTypes = new ArrayList<>(row.getCells().size());
+        values = new ArrayList<>(row.getCells().size());
+        for (BinaryCell each : row.getCells()) {
+            columnTypes.add(each.getColumnType());
+            values.add(each.getData());
         }
+        encoder = new MySQLBinaryRowEncoder(columnTypes);
     }
     
-    private MySQLNullBitmap getNullBitmap() {
-        MySQLNullBitmap result = new MySQLNullBitmap(row.getCells().size(), NULL_BITMAP_OFFSET);
-        int index = 0;
-        for (BinaryCell each : row.getCells()) {
-            if (null == each.getData()) {
-                result.setNullBit(index);
-            }
-            index++;
-        }
-        return result;
+    public MySQLBinaryResultSetRowPacket(final int sequenceId, final MySQLBinaryRowEncoder encoder, final List<Object> values) {
+        this.sequenceId = sequenceId;
+        this.encoder = encoder;
+        this.values = values;
     }
     
-    private void writeValues(final MySQLPacketPayload payload) {
-        for (BinaryCell each : row.getCells()) {
-            Object data = each.getData();
-            if (null != data) {
-                MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(each.getColumnType()).write(payload, data);
-            }
-        }
+    @Override
+    public void write(final MySQLPacketPayload payload) {
+        payload.writeInt1(PACKET_HEADER);
+        encoder.encode(payload, values);
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import org.apache.shardingsphere.db.protocol.binary.BinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.util.List;
+
+/**
+ * Binary row encoder for MySQL.
+ * 
+ * <p>Binary protocol values are resolved once per column of result set, and reused for every row of the result set.</p>
+ */
+public final class MySQLBinaryRowEncoder {
+    
+    private static final int NULL_BITMAP_OFFSET = 2;
+    
+    private final BinaryColumnType[] columnTypes;
+    
+    private final MySQLBinaryProtocolValue[] binaryProtocolValues;
+    
+    public MySQLBinaryRowEncoder(final List<? extends BinaryColumnType> columnTypes) {
+        this.columnTypes = columnTypes.toArray(new BinaryColumnType[0]);
+        binaryProtocolValues = new MySQLBinaryProtocolValue[this.columnTypes.length];
+    }
+    
+    /**
+     * Encode row values into payload.
+     *
+     * @param payload packet payload
+     * @param values row values
+     */
+    public void encode(final MySQLPacketPayload payload, final List<Object> values) {
+        writeNullBitmap(payload, values);
+        writeValues(payload, values);
+    }
+    
+    private void writeNullBitmap(final MySQLPacketPayload payload, final List<Object> values) {
+        int bitmapLength = (values.size() + NULL_BITMAP_OFFSET + 7) / 8;
+        for (int bytePosition = 0; bytePosition < bitmapLength; bytePosition++) {
+            int bits = 0;
+            for (int bitPosition = 0; bitPosition < 8; bitPosition++) {
+                int columnIndex = bytePosition * 8 + bitPosition - NULL_BITMAP_OFFSET;
+                if (columnIndex >= 0 && columnIndex < values.size() && null == values.get(columnIndex)) {
+                    bits |= 1 << bitPosition;
+                }
+            }
+            payload.writeInt1(bits);
+        }
+    }
+    
+    private void writeValues(final MySQLPacketPayload payload, final List<Object> values) {
+        for (int columnIndex = 0; columnIndex < values.size(); columnIndex++) {
+            Object value = values.get(columnIndex);
+            if (null != value) {
+                getBinaryProtocolValue(columnIndex).write(payload, value);
+            }
+        }
+    }
+    
+    private MySQLBinaryProtocolValue getBinaryProtocolValue(final int columnIndex) {
+        MySQLBinaryProtocolValue result = binaryProtocolValues[columnIndex];
+        if (null == result) {
+            result = MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnTypes[columnIndex]);
+            binaryProtocolValues[columnIndex] = result;
+        }
+        return result;
+    }
+}
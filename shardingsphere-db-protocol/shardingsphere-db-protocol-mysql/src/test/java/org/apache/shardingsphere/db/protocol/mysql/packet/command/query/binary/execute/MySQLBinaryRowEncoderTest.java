@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLBinaryRowEncoderTest {
+    
+    @Mock
+    private MySQLPacketPayload payload;
+    
+    @Test
+    public void assertEncode() {
+        MySQLBinaryRowEncoder encoder = new MySQLBinaryRowEncoder(
+                Arrays.asList(MySQLBinaryColumnType.MYSQL_TYPE_LONG, MySQLBinaryColumnType.MYSQL_TYPE_STRING, MySQLBinaryColumnType.MYSQL_TYPE_STRING));
+        encoder.encode(payload, Arrays.asList(1, null, "foo"));
+        verify(payload).writeInt1(0x08);
+        verify(payload).writeInt4(1);
+        verify(payload).writeStringLenenc("foo");
+    }
+    
+    @Test
+    public void assertEncodeMultipleRows() {
+        MySQLBinaryRowEncoder encoder = new MySQLBinaryRowEncoder(Arrays.asList(MySQLBinaryColumnType.MYSQL_TYPE_STRING, MySQLBinaryColumnType.MYSQL_TYPE_STRING));
+        encoder.encode(payload, Arrays.asList(null, "foo"));
+        encoder.encode(payload, Arrays.asList("bar", null));
+        verify(payload).writeInt1(0x04);
+        verify(payload).writeInt1(0x08);
+        verify(payload).writeStringLenenc("foo");
+        verify(payload).writeStringLenenc("bar");
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
 import lombok.Getter;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLArrayColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 
 import java.sql.Types;
@@ -41,12 +42,18 @@ public final class PostgreSQLColumnDescription {
     
     private final int typeModifier = -1;
     
-    private final int dataFormat = 0;
+    private final int dataFormat;
     
     public PostgreSQLColumnDescription(final String columnName, final int columnIndex, final int columnType, final int columnLength, final String columnTypeName) {
+        this(columnName, columnIndex, columnType, columnLength, columnTypeName, PostgreSQLValueFormat.TEXT);
+    }
+    
+    public PostgreSQLColumnDescription(final String columnName, final int columnIndex, final int columnType, final int columnLength, final String columnTypeName,
+                                       final PostgreSQLValueFormat dataFormat) {
         this.columnName = columnName;
         this.columnIndex = columnIndex;
         this.columnLength = columnLength;
+        this.dataFormat = dataFormat.getCode();
         typeOID = Types.ARRAY == columnType ? PostgreSQLArrayColumnType.getTypeOid(columnTypeName) : PostgreSQLColumnType.valueOfJDBCType(columnType).getValue();
     }
 }
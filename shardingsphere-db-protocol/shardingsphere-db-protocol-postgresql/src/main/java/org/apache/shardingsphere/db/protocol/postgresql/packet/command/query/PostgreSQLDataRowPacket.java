@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
+import io.netty.buffer.ByteBuf;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
@@ -59,8 +60,11 @@ public final class PostgreSQLDataRowPacket implements PostgreSQLIdentifierPacket
             return;
         }
         PostgreSQLBinaryProtocolValue binaryProtocolValue = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(each.getColumnType());
-        payload.writeInt4(binaryProtocolValue.getColumnLength(value));
+        ByteBuf byteBuf = payload.getByteBuf();
+        int lengthIndex = byteBuf.writerIndex();
+        payload.writeInt4(0);
         binaryProtocolValue.write(payload, value);
+        byteBuf.setInt(lengthIndex, byteBuf.writerIndex() - lengthIndex - 4);
     }
     
     private void writeTextValue(final PostgreSQLPacketPayload payload, final Object each) {
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol;
+
+import io.netty.buffer.ByteBuf;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * PostgreSQL array value encoder for binary format.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLArrayValueEncoder {
+    
+    private final PostgreSQLColumnType elementType;
+    
+    private final PostgreSQLBinaryProtocolValue elementProtocolValue;
+    
+    /**
+     * Encode array value.
+     *
+     * @param payload payload operation for PostgreSQL packet
+     * @param value {@link Array}, Java array or nested Java arrays
+     */
+    public void encode(final PostgreSQLPacketPayload payload, final Object value) {
+        Object array = toJavaArray(value);
+        List<Integer> dimensions = new ArrayList<>(1);
+        Collection<Object> elements = new ArrayList<>();
+        flatten(array, 0, dimensions, elements);
+        payload.writeInt4(elements.isEmpty() ? 0 : dimensions.size());
+        payload.writeInt4(elements.contains(null) ? 1 : 0);
+        payload.writeInt4(elementType.getValue());
+        if (elements.isEmpty()) {
+            return;
+        }
+        for (int each : dimensions) {
+            payload.writeInt4(each);
+            payload.writeInt4(1);
+        }
+        for (Object each : elements) {
+            writeElement(payload, each);
+        }
+    }
+    
+    private Object toJavaArray(final Object value) {
+        if (value instanceof Array) {
+            try {
+                return ((Array) value).getArray();
+            } catch (final SQLException ex) {
+                throw new IllegalArgumentException(ex.getMessage(), ex);
+            }
+        }
+        return value;
+    }
+    
+    private void flatten(final Object array, final int depth, final List<Integer> dimensions, final Collection<Object> elements) {
+        int length = java.lang.reflect.Array.getLength(array);
+        if (dimensions.size() == depth) {
+            dimensions.add(length);
+        }
+        for (int i = 0; i < length; i++) {
+            Object element = java.lang.reflect.Array.get(array, i);
+            if (null != element && element.getClass().isArray() && !(element instanceof byte[])) {
+                flatten(element, depth + 1, dimensions, elements);
+            } else {
+                elements.add(element);
+            }
+        }
+    }
+    
+    private void writeElement(final PostgreSQLPacketPayload payload, final Object element) {
+        if (null == element) {
+            payload.writeInt4(0xFFFFFFFF);
+            return;
+        }
+        ByteBuf byteBuf = payload.getByteBuf();
+        int lengthIndex = byteBuf.writerIndex();
+        payload.writeInt4(0);
+        elementProtocolValue.write(payload, element);
+        byteBuf.setInt(lengthIndex, byteBuf.writerIndex() - lengthIndex - 4);
+    }
+}
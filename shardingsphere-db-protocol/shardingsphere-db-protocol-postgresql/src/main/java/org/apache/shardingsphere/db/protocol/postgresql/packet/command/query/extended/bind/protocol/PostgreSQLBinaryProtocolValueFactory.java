@@ -45,6 +45,8 @@ public final class PostgreSQLBinaryProtocolValueFactory {
         setNumericBinaryProtocolValue();
         setDateBinaryProtocolValue();
         setTimeBinaryProtocolValue();
+        setBoolBinaryProtocolValue();
+        setByteaBinaryProtocolValue();
         setInt2ArrayBinaryProtocolValue();
         setInt4ArrayBinaryProtocolValue();
         setInt8ArrayBinaryProtocolValue();
@@ -63,6 +65,9 @@ public final class PostgreSQLBinaryProtocolValueFactory {
         PostgreSQLStringBinaryProtocolValue binaryProtocolValue = new PostgreSQLStringBinaryProtocolValue();
         BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.POSTGRESQL_TYPE_VARCHAR, binaryProtocolValue);
         BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.POSTGRESQL_TYPE_CHAR, binaryProtocolValue);
+        BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.POSTGRESQL_TYPE_BPCHAR, binaryProtocolValue);
+        BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.POSTGRESQL_TYPE_TEXT, binaryProtocolValue);
+        BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.POSTGRESQL_TYPE_NAME, binaryProtocolValue);
     }
     
     private static void setInt8BinaryProtocolValue() {
@@ -105,6 +110,14 @@ public final class PostgreSQLBinaryProtocolValueFactory {
         BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.POSTGRESQL_TYPE_TIMESTAMP, binaryProtocolValue);
     }
     
+    private static void setBoolBinaryProtocolValue() {
+        BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.POSTGRESQL_TYPE_BOOL, new PostgreSQLBoolBinaryProtocolValue());
+    }
+    
+    private static void setByteaBinaryProtocolValue() {
+        BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.POSTGRESQL_TYPE_BYTEA, new PostgreSQLByteaBinaryProtocolValue());
+    }
+    
     private static void setInt2ArrayBinaryProtocolValue() {
         BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.POSTGRESQL_TYPE_INT2_ARRAY, new PostgreSQLInt2ArrayBinaryProtocolValue());
     }
@@ -130,9 +143,19 @@ public final class PostgreSQLBinaryProtocolValueFactory {
     }
     
     private static void setStringArrayBinaryProtocolValue() {
-        BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.POSTGRESQL_TYPE_VARCHAR_ARRAY, new PostgreSQLStringArrayBinaryProtocolValue());
-        BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.POSTGRESQL_TYPE_CHAR_ARRAY, new PostgreSQLStringArrayBinaryProtocolValue());
-        BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.POSTGRESQL_TYPE_TEXT_ARRAY, new PostgreSQLStringArrayBinaryProtocolValue());
+        BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.POSTGRESQL_TYPE_VARCHAR_ARRAY, new PostgreSQLStringArrayBinaryProtocolValue(PostgreSQLColumnType.POSTGRESQL_TYPE_VARCHAR));
+        BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.POSTGRESQL_TYPE_CHAR_ARRAY, new PostgreSQLStringArrayBinaryProtocolValue(PostgreSQLColumnType.POSTGRESQL_TYPE_CHAR));
+        BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.POSTGRESQL_TYPE_TEXT_ARRAY, new PostgreSQLStringArrayBinaryProtocolValue(PostgreSQLColumnType.POSTGRESQL_TYPE_TEXT));
+    }
+    
+    /**
+     * Judge whether binary protocol value is supported.
+     *
+     * @param binaryColumnType binary column type
+     * @return is supported or not
+     */
+    public static boolean isSupported(final BinaryColumnType binaryColumnType) {
+        return BINARY_PROTOCOL_VALUES.containsKey(binaryColumnType);
     }
     
     /**
@@ -19,25 +19,45 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.ex
 
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
+import java.sql.Date;
 import java.sql.Timestamp;
+import java.time.LocalDate;
 
 /**
  * Binary protocol value for date for PostgreSQL.
  */
 public final class PostgreSQLDateBinaryProtocolValue implements PostgreSQLBinaryProtocolValue {
     
+    private static final long POSTGRESQL_EPOCH_DAY = LocalDate.of(2000, 1, 1).toEpochDay();
+    
     @Override
     public int getColumnLength(final Object value) {
-        return 8;
+        return 4;
     }
     
     @Override
     public Object read(final PostgreSQLPacketPayload payload, final int parameterValueLength) {
-        return payload.readInt8();
+        return Date.valueOf(LocalDate.ofEpochDay(POSTGRESQL_EPOCH_DAY + payload.readInt4()));
     }
     
     @Override
     public void write(final PostgreSQLPacketPayload payload, final Object value) {
-        payload.writeInt8(((Timestamp) value).getTime());
+        payload.writeInt4((int) (toLocalDate(value).toEpochDay() - POSTGRESQL_EPOCH_DAY));
+    }
+    
+    private LocalDate toLocalDate(final Object value) {
+        if (value instanceof LocalDate) {
+            return (LocalDate) value;
+        }
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime().toLocalDate();
+        }
+        if (value instanceof Date) {
+            return ((Date) value).toLocalDate();
+        }
+        if (value instanceof java.util.Date) {
+            return new Date(((java.util.Date) value).getTime()).toLocalDate();
+        }
+        return LocalDate.parse(value.toString());
     }
 }
@@ -36,6 +36,6 @@ public final class PostgreSQLDoubleBinaryProtocolValue implements PostgreSQLBina
     
     @Override
     public void write(final PostgreSQLPacketPayload payload, final Object value) {
-        payload.getByteBuf().writeDouble(Double.parseDouble(value.toString()));
+        payload.getByteBuf().writeDouble(value instanceof Number ? ((Number) value).doubleValue() : Double.parseDouble(value.toString()));
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol;
 
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
 /**
@@ -26,6 +27,8 @@ public final class PostgreSQLFloat4ArrayBinaryProtocolValue implements PostgreSQ
     
     private static final PostgreSQLArrayParameterDecoder ARRAY_PARAMETER_DECODER = new PostgreSQLArrayParameterDecoder();
     
+    private static final PostgreSQLArrayValueEncoder ARRAY_VALUE_ENCODER = new PostgreSQLArrayValueEncoder(PostgreSQLColumnType.POSTGRESQL_TYPE_FLOAT4, new PostgreSQLFloatBinaryProtocolValue());
+    
     @Override
     public int getColumnLength(final Object value) {
         throw new UnsupportedOperationException("PostgreSQLFloat4ArrayBinaryProtocolValue.getColumnLength()");
@@ -40,6 +43,6 @@ public final class PostgreSQLFloat4ArrayBinaryProtocolValue implements PostgreSQ
     
     @Override
     public void write(final PostgreSQLPacketPayload payload, final Object value) {
-        throw new UnsupportedOperationException("PostgreSQLFloat4ArrayBinaryProtocolValue.write()");
+        ARRAY_VALUE_ENCODER.encode(payload, value);
     }
 }
@@ -36,6 +36,6 @@ public final class PostgreSQLFloatBinaryProtocolValue implements PostgreSQLBinar
     
     @Override
     public void write(final PostgreSQLPacketPayload payload, final Object value) {
-        payload.getByteBuf().writeFloat(Float.parseFloat(value.toString()));
+        payload.getByteBuf().writeFloat(value instanceof Number ? ((Number) value).floatValue() : Float.parseFloat(value.toString()));
     }
 }
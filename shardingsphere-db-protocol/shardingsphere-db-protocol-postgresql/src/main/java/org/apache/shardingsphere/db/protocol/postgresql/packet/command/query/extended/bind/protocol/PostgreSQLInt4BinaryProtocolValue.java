@@ -36,6 +36,6 @@ public final class PostgreSQLInt4BinaryProtocolValue implements PostgreSQLBinary
     
     @Override
     public void write(final PostgreSQLPacketPayload payload, final Object value) {
-        payload.writeInt4((Integer) value);
+        payload.writeInt4(value instanceof Number ? ((Number) value).intValue() : Integer.parseInt(value.toString()));
     }
 }
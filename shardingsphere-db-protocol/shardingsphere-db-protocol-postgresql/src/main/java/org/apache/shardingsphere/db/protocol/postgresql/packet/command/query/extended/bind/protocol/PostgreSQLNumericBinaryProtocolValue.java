@@ -20,16 +20,17 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.ex
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
 
 /**
  * Binary protocol value for numeric for PostgreSQL.
  */
 public final class PostgreSQLNumericBinaryProtocolValue implements PostgreSQLBinaryProtocolValue {
     
+    private static final byte[] NAN_BYTES = {0, 0, 0, 0, (byte) 0xC0, 0, 0, 0};
+    
     @Override
     public int getColumnLength(final Object value) {
-        return value instanceof BigDecimal ? PostgreSQLByteConverter.numeric((BigDecimal) value).length : value.toString().getBytes(StandardCharsets.UTF_8).length;
+        return toBytes(value).length;
     }
     
     @Override
@@ -41,6 +42,16 @@ public final class PostgreSQLNumericBinaryProtocolValue implements PostgreSQLBin
     
     @Override
     public void write(final PostgreSQLPacketPayload payload, final Object value) {
-        payload.writeBytes(value instanceof BigDecimal ? PostgreSQLByteConverter.numeric((BigDecimal) value) : value.toString().getBytes(StandardCharsets.UTF_8));
+        payload.writeBytes(toBytes(value));
+    }
+    
+    private byte[] toBytes(final Object value) {
+        if (value instanceof BigDecimal) {
+            return PostgreSQLByteConverter.numeric((BigDecimal) value);
+        }
+        if (value instanceof Double && ((Double) value).isNaN()) {
+            return NAN_BYTES;
+        }
+        return PostgreSQLByteConverter.numeric(new BigDecimal(value.toString()));
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol;
 
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
 /**
@@ -26,6 +27,12 @@ public final class PostgreSQLStringArrayBinaryProtocolValue implements PostgreSQ
     
     private static final PostgreSQLArrayParameterDecoder ARRAY_PARAMETER_DECODER = new PostgreSQLArrayParameterDecoder();
     
+    private final PostgreSQLArrayValueEncoder arrayValueEncoder;
+    
+    public PostgreSQLStringArrayBinaryProtocolValue(final PostgreSQLColumnType elementType) {
+        arrayValueEncoder = new PostgreSQLArrayValueEncoder(elementType, new PostgreSQLStringBinaryProtocolValue());
+    }
+    
     @Override
     public int getColumnLength(final Object value) {
         throw new UnsupportedOperationException("PostgreSQLStringArrayBinaryProtocolValue.getColumnLength()");
@@ -40,6 +47,6 @@ public final class PostgreSQLStringArrayBinaryProtocolValue implements PostgreSQ
     
     @Override
     public void write(final PostgreSQLPacketPayload payload, final Object value) {
-        throw new UnsupportedOperationException("PostgreSQLStringArrayBinaryProtocolValue.write()");
+        arrayValueEncoder.encode(payload, value);
     }
 }
@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
+import io.netty.buffer.ByteBuf;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.ByteBufTestUtils;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
@@ -107,11 +109,26 @@ public final class PostgreSQLDataRowPacketTest {
     @Test
     public void assertWriteBinaryInt4() {
         final int value = 12345678;
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(10);
         PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singletonList(new BinaryCell(PostgreSQLColumnType.POSTGRESQL_TYPE_INT4, value)));
-        actual.write(payload);
-        verify(payload).writeInt2(1);
-        verify(payload).writeInt4(4);
-        verify(payload).writeInt4(value);
+        actual.write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
+        assertThat(byteBuf.readShort(), is((short) 1));
+        assertThat(byteBuf.readInt(), is(4));
+        assertThat(byteBuf.readInt(), is(value));
+    }
+    
+    @Test
+    public void assertWriteBinaryMultiByteString() {
+        String value = "中文";
+        byte[] expectedBytes = value.getBytes(StandardCharsets.UTF_8);
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(6 + expectedBytes.length);
+        PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singletonList(new BinaryCell(PostgreSQLColumnType.POSTGRESQL_TYPE_VARCHAR, value)));
+        actual.write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
+        assertThat(byteBuf.readShort(), is((short) 1));
+        assertThat(byteBuf.readInt(), is(expectedBytes.length));
+        byte[] actualBytes = new byte[expectedBytes.length];
+        byteBuf.readBytes(actualBytes);
+        assertThat(actualBytes, is(expectedBytes));
     }
     
     @Test
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.ByteBufTestUtils;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PostgreSQLArrayValueEncoderTest {
+    
+    private final PostgreSQLArrayValueEncoder encoder = new PostgreSQLArrayValueEncoder(PostgreSQLColumnType.POSTGRESQL_TYPE_INT4, new PostgreSQLInt4BinaryProtocolValue());
+    
+    @Test
+    public void assertEncodeWithNullElement() {
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(32);
+        encoder.encode(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8), new Integer[]{1, null});
+        assertHeader(byteBuf, 1, 1);
+        assertThat(byteBuf.readInt(), is(2));
+        assertThat(byteBuf.readInt(), is(1));
+        assertThat(byteBuf.readInt(), is(4));
+        assertThat(byteBuf.readInt(), is(1));
+        assertThat(byteBuf.readInt(), is(-1));
+        assertThat(byteBuf.readableBytes(), is(0));
+    }
+    
+    @Test
+    public void assertEncodeEmptyArray() {
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(12);
+        encoder.encode(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8), new Integer[0]);
+        assertHeader(byteBuf, 0, 0);
+        assertThat(byteBuf.readableBytes(), is(0));
+    }
+    
+    @Test
+    public void assertEncodeMultiDimensionalArray() throws SQLException {
+        Array array = mock(Array.class);
+        when(array.getArray()).thenReturn(new Integer[][]{{1, 2}, {3, 4}});
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(60);
+        encoder.encode(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8), array);
+        assertHeader(byteBuf, 2, 0);
+        for (int i = 0; i < 2; i++) {
+            assertThat(byteBuf.readInt(), is(2));
+            assertThat(byteBuf.readInt(), is(1));
+        }
+        for (int i = 1; i <= 4; i++) {
+            assertThat(byteBuf.readInt(), is(4));
+            assertThat(byteBuf.readInt(), is(i));
+        }
+        assertThat(byteBuf.readableBytes(), is(0));
+    }
+    
+    private void assertHeader(final ByteBuf byteBuf, final int dimensions, final int hasNull) {
+        assertThat(byteBuf.readInt(), is(dimensions));
+        assertThat(byteBuf.readInt(), is(hasNull));
+        assertThat(byteBuf.readInt(), is(PostgreSQLColumnType.POSTGRESQL_TYPE_INT4.getValue()));
+    }
+}
@@ -21,7 +21,9 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.ext
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class PostgreSQLBinaryProtocolValueFactoryTest {
     
@@ -85,6 +87,24 @@ public final class PostgreSQLBinaryProtocolValueFactoryTest {
         assertThat(binaryProtocolValue, instanceOf(PostgreSQLTimeBinaryProtocolValue.class));
     }
     
+    @Test
+    public void assertGetBoolBinaryProtocolValue() {
+        PostgreSQLBinaryProtocolValue binaryProtocolValue = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(PostgreSQLColumnType.POSTGRESQL_TYPE_BOOL);
+        assertThat(binaryProtocolValue, instanceOf(PostgreSQLBoolBinaryProtocolValue.class));
+    }
+    
+    @Test
+    public void assertGetByteaBinaryProtocolValue() {
+        PostgreSQLBinaryProtocolValue binaryProtocolValue = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(PostgreSQLColumnType.POSTGRESQL_TYPE_BYTEA);
+        assertThat(binaryProtocolValue, instanceOf(PostgreSQLByteaBinaryProtocolValue.class));
+    }
+    
+    @Test
+    public void assertIsSupported() {
+        assertTrue(PostgreSQLBinaryProtocolValueFactory.isSupported(PostgreSQLColumnType.POSTGRESQL_TYPE_TEXT));
+        assertFalse(PostgreSQLBinaryProtocolValueFactory.isSupported(PostgreSQLColumnType.POSTGRESQL_TYPE_XML));
+    }
+    
     @Test(expected = IllegalArgumentException.class)
     public void assertGetBinaryProtocolValueExThrown() {
         PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(PostgreSQLColumnType.POSTGRESQL_TYPE_XML);
@@ -52,9 +52,16 @@ public final class PostgreSQLBoolArrayBinaryProtocolValueTest {
         assertThat(byteBuf.readerIndex(), is(expectedLength));
     }
     
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void assertWrite() {
-        newInstance().write(new PostgreSQLPacketPayload(null, StandardCharsets.UTF_8), "val");
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(30);
+        newInstance().write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8), new boolean[]{true, false});
+        byteBuf.skipBytes(20);
+        assertThat(byteBuf.readInt(), is(1));
+        assertThat(byteBuf.readByte(), is((byte) 1));
+        assertThat(byteBuf.readInt(), is(1));
+        assertThat(byteBuf.readByte(), is((byte) 0));
+        assertThat(byteBuf.readableBytes(), is(0));
     }
     
 }
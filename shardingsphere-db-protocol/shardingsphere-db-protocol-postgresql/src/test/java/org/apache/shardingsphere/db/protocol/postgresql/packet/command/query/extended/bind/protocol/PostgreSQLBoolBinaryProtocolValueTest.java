@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol;
+
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLBoolBinaryProtocolValueTest {
+    
+    @Mock
+    private PostgreSQLPacketPayload payload;
+    
+    @Test
+    public void assertGetColumnLength() {
+        assertThat(new PostgreSQLBoolBinaryProtocolValue().getColumnLength(true), is(1));
+    }
+    
+    @Test
+    public void assertRead() {
+        when(payload.readInt1()).thenReturn(1);
+        assertThat(new PostgreSQLBoolBinaryProtocolValue().read(payload, 1), is(true));
+    }
+    
+    @Test
+    public void assertWriteBoolean() {
+        new PostgreSQLBoolBinaryProtocolValue().write(payload, true);
+        verify(payload).writeInt1(1);
+    }
+    
+    @Test
+    public void assertWriteText() {
+        new PostgreSQLBoolBinaryProtocolValue().write(payload, "f");
+        verify(payload).writeInt1(0);
+    }
+}
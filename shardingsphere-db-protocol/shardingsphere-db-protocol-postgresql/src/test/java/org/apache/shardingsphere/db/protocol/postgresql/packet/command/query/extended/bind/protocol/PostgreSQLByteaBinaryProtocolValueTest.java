@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.ByteBufTestUtils;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PostgreSQLByteaBinaryProtocolValueTest {
+    
+    @Test
+    public void assertGetColumnLength() {
+        assertThat(new PostgreSQLByteaBinaryProtocolValue().getColumnLength(new byte[]{1, 2}), is(2));
+    }
+    
+    @Test
+    public void assertRead() {
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(2);
+        byteBuf.writeBytes(new byte[]{1, 2});
+        assertThat(new PostgreSQLByteaBinaryProtocolValue().read(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8), 2), is(new byte[]{1, 2}));
+        assertThat(byteBuf.readableBytes(), is(0));
+    }
+    
+    @Test
+    public void assertWrite() {
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(2);
+        new PostgreSQLByteaBinaryProtocolValue().write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8), new byte[]{1, 2});
+        assertThat(byteBuf.readByte(), is((byte) 1));
+        assertThat(byteBuf.readByte(), is((byte) 2));
+    }
+}
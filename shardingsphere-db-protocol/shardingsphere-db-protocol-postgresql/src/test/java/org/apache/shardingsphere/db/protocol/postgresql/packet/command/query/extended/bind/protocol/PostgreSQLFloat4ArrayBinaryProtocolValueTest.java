@@ -52,9 +52,16 @@ public final class PostgreSQLFloat4ArrayBinaryProtocolValueTest {
         assertThat(byteBuf.readerIndex(), is(expectedLength));
     }
     
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void assertWrite() {
-        newInstance().write(new PostgreSQLPacketPayload(null, StandardCharsets.UTF_8), "val");
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(36);
+        newInstance().write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8), new float[]{11.1F, 12.1F});
+        byteBuf.skipBytes(20);
+        assertThat(byteBuf.readInt(), is(4));
+        assertThat(byteBuf.readFloat(), is(11.1F));
+        assertThat(byteBuf.readInt(), is(4));
+        assertThat(byteBuf.readFloat(), is(12.1F));
+        assertThat(byteBuf.readableBytes(), is(0));
     }
     
 }
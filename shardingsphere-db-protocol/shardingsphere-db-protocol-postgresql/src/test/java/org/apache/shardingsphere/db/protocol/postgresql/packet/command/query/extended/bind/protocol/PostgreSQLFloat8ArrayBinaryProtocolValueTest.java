@@ -52,9 +52,16 @@ public final class PostgreSQLFloat8ArrayBinaryProtocolValueTest {
         assertThat(byteBuf.readerIndex(), is(expectedLength));
     }
     
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void assertWrite() {
-        newInstance().write(new PostgreSQLPacketPayload(null, StandardCharsets.UTF_8), "val");
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(44);
+        newInstance().write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8), new double[]{11.1D, 12.1D});
+        byteBuf.skipBytes(20);
+        assertThat(byteBuf.readInt(), is(8));
+        assertThat(byteBuf.readDouble(), is(11.1D));
+        assertThat(byteBuf.readInt(), is(8));
+        assertThat(byteBuf.readDouble(), is(12.1D));
+        assertThat(byteBuf.readableBytes(), is(0));
     }
     
 }
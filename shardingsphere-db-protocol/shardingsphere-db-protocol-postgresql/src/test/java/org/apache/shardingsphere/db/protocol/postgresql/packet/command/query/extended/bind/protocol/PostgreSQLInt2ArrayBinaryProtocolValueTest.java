@@ -52,9 +52,16 @@ public final class PostgreSQLInt2ArrayBinaryProtocolValueTest {
         assertThat(byteBuf.readerIndex(), is(expectedLength));
     }
     
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void assertWrite() {
-        newInstance().write(new PostgreSQLPacketPayload(null, StandardCharsets.UTF_8), "val");
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(32);
+        newInstance().write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8), new short[]{11, 12});
+        byteBuf.skipBytes(20);
+        assertThat(byteBuf.readInt(), is(2));
+        assertThat(byteBuf.readShort(), is((short) 11));
+        assertThat(byteBuf.readInt(), is(2));
+        assertThat(byteBuf.readShort(), is((short) 12));
+        assertThat(byteBuf.readableBytes(), is(0));
     }
     
 }
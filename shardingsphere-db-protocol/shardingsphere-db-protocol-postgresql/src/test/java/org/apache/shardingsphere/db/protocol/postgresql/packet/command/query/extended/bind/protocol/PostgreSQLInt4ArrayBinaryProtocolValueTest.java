@@ -52,9 +52,16 @@ public final class PostgreSQLInt4ArrayBinaryProtocolValueTest {
         assertThat(byteBuf.readerIndex(), is(expectedLength));
     }
     
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void assertWrite() {
-        newInstance().write(new PostgreSQLPacketPayload(null, StandardCharsets.UTF_8), "val");
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(36);
+        newInstance().write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8), new int[]{11, 12});
+        byteBuf.skipBytes(20);
+        assertThat(byteBuf.readInt(), is(4));
+        assertThat(byteBuf.readInt(), is(11));
+        assertThat(byteBuf.readInt(), is(4));
+        assertThat(byteBuf.readInt(), is(12));
+        assertThat(byteBuf.readableBytes(), is(0));
     }
     
 }
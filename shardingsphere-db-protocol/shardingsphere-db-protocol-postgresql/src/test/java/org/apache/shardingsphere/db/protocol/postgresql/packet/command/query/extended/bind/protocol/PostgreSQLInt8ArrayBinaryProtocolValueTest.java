@@ -52,9 +52,16 @@ public final class PostgreSQLInt8ArrayBinaryProtocolValueTest {
         assertThat(byteBuf.readerIndex(), is(expectedLength));
     }
     
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void assertWrite() {
-        newInstance().write(new PostgreSQLPacketPayload(null, StandardCharsets.UTF_8), "val");
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(44);
+        newInstance().write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8), new long[]{11L, 12L});
+        byteBuf.skipBytes(20);
+        assertThat(byteBuf.readInt(), is(8));
+        assertThat(byteBuf.readLong(), is(11L));
+        assertThat(byteBuf.readInt(), is(8));
+        assertThat(byteBuf.readLong(), is(12L));
+        assertThat(byteBuf.readableBytes(), is(0));
     }
     
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.ex
 
 import io.netty.buffer.ByteBuf;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.ByteBufTestUtils;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 import org.junit.Test;
 
@@ -30,7 +31,7 @@ import static org.junit.Assert.assertThat;
 public final class PostgreSQLStringArrayBinaryProtocolValueTest {
     
     private PostgreSQLBinaryProtocolValue newInstance() {
-        return new PostgreSQLStringArrayBinaryProtocolValue();
+        return new PostgreSQLStringArrayBinaryProtocolValue(PostgreSQLColumnType.POSTGRESQL_TYPE_VARCHAR);
     }
     
     @Test(expected = UnsupportedOperationException.class)
@@ -52,9 +53,16 @@ public final class PostgreSQLStringArrayBinaryProtocolValueTest {
         assertThat(byteBuf.readerIndex(), is(expectedLength));
     }
     
-    @Test(expected = UnsupportedOperationException.class)
+    @Test
     public void assertWrite() {
-        newInstance().write(new PostgreSQLPacketPayload(null, StandardCharsets.UTF_8), "val");
+        ByteBuf byteBuf = ByteBufTestUtils.createByteBuf(30);
+        newInstance().write(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8), new String[]{"a", "b"});
+        byteBuf.skipBytes(20);
+        assertThat(byteBuf.readInt(), is(1));
+        assertThat(byteBuf.readByte(), is((byte) 'a'));
+        assertThat(byteBuf.readInt(), is(1));
+        assertThat(byteBuf.readByte(), is((byte) 'b'));
+        assertThat(byteBuf.readableBytes(), is(0));
     }
     
 }
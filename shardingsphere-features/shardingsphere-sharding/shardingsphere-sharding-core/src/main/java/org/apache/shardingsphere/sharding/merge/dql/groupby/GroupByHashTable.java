@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Open addressing hash table keyed on group by values.
+ * 
+ * <p>Group by values are looked up by a reusable key array with precomputed hash code, which equals to hash code of {@link GroupByValue},
+ * so lookup of existing group does not allocate.</p>
+ *
+ * @param <V> type of value
+ */
+public final class GroupByHashTable<V> {
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    private Object[][] keys;
+    
+    private int[] hashes;
+    
+    private Object[] values;
+    
+    @Getter
+    private int size;
+    
+    public GroupByHashTable() {
+        allocate(INITIAL_CAPACITY);
+    }
+    
+    /**
+     * Calculate hash code of group by values.
+     * 
+     * @param groupValues group by values
+     * @return hash code
+     */
+    public static int hash(final Object[] groupValues) {
+        return Arrays.hashCode(groupValues);
+    }
+    
+    /**
+     * Get value.
+     * 
+     * @param groupValues group by values
+     * @param hash hash code of group by values
+     * @return value, null if absent
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final Object[] groupValues, final int hash) {
+        int mask = keys.length - 1;
+        for (int slot = spread(hash) & mask; null != keys[slot]; slot = slot + 1 & mask) {
+            if (hashes[slot] == hash && Arrays.equals(keys[slot], groupValues)) {
+                return (V) values[slot];
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Put value of absent group by values.
+     * 
+     * @param groupValues group by values, which should not be modified after put
+     * @param hash hash code of group by values
+     * @param value value
+     */
+    public void put(final Object[] groupValues, final int hash, final V value) {
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        insert(groupValues, hash, value);
+        size++;
+    }
+    
+    private void insert(final Object[] groupValues, final int hash, final Object value) {
+        int mask = keys.length - 1;
+        int slot = spread(hash) & mask;
+        while (null != keys[slot]) {
+            slot = slot + 1 & mask;
+        }
+        keys[slot] = groupValues;
+        hashes[slot] = hash;
+        values[slot] = value;
+    }
+    
+    private void resize() {
+        Object[][] oldKeys = keys;
+        int[] oldHashes = hashes;
+        Object[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (null != oldKeys[i]) {
+                insert(oldKeys[i], oldHashes[i], oldValues[i]);
+            }
+        }
+    }
+    
+    private void allocate(final int capacity) {
+        keys = new Object[capacity][];
+        hashes = new int[capacity];
+        values = new Object[capacity];
+    }
+    
+    private int spread(final int hash) {
+        int result = hash * 0x9E3779B9;
+        return result ^ result >>> 16;
+    }
+    
+    /**
+     * Get values.
+     * 
+     * @return values
+     */
+    @SuppressWarnings("unchecked")
+    public List<V> values() {
+        List<V> result = new ArrayList<>(size);
+        for (int i = 0; i < keys.length; i++) {
+            if (null != keys[i]) {
+                result.add((V) values[i]);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Clear.
+     */
+    public void clear() {
+        allocate(INITIAL_CAPACITY);
+        size = 0;
+    }
+}
@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
@@ -27,6 +29,10 @@ import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementConte
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.RowSizeEstimator;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SortedRunsMergedRows;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillFile;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpilledQueryResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
@@ -36,70 +42,229 @@ import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 
 /**
  * Memory merged result for group by.
+ * 
+ * <p>When estimated size of groups exceeds memory budget, rows of new groups are spilled into hash partitions,
+ * which are aggregated one by one and written as sorted runs, then merged externally.</p>
  */
 public final class GroupByMemoryMergedResult extends MemoryMergedResult<ShardingRule> {
     
+    private static final int SPILL_PARTITION_COUNT = 16;
+    
+    private static final int MAX_SPILL_LEVEL = 3;
+    
+    private static final long AGGREGATION_UNIT_BYTES = 64L;
+    
     public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
-        super(null, schema, selectStatementContext, queryResults);
+        this(queryResults, selectStatementContext, schema, 0L);
+    }
+    
+    public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                                     final long memoryBudgetBytes) throws SQLException {
+        super(null, schema, selectStatementContext, queryResults, memoryBudgetBytes);
     }
     
     @Override
-    protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
-                                              final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
+    protected Iterable<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
+                                                  final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
-        for (QueryResult each : queryResults) {
-            while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
-                aggregate(selectStatementContext, each, groupByValue, aggregationMap);
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+        GroupByRowComparator comparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        Collection<SpillFile> sortedRuns = new LinkedList<>();
+        try {
+            List<MemoryQueryResultRow> result = aggregateGroups(selectStatementContext, queryResults, comparator, sortedRuns, 0);
+            if (!sortedRuns.isEmpty()) {
+                return new SortedRunsMergedRows(sortedRuns, comparator);
             }
+            return result.isEmpty() ? getEmptyResultSetRows(selectStatementContext) : result;
+        } catch (final SQLException ex) {
+            deleteSpillFiles(sortedRuns);
+            throw ex;
+        } catch (final IOException ex) {
+            deleteSpillFiles(sortedRuns);
+            throw new SQLException(ex);
+        }
+    }
+    
+    private List<MemoryQueryResultRow> aggregateGroups(final SelectStatementContext selectStatementContext, final List<QueryResult> queryResults,
+                                                       final GroupByRowComparator comparator, final Collection<SpillFile> sortedRuns, final int spillLevel) throws SQLException, IOException {
+        List<AggregationProjection> aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections();
+        List<List<Integer>> aggregationColumnTypes = queryResults.isEmpty() ? Collections.emptyList() : getAggregationColumnTypes(queryResults.get(0), aggregationProjections);
+        List<List<Comparable<?>>> aggregationValues = createAggregationValues(aggregationProjections);
+        Object[] groupValues = new Object[selectStatementContext.getGroupByContext().getItems().size()];
+        GroupByHashTable<AggregatedGroup> groups = new GroupByHashTable<>();
+        SpillFile[] partitions = null;
+        long usedBytes = 0L;
+        try {
+            for (QueryResult each : queryResults) {
+                while (each.next()) {
+                    loadGroupValues(each, selectStatementContext.getGroupByContext().getItems(), groupValues);
+                    int hash = GroupByHashTable.hash(groupValues);
+                    AggregatedGroup group = groups.get(groupValues, hash);
+                    if (null == group) {
+                        if (null == partitions && isMemoryBudgetExceeded(usedBytes, spillLevel)) {
+                            partitions = createPartitions();
+                        }
+                        if (null != partitions) {
+                            partitions[getPartitionIndex(hash, spillLevel)].write(getRow(each));
+                            continue;
+                        }
+                        group = new AggregatedGroup(new MemoryQueryResultRow(each), createAggregationUnits(aggregationProjections, aggregationColumnTypes));
+                        groups.put(groupValues.clone(), hash, group);
+                        usedBytes += estimateGroupBytes(selectStatementContext, group.getRow(), each.getMetaData().getColumnCount());
+                    }
+                    aggregate(aggregationProjections, each, group.getAggregationUnits(), aggregationValues);
+                }
+            }
+            List<MemoryQueryResultRow> result = getAggregatedRows(aggregationProjections, groups.values());
+            result.sort(comparator);
+            if (null == partitions) {
+                return result;
+            }
+            int columnCount = queryResults.get(0).getMetaData().getColumnCount();
+            sortedRuns.add(writeSortedRun(result, columnCount));
+            groups.clear();
+            result.clear();
+            for (SpillFile each : partitions) {
+                aggregatePartition(selectStatementContext, queryResults.get(0), each, comparator, sortedRuns, spillLevel);
+            }
+            return Collections.emptyList();
+        } catch (final SQLException | IOException ex) {
+            deleteSpillFiles(null == partitions ? Collections.emptyList() : Arrays.asList(partitions));
+            throw ex;
+        }
+    }
+    
+    private boolean isMemoryBudgetExceeded(final long usedBytes, final int spillLevel) {
+        return getMemoryBudgetBytes() > 0L && usedBytes >= getMemoryBudgetBytes() && spillLevel < MAX_SPILL_LEVEL;
+    }
+    
+    private SpillFile[] createPartitions() throws IOException {
+        SpillFile[] result = new SpillFile[SPILL_PARTITION_COUNT];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new SpillFile();
+        }
+        return result;
+    }
+    
+    private int getPartitionIndex(final int groupValuesHash, final int spillLevel) {
+        int hash = (groupValuesHash ^ spillLevel * 0x9E3779B9) * 0x85EBCA6B;
+        return Math.floorMod(hash ^ hash >>> 16, SPILL_PARTITION_COUNT);
+    }
+    
+    private Object[] getRow(final QueryResult queryResult) throws SQLException {
+        Object[] result = new Object[queryResult.getMetaData().getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private long estimateGroupBytes(final SelectStatementContext selectStatementContext, final MemoryQueryResultRow row, final int columnCount) {
+        return RowSizeEstimator.estimate(row, columnCount) * 2L + selectStatementContext.getProjectionsContext().getAggregationProjections().size() * AGGREGATION_UNIT_BYTES;
+    }
+    
+    private SpillFile writeSortedRun(final List<MemoryQueryResultRow> rows, final int columnCount) throws IOException {
+        SpillFile result = new SpillFile();
+        for (MemoryQueryResultRow each : rows) {
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = each.getCell(i + 1);
+            }
+            result.write(row);
+        }
+        result.finish();
+        return result;
+    }
+    
+    private void aggregatePartition(final SelectStatementContext selectStatementContext, final QueryResult queryResult, final SpillFile partition,
+                                    final GroupByRowComparator comparator, final Collection<SpillFile> sortedRuns, final int spillLevel) throws SQLException, IOException {
+        partition.finish();
+        if (0 == partition.getRowCount()) {
+            partition.delete();
+            return;
+        }
+        try {
+            List<MemoryQueryResultRow> rows = aggregateGroups(selectStatementContext,
+                    Collections.singletonList(new SpilledQueryResult(queryResult.getMetaData(), partition)), comparator, sortedRuns, spillLevel + 1);
+            if (!rows.isEmpty()) {
+                sortedRuns.add(writeSortedRun(rows, queryResult.getMetaData().getColumnCount()));
+            }
+        } finally {
+            partition.delete();
         }
-        setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
-        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
-        return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
     }
     
-    private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                                          final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+    private void deleteSpillFiles(final Collection<SpillFile> spillFiles) {
+        for (SpillFile each : spillFiles) {
+            try {
+                each.delete();
+            } catch (final IOException ignored) {
+            }
         }
-        if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationProjection, AggregationUnit> map = Maps
-                    .toMap(selectStatementContext.getProjectionsContext()
-                            .getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
-            aggregationMap.put(groupByValue, map);
+    }
+    
+    private List<List<Integer>> getAggregationColumnTypes(final QueryResult queryResult, final List<AggregationProjection> aggregationProjections) throws SQLException {
+        List<List<Integer>> result = new ArrayList<>(aggregationProjections.size());
+        for (AggregationProjection each : aggregationProjections) {
+            List<Integer> columnTypes = new ArrayList<>(2);
+            for (AggregationProjection valueProjection : getAggregationValueProjections(each)) {
+                columnTypes.add(queryResult.getMetaData().getColumnType(valueProjection.getIndex()));
+            }
+            result.add(columnTypes);
         }
+        return result;
     }
     
-    private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                           final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationProjections().isEmpty()) {
+    private List<AggregationProjection> getAggregationValueProjections(final AggregationProjection aggregationProjection) {
+        return aggregationProjection.getDerivedAggregationProjections().isEmpty() ? Collections.singletonList(aggregationProjection) : aggregationProjection.getDerivedAggregationProjections();
+    }
+    
+    private List<List<Comparable<?>>> createAggregationValues(final List<AggregationProjection> aggregationProjections) {
+        List<List<Comparable<?>>> result = new ArrayList<>(aggregationProjections.size());
+        for (AggregationProjection each : aggregationProjections) {
+            result.add(new ArrayList<>(getAggregationValueProjections(each).size()));
+        }
+        return result;
+    }
+    
+    private void loadGroupValues(final QueryResult queryResult, final Collection<OrderByItem> groupByItems, final Object[] groupValues) throws SQLException {
+        int index = 0;
+        for (OrderByItem each : groupByItems) {
+            groupValues[index++] = queryResult.getValue(each.getIndex(), Object.class);
+        }
+    }
+    
+    private AggregationUnit[] createAggregationUnits(final List<AggregationProjection> aggregationProjections, final List<List<Integer>> aggregationColumnTypes) {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.size()];
+        for (int i = 0; i < result.length; i++) {
+            AggregationProjection aggregationProjection = aggregationProjections.get(i);
+            result[i] = AggregationUnitFactory.create(aggregationProjection.getType(), aggregationProjection instanceof AggregationDistinctProjection, aggregationColumnTypes.get(i));
+        }
+        return result;
+    }
+    
+    private void aggregate(final List<AggregationProjection> aggregationProjections, final QueryResult queryResult,
+                           final AggregationUnit[] aggregationUnits, final List<List<Comparable<?>>> aggregationValues) throws SQLException {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            List<Comparable<?>> values = aggregationValues.get(i);
+            values.clear();
+            for (AggregationProjection each : getAggregationValueProjections(aggregationProjections.get(i))) {
                 values.add(getAggregationValue(queryResult, each));
-            } else {
-                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(queryResult, derived));
-                }
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            aggregationUnits[i].merge(values);
         }
     }
     
@@ -109,13 +274,15 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return (Comparable<?>) result;
     }
     
-    private void setAggregationValueToMemoryRow(final SelectStatementContext selectStatementContext,
-                                                final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
-        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+    private List<MemoryQueryResultRow> getAggregatedRows(final List<AggregationProjection> aggregationProjections, final List<AggregatedGroup> groups) {
+        List<MemoryQueryResultRow> result = new ArrayList<>(groups.size());
+        for (AggregatedGroup each : groups) {
+            for (int i = 0; i < aggregationProjections.size(); i++) {
+                each.getRow().setCell(aggregationProjections.get(i).getIndex(), each.getAggregationUnits()[i].getResult());
             }
+            result.add(each.getRow());
         }
+        return result;
     }
     
     private List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
@@ -141,15 +308,9 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return false;
     }
     
-    private List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
-                                                              final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
-        if (dataMap.isEmpty()) {
-            Object[] data = generateReturnData(selectStatementContext);
-            return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
-        }
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
-        return result;
+    private List<MemoryQueryResultRow> getEmptyResultSetRows(final SelectStatementContext selectStatementContext) {
+        Object[] data = generateReturnData(selectStatementContext);
+        return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
     }
     
     private Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
@@ -162,4 +323,13 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         }
         return result;
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class AggregatedGroup {
+        
+        private final MemoryQueryResultRow row;
+        
+        private final AggregationUnit[] aggregationUnits;
+    }
 }
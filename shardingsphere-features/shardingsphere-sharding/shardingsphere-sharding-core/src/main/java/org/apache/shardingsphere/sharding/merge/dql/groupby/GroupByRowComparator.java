@@ -23,6 +23,7 @@ import org.apache.shardingsphere.sharding.merge.dql.orderby.CompareUtil;
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
 
 import java.util.Collection;
 import java.util.Comparator;
@@ -46,19 +47,34 @@ public final class GroupByRowComparator implements Comparator<MemoryQueryResultR
         return compare(o1, o2, selectStatementContext.getGroupByContext().getItems());
     }
     
-    @SuppressWarnings("rawtypes")
     private int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2, final Collection<OrderByItem> orderByItems) {
         for (OrderByItem each : orderByItems) {
-            Object orderValue1 = o1.getCell(each.getIndex());
-            Preconditions.checkState(null == orderValue1 || orderValue1 instanceof Comparable, "Order by value must implements Comparable");
-            Object orderValue2 = o2.getCell(each.getIndex());
-            Preconditions.checkState(null == orderValue2 || orderValue2 instanceof Comparable, "Order by value must implements Comparable");
-            int result = CompareUtil.compareTo((Comparable) orderValue1, (Comparable) orderValue2, each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullOrderDirection(), valueCaseSensitive.get(each.getIndex()));
+            int result = compareCell(o1, o2, each);
             if (0 != result) {
                 return result;
             }
         }
         return 0;
     }
+    
+    @SuppressWarnings("rawtypes")
+    private int compareCell(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2, final OrderByItem orderByItem) {
+        int columnIndex = orderByItem.getIndex();
+        if (o1.isLongCell(columnIndex) && o2.isLongCell(columnIndex)) {
+            return withOrderDirection(Long.compare(o1.getLongCell(columnIndex), o2.getLongCell(columnIndex)), orderByItem.getSegment().getOrderDirection());
+        }
+        if (o1.isDoubleCell(columnIndex) && o2.isDoubleCell(columnIndex)) {
+            return withOrderDirection(Double.compare(o1.getDoubleCell(columnIndex), o2.getDoubleCell(columnIndex)), orderByItem.getSegment().getOrderDirection());
+        }
+        Object orderValue1 = o1.getCell(columnIndex);
+        Preconditions.checkState(null == orderValue1 || orderValue1 instanceof Comparable, "Order by value must implements Comparable");
+        Object orderValue2 = o2.getCell(columnIndex);
+        Preconditions.checkState(null == orderValue2 || orderValue2 instanceof Comparable, "Order by value must implements Comparable");
+        return CompareUtil.compareTo((Comparable) orderValue1, (Comparable) orderValue2, orderByItem.getSegment().getOrderDirection(),
+                orderByItem.getSegment().getNullOrderDirection(), valueCaseSensitive.get(columnIndex));
+    }
+    
+    private int withOrderDirection(final int result, final OrderDirection orderDirection) {
+        return OrderDirection.ASC == orderDirection ? result : -result;
+    }
 }
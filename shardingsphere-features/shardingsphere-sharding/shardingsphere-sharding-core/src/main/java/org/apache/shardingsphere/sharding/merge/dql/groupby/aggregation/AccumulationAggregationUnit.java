@@ -38,7 +38,11 @@ public final class AccumulationAggregationUnit implements AggregationUnit {
         if (null == result) {
             result = new BigDecimal("0");
         }
-        result = result.add(new BigDecimal(values.get(0).toString()));
+        result = result.add(toBigDecimal(values.get(0)));
+    }
+    
+    private BigDecimal toBigDecimal(final Comparable<?> value) {
+        return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
     }
     
     @Override
@@ -21,6 +21,9 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
 
+import java.sql.Types;
+import java.util.List;
+
 /**
  * Aggregation unit factory.
  */
@@ -52,4 +55,41 @@ public final class AggregationUnitFactory {
                 throw new UnsupportedOperationException(type.name());
         }
     }
+    
+    /**
+     * Create aggregation unit instance with column types of aggregation values.
+     * 
+     * <p>Aggregation unit with primitive accumulator is created if column types allow it.</p>
+     *
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param columnTypes column types of aggregation values, refer to {@link java.sql.Types}
+     * @return aggregation unit instance
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final List<Integer> columnTypes) {
+        if (isDistinct || columnTypes.isEmpty()) {
+            return create(type, isDistinct);
+        }
+        switch (type) {
+            case MAX:
+                return columnTypes.stream().allMatch(AggregationUnitFactory::isNumericType) ? new NumericComparableAggregationUnit(false) : create(type, false);
+            case MIN:
+                return columnTypes.stream().allMatch(AggregationUnitFactory::isNumericType) ? new NumericComparableAggregationUnit(true) : create(type, false);
+            case SUM:
+            case COUNT:
+                return columnTypes.stream().allMatch(AggregationUnitFactory::isIntegralType) ? new LongAccumulationAggregationUnit() : create(type, false);
+            case AVG:
+                return columnTypes.stream().allMatch(AggregationUnitFactory::isIntegralType) ? new LongAverageAggregationUnit() : create(type, false);
+            default:
+                return create(type, false);
+        }
+    }
+    
+    private static boolean isIntegralType(final int columnType) {
+        return Types.TINYINT == columnType || Types.SMALLINT == columnType || Types.INTEGER == columnType || Types.BIGINT == columnType;
+    }
+    
+    private static boolean isNumericType(final int columnType) {
+        return isIntegralType(columnType) || Types.FLOAT == columnType || Types.REAL == columnType || Types.DOUBLE == columnType;
+    }
 }
@@ -44,8 +44,12 @@ public final class AverageAggregationUnit implements AggregationUnit {
         if (null == sum) {
             sum = new BigDecimal("0");
         }
-        count = count.add(new BigDecimal(values.get(0).toString()));
-        sum = sum.add(new BigDecimal(values.get(1).toString()));
+        count = count.add(toBigDecimal(values.get(0)));
+        sum = sum.add(toBigDecimal(values.get(1)));
+    }
+    
+    private BigDecimal toBigDecimal(final Comparable<?> value) {
+        return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
     }
     
     @Override
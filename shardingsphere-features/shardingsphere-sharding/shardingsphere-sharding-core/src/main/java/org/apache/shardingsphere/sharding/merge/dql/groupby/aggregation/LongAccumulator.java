@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+
+/**
+ * Long accumulator.
+ * 
+ * <p>Integral values are accumulated into primitive long, big decimal is used only after overflow or non-integral value occurs.</p>
+ */
+final class LongAccumulator {
+    
+    private boolean accumulated;
+    
+    private long longSum;
+    
+    private BigDecimal decimalSum;
+    
+    /**
+     * Add value.
+     * 
+     * @param value value to be added
+     */
+    void add(final Object value) {
+        accumulated = true;
+        if (null == decimalSum && isIntegral(value)) {
+            long longValue = ((Number) value).longValue();
+            long sum = longSum + longValue;
+            if (((longSum ^ sum) & (longValue ^ sum)) >= 0L) {
+                longSum = sum;
+                return;
+            }
+        }
+        if (null == decimalSum) {
+            decimalSum = BigDecimal.valueOf(longSum);
+        }
+        decimalSum = decimalSum.add(value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString()));
+    }
+    
+    /**
+     * Get sum.
+     * 
+     * @return sum, null if no value added
+     */
+    BigDecimal getSum() {
+        if (!accumulated) {
+            return null;
+        }
+        return null == decimalSum ? BigDecimal.valueOf(longSum) : decimalSum;
+    }
+    
+    /**
+     * Judge whether value is integral.
+     * 
+     * @param value value
+     * @return is integral or not
+     */
+    static boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Comparable aggregation unit for numeric values.
+ * 
+ * <p>Integral values are compared as primitive long, floating point values are compared as primitive double,
+ * other values fall back to {@link Comparable#compareTo(Object)}.</p>
+ */
+@RequiredArgsConstructor
+public final class NumericComparableAggregationUnit implements AggregationUnit {
+    
+    private final boolean asc;
+    
+    private Comparable<?> result;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        if (null == result) {
+            result = values.get(0);
+            return;
+        }
+        int comparedValue = compare(values.get(0), result);
+        if (asc ? comparedValue < 0 : comparedValue > 0) {
+            result = values.get(0);
+        }
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compare(final Comparable<?> value, final Comparable<?> current) {
+        if (LongAccumulator.isIntegral(value) && LongAccumulator.isIntegral(current)) {
+            return Long.compare(((Number) value).longValue(), ((Number) current).longValue());
+        }
+        if (isFloatingPoint(value) && isFloatingPoint(current)) {
+            return Double.compare(((Number) value).doubleValue(), ((Number) current).doubleValue());
+        }
+        return ((Comparable) value).compareTo(current);
+    }
+    
+    private boolean isFloatingPoint(final Object value) {
+        return value instanceof Double || value instanceof Float;
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return result;
+    }
+}
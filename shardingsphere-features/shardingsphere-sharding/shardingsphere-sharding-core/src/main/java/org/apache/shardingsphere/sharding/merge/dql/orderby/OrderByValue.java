@@ -22,18 +22,20 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.AbstractColumnarMemoryQueryResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -45,17 +47,30 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     @Getter
     private final QueryResult queryResult;
     
+    private final AbstractColumnarMemoryQueryResult columnarQueryResult;
+    
     private final Collection<OrderByItem> orderByItems;
     
     private final List<Boolean> orderValuesCaseSensitive;
     
-    private List<Comparable<?>> orderValues;
+    private final boolean[] integralOrderValues;
+    
+    private final Comparable<?>[] orderValues;
+    
+    private final long[] longOrderValues;
+    
+    private final boolean[] longOrderValuesLoaded;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         this.queryResult = queryResult;
+        columnarQueryResult = queryResult instanceof AbstractColumnarMemoryQueryResult ? (AbstractColumnarMemoryQueryResult) queryResult : null;
         this.orderByItems = orderByItems;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(selectStatementContext, schema);
+        integralOrderValues = getIntegralOrderValues();
+        orderValues = new Comparable<?>[orderByItems.size()];
+        longOrderValues = new long[orderByItems.size()];
+        longOrderValuesLoaded = new boolean[orderByItems.size()];
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
@@ -91,6 +106,19 @@ public final class OrderByValue implements Comparable<OrderByValue> {
         return false;
     }
     
+    private boolean[] getIntegralOrderValues() throws SQLException {
+        boolean[] result = new boolean[orderByItems.size()];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            result[i++] = isIntegralColumnType(queryResult.getMetaData().getColumnType(each.getIndex()));
+        }
+        return result;
+    }
+    
+    private boolean isIntegralColumnType(final int columnType) {
+        return Types.TINYINT == columnType || Types.SMALLINT == columnType || Types.INTEGER == columnType || Types.BIGINT == columnType;
+    }
+    
     /**
      * Iterate next data.
      *
@@ -99,26 +127,51 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
+    private void loadOrderValues() throws SQLException {
+        int i = 0;
         for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
-            Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            if (integralOrderValues[i] && null != columnarQueryResult && columnarQueryResult.isLong(each.getIndex(), columnarQueryResult.getCurrentRowIndex())) {
+                loadColumnarLongOrderValue(i, each.getIndex());
+            } else {
+                loadOrderValue(i, each.getIndex());
+            }
+            i++;
         }
-        return result;
+    }
+    
+    private void loadColumnarLongOrderValue(final int orderValueIndex, final int columnIndex) {
+        orderValues[orderValueIndex] = null;
+        longOrderValues[orderValueIndex] = columnarQueryResult.getLong(columnIndex, columnarQueryResult.getCurrentRowIndex());
+        longOrderValuesLoaded[orderValueIndex] = true;
+    }
+    
+    private void loadOrderValue(final int orderValueIndex, final int columnIndex) throws SQLException {
+        Object value = queryResult.getValue(columnIndex, Object.class);
+        Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
+        orderValues[orderValueIndex] = (Comparable<?>) value;
+        longOrderValuesLoaded[orderValueIndex] = integralOrderValues[orderValueIndex] && isPrimitiveIntegral(value);
+        if (longOrderValuesLoaded[orderValueIndex]) {
+            longOrderValues[orderValueIndex] = ((Number) value).longValue();
+        }
+    }
+    
+    private boolean isPrimitiveIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
         int i = 0;
         for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(i));
+            int result = longOrderValuesLoaded[i] && o.longOrderValuesLoaded[i]
+                    ? compareLongOrderValue(longOrderValues[i], o.longOrderValues[i], each.getSegment().getOrderDirection())
+                    : CompareUtil.compareTo(getOrderValue(i), o.getOrderValue(i), each.getSegment().getOrderDirection(), each.getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(i));
             if (0 != result) {
                 return result;
             }
@@ -126,4 +179,13 @@ public final class OrderByValue implements Comparable<OrderByValue> {
         }
         return 0;
     }
+    
+    private Comparable<?> getOrderValue(final int orderValueIndex) {
+        return longOrderValuesLoaded[orderValueIndex] && null == orderValues[orderValueIndex] ? Long.valueOf(longOrderValues[orderValueIndex]) : orderValues[orderValueIndex];
+    }
+    
+    private int compareLongOrderValue(final long thisValue, final long otherValue, final OrderDirection orderDirection) {
+        int result = Long.compare(thisValue, otherValue);
+        return OrderDirection.ASC == orderDirection ? result : -result;
+    }
 }
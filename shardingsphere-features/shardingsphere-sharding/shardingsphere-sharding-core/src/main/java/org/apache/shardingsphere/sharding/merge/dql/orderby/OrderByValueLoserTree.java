@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>Each internal node keeps the loser of the match played below it and the overall winner is kept at index 0,
+ * so advancing the winner replays only its own path to the root, which costs about log2(k) comparisons for k streams.
+ * Exhausted order by values lose every match, and on a tie the waiting order by value wins over the advanced one.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] leaves;
+    
+    private final int[] losers;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[0]);
+        losers = new int[leaves.length];
+        if (leaves.length > 0) {
+            build();
+        }
+    }
+    
+    private void build() {
+        int[] winners = new int[leaves.length * 2];
+        for (int i = 0; i < leaves.length; i++) {
+            winners[leaves.length + i] = i;
+        }
+        for (int node = leaves.length - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            boolean leftWins = compare(left, right) <= 0;
+            winners[node] = leftWins ? left : right;
+            losers[node] = leftWins ? right : left;
+        }
+        losers[0] = winners[1];
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     * 
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == leaves.length || null == leaves[losers[0]];
+    }
+    
+    /**
+     * Get current winner.
+     * 
+     * @return order by value of current winner
+     */
+    public OrderByValue peek() {
+        return leaves[losers[0]];
+    }
+    
+    /**
+     * Move current winner to its next row and replay its path to the root.
+     * 
+     * @return has next winner or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        int winner = losers[0];
+        if (!leaves[winner].next()) {
+            leaves[winner] = null;
+        }
+        for (int node = (winner + leaves.length) >> 1; node > 0; node >>= 1) {
+            if (compare(losers[node], winner) <= 0) {
+                int loser = winner;
+                winner = losers[node];
+                losers[node] = loser;
+            }
+        }
+        losers[0] = winner;
+        return null != leaves[winner];
+    }
+    
+    private int compare(final int thisIndex, final int otherIndex) {
+        if (null == leaves[thisIndex]) {
+            return null == leaves[otherIndex] ? 0 : 1;
+        }
+        return null == leaves[otherIndex] ? -1 : leaves[thisIndex].compareTo(leaves[otherIndex]);
+    }
+}
@@ -17,26 +17,35 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.pagination;
 
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.decorator.DecoratorMergedResult;
 import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
 
 import java.sql.SQLException;
+import java.util.List;
 
 /**
  * Decorator merged result for limit pagination.
+ * 
+ * <p>Once enough rows are merged, statements still producing query results are cancelled, so that they do not keep streaming rows until closed.</p>
  */
 public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
     
     private final PaginationContext pagination;
     
+    private final List<QueryResult> queryResults;
+    
     private final boolean skipAll;
     
     private int rowNumber;
     
-    public LimitDecoratorMergedResult(final MergedResult mergedResult, final PaginationContext pagination) throws SQLException {
+    private boolean queryResultsCancelled;
+    
+    public LimitDecoratorMergedResult(final MergedResult mergedResult, final PaginationContext pagination, final List<QueryResult> queryResults) throws SQLException {
         super(mergedResult);
         this.pagination = pagination;
+        this.queryResults = queryResults;
         skipAll = skipOffset();
     }
     
@@ -58,6 +67,20 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
         if (!pagination.getActualRowCount().isPresent()) {
             return getMergedResult().next();
         }
-        return ++rowNumber <= pagination.getActualRowCount().get() && getMergedResult().next();
+        if (++rowNumber <= pagination.getActualRowCount().get()) {
+            return getMergedResult().next();
+        }
+        cancelQueryResults();
+        return false;
+    }
+    
+    private void cancelQueryResults() throws SQLException {
+        if (queryResultsCancelled) {
+            return;
+        }
+        queryResultsCancelled = true;
+        for (QueryResult each : queryResults) {
+            each.cancel();
+        }
     }
 }
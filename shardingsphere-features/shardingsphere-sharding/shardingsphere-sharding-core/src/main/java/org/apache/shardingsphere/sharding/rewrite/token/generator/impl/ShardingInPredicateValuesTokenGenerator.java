@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.generator.impl;
+
+import lombok.Setter;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.type.WhereAvailable;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.CollectionSQLTokenGenerator;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.ParametersAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.SchemaMetaDataAware;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.IgnoreForSingleRoute;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.ShardingInPredicateValue;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.ShardingInPredicateValuesToken;
+import org.apache.shardingsphere.sharding.route.engine.condition.generator.ConditionValue;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+import org.apache.shardingsphere.sharding.rule.aware.ShardingRuleAware;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.InExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ListExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.util.ExpressionExtractUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In predicate values token generator for sharding.
+ * 
+ * <p>Values of in predicate on sharding column are partitioned by route unit, so that each route unit only receives the values which can be routed to it.</p>
+ */
+@Setter
+public final class ShardingInPredicateValuesTokenGenerator
+        implements
+            CollectionSQLTokenGenerator<SQLStatementContext<?>>,
+            ShardingRuleAware,
+            SchemaMetaDataAware,
+            ParametersAware,
+            IgnoreForSingleRoute {
+    
+    private ShardingRule shardingRule;
+    
+    private String databaseName;
+    
+    private Map<String, ShardingSphereSchema> schemas;
+    
+    private List<Object> parameters;
+    
+    @Override
+    public boolean isGenerateSQLToken(final SQLStatementContext<?> sqlStatementContext) {
+        if (!(sqlStatementContext instanceof WhereAvailable) || HintManager.isInstantiated() || !shardingRule.tableRuleExists(sqlStatementContext.getTablesContext().getTableNames())) {
+            return false;
+        }
+        if (((WhereAvailable) sqlStatementContext).getWhereSegments().isEmpty()) {
+            return false;
+        }
+        return !(sqlStatementContext instanceof SelectStatementContext)
+                || !((SelectStatementContext) sqlStatementContext).isContainsSubquery() && !((SelectStatementContext) sqlStatementContext).isContainsDollarParameterMarker();
+    }
+    
+    @Override
+    public Collection<ShardingInPredicateValuesToken> generateSQLTokens(final SQLStatementContext<?> sqlStatementContext) {
+        String defaultSchema = DatabaseTypeEngine.getDefaultSchemaName(sqlStatementContext.getDatabaseType(), databaseName);
+        ShardingSphereSchema schema = sqlStatementContext.getTablesContext().getSchemaName().map(schemas::get).orElseGet(() -> schemas.get(defaultSchema));
+        Map<String, String> columnExpressionTableNames = sqlStatementContext.getTablesContext().findTableNamesByColumnSegment(((WhereAvailable) sqlStatementContext).getColumnSegments(), schema);
+        Collection<ShardingInPredicateValuesToken> result = new LinkedList<>();
+        for (WhereSegment each : ((WhereAvailable) sqlStatementContext).getWhereSegments()) {
+            Collection<AndPredicate> andPredicates = ExpressionExtractUtil.getAndPredicates(each.getExpr());
+            if (1 == andPredicates.size()) {
+                result.addAll(generateSQLTokens(andPredicates.iterator().next(), columnExpressionTableNames));
+            }
+        }
+        return result;
+    }
+    
+    private Collection<ShardingInPredicateValuesToken> generateSQLTokens(final AndPredicate andPredicate, final Map<String, String> columnExpressionTableNames) {
+        Collection<ShardingInPredicateValuesToken> result = new LinkedList<>();
+        for (ExpressionSegment each : andPredicate.getPredicates()) {
+            if (each instanceof InExpression && !((InExpression) each).isNot()
+                    && ((InExpression) each).getLeft() instanceof ColumnSegment && ((InExpression) each).getRight() instanceof ListExpression) {
+                ColumnSegment columnSegment = (ColumnSegment) ((InExpression) each).getLeft();
+                generateSQLToken(columnSegment, (ListExpression) ((InExpression) each).getRight(), columnExpressionTableNames.get(columnSegment.getExpression())).ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+    
+    private Optional<ShardingInPredicateValuesToken> generateSQLToken(final ColumnSegment columnSegment, final ListExpression listExpression, final String tableName) {
+        if (null == tableName || listExpression.getItems().size() < 2 || !isAllValuesSupported(listExpression.getItems())) {
+            return Optional.empty();
+        }
+        Optional<String> shardingColumn = shardingRule.findShardingColumn(columnSegment.getIdentifier().getValue(), tableName);
+        Optional<TableRule> tableRule = shardingRule.findTableRule(tableName);
+        if (!shardingColumn.isPresent() || !tableRule.isPresent()) {
+            return Optional.empty();
+        }
+        ShardingStrategy databaseShardingStrategy = createShardingStrategy(shardingRule.getDatabaseShardingStrategyConfiguration(tableRule.get()));
+        ShardingStrategy tableShardingStrategy = createShardingStrategy(shardingRule.getTableShardingStrategyConfiguration(tableRule.get()));
+        if (!isSupportedShardingStrategy(databaseShardingStrategy) || !isSupportedShardingStrategy(tableShardingStrategy)) {
+            return Optional.empty();
+        }
+        List<ShardingInPredicateValue> inPredicateValues = new ArrayList<>(listExpression.getItems().size());
+        for (ExpressionSegment each : listExpression.getItems()) {
+            Optional<Comparable<?>> value = new ConditionValue(each, parameters).getValue();
+            Collection<DataNode> dataNodes = value.isPresent()
+                    ? getDataNodes(tableRule.get(), databaseShardingStrategy, tableShardingStrategy, shardingColumn.get(), value.get())
+                    : Collections.emptyList();
+            inPredicateValues.add(new ShardingInPredicateValue(each, dataNodes));
+        }
+        return Optional.of(new ShardingInPredicateValuesToken(listExpression.getStartIndex(), listExpression.getStopIndex(), inPredicateValues));
+    }
+    
+    private boolean isAllValuesSupported(final Collection<ExpressionSegment> values) {
+        for (ExpressionSegment each : values) {
+            if (each instanceof ParameterMarkerExpressionSegment && ParameterMarkerType.QUESTION == ((ParameterMarkerExpressionSegment) each).getParameterMarkerType()) {
+                continue;
+            }
+            if (each instanceof LiteralExpressionSegment && isSupportedLiteral(((LiteralExpressionSegment) each).getLiterals())) {
+                continue;
+            }
+            return false;
+        }
+        return true;
+    }
+    
+    private boolean isSupportedLiteral(final Object literals) {
+        return literals instanceof Number || literals instanceof String && !((String) literals).contains("'") && !((String) literals).contains("\\");
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingRule.getShardingAlgorithms().get(shardingStrategyConfig.getShardingAlgorithmName()),
+                        shardingRule.getDefaultShardingColumn());
+    }
+    
+    private boolean isSupportedShardingStrategy(final ShardingStrategy shardingStrategy) {
+        return shardingStrategy instanceof StandardShardingStrategy || shardingStrategy instanceof NoneShardingStrategy;
+    }
+    
+    private Collection<DataNode> getDataNodes(final TableRule tableRule, final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy,
+                                              final String shardingColumn, final Comparable<?> value) {
+        Collection<DataNode> result = new LinkedList<>();
+        for (String each : doSharding(tableRule.getActualDataSourceNames(), databaseShardingStrategy, tableRule.getLogicTable(), shardingColumn, tableRule.getDataSourceDataNode(), value)) {
+            for (String actualTableName : doSharding(tableRule.getActualTableNames(each), tableShardingStrategy, tableRule.getLogicTable(), shardingColumn, tableRule.getTableDataNode(), value)) {
+                result.add(new DataNode(each, actualTableName));
+            }
+        }
+        return result;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Collection<String> doSharding(final Collection<String> availableTargetNames, final ShardingStrategy shardingStrategy,
+                                          final String logicTableName, final String shardingColumn, final DataNodeInfo dataNodeInfo, final Comparable<?> value) {
+        if (!shardingStrategy.getShardingColumns().contains(shardingColumn)) {
+            return availableTargetNames;
+        }
+        String result = ((StandardShardingStrategy) shardingStrategy).getShardingAlgorithm().doSharding(availableTargetNames,
+                new PreciseShardingValue(logicTableName, shardingColumn, dataNodeInfo, value));
+        return null != result && availableTargetNames.contains(result) ? Collections.singletonList(result) : availableTargetNames;
+    }
+}
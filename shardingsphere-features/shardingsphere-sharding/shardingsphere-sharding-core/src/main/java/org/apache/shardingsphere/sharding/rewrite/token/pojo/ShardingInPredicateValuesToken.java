@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.pojo;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.ParameterFilterable;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * In predicate values token for sharding.
+ */
+public final class ShardingInPredicateValuesToken extends SQLToken implements Substitutable, RouteUnitAware, ParameterFilterable {
+    
+    @Getter
+    private final int stopIndex;
+    
+    private final List<ShardingInPredicateValue> inPredicateValues;
+    
+    public ShardingInPredicateValuesToken(final int startIndex, final int stopIndex, final List<ShardingInPredicateValue> inPredicateValues) {
+        super(startIndex);
+        this.stopIndex = stopIndex;
+        this.inPredicateValues = inPredicateValues;
+    }
+    
+    @Override
+    public String toString(final RouteUnit routeUnit) {
+        return join(getRoutedValues(routeUnit));
+    }
+    
+    @Override
+    public String toString() {
+        return join(inPredicateValues);
+    }
+    
+    @Override
+    public Collection<Integer> getRemovedParameterIndexes(final RouteUnit routeUnit) {
+        if (getRoutedValues(routeUnit).size() == inPredicateValues.size()) {
+            return Collections.emptyList();
+        }
+        Collection<Integer> result = new LinkedList<>();
+        for (ShardingInPredicateValue each : inPredicateValues) {
+            if (each.getValue() instanceof ParameterMarkerExpressionSegment && !isRouted(routeUnit, each)) {
+                result.add(((ParameterMarkerExpressionSegment) each.getValue()).getParameterMarkerIndex());
+            }
+        }
+        return result;
+    }
+    
+    private Collection<ShardingInPredicateValue> getRoutedValues(final RouteUnit routeUnit) {
+        if (null == routeUnit) {
+            return inPredicateValues;
+        }
+        Collection<ShardingInPredicateValue> result = new LinkedList<>();
+        for (ShardingInPredicateValue each : inPredicateValues) {
+            if (isRouted(routeUnit, each)) {
+                result.add(each);
+            }
+        }
+        return result.isEmpty() ? inPredicateValues : result;
+    }
+    
+    private boolean isRouted(final RouteUnit routeUnit, final ShardingInPredicateValue inPredicateValue) {
+        if (inPredicateValue.getDataNodes().isEmpty()) {
+            return true;
+        }
+        for (DataNode each : inPredicateValue.getDataNodes()) {
+            if (routeUnit.findTableMapper(each.getDataSourceName(), each.getTableName()).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private String join(final Collection<ShardingInPredicateValue> values) {
+        boolean parenthesized = inPredicateValues.get(0).getValue().getStartIndex() > getStartIndex();
+        StringJoiner result = parenthesized ? new StringJoiner(", ", "(", ")") : new StringJoiner(", ");
+        for (ShardingInPredicateValue each : values) {
+            result.add(each.toString());
+        }
+        return result.toString();
+    }
+}
@@ -76,6 +76,11 @@ public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
         // TODO
     }
     
+    @Override
+    public boolean isRouteContextCacheable(final ShardingRule rule) {
+        return true;
+    }
+    
     @Override
     public int getOrder() {
         return ShardingOrder.ORDER;
@@ -40,6 +40,7 @@ public final class ShardingDataSourceGroupBroadcastRoutingEngine implements Shar
     @Override
     public RouteContext route(final ShardingRule shardingRule) {
         RouteContext result = new RouteContext();
+        result.setCacheable(false);
         Collection<Set<String>> broadcastDataSourceGroup = getBroadcastDataSourceGroup(getDataSourceGroup(shardingRule));
         for (Set<String> each : broadcastDataSourceGroup) {
             String dataSourceName = getRandomDataSourceName(each);
@@ -52,6 +52,7 @@ public final class ShardingUnicastRoutingEngine implements ShardingRouteEngine {
     @Override
     public RouteContext route(final ShardingRule shardingRule) {
         RouteContext result = new RouteContext();
+        result.setCacheable(false);
         String dataSourceName = sqlStatementContext instanceof CursorAvailable
                 ? shardingRule.getDataSourceNames().iterator().next()
                 : getRandomDataSourceName(shardingRule.getDataSourceNames());
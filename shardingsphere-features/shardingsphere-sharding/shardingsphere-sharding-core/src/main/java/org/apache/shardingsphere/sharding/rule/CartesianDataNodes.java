@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule;
+
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Data nodes of cartesian product of data source names and range actual table names, such as {@code ds_${0..63}.t_order_${0..1023}}.
+ * 
+ * <p>Data nodes are created on access and located by arithmetic, instead of being materialized at startup.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+final class CartesianDataNodes extends AbstractList<DataNode> implements RandomAccess {
+    
+    private static final String RANGE_REGEX = "([\\w\\-]*)\\$\\{\\s*(0|[1-9]\\d{0,8})\\s*\\.\\.\\s*(0|[1-9]\\d{0,8})\\s*}((?:[a-zA-Z_\\-][\\w\\-]*)?)";
+    
+    private static final Pattern DATA_NODES_PATTERN = Pattern.compile("(?:([\\w\\-]+)|" + RANGE_REGEX + ")\\." + RANGE_REGEX);
+    
+    private final List<String> dataSourceNames;
+    
+    private final RangeActualTableNames actualTableNames;
+    
+    /**
+     * Create cartesian data nodes.
+     *
+     * @param actualDataNodes inline expression of actual data nodes
+     * @param actualTablePrefix actual table prefix
+     * @return created cartesian data nodes, absent if actual data nodes are not cartesian product of data source names and range actual table names
+     */
+    static Optional<CartesianDataNodes> newInstance(final String actualDataNodes, final String actualTablePrefix) {
+        if (Strings.isNullOrEmpty(actualDataNodes)) {
+            return Optional.empty();
+        }
+        Matcher matcher = DATA_NODES_PATTERN.matcher(InlineExpressionParser.handlePlaceHolder(actualDataNodes.trim()));
+        if (!matcher.matches() || !isValidRange(matcher.group(7), matcher.group(8)) || null == matcher.group(1) && !isValidRange(matcher.group(3), matcher.group(4))) {
+            return Optional.empty();
+        }
+        List<String> dataSourceNames =
+                null == matcher.group(1) ? createRangeNames(matcher.group(2), matcher.group(3), matcher.group(4), matcher.group(5)) : Collections.singletonList(matcher.group(1));
+        int actualTableSize = Integer.parseInt(matcher.group(8)) - Integer.parseInt(matcher.group(7)) + 1;
+        if ((long) dataSourceNames.size() * actualTableSize > Integer.MAX_VALUE) {
+            return Optional.empty();
+        }
+        String tablePrefix = Strings.isNullOrEmpty(actualTablePrefix) ? matcher.group(6) : actualTablePrefix + matcher.group(6);
+        return Optional.of(new CartesianDataNodes(dataSourceNames,
+                new RangeActualTableNames(tablePrefix, Integer.parseInt(matcher.group(7)), Integer.parseInt(matcher.group(8)), matcher.group(9))));
+    }
+    
+    private static boolean isValidRange(final String startInclusive, final String endInclusive) {
+        return Integer.parseInt(startInclusive) <= Integer.parseInt(endInclusive);
+    }
+    
+    private static List<String> createRangeNames(final String prefix, final String startInclusive, final String endInclusive, final String suffix) {
+        int start = Integer.parseInt(startInclusive);
+        int end = Integer.parseInt(endInclusive);
+        List<String> result = new ArrayList<>(end - start + 1);
+        for (int i = start; i <= end; i++) {
+            result.add(prefix + i + suffix);
+        }
+        return result;
+    }
+    
+    @Override
+    public DataNode get(final int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", index, size()));
+        }
+        return new DataNode(dataSourceNames.get(index / actualTableNames.size()), actualTableNames.get(index % actualTableNames.size()));
+    }
+    
+    @Override
+    public int indexOf(final Object object) {
+        if (!(object instanceof DataNode) || null != ((DataNode) object).getSchemaName()) {
+            return -1;
+        }
+        DataNode dataNode = (DataNode) object;
+        int dataSourceIndex = findDataSourceIndex(dataNode.getDataSourceName());
+        if (-1 == dataSourceIndex) {
+            return -1;
+        }
+        int tableIndex = actualTableNames.indexOf(dataNode.getTableName(), true);
+        return -1 == tableIndex ? -1 : dataSourceIndex * actualTableNames.size() + tableIndex;
+    }
+    
+    private int findDataSourceIndex(final String dataSourceName) {
+        for (int i = 0; i < dataSourceNames.size(); i++) {
+            if (dataSourceNames.get(i).equalsIgnoreCase(dataSourceName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    @Override
+    public int lastIndexOf(final Object object) {
+        return indexOf(object);
+    }
+    
+    @Override
+    public boolean contains(final Object object) {
+        return indexOf(object) >= 0;
+    }
+    
+    @Override
+    public int size() {
+        return dataSourceNames.size() * actualTableNames.size();
+    }
+}
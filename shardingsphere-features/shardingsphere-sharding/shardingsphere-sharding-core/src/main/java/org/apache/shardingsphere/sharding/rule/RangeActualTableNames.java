@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Actual table names of continuous range, such as {@code t_order_${0..1023}}.
+ */
+@RequiredArgsConstructor
+final class RangeActualTableNames extends AbstractSet<String> {
+    
+    private final String prefix;
+    
+    private final int startInclusive;
+    
+    private final int endInclusive;
+    
+    private final String suffix;
+    
+    /**
+     * Get actual table name.
+     *
+     * @param index index of actual table name
+     * @return actual table name
+     */
+    String get(final int index) {
+        return prefix + (startInclusive + index) + suffix;
+    }
+    
+    /**
+     * Find index of actual table name.
+     *
+     * @param actualTableName actual table name
+     * @param ignoreCase whether ignore case
+     * @return index of actual table name, {@code -1} if not found
+     */
+    int indexOf(final String actualTableName, final boolean ignoreCase) {
+        int numberLength = actualTableName.length() - prefix.length() - suffix.length();
+        if (numberLength < 1 || numberLength > 10 || !actualTableName.regionMatches(ignoreCase, 0, prefix, 0, prefix.length())
+                || !actualTableName.regionMatches(ignoreCase, actualTableName.length() - suffix.length(), suffix, 0, suffix.length())) {
+            return -1;
+        }
+        int numberStartIndex = prefix.length();
+        if (numberLength > 1 && '0' == actualTableName.charAt(numberStartIndex)) {
+            return -1;
+        }
+        long number = 0L;
+        for (int i = numberStartIndex; i < numberStartIndex + numberLength; i++) {
+            char each = actualTableName.charAt(i);
+            if (each < '0' || each > '9') {
+                return -1;
+            }
+            number = number * 10L + each - '0';
+        }
+        return number < startInclusive || number > endInclusive ? -1 : (int) (number - startInclusive);
+    }
+    
+    @Override
+    public boolean contains(final Object object) {
+        return object instanceof String && indexOf((String) object, false) >= 0;
+    }
+    
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            
+            private int index;
+            
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+            
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+        };
+    }
+    
+    @Override
+    public int size() {
+        return endInclusive - startInclusive + 1;
+    }
+}
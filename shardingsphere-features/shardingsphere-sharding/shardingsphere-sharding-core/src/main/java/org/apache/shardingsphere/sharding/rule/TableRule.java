@@ -108,12 +108,18 @@ public final class TableRule {
     
     public TableRule(final ShardingTableRuleConfiguration tableRuleConfig, final Collection<String> dataSourceNames, final String defaultGenerateKeyColumn) {
         logicTable = tableRuleConfig.getLogicTable();
-        List<String> dataNodes = new InlineExpressionParser(tableRuleConfig.getActualDataNodes()).splitAndEvaluate();
-        dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1);
         actualTablePrefix = tableRuleConfig.getActualTablePrefix();
-        actualDataNodes = isEmptyDataNodes(dataNodes) ? generateDataNodes(tableRuleConfig.getLogicTable(), dataSourceNames, actualTablePrefix)
-                : generateDataNodes(dataNodes, dataSourceNames, actualTablePrefix);
-        actualTables = getActualTables();
+        Optional<CartesianDataNodes> cartesianDataNodes = CartesianDataNodes.newInstance(tableRuleConfig.getActualDataNodes(), actualTablePrefix);
+        List<String> dataNodes = cartesianDataNodes.isPresent() ? Collections.emptyList() : new InlineExpressionParser(tableRuleConfig.getActualDataNodes()).splitAndEvaluate();
+        dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1);
+        if (cartesianDataNodes.isPresent()) {
+            actualDataNodes = generateDataNodes(cartesianDataNodes.get(), dataSourceNames);
+            actualTables = Collections.emptySet();
+        } else {
+            actualDataNodes = isEmptyDataNodes(dataNodes) ? generateDataNodes(tableRuleConfig.getLogicTable(), dataSourceNames, actualTablePrefix)
+                    : generateDataNodes(dataNodes, dataSourceNames, actualTablePrefix);
+            actualTables = getActualTables();
+        }
         databaseShardingStrategyConfig = tableRuleConfig.getDatabaseShardingStrategy();
         tableShardingStrategyConfig = tableRuleConfig.getTableShardingStrategy();
         auditStrategyConfig = tableRuleConfig.getAuditStrategy();
@@ -122,7 +128,7 @@ public final class TableRule {
         keyGeneratorName = null == keyGeneratorConfig ? null : keyGeneratorConfig.getKeyGeneratorName();
         dataSourceDataNode = actualDataNodes.isEmpty() ? null : createDataSourceDataNode(actualDataNodes);
         tableDataNode = actualDataNodes.isEmpty() ? null : createTableDataNode(actualDataNodes);
-        checkRule(dataNodes);
+        checkRule(cartesianDataNodes.isPresent() ? actualDataNodes : dataNodes);
     }
     
     public TableRule(final ShardingAutoTableRuleConfiguration tableRuleConfig, final Collection<String> dataSourceNames,
@@ -146,14 +152,20 @@ public final class TableRule {
     }
     
     private DataNodeInfo createDataSourceDataNode(final Collection<DataNode> actualDataNodes) {
-        String prefix = DATA_NODE_SUFFIX_PATTERN.matcher(actualDataNodes.iterator().next().getDataSourceName()).replaceAll("");
-        int suffixMinLength = actualDataNodes.stream().map(each -> each.getDataSourceName().length() - prefix.length()).min(Comparator.comparing(Integer::intValue)).orElse(1);
-        return new DataNodeInfo(prefix, suffixMinLength, DEFAULT_PADDING_CHAR);
+        return createDataNodeInfo(actualDataNodes instanceof CartesianDataNodes
+                ? ((CartesianDataNodes) actualDataNodes).getDataSourceNames()
+                : actualDataNodes.stream().map(DataNode::getDataSourceName).collect(Collectors.toList()));
     }
     
     private DataNodeInfo createTableDataNode(final Collection<DataNode> actualDataNodes) {
-        String prefix = DATA_NODE_SUFFIX_PATTERN.matcher(actualDataNodes.iterator().next().getTableName()).replaceAll("");
-        int suffixMinLength = actualDataNodes.stream().map(each -> each.getTableName().length() - prefix.length()).min(Comparator.comparing(Integer::intValue)).orElse(1);
+        return createDataNodeInfo(actualDataNodes instanceof CartesianDataNodes
+                ? ((CartesianDataNodes) actualDataNodes).getActualTableNames()
+                : actualDataNodes.stream().map(DataNode::getTableName).collect(Collectors.toList()));
+    }
+    
+    private DataNodeInfo createDataNodeInfo(final Collection<String> names) {
+        String prefix = DATA_NODE_SUFFIX_PATTERN.matcher(names.iterator().next()).replaceAll("");
+        int suffixMinLength = names.stream().map(each -> each.length() - prefix.length()).min(Comparator.comparing(Integer::intValue)).orElse(1);
         return new DataNodeInfo(prefix, suffixMinLength, DEFAULT_PADDING_CHAR);
     }
     
@@ -177,7 +189,7 @@ public final class TableRule {
         dataSourceToTablesMap.computeIfAbsent(datasourceName, key -> new LinkedHashSet<>()).add(tableName);
     }
     
-    private boolean isEmptyDataNodes(final List<String> dataNodes) {
+    private boolean isEmptyDataNodes(final Collection<?> dataNodes) {
         return null == dataNodes || dataNodes.isEmpty();
     }
     
@@ -196,6 +208,18 @@ public final class TableRule {
         return result;
     }
     
+    private List<DataNode> generateDataNodes(final CartesianDataNodes cartesianDataNodes, final Collection<String> dataSourceNames) {
+        for (String each : cartesianDataNodes.getDataSourceNames()) {
+            if (!dataSourceNames.contains(each)) {
+                throw new ShardingSphereException("Cannot find data source in sharding rule, invalid actual data node is: '%s'",
+                        new DataNode(each, cartesianDataNodes.getActualTableNames().get(0)).format());
+            }
+            actualDataSourceNames.add(each);
+            dataSourceToTablesMap.put(each, cartesianDataNodes.getActualTableNames());
+        }
+        return cartesianDataNodes;
+    }
+    
     private List<DataNode> generateDataNodes(final List<String> actualDataNodes, final Collection<String> dataSourceNames, final String actualTablePrefix) {
         List<DataNode> result = new LinkedList<>();
         int index = 0;
@@ -250,14 +274,18 @@ public final class TableRule {
     }
     
     int findActualTableIndex(final String dataSourceName, final String actualTableName) {
-        return dataNodeIndexMap.getOrDefault(new DataNode(dataSourceName, actualTableName), -1);
+        return actualDataNodes instanceof CartesianDataNodes
+                ? actualDataNodes.indexOf(new DataNode(dataSourceName, actualTableName))
+                : dataNodeIndexMap.getOrDefault(new DataNode(dataSourceName, actualTableName), -1);
     }
     
     boolean isExisted(final String actualTableName) {
-        return actualTables.contains(actualTableName);
+        return actualDataNodes instanceof CartesianDataNodes
+                ? ((CartesianDataNodes) actualDataNodes).getActualTableNames().indexOf(actualTableName, true) >= 0
+                : actualTables.contains(actualTableName);
     }
     
-    private void checkRule(final List<String> dataNodes) {
+    private void checkRule(final Collection<?> dataNodes) {
         if (isEmptyDataNodes(dataNodes) && null != tableShardingStrategyConfig && !(tableShardingStrategyConfig instanceof NoneShardingStrategyConfiguration)) {
             throw new ShardingSphereConfigurationException("ActualDataNodes must be configured if want to shard tables for logicTable [%s]", logicTable);
         }
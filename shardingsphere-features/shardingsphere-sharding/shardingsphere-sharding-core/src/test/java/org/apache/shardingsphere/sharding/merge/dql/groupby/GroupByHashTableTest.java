@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class GroupByHashTableTest {
+    
+    @Test
+    public void assertHashEqualsToGroupByValue() {
+        assertThat(GroupByHashTable.hash(new Object[]{"order", 1, null}), is(Arrays.asList("order", 1, null).hashCode()));
+    }
+    
+    @Test
+    public void assertPutAndGet() {
+        GroupByHashTable<String> groupByHashTable = new GroupByHashTable<>();
+        Object[] groupValues = new Object[]{"order", 1};
+        groupByHashTable.put(groupValues.clone(), GroupByHashTable.hash(groupValues), "value");
+        assertThat(groupByHashTable.get(groupValues, GroupByHashTable.hash(groupValues)), is("value"));
+        assertNull(groupByHashTable.get(new Object[]{"order", 2}, GroupByHashTable.hash(new Object[]{"order", 2})));
+        assertThat(groupByHashTable.getSize(), is(1));
+    }
+    
+    @Test
+    public void assertPutWithResize() {
+        GroupByHashTable<Integer> groupByHashTable = new GroupByHashTable<>();
+        for (int i = 0; i < 10000; i++) {
+            groupByHashTable.put(new Object[]{i}, GroupByHashTable.hash(new Object[]{i}), i);
+        }
+        for (int i = 0; i < 10000; i++) {
+            assertThat(groupByHashTable.get(new Object[]{i}, GroupByHashTable.hash(new Object[]{i})), is(i));
+        }
+        assertThat(groupByHashTable.values().size(), is(10000));
+    }
+    
+    @Test
+    public void assertPutWithCollidedHash() {
+        GroupByHashTable<String> groupByHashTable = new GroupByHashTable<>();
+        groupByHashTable.put(new Object[]{"Aa"}, 1, "Aa");
+        groupByHashTable.put(new Object[]{"BB"}, 1, "BB");
+        assertThat(groupByHashTable.get(new Object[]{"Aa"}, 1), is("Aa"));
+        assertThat(groupByHashTable.get(new Object[]{"BB"}, 1), is("BB"));
+    }
+    
+    @Test
+    public void assertClear() {
+        GroupByHashTable<String> groupByHashTable = new GroupByHashTable<>();
+        groupByHashTable.put(new Object[]{"order"}, 1, "value");
+        groupByHashTable.clear();
+        assertThat(groupByHashTable.getSize(), is(0));
+        assertThat(groupByHashTable.values(), is(Collections.emptyList()));
+    }
+}
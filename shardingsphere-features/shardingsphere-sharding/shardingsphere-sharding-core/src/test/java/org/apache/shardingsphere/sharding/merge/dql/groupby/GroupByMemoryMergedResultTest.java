@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
@@ -47,14 +49,19 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -111,6 +118,73 @@ public final class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextForIntegralColumnTypes() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResult queryResult1 = createQueryResult();
+        when(queryResult1.getMetaData().getColumnType(1)).thenReturn(Types.BIGINT);
+        when(queryResult1.getMetaData().getColumnType(4)).thenReturn(Types.BIGINT);
+        when(queryResult1.getMetaData().getColumnType(5)).thenReturn(Types.INTEGER);
+        when(queryResult1.next()).thenReturn(true, false);
+        when(queryResult1.getValue(1, Object.class)).thenReturn(20L);
+        when(queryResult1.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult1.getValue(3, Object.class)).thenReturn(2);
+        when(queryResult1.getValue(4, Object.class)).thenReturn(2L);
+        when(queryResult1.getValue(5, Object.class)).thenReturn(20);
+        QueryResult queryResult2 = createQueryResult();
+        when(queryResult2.next()).thenReturn(true, true, false);
+        when(queryResult2.getValue(1, Object.class)).thenReturn(20L, Long.MAX_VALUE);
+        when(queryResult2.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult2.getValue(3, Object.class)).thenReturn(2, 3);
+        when(queryResult2.getValue(4, Object.class)).thenReturn(3L, 3L, 3L);
+        when(queryResult2.getValue(5, Object.class)).thenReturn(25, 25, 30);
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"));
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), database);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(BigDecimal.valueOf(Long.MAX_VALUE)));
+        assertThat(actual.getValue(2, Object.class), is(new BigDecimal("10.0000")));
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(actual.getValue(2, Object.class), is(new BigDecimal("9.0000")));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(5)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(45)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithSpillToDisk() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.MERGE_MEMORY_BUDGET_BYTES.getKey(), "1");
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"), new ConfigurationProperties(props));
+        MergedResult actual = resultMerger.merge(Arrays.asList(createMultipleGroupsQueryResult(0), createMultipleGroupsQueryResult(20)), createSelectStatementContext(), database);
+        for (int id = 40; id > 0; id--) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(2)));
+            assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(id * 10 + 10));
+            assertThat(actual.getValue(3, Object.class), is(id));
+            assertThat(actual.getValue(4, Object.class), is(new BigDecimal(2)));
+            assertThat(actual.getValue(5, Object.class), is(new BigDecimal(id * 20 + 20)));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private QueryResult createMultipleGroupsQueryResult(final int sumDelta) throws SQLException {
+        QueryResult result = createQueryResult();
+        AtomicInteger rowIndex = new AtomicInteger();
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() <= 40);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> {
+            int id = rowIndex.get();
+            Object[] row = {1, id * 10 + sumDelta, id, 1, id * 10 + sumDelta};
+            return row[(int) invocation.getArgument(0) - 1];
+        });
+        return result;
+    }
+    
     private SelectStatementContext createSelectStatementContext() {
         SelectStatement selectStatement = new MySQLSelectStatement();
         ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
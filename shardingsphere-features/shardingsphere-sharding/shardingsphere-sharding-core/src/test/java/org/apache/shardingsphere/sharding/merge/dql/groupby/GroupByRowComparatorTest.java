@@ -19,7 +19,9 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCColumnarMemoryQueryResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
@@ -39,6 +41,7 @@ import org.junit.Test;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -306,6 +309,46 @@ public final class GroupByRowComparatorTest {
         assertThat(groupByRowComparator.compare(o1, o2), is(0));
     }
     
+    @Test
+    public void assertCompareToWithColumnarQueryResult() throws SQLException {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Arrays.asList(
+                new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC),
+                new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, OrderDirection.ASC))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.emptyList()));
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database), Collections.emptyList(),
+                selectStatement, DefaultDatabase.LOGIC_NAME);
+        QueryResult queryResult = createColumnarQueryResult();
+        queryResult.next();
+        MemoryQueryResultRow o1 = new MemoryQueryResultRow(queryResult);
+        queryResult.next();
+        MemoryQueryResultRow o2 = new MemoryQueryResultRow(queryResult);
+        queryResult.next();
+        MemoryQueryResultRow o3 = new MemoryQueryResultRow(queryResult);
+        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectStatementContext, caseSensitives);
+        assertTrue(groupByRowComparator.compare(o1, o2) < 0);
+        assertTrue(groupByRowComparator.compare(o2, o3) < 0);
+        assertTrue(groupByRowComparator.compare(o3, o2) > 0);
+        assertThat(groupByRowComparator.compare(o1, o1), is(0));
+    }
+    
+    private QueryResult createColumnarQueryResult() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L, 2L);
+        when(resultSet.getDouble(2)).thenReturn(1.5D, 2.5D, 0.5D);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(resultSetMetaData.isSigned(1)).thenReturn(true);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.DOUBLE);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        return new JDBCColumnarMemoryQueryResult(resultSet, new MySQLDatabaseType());
+    }
+    
     private QueryResult mockQueryResult(final Object... values) throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
         ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
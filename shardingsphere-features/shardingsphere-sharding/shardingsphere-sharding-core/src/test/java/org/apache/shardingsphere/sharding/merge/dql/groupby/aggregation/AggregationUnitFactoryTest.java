@@ -20,6 +20,10 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
 import org.junit.Test;
 
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
 
@@ -61,4 +65,21 @@ public final class AggregationUnitFactoryTest {
     public void assertCreateBitXorAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.BIT_XOR, false), instanceOf(BitXorAggregationUnit.class));
     }
+    
+    @Test
+    public void assertCreateWithIntegralColumnTypes() {
+        assertThat(AggregationUnitFactory.create(AggregationType.MAX, false, Collections.singletonList(Types.INTEGER)), instanceOf(NumericComparableAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, Collections.singletonList(Types.BIGINT)), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false, Collections.singletonList(Types.BIGINT)), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, false, Arrays.asList(Types.BIGINT, Types.INTEGER)), instanceOf(LongAverageAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true, Collections.singletonList(Types.BIGINT)), instanceOf(DistinctCountAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateWithNonIntegralColumnTypes() {
+        assertThat(AggregationUnitFactory.create(AggregationType.MIN, false, Collections.singletonList(Types.DOUBLE)), instanceOf(NumericComparableAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.MIN, false, Collections.singletonList(Types.VARCHAR)), instanceOf(ComparableAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, Collections.singletonList(Types.DECIMAL)), instanceOf(AccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, false, Arrays.asList(Types.BIGINT, Types.DECIMAL)), instanceOf(AverageAggregationUnit.class));
+    }
 }
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmark of order by stream merge, which compares loser tree with priority queue.
+ * 
+ * <p>Skipped by default, run it with {@code -Dbenchmark=true}.</p>
+ */
+@Slf4j
+public final class OrderByValueLoserTreeBenchmarkTest {
+    
+    private static final int TOTAL_ROWS = 1 << 20;
+    
+    private static final int WARMUP_ITERATIONS = 3;
+    
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private OrderByItem orderByItem;
+    
+    private QueryResultMetaData metaData;
+    
+    @Before
+    public void setUp() throws SQLException {
+        Assume.assumeTrue(Boolean.getBoolean("benchmark"));
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        IndexOrderByItemSegment orderByItemSegment = new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC);
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(orderByItemSegment)));
+        selectStatementContext = new SelectStatementContext(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, mock(ShardingSphereDatabase.class)),
+                Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+        orderByItem = new OrderByItem(orderByItemSegment);
+        orderByItem.setIndex(1);
+        metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnType(1)).thenReturn(Types.BIGINT);
+    }
+    
+    @Test
+    public void assertMergeWith8Streams() throws SQLException {
+        assertMerge(8);
+    }
+    
+    @Test
+    public void assertMergeWith64Streams() throws SQLException {
+        assertMerge(64);
+    }
+    
+    @Test
+    public void assertMergeWith512Streams() throws SQLException {
+        assertMerge(512);
+    }
+    
+    private void assertMerge(final int streamCount) throws SQLException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertThat(mergeWithPriorityQueue(createOrderByValues(streamCount)), is(mergeWithLoserTree(createOrderByValues(streamCount))));
+        }
+        long priorityQueueNanos = 0L;
+        long loserTreeNanos = 0L;
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            List<OrderByValue> orderByValues = createOrderByValues(streamCount);
+            long startNanos = System.nanoTime();
+            final long expected = mergeWithPriorityQueue(orderByValues);
+            priorityQueueNanos += System.nanoTime() - startNanos;
+            orderByValues = createOrderByValues(streamCount);
+            startNanos = System.nanoTime();
+            long actual = mergeWithLoserTree(orderByValues);
+            loserTreeNanos += System.nanoTime() - startNanos;
+            assertThat(actual, is(expected));
+        }
+        long rows = (long) TOTAL_ROWS * MEASUREMENT_ITERATIONS;
+        log.info("streams: {}, priority queue: {} ns/row, loser tree: {} ns/row", streamCount, String.format("%.2f", (double) priorityQueueNanos / rows),
+                String.format("%.2f", (double) loserTreeNanos / rows));
+    }
+    
+    private long mergeWithPriorityQueue(final List<OrderByValue> orderByValues) throws SQLException {
+        Queue<OrderByValue> queue = new PriorityQueue<>(orderByValues);
+        long result = 0L;
+        long previous = Long.MIN_VALUE;
+        while (!queue.isEmpty()) {
+            OrderByValue first = queue.poll();
+            previous = checkOrder(previous, (long) first.getQueryResult().getValue(1, Object.class));
+            result += previous;
+            if (first.next()) {
+                queue.offer(first);
+            }
+        }
+        return result;
+    }
+    
+    private long mergeWithLoserTree(final List<OrderByValue> orderByValues) throws SQLException {
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(orderByValues);
+        long result = 0L;
+        long previous = Long.MIN_VALUE;
+        if (loserTree.isEmpty()) {
+            return result;
+        }
+        do {
+            previous = checkOrder(previous, (long) loserTree.peek().getQueryResult().getValue(1, Object.class));
+            result += previous;
+        } while (loserTree.next());
+        return result;
+    }
+    
+    private long checkOrder(final long previous, final long current) {
+        assertTrue(previous <= current);
+        return current;
+    }
+    
+    private List<OrderByValue> createOrderByValues(final int streamCount) throws SQLException {
+        List<OrderByValue> result = new ArrayList<>(streamCount);
+        int rowsPerStream = TOTAL_ROWS / streamCount;
+        for (int i = 0; i < streamCount; i++) {
+            long[] values = new long[rowsPerStream];
+            for (int j = 0; j < rowsPerStream; j++) {
+                values[j] = (long) j * streamCount + i;
+            }
+            OrderByValue orderByValue = new OrderByValue(new LongArrayQueryResult(values, metaData), Collections.singletonList(orderByItem), selectStatementContext, mock(ShardingSphereSchema.class));
+            orderByValue.next();
+            result.add(orderByValue);
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LongArrayQueryResult implements QueryResult {
+        
+        private final long[] values;
+        
+        private final QueryResultMetaData metaData;
+        
+        private int cursor = -1;
+        
+        @Override
+        public boolean next() {
+            return ++cursor < values.length;
+        }
+        
+        @Override
+        public Object getValue(final int columnIndex, final Class<?> type) {
+            return values[cursor];
+        }
+        
+        @Override
+        public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+            return values[cursor];
+        }
+        
+        @Override
+        public InputStream getInputStream(final int columnIndex, final String type) {
+            throw new UnsupportedOperationException("getInputStream");
+        }
+        
+        @Override
+        public boolean wasNull() {
+            return false;
+        }
+        
+        @Override
+        public QueryResultMetaData getMetaData() {
+            return metaData;
+        }
+        
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    @Test
+    public void assertIsEmptyWithoutOrderByValues() {
+        assertTrue(new OrderByValueLoserTree(Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertNextWithSingleOrderByValue() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(createOrderByValues(Collections.singletonList(new long[]{1L, 2L})));
+        assertThat(actual.peek().getQueryResult().getValue(1, Object.class), is(1L));
+        assertTrue(actual.next());
+        assertThat(actual.peek().getQueryResult().getValue(1, Object.class), is(2L));
+        assertFalse(actual.next());
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    public void assertNextWithMultipleOrderByValues() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(createOrderByValues(Arrays.asList(
+                new long[]{3L, 8L}, new long[]{1L, 4L, 9L}, new long[]{5L}, new long[]{2L, 6L, 7L}, new long[]{4L, 10L})));
+        List<Object> actualValues = new ArrayList<>(11);
+        do {
+            actualValues.add(actual.peek().getQueryResult().getValue(1, Object.class));
+        } while (actual.next());
+        assertThat(actualValues, is(Arrays.<Object>asList(1L, 2L, 3L, 4L, 4L, 5L, 6L, 7L, 8L, 9L, 10L)));
+        assertTrue(actual.isEmpty());
+    }
+    
+    private List<OrderByValue> createOrderByValues(final List<long[]> values) throws SQLException {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        IndexOrderByItemSegment orderByItemSegment = new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC);
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(orderByItemSegment)));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, mock(ShardingSphereDatabase.class)),
+                Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+        OrderByItem orderByItem = new OrderByItem(orderByItemSegment);
+        orderByItem.setIndex(1);
+        List<OrderByValue> result = new ArrayList<>(values.size());
+        for (long[] each : values) {
+            OrderByValue orderByValue = new OrderByValue(createQueryResult(each), Collections.singletonList(orderByItem), selectStatementContext, mock(ShardingSphereSchema.class));
+            assertTrue(orderByValue.next());
+            result.add(orderByValue);
+        }
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final long[] values) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnType(1)).thenReturn(Types.BIGINT);
+        AtomicInteger cursor = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() < values.length);
+        when(result.getValue(1, Object.class)).thenAnswer(invocation -> values[cursor.get()]);
+        return result;
+    }
+}
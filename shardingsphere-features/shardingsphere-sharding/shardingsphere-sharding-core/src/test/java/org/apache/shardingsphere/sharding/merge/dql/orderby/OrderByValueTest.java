@@ -20,7 +20,9 @@ package org.apache.shardingsphere.sharding.merge.dql.orderby;
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCColumnarMemoryQueryResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
@@ -42,7 +44,10 @@ import org.junit.Test;
 import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.plugins.MemberAccessor;
 
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collections;
 
@@ -50,6 +55,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -215,8 +221,83 @@ public final class OrderByValueTest {
         assertFalse(orderByValue2.getQueryResult().next());
     }
     
+    @Test
+    public void assertCompareToForIntegralColumnWithDifferentNumberTypes() throws SQLException {
+        SelectStatementContext selectStatementContext = createSelectStatementContext();
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        OrderByItem orderByItem = createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, OrderDirection.ASC));
+        OrderByValue orderByValue1 = new OrderByValue(createIntegralQueryResult(10L), Collections.singletonList(orderByItem), selectStatementContext, schema);
+        assertTrue(orderByValue1.next());
+        OrderByValue orderByValue2 = new OrderByValue(createIntegralQueryResult(9), Collections.singletonList(orderByItem), selectStatementContext, schema);
+        assertTrue(orderByValue2.next());
+        assertTrue(orderByValue1.compareTo(orderByValue2) < 0);
+        assertTrue(orderByValue2.compareTo(orderByValue1) > 0);
+    }
+    
+    @Test
+    public void assertCompareToForIntegralColumnWithNullValue() throws SQLException {
+        SelectStatementContext selectStatementContext = createSelectStatementContext();
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        OrderByItem orderByItem = createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        OrderByValue orderByValue1 = new OrderByValue(createIntegralQueryResult(new Object[]{null}), Collections.singletonList(orderByItem), selectStatementContext, schema);
+        assertTrue(orderByValue1.next());
+        OrderByValue orderByValue2 = new OrderByValue(createIntegralQueryResult(1L), Collections.singletonList(orderByItem), selectStatementContext, schema);
+        assertTrue(orderByValue2.next());
+        assertTrue(orderByValue1.compareTo(orderByValue2) < 0);
+    }
+    
+    @Test
+    public void assertCompareToForIntegralColumnWithColumnarQueryResult() throws SQLException {
+        SelectStatementContext selectStatementContext = createSelectStatementContext();
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        OrderByItem orderByItem = createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        OrderByValue orderByValue1 = new OrderByValue(createColumnarIntegralQueryResult(10L), Collections.singletonList(orderByItem), selectStatementContext, schema);
+        assertTrue(orderByValue1.next());
+        OrderByValue orderByValue2 = new OrderByValue(createColumnarIntegralQueryResult(9L), Collections.singletonList(orderByItem), selectStatementContext, schema);
+        assertTrue(orderByValue2.next());
+        OrderByValue orderByValue3 = new OrderByValue(createColumnarIntegralQueryResult(null), Collections.singletonList(orderByItem), selectStatementContext, schema);
+        assertTrue(orderByValue3.next());
+        OrderByValue orderByValue4 = new OrderByValue(createIntegralQueryResult(9), Collections.singletonList(orderByItem), selectStatementContext, schema);
+        assertTrue(orderByValue4.next());
+        assertTrue(orderByValue1.compareTo(orderByValue2) > 0);
+        assertTrue(orderByValue2.compareTo(orderByValue1) < 0);
+        assertTrue(orderByValue3.compareTo(orderByValue2) < 0);
+        assertTrue(orderByValue2.compareTo(orderByValue3) > 0);
+        assertThat(orderByValue2.compareTo(orderByValue4), is(0));
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setOrderBy(createOrderBySegment());
+        return new SelectStatementContext(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, mock(ShardingSphereDatabase.class)),
+                Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+    }
+    
+    private QueryResult createIntegralQueryResult(final Object... values) throws SQLException {
+        QueryResult result = createQueryResult();
+        for (int i = 0; i < values.length; i++) {
+            when(result.getMetaData().getColumnType(i + 1)).thenReturn(Types.BIGINT);
+            when(result.getValue(i + 1, Object.class)).thenReturn(values[i]);
+        }
+        return result;
+    }
+    
+    private QueryResult createColumnarIntegralQueryResult(final Long value) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getLong(1)).thenReturn(null == value ? 0L : value);
+        when(resultSet.wasNull()).thenReturn(null == value);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(resultSetMetaData.isSigned(1)).thenReturn(true);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        return new JDBCColumnarMemoryQueryResult(resultSet, new MySQLDatabaseType());
+    }
+    
     private QueryResult createQueryResult(final String... values) throws SQLException {
-        QueryResult result = mock(QueryResult.class);
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
         when(result.next()).thenReturn(true, false);
         for (int i = 0; i < values.length; i++) {
             when(result.getValue(i + 1, Object.class)).thenReturn(values[i]);
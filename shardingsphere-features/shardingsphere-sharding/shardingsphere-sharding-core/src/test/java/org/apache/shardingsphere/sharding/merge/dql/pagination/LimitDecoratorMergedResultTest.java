@@ -33,11 +33,13 @@ import org.junit.Test;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class LimitDecoratorMergedResultTest {
@@ -83,10 +85,15 @@ public final class LimitDecoratorMergedResultTest {
                 Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
         when(database.getName()).thenReturn(DefaultDatabase.LOGIC_NAME);
         ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"));
-        MergedResult actual = resultMerger.merge(Arrays.asList(mockQueryResult(), mockQueryResult(), mockQueryResult(), mockQueryResult()), selectStatementContext, database);
+        List<QueryResult> queryResults = Arrays.asList(mockQueryResult(), mockQueryResult(), mockQueryResult(), mockQueryResult());
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, database);
         assertTrue(actual.next());
         assertTrue(actual.next());
         assertFalse(actual.next());
+        assertFalse(actual.next());
+        for (QueryResult each : queryResults) {
+            verify(each).cancel();
+        }
     }
     
     private QueryResult mockQueryResult() throws SQLException {
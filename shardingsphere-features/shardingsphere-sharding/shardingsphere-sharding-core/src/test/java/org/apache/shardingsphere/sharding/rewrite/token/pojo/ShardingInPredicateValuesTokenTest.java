@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.pojo;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingInPredicateValuesTokenTest {
+    
+    private ShardingInPredicateValuesToken inPredicateValuesToken;
+    
+    @Before
+    public void setUp() {
+        ShardingInPredicateValue value0 = new ShardingInPredicateValue(new ParameterMarkerExpressionSegment(1, 1, 0), Collections.singleton(new DataNode("ds", "tbl_0")));
+        ShardingInPredicateValue value1 = new ShardingInPredicateValue(new ParameterMarkerExpressionSegment(4, 4, 1), Collections.singleton(new DataNode("ds", "tbl_1")));
+        ShardingInPredicateValue value2 = new ShardingInPredicateValue(new LiteralExpressionSegment(7, 9, 100), Collections.singleton(new DataNode("ds", "tbl_0")));
+        inPredicateValuesToken = new ShardingInPredicateValuesToken(0, 10, Arrays.asList(value0, value1, value2));
+    }
+    
+    @Test
+    public void assertToString() {
+        assertThat(inPredicateValuesToken.toString(), is("(?, ?, 100)"));
+    }
+    
+    @Test
+    public void assertToStringWithRouteUnit() {
+        assertThat(inPredicateValuesToken.toString(createRouteUnit("tbl_0")), is("(?, 100)"));
+        assertThat(inPredicateValuesToken.toString(createRouteUnit("tbl_1")), is("(?)"));
+        assertThat(inPredicateValuesToken.toString(createRouteUnit("tbl_2")), is("(?, ?, 100)"));
+    }
+    
+    @Test
+    public void assertGetRemovedParameterIndexes() {
+        assertThat(inPredicateValuesToken.getRemovedParameterIndexes(createRouteUnit("tbl_0")), is(Collections.singletonList(1)));
+        assertThat(inPredicateValuesToken.getRemovedParameterIndexes(createRouteUnit("tbl_1")), is(Collections.singletonList(0)));
+        assertTrue(inPredicateValuesToken.getRemovedParameterIndexes(createRouteUnit("tbl_2")).isEmpty());
+    }
+    
+    private RouteUnit createRouteUnit(final String actualTableName) {
+        return new RouteUnit(new RouteMapper("ds", "ds"), Collections.singletonList(new RouteMapper("tbl", actualTableName)));
+    }
+}
@@ -37,6 +37,7 @@ import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -80,5 +81,6 @@ public final class ShardingDataSourceGroupBroadcastRoutingEngineTest {
         assertThat(routeContext.getRouteUnits().size(), is(1));
         Iterator<RouteUnit> iterator = routeContext.getRouteUnits().iterator();
         assertThat(Arrays.asList("ds1", "ds2", "ds3"), hasItems(iterator.next().getDataSourceMapper().getActualName()));
+        assertFalse(routeContext.isCacheable());
     }
 }
@@ -70,6 +70,7 @@ public final class ShardingUnicastRoutingEngineTest {
         ShardingUnicastRoutingEngine unicastRoutingEngine = new ShardingUnicastRoutingEngine(mock(SQLStatementContext.class), Collections.emptyList());
         RouteContext routeContext = unicastRoutingEngine.route(shardingRule);
         assertThat(routeContext.getRouteUnits().size(), is(1));
+        assertFalse(routeContext.isCacheable());
     }
     
     @Test
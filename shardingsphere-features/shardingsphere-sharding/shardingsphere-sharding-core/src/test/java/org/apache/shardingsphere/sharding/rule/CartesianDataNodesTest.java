@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CartesianDataNodesTest {
+    
+    @Test
+    public void assertNewInstanceWithRangeDataSourcesAndTables() {
+        CartesianDataNodes actual = CartesianDataNodes.newInstance("ds_${0..63}.t_order_${0..1023}", null).orElseThrow(IllegalStateException::new);
+        assertThat(actual.size(), is(64 * 1024));
+        assertThat(actual.get(0), is(new DataNode("ds_0", "t_order_0")));
+        assertThat(actual.get(1025), is(new DataNode("ds_1", "t_order_1")));
+        assertThat(actual.get(64 * 1024 - 1), is(new DataNode("ds_63", "t_order_1023")));
+        assertThat(actual.indexOf(new DataNode("DS_1", "T_ORDER_1")), is(1025));
+        assertThat(actual.indexOf(new DataNode("ds_64", "t_order_1")), is(-1));
+        assertThat(actual.indexOf(new DataNode("ds_1", "t_order_1024")), is(-1));
+        assertThat(actual.indexOf(new DataNode("ds_1", "t_order_01")), is(-1));
+        assertTrue(actual.contains(new DataNode("ds_63", "t_order_1023")));
+        assertTrue(actual.getActualTableNames().contains("t_order_1023"));
+        assertFalse(actual.getActualTableNames().contains("t_order_x"));
+    }
+    
+    @Test
+    public void assertNewInstanceWithSameOrderAsInlineExpression() {
+        String actualDataNodes = "ds${0..1}.t_order_${1..3}_suffix";
+        List<String> expected = new InlineExpressionParser(actualDataNodes).splitAndEvaluate();
+        CartesianDataNodes actual = CartesianDataNodes.newInstance(actualDataNodes, null).orElseThrow(IllegalStateException::new);
+        assertThat(actual.stream().map(DataNode::format).collect(Collectors.toList()), is(expected));
+    }
+    
+    @Test
+    public void assertNewInstanceWithLiteralDataSourceAndActualTablePrefix() {
+        CartesianDataNodes actual = CartesianDataNodes.newInstance("ds.t_order_$->{0..2}", "prefix_").orElseThrow(IllegalStateException::new);
+        assertThat(actual.getDataSourceNames(), is(Arrays.asList("ds")));
+        assertThat(actual.getActualTableNames(), is(new LinkedHashSet<>(Arrays.asList("prefix_t_order_0", "prefix_t_order_1", "prefix_t_order_2"))));
+    }
+    
+    @Test
+    public void assertNewInstanceWithUnsupportedExpression() {
+        assertFalse(CartesianDataNodes.newInstance("ds_${0..1}.t_order_0", null).isPresent());
+        assertFalse(CartesianDataNodes.newInstance("ds_${['a', 'b']}.t_order_${0..1}", null).isPresent());
+        assertFalse(CartesianDataNodes.newInstance("ds_0.t_order_${0..1},ds_1.t_order_${2..3}", null).isPresent());
+        assertFalse(CartesianDataNodes.newInstance("ds_0.t_order_${2..1}", null).isPresent());
+        assertFalse(CartesianDataNodes.newInstance("ds_0.t_order_${0..1}0", null).isPresent());
+    }
+}
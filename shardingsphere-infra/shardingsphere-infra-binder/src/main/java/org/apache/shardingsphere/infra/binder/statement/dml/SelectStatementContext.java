@@ -301,6 +301,16 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
         return !groupByContext.getItems().isEmpty() && groupByContext.getItems().equals(orderByContext.getItems());
     }
     
+    /**
+     * Judge whether pagination can be satisfied by any rows or not, which means rows are not ordered, grouped, aggregated or distinct.
+     *
+     * @return whether pagination can be satisfied by any rows or not
+     */
+    public boolean isUnorderedPagination() {
+        return paginationContext.isHasPagination() && paginationContext.getActualRowCount().isPresent() && orderByContext.getItems().isEmpty() && groupByContext.getItems().isEmpty()
+                && projectionsContext.getAggregationProjections().isEmpty() && !projectionsContext.isDistinctRow() && !isContainsHaving() && !isContainsCombine() && !isContainsSubquery();
+    }
+    
     @Override
     public Collection<SimpleTableSegment> getAllTables() {
         return tablesContext.getTables();
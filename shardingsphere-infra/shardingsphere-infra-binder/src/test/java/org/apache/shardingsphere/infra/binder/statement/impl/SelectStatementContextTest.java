@@ -40,6 +40,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBy
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.AliasSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
@@ -322,6 +324,30 @@ public final class SelectStatementContextTest {
         assertFalse(selectStatementContext.isSameGroupByAndOrderByItems());
     }
     
+    @Test
+    public void assertIsUnorderedPagination() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setLimit(new LimitSegment(0, 0, null, new NumberLiteralLimitValueSegment(0, 0, 10L)));
+        assertTrue(createSelectStatementContext(selectStatement).isUnorderedPagination());
+    }
+    
+    @Test
+    public void assertIsNotUnorderedPaginationWithOrderBy() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC))));
+        selectStatement.setLimit(new LimitSegment(0, 0, null, new NumberLiteralLimitValueSegment(0, 0, 10L)));
+        assertFalse(createSelectStatementContext(selectStatement).isUnorderedPagination());
+    }
+    
+    @Test
+    public void assertIsNotUnorderedPaginationWithoutRowCount() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        assertFalse(createSelectStatementContext(selectStatement).isUnorderedPagination());
+    }
+    
     @Test
     public void assertSetIndexWhenAggregationProjectionsPresentForMySQL() {
         assertSetIndexWhenAggregationProjectionsPresent(new MySQLSelectStatement());
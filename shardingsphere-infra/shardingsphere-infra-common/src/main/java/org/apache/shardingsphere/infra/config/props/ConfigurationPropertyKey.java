@@ -47,6 +47,22 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * The max concurrent executions of each data source in worker group. Less than or equal to 0 means no limitation.
+     */
+    KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE("kernel-executor-max-concurrency-per-data-source", String.valueOf(0), int.class, true),
+    
+    /**
+     * The max milliseconds an execution waits for its data source in worker group, executions waiting longer are rejected. Less than or equal to 0 means no limitation.
+     */
+    KERNEL_EXECUTOR_MAX_WAIT_MILLISECONDS("kernel-executor-max-wait-milliseconds", String.valueOf(0L), long.class, true),
+    
+    /**
+     * Available options of executor thread type: PLATFORM(default), VIRTUAL. VIRTUAL runs kernel executor and proxy command executors on virtual threads,
+     * which falls back to PLATFORM if current runtime does not support virtual threads.
+     */
+    EXECUTOR_THREAD_TYPE("executor-thread-type", "PLATFORM", String.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -62,6 +78,39 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     SQL_FEDERATION_ENABLED("sql-federation-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether enable execution plan cache for prepared query statements.
+     */
+    EXECUTION_PLAN_CACHE_ENABLED("execution-plan-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Database types whose memory query results are loaded into primitive typed columns, separated by comma.
+     */
+    COLUMNAR_MEMORY_QUERY_RESULT_DATABASE_TYPES("columnar-memory-query-result-database-types", "", String.class, false),
+    
+    /**
+     * Max rows read ahead in background for each stream query result, so that stream merging overlaps network waits of different data sources.
+     * Less than or equal to 0 means no prefetch.
+     */
+    KERNEL_STREAM_PREFETCH_ROWS("kernel-stream-prefetch-rows", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max idle prepared statements cached for each storage connection and keyed by rewritten SQL, so that they can be reused across executions.
+     * Less than or equal to 0 means no cache.
+     */
+    PREPARED_STATEMENT_CACHE_SIZE_PER_CONNECTION("prepared-statement-cache-size-per-connection", String.valueOf(0), int.class, false),
+    
+    /**
+     * Memory budget in bytes for merging results of one query in memory, rows exceeding the budget are spilled to local temporary files.
+     * Less than or equal to 0 means no limitation.
+     */
+    MERGE_MEMORY_BUDGET_BYTES("merge-memory-budget-bytes", String.valueOf(0L), long.class, false),
+    
+    /**
+     * Whether choose connection size and connection mode adaptively by observed result row counts, execution latency and data source pool saturation.
+     */
+    ADAPTIVE_CONNECTION_MODE_ENABLED("adaptive-connection-mode-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Frontend database protocol type for ShardingSphere-Proxy.
      */
@@ -94,6 +143,36 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_EXECUTOR_SUITABLE("proxy-backend-executor-suitable", "OLAP", String.class, false),
     
+    /**
+     * Whether to release proxy backend executor thread while SQL executing on storage nodes. Only take effect for commands executed by proxy backend executor.
+     */
+    PROXY_BACKEND_ASYNC_EXECUTION_ENABLED("proxy-backend-async-execution-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Whether to replay session variables on backend connections when they are checked out, and reset them before the connections are returned to the pool.
+     */
+    PROXY_BACKEND_SESSION_VARIABLES_REPLAY_ENABLED("proxy-backend-session-variables-replay-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Whether to relay values of single route query results in text format of storage nodes. Only take effect for text protocol when results need no merge or decoration.
+     */
+    PROXY_BACKEND_SINGLE_ROUTE_PASSTHROUGH_ENABLED("proxy-backend-single-route-passthrough-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Comma separated logic tables whose query results are cached by proxy, each one may be suffixed with its own TTL in milliseconds, e.g. t_config:30000,t_dict.
+     */
+    PROXY_BACKEND_RESULT_CACHE_TABLES("proxy-backend-result-cache-tables", "", String.class, false),
+    
+    /**
+     * Default TTL in milliseconds of cached query results.
+     */
+    PROXY_BACKEND_RESULT_CACHE_TTL_MILLISECONDS("proxy-backend-result-cache-ttl-milliseconds", String.valueOf(60000L), long.class, false),
+    
+    /**
+     * Maximum bytes of serialized rows held by query result cache of proxy.
+     */
+    PROXY_BACKEND_RESULT_CACHE_MAX_BYTES("proxy-backend-result-cache-max-bytes", String.valueOf(64L * 1024 * 1024), long.class, false),
+    
     /**
      * Less than or equal to 0 means no limitation.
      */
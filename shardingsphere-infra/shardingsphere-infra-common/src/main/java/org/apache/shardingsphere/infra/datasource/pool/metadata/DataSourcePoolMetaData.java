@@ -20,8 +20,10 @@ package org.apache.shardingsphere.infra.datasource.pool.metadata;
 import org.apache.shardingsphere.spi.annotation.SingletonSPI;
 import org.apache.shardingsphere.spi.type.typed.TypedSPI;
 
+import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Data source pool meta data.
@@ -63,4 +65,24 @@ public interface DataSourcePoolMetaData extends TypedSPI {
      * @return data source pool field meta data
      */
     DataSourcePoolFieldMetaData getFieldMetaData();
+    
+    /**
+     * Get saturation of data source pool, which is ratio of active connections to maximum pool size.
+     * 
+     * @param dataSource data source pool
+     * @return saturation of data source pool, empty if data source pool does not expose it
+     */
+    default Optional<Double> getSaturation(final DataSource dataSource) {
+        return Optional.empty();
+    }
+    
+    /**
+     * Get available connection size of data source pool, which is maximum pool size minus active connections.
+     * 
+     * @param dataSource data source pool
+     * @return available connection size of data source pool, empty if data source pool does not expose it
+     */
+    default Optional<Integer> getAvailableConnectionSize(final DataSource dataSource) {
+        return Optional.empty();
+    }
 }
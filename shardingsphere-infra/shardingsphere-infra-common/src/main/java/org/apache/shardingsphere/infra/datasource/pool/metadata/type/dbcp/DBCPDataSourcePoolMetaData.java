@@ -19,11 +19,13 @@ package org.apache.shardingsphere.infra.datasource.pool.metadata.type.dbcp;
 
 import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolMetaData;
 
+import javax.sql.DataSource;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * DBCP data source pool meta data.
@@ -65,6 +67,34 @@ public final class DBCPDataSourcePoolMetaData implements DataSourcePoolMetaData
         return new DBCPDataSourcePoolFieldMetaData();
     }
     
+    @Override
+    public Optional<Double> getSaturation(final DataSource dataSource) {
+        try {
+            int maxTotal = (int) dataSource.getClass().getMethod("getMaxTotal").invoke(dataSource);
+            if (maxTotal <= 0) {
+                return Optional.empty();
+            }
+            int numActive = (int) dataSource.getClass().getMethod("getNumActive").invoke(dataSource);
+            return Optional.of((double) numActive / maxTotal);
+        } catch (final ReflectiveOperationException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    @Override
+    public Optional<Integer> getAvailableConnectionSize(final DataSource dataSource) {
+        try {
+            int maxTotal = (int) dataSource.getClass().getMethod("getMaxTotal").invoke(dataSource);
+            if (maxTotal <= 0) {
+                return Optional.empty();
+            }
+            int numActive = (int) dataSource.getClass().getMethod("getNumActive").invoke(dataSource);
+            return Optional.of(Math.max(maxTotal - numActive, 0));
+        } catch (final ReflectiveOperationException ignored) {
+            return Optional.empty();
+        }
+    }
+    
     @Override
     public String getType() {
         return "org.apache.commons.dbcp2.BasicDataSource";
@@ -17,12 +17,15 @@
 
 package org.apache.shardingsphere.infra.datasource.pool.metadata.type.hikari;
 
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolMetaData;
 
+import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Hikari data source pool meta data.
@@ -97,6 +100,30 @@ public final class HikariDataSourcePoolMetaData implements DataSourcePoolMetaDat
         return new HikariDataSourcePoolFieldMetaData();
     }
     
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Override
+    public Optional<Double> getSaturation(final DataSource dataSource) {
+        int maximumPoolSize = (int) dataSource.getClass().getMethod("getMaximumPoolSize").invoke(dataSource);
+        if (maximumPoolSize <= 0) {
+            return Optional.empty();
+        }
+        Object hikariPoolMXBean = dataSource.getClass().getMethod("getHikariPoolMXBean").invoke(dataSource);
+        int activeConnections = null == hikariPoolMXBean ? 0 : (int) hikariPoolMXBean.getClass().getMethod("getActiveConnections").invoke(hikariPoolMXBean);
+        return Optional.of((double) activeConnections / maximumPoolSize);
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Override
+    public Optional<Integer> getAvailableConnectionSize(final DataSource dataSource) {
+        int maximumPoolSize = (int) dataSource.getClass().getMethod("getMaximumPoolSize").invoke(dataSource);
+        if (maximumPoolSize <= 0) {
+            return Optional.empty();
+        }
+        Object hikariPoolMXBean = dataSource.getClass().getMethod("getHikariPoolMXBean").invoke(dataSource);
+        int activeConnections = null == hikariPoolMXBean ? 0 : (int) hikariPoolMXBean.getClass().getMethod("getActiveConnections").invoke(hikariPoolMXBean);
+        return Optional.of(Math.max(maximumPoolSize - activeConnections, 0));
+    }
+    
     @Override
     public String getType() {
         return "com.zaxxer.hikari.HikariDataSource";
@@ -34,12 +34,27 @@ public final class ConfigurationPropertiesTest {
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE), is(4));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_WAIT_MILLISECONDS), is(3000L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_THREAD_TYPE), is("VIRTUAL"));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(20));
         assertTrue(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_ENABLED));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.COLUMNAR_MEMORY_QUERY_RESULT_DATABASE_TYPES), is("MySQL,PostgreSQL"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_STREAM_PREFETCH_ROWS), is(64));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PREPARED_STATEMENT_CACHE_SIZE_PER_CONNECTION), is(32));
+        assertThat(actual.getValue(ConfigurationPropertyKey.MERGE_MEMORY_BUDGET_BYTES), is(1048576L));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is("PostgreSQL"));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(20));
         assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_ASYNC_EXECUTION_ENABLED));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_VARIABLES_REPLAY_ENABLED));
+        assertTrue(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_SINGLE_ROUTE_PASSTHROUGH_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_RESULT_CACHE_TABLES), is("t_config:30000,t_dict"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_RESULT_CACHE_TTL_MILLISECONDS), is(10000L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_RESULT_CACHE_MAX_BYTES), is(1024L));
     }
     
     private Properties createProperties() {
@@ -47,12 +62,27 @@ public final class ConfigurationPropertiesTest {
         result.setProperty(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString());
         result.setProperty(ConfigurationPropertyKey.SQL_SIMPLE.getKey(), Boolean.TRUE.toString());
         result.setProperty(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "20");
+        result.setProperty(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE.getKey(), "4");
+        result.setProperty(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_WAIT_MILLISECONDS.getKey(), "3000");
+        result.setProperty(ConfigurationPropertyKey.EXECUTOR_THREAD_TYPE.getKey(), "VIRTUAL");
         result.setProperty(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "20");
         result.setProperty(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED.getKey(), Boolean.TRUE.toString());
         result.setProperty(ConfigurationPropertyKey.SQL_FEDERATION_ENABLED.getKey(), Boolean.TRUE.toString());
+        result.setProperty(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_ENABLED.getKey(), Boolean.TRUE.toString());
+        result.setProperty(ConfigurationPropertyKey.COLUMNAR_MEMORY_QUERY_RESULT_DATABASE_TYPES.getKey(), "MySQL,PostgreSQL");
+        result.setProperty(ConfigurationPropertyKey.KERNEL_STREAM_PREFETCH_ROWS.getKey(), "64");
+        result.setProperty(ConfigurationPropertyKey.PREPARED_STATEMENT_CACHE_SIZE_PER_CONNECTION.getKey(), "32");
+        result.setProperty(ConfigurationPropertyKey.MERGE_MEMORY_BUDGET_BYTES.getKey(), "1048576");
+        result.setProperty(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED.getKey(), Boolean.TRUE.toString());
         result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE.getKey(), "PostgreSQL");
         result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), "20");
         result.setProperty(ConfigurationPropertyKey.PROXY_HINT_ENABLED.getKey(), Boolean.TRUE.toString());
+        result.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_ASYNC_EXECUTION_ENABLED.getKey(), Boolean.TRUE.toString());
+        result.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_VARIABLES_REPLAY_ENABLED.getKey(), Boolean.TRUE.toString());
+        result.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_SINGLE_ROUTE_PASSTHROUGH_ENABLED.getKey(), Boolean.TRUE.toString());
+        result.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_RESULT_CACHE_TABLES.getKey(), "t_config:30000,t_dict");
+        result.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_RESULT_CACHE_TTL_MILLISECONDS.getKey(), "10000");
+        result.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_RESULT_CACHE_MAX_BYTES.getKey(), "1024");
         return result;
     }
     
@@ -62,11 +92,26 @@ public final class ConfigurationPropertiesTest {
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_WAIT_MILLISECONDS), is(0L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.EXECUTOR_THREAD_TYPE), is("PLATFORM"));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(1));
         assertFalse(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED));
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_ENABLED));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.COLUMNAR_MEMORY_QUERY_RESULT_DATABASE_TYPES), is(""));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_STREAM_PREFETCH_ROWS), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PREPARED_STATEMENT_CACHE_SIZE_PER_CONNECTION), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.MERGE_MEMORY_BUDGET_BYTES), is(0L));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE), is(""));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD), is(128));
         assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_ASYNC_EXECUTION_ENABLED));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_VARIABLES_REPLAY_ENABLED));
+        assertFalse(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_SINGLE_ROUTE_PASSTHROUGH_ENABLED));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_RESULT_CACHE_TABLES), is(""));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_RESULT_CACHE_TTL_MILLISECONDS), is(60000L));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_BACKEND_RESULT_CACHE_MAX_BYTES), is(67108864L));
     }
 }
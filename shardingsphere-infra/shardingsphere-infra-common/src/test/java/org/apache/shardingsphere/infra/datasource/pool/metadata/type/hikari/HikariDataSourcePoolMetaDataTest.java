@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.metadata.type.hikari;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class HikariDataSourcePoolMetaDataTest {
+    
+    @Test
+    public void assertGetSaturationWithoutMaximumPoolSize() {
+        assertThat(new HikariDataSourcePoolMetaData().getSaturation(new HikariDataSource()), is(Optional.empty()));
+    }
+    
+    @Test
+    public void assertGetSaturation() throws SQLException {
+        try (HikariDataSource dataSource = createHikariDataSource()) {
+            try (Connection ignored = dataSource.getConnection()) {
+                assertThat(new HikariDataSourcePoolMetaData().getSaturation(dataSource), is(Optional.of(0.25D)));
+            }
+        }
+    }
+    
+    @Test
+    public void assertGetAvailableConnectionSizeWithoutMaximumPoolSize() {
+        assertThat(new HikariDataSourcePoolMetaData().getAvailableConnectionSize(new HikariDataSource()), is(Optional.empty()));
+    }
+    
+    @Test
+    public void assertGetAvailableConnectionSize() throws SQLException {
+        try (HikariDataSource dataSource = createHikariDataSource()) {
+            try (Connection ignored = dataSource.getConnection()) {
+                assertThat(new HikariDataSourcePoolMetaData().getAvailableConnectionSize(dataSource), is(Optional.of(3)));
+            }
+        }
+    }
+    
+    private HikariDataSource createHikariDataSource() {
+        HikariConfig config = new HikariConfig();
+        config.setDriverClassName("org.h2.Driver");
+        config.setJdbcUrl("jdbc:h2:mem:foo_ds;DB_CLOSE_DELAY=-1");
+        config.setUsername("root");
+        config.setPassword("root");
+        config.setMaximumPoolSize(4);
+        return new HikariDataSource(config);
+    }
+}
@@ -18,17 +18,30 @@
 package org.apache.shardingsphere.infra.context.kernel;
 
 import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlan;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCache;
+import org.apache.shardingsphere.infra.context.kernel.plan.RouteParameterRecorder;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
+import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.SQLRouter;
+import org.apache.shardingsphere.infra.route.SQLRouterFactory;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+
+import java.util.ArrayList;
+import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * Kernel processor.
@@ -46,6 +59,9 @@ public final class KernelProcessor {
      */
     public ExecutionContext generateExecutionContext(final LogicSQL logicSQL,
                                                      final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        if (isExecutionPlanCacheable(logicSQL, database, props)) {
+            return generateExecutionContextWithPlanCache(logicSQL, database, globalRuleMetaData, props);
+        }
         RouteContext routeContext = route(logicSQL, database, props);
         SQLRewriteResult rewriteResult = rewrite(logicSQL, database, globalRuleMetaData, props, routeContext);
         ExecutionContext result = createExecutionContext(logicSQL, database, routeContext, rewriteResult);
@@ -53,6 +69,51 @@ public final class KernelProcessor {
         return result;
     }
     
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private boolean isExecutionPlanCacheable(final LogicSQL logicSQL, final ShardingSphereDatabase database, final ConfigurationProperties props) {
+        if (logicSQL.getParameters().isEmpty() || !(logicSQL.getSqlStatementContext() instanceof SelectStatementContext)
+                || !props.<Boolean>getValue(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_ENABLED) || HintManager.isInstantiated()) {
+            return false;
+        }
+        for (Entry<ShardingSphereRule, SQLRouter> entry : SQLRouterFactory.getInstances(database.getRuleMetaData().getRules()).entrySet()) {
+            if (!entry.getValue().isRouteContextCacheable(entry.getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private ExecutionContext generateExecutionContextWithPlanCache(final LogicSQL logicSQL,
+                                                                   final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        Optional<ExecutionPlan> executionPlan = ExecutionPlanCache.find(database, logicSQL);
+        if (executionPlan.isPresent()) {
+            ExecutionContext result = executionPlan.get().createExecutionContext(logicSQL);
+            logSQL(logicSQL, props, result);
+            return result;
+        }
+        RouteParameterRecorder routeParameterRecorder = new RouteParameterRecorder(logicSQL.getParameters());
+        RouteContext routeContext = route(new LogicSQL(logicSQL.getSqlStatementContext(), logicSQL.getSql(), routeParameterRecorder), database, props);
+        SQLRewriteResult rewriteResult = rewrite(logicSQL, database, globalRuleMetaData, props, routeContext);
+        ExecutionContext result = createExecutionContext(logicSQL, database, routeContext, rewriteResult);
+        if (isExecutionPlanReusable(logicSQL, result)) {
+            ExecutionPlanCache.put(database, logicSQL, new ArrayList<>(routeParameterRecorder.getReadIndexes()), new ExecutionPlan(routeContext, result.getExecutionUnits()));
+        }
+        logSQL(logicSQL, props, result);
+        return result;
+    }
+    
+    private boolean isExecutionPlanReusable(final LogicSQL logicSQL, final ExecutionContext executionContext) {
+        if (executionContext.getRouteContext().isFederated() || !executionContext.getRouteContext().isCacheable()) {
+            return false;
+        }
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            if (!logicSQL.getParameters().equals(each.getSqlUnit().getParameters())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     private RouteContext route(final LogicSQL logicSQL, final ShardingSphereDatabase database, final ConfigurationProperties props) {
         return new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(logicSQL, database);
     }
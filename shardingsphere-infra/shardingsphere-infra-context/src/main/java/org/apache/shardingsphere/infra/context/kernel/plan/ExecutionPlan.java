@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+/**
+ * Execution plan.
+ */
+@Getter
+public final class ExecutionPlan {
+    
+    private final RouteContext routeContext;
+    
+    private final Collection<ExecutionUnit> executionUnits;
+    
+    public ExecutionPlan(final RouteContext routeContext, final Collection<ExecutionUnit> executionUnits) {
+        this.routeContext = routeContext;
+        this.executionUnits = new LinkedHashSet<>(executionUnits.size(), 1f);
+        for (ExecutionUnit each : executionUnits) {
+            this.executionUnits.add(new ExecutionUnit(each.getDataSourceName(), new SQLUnit(each.getSqlUnit().getSql(), Collections.emptyList(), each.getSqlUnit().getTableRouteMappers())));
+        }
+    }
+    
+    /**
+     * Create execution context with parameters of logic SQL.
+     *
+     * @param logicSQL logic SQL
+     * @return execution context
+     */
+    public ExecutionContext createExecutionContext(final LogicSQL logicSQL) {
+        Collection<ExecutionUnit> result = new LinkedHashSet<>(executionUnits.size(), 1f);
+        for (ExecutionUnit each : executionUnits) {
+            result.add(new ExecutionUnit(each.getDataSourceName(), new SQLUnit(each.getSqlUnit().getSql(), logicSQL.getParameters(), each.getSqlUnit().getTableRouteMappers())));
+        }
+        return new ExecutionContext(logicSQL, result, routeContext);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Execution plan cache.
+ * 
+ * <p>Execution plans are held per database meta data instance, so that databases of different contexts with the same name never share plans.
+ * They are keyed by SQL and values of parameters which are read by routers, indexes of those parameters are learned from the latest routing of the same SQL.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExecutionPlanCache {
+    
+    private static final int MAXIMUM_SIZE = 65535;
+    
+    private static final Cache<ShardingSphereDatabase, DatabaseExecutionPlans> DATABASE_EXECUTION_PLANS = Caffeine.newBuilder().weakKeys().build();
+    
+    /**
+     * Find execution plan.
+     *
+     * @param database database
+     * @param logicSQL logic SQL
+     * @return found execution plan
+     */
+    public static Optional<ExecutionPlan> find(final ShardingSphereDatabase database, final LogicSQL logicSQL) {
+        DatabaseExecutionPlans databaseExecutionPlans = DATABASE_EXECUTION_PLANS.getIfPresent(database);
+        if (null == databaseExecutionPlans) {
+            return Optional.empty();
+        }
+        Collection<Integer> routeParameterIndexes = databaseExecutionPlans.routeParameterIndexes.getIfPresent(logicSQL.getSql());
+        return null == routeParameterIndexes
+                ? Optional.empty()
+                : Optional.ofNullable(
+                        databaseExecutionPlans.executionPlans.getIfPresent(new ExecutionPlanKey(logicSQL.getSql(), routeParameterIndexes, getRouteParameters(logicSQL, routeParameterIndexes))));
+    }
+    
+    /**
+     * Put execution plan.
+     *
+     * @param database database
+     * @param logicSQL logic SQL
+     * @param routeParameterIndexes indexes of parameters read by routers
+     * @param executionPlan execution plan
+     */
+    public static void put(final ShardingSphereDatabase database, final LogicSQL logicSQL, final Collection<Integer> routeParameterIndexes, final ExecutionPlan executionPlan) {
+        DatabaseExecutionPlans databaseExecutionPlans = DATABASE_EXECUTION_PLANS.get(database, unused -> new DatabaseExecutionPlans());
+        databaseExecutionPlans.routeParameterIndexes.put(logicSQL.getSql(), routeParameterIndexes);
+        databaseExecutionPlans.executionPlans.put(new ExecutionPlanKey(logicSQL.getSql(), routeParameterIndexes, getRouteParameters(logicSQL, routeParameterIndexes)), executionPlan);
+    }
+    
+    private static List<Object> getRouteParameters(final LogicSQL logicSQL, final Collection<Integer> routeParameterIndexes) {
+        List<Object> result = new ArrayList<>(routeParameterIndexes.size());
+        for (int each : routeParameterIndexes) {
+            result.add(logicSQL.getParameters().get(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Invalidate execution plans of database.
+     *
+     * @param database database
+     */
+    public static void invalidate(final ShardingSphereDatabase database) {
+        DATABASE_EXECUTION_PLANS.invalidate(database);
+    }
+    
+    /**
+     * Invalidate all execution plans.
+     */
+    public static void invalidateAll() {
+        DATABASE_EXECUTION_PLANS.invalidateAll();
+    }
+    
+    private static final class DatabaseExecutionPlans {
+        
+        private final Cache<String, Collection<Integer>> routeParameterIndexes = Caffeine.newBuilder().maximumSize(MAXIMUM_SIZE).build();
+        
+        private final Cache<ExecutionPlanKey, ExecutionPlan> executionPlans = Caffeine.newBuilder().softValues().maximumSize(MAXIMUM_SIZE).build();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class ExecutionPlanKey {
+        
+        private final String sql;
+        
+        private final Collection<Integer> routeParameterIndexes;
+        
+        private final List<Object> routeParameters;
+    }
+}
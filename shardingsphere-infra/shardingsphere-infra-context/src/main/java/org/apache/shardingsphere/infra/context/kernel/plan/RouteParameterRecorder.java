@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.plan;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Route parameter recorder, which records indexes of parameters read by routers.
+ */
+@RequiredArgsConstructor
+public final class RouteParameterRecorder extends AbstractList<Object> {
+    
+    private final List<Object> parameters;
+    
+    @Getter
+    private final Collection<Integer> readIndexes = new TreeSet<>();
+    
+    @Override
+    public Object get(final int index) {
+        readIndexes.add(index);
+        return parameters.get(index);
+    }
+    
+    @Override
+    public int size() {
+        return parameters.size();
+    }
+}
@@ -20,10 +20,12 @@ package org.apache.shardingsphere.infra.context.kernel;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCache;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResource;
@@ -31,12 +33,16 @@ import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRule
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+import org.junit.After;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -44,6 +50,11 @@ import static org.mockito.Mockito.when;
 
 public final class KernelProcessorTest {
     
+    @After
+    public void tearDown() {
+        ExecutionPlanCache.invalidateAll();
+    }
+    
     @SuppressWarnings("unchecked")
     @Test
     public void assertGenerateExecutionContext() {
@@ -57,6 +68,41 @@ public final class KernelProcessorTest {
         assertThat(actual.getExecutionUnits().size(), is(1));
     }
     
+    @Test
+    public void assertGenerateExecutionContextWithExecutionPlanCache() {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        ShardingSphereDatabase database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, mock(DatabaseType.class),
+                mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS), new ShardingSphereRuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class))), Collections.emptyMap());
+        Properties props = createProperties();
+        props.setProperty(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_ENABLED.getKey(), Boolean.TRUE.toString());
+        KernelProcessor kernelProcessor = new KernelProcessor();
+        ExecutionContext expected = kernelProcessor.generateExecutionContext(new LogicSQL(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(1)),
+                database, new ShardingSphereRuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class))), new ConfigurationProperties(props));
+        ExecutionContext actual = kernelProcessor.generateExecutionContext(new LogicSQL(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Arrays.asList(2)),
+                database, new ShardingSphereRuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class))), new ConfigurationProperties(props));
+        assertThat(actual.getRouteContext(), sameInstance(expected.getRouteContext()));
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        assertThat(actual.getExecutionUnits().iterator().next().getSqlUnit().getParameters(), is(Collections.<Object>singletonList(2)));
+    }
+    
+    @Test
+    public void assertGenerateExecutionContextWithExecutionPlanCacheOfDifferentDatabases() {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        Properties props = createProperties();
+        props.setProperty(ConfigurationPropertyKey.EXECUTION_PLAN_CACHE_ENABLED.getKey(), Boolean.TRUE.toString());
+        KernelProcessor kernelProcessor = new KernelProcessor();
+        ExecutionContext expected = kernelProcessor.generateExecutionContext(new LogicSQL(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(1)),
+                createDatabase(), new ShardingSphereRuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class))), new ConfigurationProperties(props));
+        ExecutionContext actual = kernelProcessor.generateExecutionContext(new LogicSQL(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(1)),
+                createDatabase(), new ShardingSphereRuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class))), new ConfigurationProperties(props));
+        assertThat(actual.getRouteContext(), not(sameInstance(expected.getRouteContext())));
+    }
+    
+    private ShardingSphereDatabase createDatabase() {
+        return new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, mock(DatabaseType.class),
+                mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS), new ShardingSphereRuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class))), Collections.emptyMap());
+    }
+    
     private Properties createProperties() {
         Properties result = new Properties();
         result.setProperty(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString());
@@ -23,15 +23,19 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceBuilderFactory;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -49,6 +53,10 @@ public final class ExecutorEngine implements AutoCloseable {
         executorServiceManager = new ExecutorServiceManager(executorSize);
     }
     
+    private ExecutorEngine(final int executorSize, final String threadType, final int maxConcurrencyPerDataSource, final long maxWaitMilliseconds) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, ExecutorServiceBuilderFactory.getInstance(threadType), maxConcurrencyPerDataSource, maxWaitMilliseconds);
+    }
+    
     /**
      * Create executor engine with executor size.
      *
@@ -59,6 +67,19 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine with executor size, thread type and per data source bulkhead.
+     *
+     * @param executorSize executor size
+     * @param threadType thread type of executor, fall back to platform threads if not supported by current runtime
+     * @param maxConcurrencyPerDataSource max concurrent executions of each data source, less than or equal to 0 means no limitation
+     * @param maxWaitMilliseconds max milliseconds an execution waits for its data source, less than or equal to 0 means no limitation
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSize(final int executorSize, final String threadType, final int maxConcurrencyPerDataSource, final long maxWaitMilliseconds) {
+        return new ExecutorEngine(executorSize, threadType, maxConcurrencyPerDataSource, maxWaitMilliseconds);
+    }
+    
     /**
      * Create executor engine with CPU and resources.
      * 
@@ -113,39 +134,97 @@ public final class ExecutorEngine implements AutoCloseable {
             return Collections.emptyList();
         }
         return serial ? serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback)
-                : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
+                : parallelExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getDatabaseName(), getTenant(executionGroupContext), firstCallback, callback);
+    }
+    
+    /**
+     * Execute asynchronously.
+     * 
+     * <p>Serial execution still runs on the caller thread because its execution groups share connections bound to the caller.
+     * Parallel execution runs all execution groups in executor service with a copy of executor data map,
+     * the returned future completes after all of them completed.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result
+     */
+    public <I, O> CompletableFuture<List<O>> executeAsync(final ExecutionGroupContext<I> executionGroupContext,
+                                                          final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final boolean serial) {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        if (serial) {
+            CompletableFuture<List<O>> result = new CompletableFuture<>();
+            try {
+                result.complete(serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback));
+            } catch (final SQLException | ShardingSphereException ex) {
+                result.completeExceptionally(ex);
+            }
+            return result;
+        }
+        return parallelExecuteAsync(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getDatabaseName(), getTenant(executionGroupContext), firstCallback, callback);
+    }
+    
+    private String getTenant(final ExecutionGroupContext<?> executionGroupContext) {
+        return null == executionGroupContext.getGrantee() ? null : executionGroupContext.getGrantee().toString();
     }
     
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
         List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
-        while (executionGroups.hasNext()) {
+        while (executionGroups.hasNext() && !callback.isCancelled()) {
             result.addAll(syncExecute(executionGroups.next(), callback));
         }
         return result;
     }
     
-    private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+    private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String databaseName, final String tenant,
+                                           final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback);
+        Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, databaseName, tenant, callback);
         return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
     
+    private <I, O> CompletableFuture<List<O>> parallelExecuteAsync(final Iterator<ExecutionGroup<I>> executionGroups, final String databaseName, final String tenant,
+                                                                   final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) {
+        Map<String, Object> dataMap = new LinkedHashMap<>(ExecutorDataMap.getValue());
+        List<CompletableFuture<Collection<O>>> futures = new ArrayList<>();
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        futures.add(executorServiceManager.getBulkheadScheduler().submitAsync(databaseName, firstInputs.getDataSourceName(), tenant,
+                () -> (null == firstCallback ? callback : firstCallback).execute(firstInputs.getInputs(), true, dataMap)));
+        while (executionGroups.hasNext()) {
+            ExecutionGroup<I> each = executionGroups.next();
+            futures.add(executorServiceManager.getBulkheadScheduler().submitAsync(databaseName, each.getDataSourceName(), tenant,
+                    () -> callback.isCancelled() ? Collections.emptyList() : callback.execute(each.getInputs(), false, dataMap)));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(unused -> {
+            List<O> result = new ArrayList<>();
+            futures.forEach(each -> result.addAll(each.join()));
+            return result;
+        });
+    }
+    
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) throws SQLException {
         return callback.execute(executionGroup.getInputs(), true, ExecutorDataMap.getValue());
     }
     
-    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
+    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String databaseName, final String tenant,
+                                                                  final ExecutorCallback<I, O> callback) {
         Collection<Future<Collection<O>>> result = new LinkedList<>();
         while (executionGroups.hasNext()) {
-            result.add(asyncExecute(executionGroups.next(), callback));
+            result.add(asyncExecute(executionGroups.next(), databaseName, tenant, callback));
         }
         return result;
     }
     
-    private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
+    private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final String databaseName, final String tenant, final ExecutorCallback<I, O> callback) {
         Map<String, Object> dataMap = ExecutorDataMap.getValue();
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
+        return executorServiceManager.getBulkheadScheduler().submit(databaseName, executionGroup.getDataSourceName(), tenant,
+                () -> callback.isCancelled() ? Collections.emptyList() : callback.execute(executionGroup.getInputs(), false, dataMap));
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
@@ -31,5 +31,11 @@ import java.util.List;
 @Getter
 public final class ExecutionGroup<T> {
     
+    private final String dataSourceName;
+    
     private final List<T> inputs;
+    
+    public ExecutionGroup(final List<T> inputs) {
+        this(null, inputs);
+    }
 }
@@ -39,4 +39,13 @@ public interface ExecutorCallback<I, O> {
      * @throws SQLException throw when execute failure
      */
     Collection<O> execute(Collection<I> inputs, boolean isTrunkThread, Map<String, Object> dataMap) throws SQLException;
+    
+    /**
+     * Judge whether execution is cancelled or not, the inputs which are not started will be skipped if cancelled.
+     * 
+     * @return execution is cancelled or not
+     */
+    default boolean isCancelled() {
+        return false;
+    }
 }
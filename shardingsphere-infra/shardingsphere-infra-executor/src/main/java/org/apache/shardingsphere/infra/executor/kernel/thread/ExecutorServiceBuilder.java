@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.apache.shardingsphere.spi.type.required.RequiredSPI;
+import org.apache.shardingsphere.spi.type.typed.TypedSPI;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Executor service builder, which decides what kind of threads executor services run on.
+ */
+public interface ExecutorServiceBuilder extends TypedSPI, RequiredSPI {
+    
+    /**
+     * Judge whether threads of this builder are supported by current runtime.
+     *
+     * @return supported or not
+     */
+    boolean isSupported();
+    
+    /**
+     * Build executor service.
+     *
+     * @param executorSize executor size, 0 means unbounded
+     * @param nameFormat thread name format
+     * @return built executor service
+     */
+    ExecutorService build(int executorSize, String nameFormat);
+    
+    /**
+     * Build executor service which executes all tasks on the same thread in order.
+     *
+     * @param threadName thread name
+     * @return built executor service
+     */
+    ExecutorService buildSingleThread(String threadName);
+}
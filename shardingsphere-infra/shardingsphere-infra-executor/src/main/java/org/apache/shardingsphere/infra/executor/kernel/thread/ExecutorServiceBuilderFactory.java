@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.spi.type.required.RequiredSPIRegistry;
+import org.apache.shardingsphere.spi.type.typed.TypedSPIRegistry;
+
+import java.util.Optional;
+
+/**
+ * Executor service builder factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class ExecutorServiceBuilderFactory {
+    
+    static {
+        ShardingSphereServiceLoader.register(ExecutorServiceBuilder.class);
+    }
+    
+    /**
+     * Get default instance of executor service builder.
+     *
+     * @return got instance
+     */
+    public static ExecutorServiceBuilder getInstance() {
+        return RequiredSPIRegistry.getRegisteredService(ExecutorServiceBuilder.class);
+    }
+    
+    /**
+     * Get instance of executor service builder.
+     * 
+     * <p>Fall back to default executor service builder if the type is absent or not supported by current runtime.</p>
+     *
+     * @param type type of executor service builder
+     * @return got instance
+     */
+    public static ExecutorServiceBuilder getInstance(final String type) {
+        Optional<ExecutorServiceBuilder> result = TypedSPIRegistry.findRegisteredService(ExecutorServiceBuilder.class, type);
+        if (result.isPresent() && result.get().isSupported()) {
+            return result.get();
+        }
+        ExecutorServiceBuilder defaultBuilder = getInstance();
+        if (null != type && !type.isEmpty() && !type.equalsIgnoreCase(defaultBuilder.getType())) {
+            log.warn("Executor thread type `{}` is not supported by current runtime, use `{}` instead.", type, defaultBuilder.getType());
+        }
+        return defaultBuilder;
+    }
+}
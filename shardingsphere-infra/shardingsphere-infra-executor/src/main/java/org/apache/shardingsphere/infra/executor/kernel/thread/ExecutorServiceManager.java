@@ -18,10 +18,10 @@
 package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.kernel.thread.bulkhead.DataSourceBulkheadScheduler;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -36,17 +36,28 @@ public final class ExecutorServiceManager {
     
     private final ExecutorService executorService;
     
+    private final DataSourceBulkheadScheduler bulkheadScheduler;
+    
     public ExecutorServiceManager(final int executorSize) {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ExecutorServiceManager(final int executorSize, final ExecutorServiceBuilder executorServiceBuilder, final int maxConcurrencyPerDataSource, final long maxWaitMilliseconds) {
+        this(executorSize, DEFAULT_NAME_FORMAT, executorServiceBuilder, maxConcurrencyPerDataSource, maxWaitMilliseconds);
+    }
+    
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = getExecutorService(executorSize, nameFormat);
+        this(executorSize, nameFormat, ExecutorServiceBuilderFactory.getInstance());
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final ExecutorServiceBuilder executorServiceBuilder) {
+        this(executorSize, nameFormat, executorServiceBuilder, 0, 0L);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
-        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
-        return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final ExecutorServiceBuilder executorServiceBuilder,
+                                  final int maxConcurrencyPerDataSource, final long maxWaitMilliseconds) {
+        executorService = executorServiceBuilder.build(executorSize, nameFormat);
+        bulkheadScheduler = new DataSourceBulkheadScheduler(executorService, maxConcurrencyPerDataSource, maxWaitMilliseconds);
     }
     
     /**
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread.bulkhead;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Bulkhead task.
+ * 
+ * @param <V> type of result
+ */
+@Getter(AccessLevel.PACKAGE)
+final class BulkheadTask<V> extends FutureTask<V> {
+    
+    private final DataSourceBulkhead bulkhead;
+    
+    private final String tenant;
+    
+    private final long submitNanos;
+    
+    private final long maxWaitNanos;
+    
+    private final CompletableFuture<V> completion;
+    
+    BulkheadTask(final Callable<V> callable, final DataSourceBulkhead bulkhead, final String tenant, final long maxWaitNanos, final CompletableFuture<V> completion) {
+        super(callable);
+        this.bulkhead = bulkhead;
+        this.tenant = tenant;
+        this.maxWaitNanos = maxWaitNanos;
+        this.completion = completion;
+        submitNanos = System.nanoTime();
+    }
+    
+    boolean isExpired() {
+        return maxWaitNanos > 0L && System.nanoTime() - submitNanos > maxWaitNanos;
+    }
+    
+    void reject(final String databaseName, final String dataSourceName) {
+        setException(new SQLTimeoutException(String.format("Execution waited more than %d milliseconds for data source `%s` of database `%s`.",
+                TimeUnit.NANOSECONDS.toMillis(maxWaitNanos), dataSourceName, databaseName)));
+    }
+    
+    @Override
+    protected void done() {
+        if (null == completion) {
+            return;
+        }
+        try {
+            completion.complete(super.get());
+        } catch (final ExecutionException ex) {
+            completion.completeExceptionally(ex.getCause());
+        } catch (final CancellationException | InterruptedException ex) {
+            completion.completeExceptionally(ex);
+        }
+    }
+    
+    @Override
+    public V get() throws InterruptedException, ExecutionException {
+        if (maxWaitNanos <= 0L || isDone()) {
+            return super.get();
+        }
+        try {
+            return super.get(Math.max(submitNanos + maxWaitNanos - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException ignored) {
+            bulkhead.removeExpired(this);
+            return super.get();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread.bulkhead;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Data source bulkhead, which caps concurrent executions of one data source and queues the rest fairly by tenant.
+ */
+public final class DataSourceBulkhead {
+    
+    @Getter
+    private final String databaseName;
+    
+    @Getter
+    private final String dataSourceName;
+    
+    private final int maxConcurrency;
+    
+    private final Map<String, Queue<BulkheadTask<?>>> tenantQueues = new LinkedHashMap<>();
+    
+    private final Queue<String> tenantRotation = new LinkedList<>();
+    
+    private int runningCount;
+    
+    private int queueDepth;
+    
+    private long completedWaitCount;
+    
+    private long totalWaitNanos;
+    
+    private long maxWaitNanos;
+    
+    private long rejectedCount;
+    
+    public DataSourceBulkhead(final String databaseName, final String dataSourceName, final int maxConcurrency) {
+        this.databaseName = databaseName;
+        this.dataSourceName = dataSourceName;
+        this.maxConcurrency = maxConcurrency;
+    }
+    
+    synchronized boolean tryAcquire(final BulkheadTask<?> task) {
+        if (runningCount < maxConcurrency) {
+            runningCount++;
+            recordWait(task);
+            return true;
+        }
+        Queue<BulkheadTask<?>> queue = tenantQueues.get(task.getTenant());
+        if (null == queue) {
+            queue = new LinkedList<>();
+            tenantQueues.put(task.getTenant(), queue);
+            tenantRotation.add(task.getTenant());
+        }
+        queue.add(task);
+        queueDepth++;
+        return false;
+    }
+    
+    synchronized BulkheadTask<?> releaseAndPoll() {
+        runningCount--;
+        while (!tenantRotation.isEmpty()) {
+            BulkheadTask<?> result = pollNextTenantTask();
+            if (result.isExpired()) {
+                reject(result);
+                continue;
+            }
+            runningCount++;
+            recordWait(result);
+            return result;
+        }
+        return null;
+    }
+    
+    private BulkheadTask<?> pollNextTenantTask() {
+        String tenant = tenantRotation.poll();
+        Queue<BulkheadTask<?>> queue = tenantQueues.get(tenant);
+        BulkheadTask<?> result = queue.poll();
+        queueDepth--;
+        if (queue.isEmpty()) {
+            tenantQueues.remove(tenant);
+        } else {
+            tenantRotation.add(tenant);
+        }
+        return result;
+    }
+    
+    synchronized boolean removeExpired(final BulkheadTask<?> task) {
+        Queue<BulkheadTask<?>> queue = tenantQueues.get(task.getTenant());
+        if (null == queue || !queue.remove(task)) {
+            return false;
+        }
+        queueDepth--;
+        if (queue.isEmpty()) {
+            tenantQueues.remove(task.getTenant());
+            tenantRotation.remove(task.getTenant());
+        }
+        reject(task);
+        return true;
+    }
+    
+    private void recordWait(final BulkheadTask<?> task) {
+        long waitNanos = System.nanoTime() - task.getSubmitNanos();
+        completedWaitCount++;
+        totalWaitNanos += waitNanos;
+        maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+    }
+    
+    private void reject(final BulkheadTask<?> task) {
+        rejectedCount++;
+        task.reject(databaseName, dataSourceName);
+    }
+    
+    /**
+     * Get running execution count.
+     *
+     * @return running execution count
+     */
+    public synchronized int getRunningCount() {
+        return runningCount;
+    }
+    
+    /**
+     * Get count of executions waiting in queue.
+     *
+     * @return queue depth
+     */
+    public synchronized int getQueueDepth() {
+        return queueDepth;
+    }
+    
+    /**
+     * Get average wait nanos of started executions.
+     *
+     * @return average wait nanos, 0 if no execution started
+     */
+    public synchronized long getAverageWaitNanos() {
+        return 0 == completedWaitCount ? 0L : totalWaitNanos / completedWaitCount;
+    }
+    
+    /**
+     * Get max wait nanos of started executions.
+     *
+     * @return max wait nanos
+     */
+    public synchronized long getMaxWaitNanos() {
+        return maxWaitNanos;
+    }
+    
+    /**
+     * Get count of executions rejected for waiting past deadline.
+     *
+     * @return rejected count
+     */
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread.bulkhead;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Data source bulkhead scheduler.
+ * 
+ * <p>Executions of one data source of one database never take more than max concurrency threads of the shared executor service.
+ * Executions over the cap wait in per tenant queues which are served round robin, and are rejected once they wait past max wait time.</p>
+ */
+@RequiredArgsConstructor
+public final class DataSourceBulkheadScheduler {
+    
+    private static final String DEFAULT_DATABASE = "";
+    
+    private static final String DEFAULT_TENANT = "";
+    
+    private final ExecutorService executorService;
+    
+    private final int maxConcurrencyPerDataSource;
+    
+    private final long maxWaitMilliseconds;
+    
+    private final Map<String, Map<String, DataSourceBulkhead>> bulkheads = new ConcurrentHashMap<>();
+    
+    /**
+     * Submit task.
+     * 
+     * @param databaseName database name, null means default database
+     * @param dataSourceName data source name, null means not belong to any data source
+     * @param tenant tenant to queue fairly by, null means default tenant
+     * @param task task to be submitted
+     * @param <V> type of result
+     * @return future of task
+     */
+    public <V> Future<V> submit(final String databaseName, final String dataSourceName, final String tenant, final Callable<V> task) {
+        if (maxConcurrencyPerDataSource <= 0 || null == dataSourceName) {
+            return executorService.submit(task);
+        }
+        return enqueue(databaseName, dataSourceName, tenant, task, null);
+    }
+    
+    /**
+     * Submit task and return completable future.
+     * 
+     * <p>Nobody waits on the returned future, so a task over the cap is only rejected for waiting past max wait time when it reaches the head of its queue.</p>
+     * 
+     * @param databaseName database name, null means default database
+     * @param dataSourceName data source name, null means not belong to any data source
+     * @param tenant tenant to queue fairly by, null means default tenant
+     * @param task task to be submitted
+     * @param <V> type of result
+     * @return completable future of task
+     */
+    public <V> CompletableFuture<V> submitAsync(final String databaseName, final String dataSourceName, final String tenant, final Callable<V> task) {
+        CompletableFuture<V> result = new CompletableFuture<>();
+        if (maxConcurrencyPerDataSource <= 0 || null == dataSourceName) {
+            executorService.execute(() -> complete(result, task));
+        } else {
+            enqueue(databaseName, dataSourceName, tenant, task, result);
+        }
+        return result;
+    }
+    
+    private <V> Future<V> enqueue(final String databaseName, final String dataSourceName, final String tenant, final Callable<V> task, final CompletableFuture<V> completion) {
+        String actualDatabaseName = null == databaseName ? DEFAULT_DATABASE : databaseName;
+        DataSourceBulkhead bulkhead = bulkheads.computeIfAbsent(actualDatabaseName, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(dataSourceName, key -> new DataSourceBulkhead(actualDatabaseName, key, maxConcurrencyPerDataSource));
+        BulkheadTask<V> result = new BulkheadTask<>(task, bulkhead, null == tenant ? DEFAULT_TENANT : tenant, TimeUnit.MILLISECONDS.toNanos(maxWaitMilliseconds), completion);
+        if (bulkhead.tryAcquire(result)) {
+            dispatch(result);
+        }
+        return result;
+    }
+    
+    private <V> void complete(final CompletableFuture<V> future, final Callable<V> task) {
+        try {
+            future.complete(task.call());
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            future.completeExceptionally(ex);
+        }
+    }
+    
+    private void dispatch(final BulkheadTask<?> task) {
+        executorService.execute(() -> {
+            try {
+                task.run();
+            } finally {
+                BulkheadTask<?> next = task.getBulkhead().releaseAndPoll();
+                if (null != next) {
+                    dispatch(next);
+                }
+            }
+        });
+    }
+    
+    /**
+     * Get bulkheads of all data sources, which expose running count, queue depth, wait time and rejected count of each data source.
+     * 
+     * @return bulkheads
+     */
+    public Collection<DataSourceBulkhead> getBulkheads() {
+        Collection<DataSourceBulkhead> result = new LinkedList<>();
+        for (Map<String, DataSourceBulkhead> each : bulkheads.values()) {
+            result.addAll(each.values());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread.type;
+
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceBuilder;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor service builder of platform threads.
+ */
+public final class PlatformExecutorServiceBuilder implements ExecutorServiceBuilder {
+    
+    @Override
+    public boolean isSupported() {
+        return true;
+    }
+    
+    @Override
+    public ExecutorService build(final int executorSize, final String nameFormat) {
+        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
+        return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
+    }
+    
+    @Override
+    public ExecutorService buildSingleThread(final String threadName) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, threadName));
+    }
+    
+    @Override
+    public String getType() {
+        return "PLATFORM";
+    }
+    
+    @Override
+    public boolean isDefault() {
+        return true;
+    }
+}
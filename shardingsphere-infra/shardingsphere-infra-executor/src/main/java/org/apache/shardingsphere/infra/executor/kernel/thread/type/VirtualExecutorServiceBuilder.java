@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread.type;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceBuilder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor service builder of virtual threads.
+ * 
+ * <p>Virtual threads are available since JDK 21 and accessed reflectively to keep compatible with JDK 8.
+ * They are cheap enough to start one for each task, so executor size is ignored,
+ * concurrency of each data source should be limited by {@code kernel-executor-max-concurrency-per-data-source} instead.</p>
+ */
+public final class VirtualExecutorServiceBuilder implements ExecutorServiceBuilder {
+    
+    private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
+    
+    private static final boolean SUPPORTED = isVirtualThreadSupported();
+    
+    private static boolean isVirtualThreadSupported() {
+        try {
+            createThreadBuilder();
+            return true;
+        } catch (final ReflectiveOperationException ignored) {
+            return false;
+        }
+    }
+    
+    private static Object createThreadBuilder() throws ReflectiveOperationException {
+        return Thread.class.getMethod("ofVirtual").invoke(null);
+    }
+    
+    @Override
+    public boolean isSupported() {
+        return SUPPORTED;
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Override
+    public ExecutorService build(final int executorSize, final String nameFormat) {
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        Object threadBuilder = builderClass.getMethod("name", String.class, long.class).invoke(createThreadBuilder(), NAME_FORMAT_PREFIX + nameFormat.replace("%d", ""), 0L);
+        ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(threadBuilder);
+        return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Override
+    public ExecutorService buildSingleThread(final String threadName) {
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        Object threadBuilder = builderClass.getMethod("name", String.class).invoke(createThreadBuilder(), threadName);
+        ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(threadBuilder);
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+    }
+    
+    @Override
+    public String getType() {
+        return "VIRTUAL";
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
@@ -25,11 +26,14 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorEx
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * JDBC executor.
  */
 @RequiredArgsConstructor
+@Slf4j
 public final class JDBCExecutor {
     
     private final ExecutorEngine executorEngine;
@@ -68,4 +72,26 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute asynchronously.
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param <T> class type of return value
+     * @return future of execute result
+     */
+    public <T> CompletableFuture<List<T>> executeAsync(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                       final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) {
+        boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
+        return executorEngine.executeAsync(executionGroupContext, firstCallback, callback, serial).exceptionally(ex -> {
+            Throwable cause = ex instanceof CompletionException && null != ex.getCause() ? ex.getCause() : ex;
+            if (isExceptionThrown || !(cause instanceof SQLException)) {
+                throw ex instanceof CompletionException ? (CompletionException) ex : new CompletionException(ex);
+            }
+            log.error("exception occur: ", cause);
+            return Collections.emptyList();
+        });
+    }
 }
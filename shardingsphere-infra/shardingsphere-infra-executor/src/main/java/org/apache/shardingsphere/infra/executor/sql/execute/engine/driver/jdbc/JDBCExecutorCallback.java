@@ -27,8 +27,12 @@ import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.AbstractColumnarMemoryQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ExecutionStatistics;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ExecutionStatisticsRegistry;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -41,6 +45,7 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * JDBC executor callback.
@@ -63,6 +68,14 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
     
     private final EventBusContext eventBusContext;
     
+    private final Collection<Statement> runningStatements = ConcurrentHashMap.newKeySet();
+    
+    private final AtomicLong loadedRowCount = new AtomicLong();
+    
+    private volatile long rowLimit;
+    
+    private volatile boolean cancelled;
+    
     public JDBCExecutorCallback(final DatabaseType databaseType, final SQLStatement sqlStatement, final boolean isExceptionThrown, final EventBusContext eventBusContext) {
         this(databaseType, databaseType, sqlStatement, isExceptionThrown, eventBusContext);
     }
@@ -72,9 +85,13 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         // TODO It is better to judge whether need sane result before execute, can avoid exception thrown
         Collection<T> result = new LinkedList<>();
         for (JDBCExecutionUnit each : executionUnits) {
+            if (cancelled) {
+                break;
+            }
             T executeResult = execute(each, isTrunkThread, dataMap);
             if (null != executeResult) {
                 result.add(executeResult);
+                cancelIfRowLimitReached(executeResult);
             }
         }
         return result;
@@ -89,14 +106,24 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         SQLExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
         DataSourceMetaData dataSourceMetaData = getDataSourceMetaData(jdbcExecutionUnit.getStorageResource().getConnection().getMetaData());
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
+        runningStatements.add(jdbcExecutionUnit.getStorageResource());
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
             sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), dataSourceMetaData, isTrunkThread, dataMap);
+            Optional<ExecutionStatistics> statistics = ExecutionStatisticsRegistry.find(sqlUnit);
+            long startNanos = statistics.isPresent() ? System.nanoTime() : 0L;
             T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode());
+            if (statistics.isPresent()) {
+                statistics.get().record(System.nanoTime() - startNanos, getMemoryRowCount(result));
+            }
             sqlExecutionHook.finishSuccess();
             finishReport(dataMap, jdbcExecutionUnit);
             return result;
         } catch (final SQLException ex) {
+            if (cancelled) {
+                sqlExecutionHook.finishFailure(ex);
+                return null;
+            }
             if (!databaseType.equals(protocolType)) {
                 Optional<T> saneResult = getSaneResult(sqlStatement, ex);
                 if (saneResult.isPresent()) {
@@ -106,6 +133,8 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
             sqlExecutionHook.finishFailure(ex);
             SQLExecutorExceptionHandler.handleException(ex);
             return null;
+        } finally {
+            runningStatements.remove(jdbcExecutionUnit.getStorageResource());
         }
     }
     
@@ -119,13 +148,57 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         return result;
     }
     
+    private long getMemoryRowCount(final T executeResult) {
+        if (executeResult instanceof AbstractMemoryQueryResult) {
+            return ((AbstractMemoryQueryResult) executeResult).getRowCount();
+        }
+        return executeResult instanceof AbstractColumnarMemoryQueryResult ? ((AbstractColumnarMemoryQueryResult) executeResult).getRowSize() : -1L;
+    }
+    
     private void finishReport(final Map<String, Object> dataMap, final SQLExecutionUnit executionUnit) {
         if (dataMap.containsKey(ExecuteProcessConstants.EXECUTE_ID.name())) {
             ExecuteProcessEngine.finish(dataMap.get(ExecuteProcessConstants.EXECUTE_ID.name()).toString(), executionUnit, eventBusContext);
         }
     }
     
+    private void cancelIfRowLimitReached(final T executeResult) {
+        if (rowLimit > 0L && loadedRowCount.addAndGet(getLoadedRowCount(executeResult)) >= rowLimit) {
+            cancel();
+        }
+    }
+    
+    /**
+     * Set row limit, execution will be cancelled once loaded rows reach the limit.
+     * 
+     * @param rowLimit row limit
+     */
+    public final void setRowLimit(final long rowLimit) {
+        this.rowLimit = rowLimit;
+    }
+    
+    /**
+     * Cancel execution, running statements will be cancelled and execution units not started will be skipped.
+     */
+    public final void cancel() {
+        cancelled = true;
+        for (Statement each : runningStatements) {
+            try {
+                each.cancel();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+    
+    @Override
+    public final boolean isCancelled() {
+        return cancelled;
+    }
+    
     protected abstract T executeSQL(String sql, Statement statement, ConnectionMode connectionMode) throws SQLException;
     
     protected abstract Optional<T> getSaneResult(SQLStatement sqlStatement, SQLException ex);
+    
+    protected long getLoadedRowCount(final T executeResult) {
+        return 0L;
+    }
 }
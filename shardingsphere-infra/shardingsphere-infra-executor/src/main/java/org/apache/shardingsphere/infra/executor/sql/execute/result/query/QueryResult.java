@@ -82,6 +82,14 @@ public interface QueryResult extends ExecuteResult {
      */
     QueryResultMetaData getMetaData();
     
+    /**
+     * Cancel the statement which is still producing this query result.
+     *
+     * @throws SQLException SQL exception
+     */
+    default void cancel() throws SQLException {
+    }
+    
     /**
      * Close.
      *
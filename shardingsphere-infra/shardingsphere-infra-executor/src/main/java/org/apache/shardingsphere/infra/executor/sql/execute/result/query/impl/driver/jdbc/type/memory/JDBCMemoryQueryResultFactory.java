@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * JDBC memory query result factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JDBCMemoryQueryResultFactory {
+    
+    /**
+     * Create new instance of JDBC memory query result.
+     * 
+     * @param resultSet result set
+     * @param databaseType database type
+     * @param props configuration properties
+     * @return created instance
+     * @throws SQLException SQL exception
+     */
+    public static QueryResult newInstance(final ResultSet resultSet, final DatabaseType databaseType, final ConfigurationProperties props) throws SQLException {
+        return isColumnar(databaseType, props) ? new JDBCColumnarMemoryQueryResult(resultSet, databaseType) : new JDBCMemoryQueryResult(resultSet, databaseType);
+    }
+    
+    private static boolean isColumnar(final DatabaseType databaseType, final ConfigurationProperties props) {
+        String columnarDatabaseTypes = props.getValue(ConfigurationPropertyKey.COLUMNAR_MEMORY_QUERY_RESULT_DATABASE_TYPES);
+        return !columnarDatabaseTypes.isEmpty() && Arrays.stream(columnarDatabaseTypes.split(",")).anyMatch(each -> each.trim().equalsIgnoreCase(databaseType.getType()));
+    }
+}
@@ -17,6 +17,14 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader;
 
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector.BooleanColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector.ColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector.DictionaryStringColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector.DoubleColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector.IntColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector.LongColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector.ObjectColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector.TimestampColumnVector;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
 
 import java.math.BigDecimal;
@@ -38,16 +46,103 @@ public abstract class AbstractJDBCRowsLoader implements JDBCRowsLoader {
     public Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet) throws SQLException {
         Collection<MemoryQueryResultDataRow> result = new LinkedList<>();
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(columnCount);
-            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-                Object rowValue = loadRowValue(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
+            result.add(loadRow(columnCount, resultSet));
+        }
+        return result;
+    }
+    
+    @Override
+    public MemoryQueryResultDataRow loadRow(final int columnCount, final ResultSet resultSet) throws SQLException {
+        List<Object> rowData = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            Object rowValue = loadRowValue(resultSet, columnIndex);
+            rowData.add(resultSet.wasNull() ? null : rowValue);
+        }
+        return new MemoryQueryResultDataRow(rowData);
+    }
+    
+    @Override
+    public ColumnVector[] loadColumnVectors(final int columnCount, final ResultSet resultSet) throws SQLException {
+        ColumnVector[] result = new ColumnVector[columnCount];
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = createColumnVector(metaData, i + 1);
+        }
+        while (resultSet.next()) {
+            for (int i = 0; i < columnCount; i++) {
+                loadColumnValue(result[i], resultSet, i + 1);
             }
-            result.add(new MemoryQueryResultDataRow(rowData));
+        }
+        for (ColumnVector each : result) {
+            each.trimToSize();
         }
         return result;
     }
     
+    private ColumnVector createColumnVector(final ResultSetMetaData metaData, final int columnIndex) throws SQLException {
+        switch (metaData.getColumnType(columnIndex)) {
+            case Types.BOOLEAN:
+                return new BooleanColumnVector();
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return new IntColumnVector();
+            case Types.INTEGER:
+                return metaData.isSigned(columnIndex) ? new IntColumnVector() : new LongColumnVector();
+            case Types.BIGINT:
+                return metaData.isSigned(columnIndex) ? new LongColumnVector() : new ObjectColumnVector();
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleColumnVector();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new DictionaryStringColumnVector();
+            case Types.TIMESTAMP:
+                return new TimestampColumnVector();
+            default:
+                return new ObjectColumnVector();
+        }
+    }
+    
+    private void loadColumnValue(final ColumnVector columnVector, final ResultSet resultSet, final int columnIndex) throws SQLException {
+        if (columnVector instanceof IntColumnVector) {
+            int value = resultSet.getInt(columnIndex);
+            if (resultSet.wasNull()) {
+                columnVector.appendNull();
+            } else {
+                ((IntColumnVector) columnVector).append(value);
+            }
+        } else if (columnVector instanceof LongColumnVector) {
+            long value = resultSet.getLong(columnIndex);
+            if (resultSet.wasNull()) {
+                columnVector.appendNull();
+            } else {
+                ((LongColumnVector) columnVector).append(value);
+            }
+        } else if (columnVector instanceof DoubleColumnVector) {
+            double value = resultSet.getDouble(columnIndex);
+            if (resultSet.wasNull()) {
+                columnVector.appendNull();
+            } else {
+                ((DoubleColumnVector) columnVector).append(value);
+            }
+        } else if (columnVector instanceof BooleanColumnVector) {
+            boolean value = resultSet.getBoolean(columnIndex);
+            if (resultSet.wasNull()) {
+                columnVector.appendNull();
+            } else {
+                ((BooleanColumnVector) columnVector).append(value);
+            }
+        } else if (columnVector instanceof DictionaryStringColumnVector) {
+            ((DictionaryStringColumnVector) columnVector).append(resultSet.getString(columnIndex));
+        } else if (columnVector instanceof TimestampColumnVector) {
+            ((TimestampColumnVector) columnVector).append(resultSet.getTimestamp(columnIndex));
+        } else {
+            Object value = loadRowValue(resultSet, columnIndex);
+            ((ObjectColumnVector) columnVector).append(resultSet.wasNull() ? null : value);
+        }
+    }
+    
     @SuppressWarnings("ReturnOfNull")
     private Object loadRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
         ResultSetMetaData metaData = resultSet.getMetaData();
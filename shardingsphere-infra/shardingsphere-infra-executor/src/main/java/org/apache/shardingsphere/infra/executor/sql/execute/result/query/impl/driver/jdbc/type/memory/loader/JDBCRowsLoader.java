@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader;
 
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector.ColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector.ObjectColumnVector;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
 import org.apache.shardingsphere.spi.annotation.SingletonSPI;
 import org.apache.shardingsphere.spi.type.required.RequiredSPI;
@@ -25,6 +27,7 @@ import org.apache.shardingsphere.spi.type.typed.TypedSPI;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * JDBC rows loader.
@@ -41,4 +44,41 @@ public interface JDBCRowsLoader extends TypedSPI, RequiredSPI {
      * @throws SQLException SQL exception
      */
     Collection<MemoryQueryResultDataRow> load(int columnCount, ResultSet resultSet) throws SQLException;
+    
+    /**
+     * Load current row.
+     *
+     * @param columnCount column count
+     * @param resultSet result set of JDBC which is already positioned on the row to be loaded
+     * @return query result data row
+     * @throws SQLException SQL exception
+     */
+    MemoryQueryResultDataRow loadRow(int columnCount, ResultSet resultSet) throws SQLException;
+    
+    /**
+     * Load rows into column vectors.
+     * 
+     * <p>Rows are loaded by {@link #loadRow(int, ResultSet)} into object column vectors by default.</p>
+     *
+     * @param columnCount column count
+     * @param resultSet result set of JDBC
+     * @return column vectors
+     * @throws SQLException SQL exception
+     */
+    default ColumnVector[] loadColumnVectors(final int columnCount, final ResultSet resultSet) throws SQLException {
+        ObjectColumnVector[] result = new ObjectColumnVector[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = new ObjectColumnVector();
+        }
+        while (resultSet.next()) {
+            List<Object> rowData = loadRow(columnCount, resultSet).getValue();
+            for (int i = 0; i < columnCount; i++) {
+                result[i].append(rowData.get(i));
+            }
+        }
+        for (ColumnVector each : result) {
+            each.trimToSize();
+        }
+        return result;
+    }
 }
@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader.JDBCRowsLoader;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Calendar;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JDBC query result for stream loading with bounded prefetch.
+ * 
+ * <p>Rows are read ahead on background executor into a buffer holding at most prefetch rows,
+ * reading is resumed when half of buffer has been consumed.
+ * The result set is only accessed by one prefetch task at a time and never by caller thread until closed.</p>
+ */
+public final class JDBCPrefetchStreamQueryResult extends AbstractStreamQueryResult {
+    
+    @Getter
+    private final ResultSet resultSet;
+    
+    private final JDBCRowsLoader rowsLoader;
+    
+    private final int columnCount;
+    
+    private final int prefetchRows;
+    
+    private final Executor executor;
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private final Condition stateChanged = lock.newCondition();
+    
+    private final Queue<MemoryQueryResultDataRow> buffer;
+    
+    private boolean fetching;
+    
+    private boolean exhausted;
+    
+    private boolean closed;
+    
+    private SQLException fetchException;
+    
+    private MemoryQueryResultDataRow currentRow;
+    
+    private Object currentValue;
+    
+    public JDBCPrefetchStreamQueryResult(final ResultSet resultSet, final JDBCRowsLoader rowsLoader, final int prefetchRows, final Executor executor) throws SQLException {
+        super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
+        this.resultSet = resultSet;
+        this.rowsLoader = rowsLoader;
+        columnCount = resultSet.getMetaData().getColumnCount();
+        this.prefetchRows = prefetchRows;
+        this.executor = executor;
+        buffer = new ArrayDeque<>(prefetchRows);
+        lock.lock();
+        try {
+            scheduleFetchIfNecessary();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        lock.lock();
+        try {
+            while (buffer.isEmpty() && !exhausted && !closed && null == fetchException) {
+                scheduleFetchIfNecessary();
+                awaitStateChanged();
+            }
+            currentRow = buffer.poll();
+            currentValue = null;
+            if (null == currentRow) {
+                if (null != fetchException) {
+                    throw fetchException;
+                }
+                return false;
+            }
+            scheduleFetchIfNecessary();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void awaitStateChanged() throws SQLException {
+        try {
+            stateChanged.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for prefetched rows.", ex);
+        }
+    }
+    
+    private void scheduleFetchIfNecessary() {
+        if (fetching || exhausted || closed || null != fetchException || buffer.size() > prefetchRows / 2) {
+            return;
+        }
+        fetching = true;
+        executor.execute(this::fetch);
+    }
+    
+    private void fetch() {
+        try {
+            while (hasBufferSpace()) {
+                boolean hasNext = resultSet.next();
+                MemoryQueryResultDataRow row = hasNext ? rowsLoader.loadRow(columnCount, resultSet) : null;
+                if (!offer(row)) {
+                    return;
+                }
+            }
+        } catch (final SQLException ex) {
+            fail(ex);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            fail(new SQLException(ex));
+        }
+    }
+    
+    private boolean hasBufferSpace() {
+        lock.lock();
+        try {
+            if (closed || buffer.size() >= prefetchRows) {
+                fetching = false;
+                stateChanged.signalAll();
+                return false;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private boolean offer(final MemoryQueryResultDataRow row) {
+        lock.lock();
+        try {
+            if (closed) {
+                fetching = false;
+                stateChanged.signalAll();
+                return false;
+            }
+            if (null == row) {
+                exhausted = true;
+                fetching = false;
+            } else {
+                buffer.offer(row);
+            }
+            stateChanged.signalAll();
+            return null != row;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void fail(final SQLException ex) {
+        lock.lock();
+        try {
+            fetchException = ex;
+            fetching = false;
+            stateChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        currentValue = currentRow.getValue().get(columnIndex - 1);
+        return currentValue;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        Object value = getValue(columnIndex, Object.class);
+        if (null == value) {
+            return null;
+        }
+        if (value instanceof Blob) {
+            return ((Blob) value).getBinaryStream();
+        }
+        if (value instanceof Clob) {
+            return ((Clob) value).getAsciiStream();
+        }
+        return new ByteArrayInputStream(value instanceof byte[] ? (byte[]) value : value.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return null == currentValue;
+    }
+    
+    @Override
+    public void cancel() throws SQLException {
+        if (isExhausted() || resultSet.isClosed()) {
+            return;
+        }
+        Statement statement = resultSet.getStatement();
+        if (null != statement) {
+            statement.cancel();
+        }
+    }
+    
+    private boolean isExhausted() {
+        lock.lock();
+        try {
+            return exhausted;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        lock.lock();
+        try {
+            closed = true;
+            buffer.clear();
+            while (fetching) {
+                stateChanged.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+        resultSet.close();
+    }
+}
@@ -29,6 +29,7 @@ import java.sql.Clob;
 import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
@@ -41,6 +42,8 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     @Getter
     private final ResultSet resultSet;
     
+    private boolean exhausted;
+    
     public JDBCStreamQueryResult(final ResultSet resultSet) throws SQLException {
         super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
         this.resultSet = resultSet;
@@ -48,7 +51,11 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     
     @Override
     public boolean next() throws SQLException {
-        return resultSet.next();
+        boolean result = resultSet.next();
+        if (!result) {
+            exhausted = true;
+        }
+        return result;
     }
     
     @Override
@@ -124,6 +131,17 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
         return resultSet.wasNull();
     }
     
+    @Override
+    public void cancel() throws SQLException {
+        if (exhausted || resultSet.isClosed()) {
+            return;
+        }
+        Statement statement = resultSet.getStatement();
+        if (null != statement) {
+            statement.cancel();
+        }
+    }
+    
     @Override
     public void close() throws SQLException {
         resultSet.close();
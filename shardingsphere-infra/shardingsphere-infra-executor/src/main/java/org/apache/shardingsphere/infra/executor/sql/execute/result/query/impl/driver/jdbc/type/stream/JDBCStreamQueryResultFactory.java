@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceBuilderFactory;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader.DialectJDBCRowsLoaderFactory;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * JDBC stream query result factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JDBCStreamQueryResultFactory {
+    
+    private static final String PREFETCH_NAME_FORMAT = "StreamPrefetch-%d";
+    
+    private static volatile ExecutorService prefetchExecutorService;
+    
+    /**
+     * Create new instance of JDBC stream query result.
+     *
+     * @param resultSet result set
+     * @param databaseType database type
+     * @param props configuration properties
+     * @return created instance
+     * @throws SQLException SQL exception
+     */
+    public static QueryResult newInstance(final ResultSet resultSet, final DatabaseType databaseType, final ConfigurationProperties props) throws SQLException {
+        int prefetchRows = props.getValue(ConfigurationPropertyKey.KERNEL_STREAM_PREFETCH_ROWS);
+        return prefetchRows > 0
+                ? new JDBCPrefetchStreamQueryResult(resultSet, DialectJDBCRowsLoaderFactory.getInstance(databaseType), prefetchRows, getPrefetchExecutorService(props))
+                : new JDBCStreamQueryResult(resultSet);
+    }
+    
+    private static ExecutorService getPrefetchExecutorService(final ConfigurationProperties props) {
+        if (null == prefetchExecutorService) {
+            synchronized (JDBCStreamQueryResultFactory.class) {
+                if (null == prefetchExecutorService) {
+                    prefetchExecutorService = ExecutorServiceBuilderFactory.getInstance(props.<String>getValue(ConfigurationPropertyKey.EXECUTOR_THREAD_TYPE)).build(0, PREFETCH_NAME_FORMAT);
+                }
+            }
+        }
+        return prefetchExecutorService;
+    }
+}
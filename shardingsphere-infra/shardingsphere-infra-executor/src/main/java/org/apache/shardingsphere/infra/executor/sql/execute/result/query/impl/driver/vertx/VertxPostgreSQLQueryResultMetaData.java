@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.vertx;
+
+import io.vertx.sqlclient.desc.ColumnDescriptor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.sql.JDBCType;
+import java.util.List;
+
+/**
+ * Vert.x query result meta data for PostgreSQL.
+ */
+@RequiredArgsConstructor
+public final class VertxPostgreSQLQueryResultMetaData implements QueryResultMetaData {
+    
+    private static final String ARRAY_TYPE_NAME_SUFFIX = "_ARRAY";
+    
+    private final List<ColumnDescriptor> columnDescriptors;
+    
+    @Override
+    public int getColumnCount() {
+        return columnDescriptors.size();
+    }
+    
+    @Override
+    public String getTableName(final int columnIndex) {
+        return "";
+    }
+    
+    @Override
+    public String getColumnName(final int columnIndex) {
+        return columnDescriptors.get(columnIndex - 1).name();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnDescriptors.get(columnIndex - 1).name();
+    }
+    
+    @Override
+    public int getColumnType(final int columnIndex) {
+        JDBCType jdbcType = columnDescriptors.get(columnIndex - 1).jdbcType();
+        if (null == jdbcType) {
+            return JDBCType.OTHER.getVendorTypeNumber();
+        }
+        switch (jdbcType) {
+            case TIME_WITH_TIMEZONE:
+                return JDBCType.TIME.getVendorTypeNumber();
+            case TIMESTAMP_WITH_TIMEZONE:
+                return JDBCType.TIMESTAMP.getVendorTypeNumber();
+            default:
+                return jdbcType.getVendorTypeNumber();
+        }
+    }
+    
+    @Override
+    public String getColumnTypeName(final int columnIndex) {
+        ColumnDescriptor columnDescriptor = columnDescriptors.get(columnIndex - 1);
+        String typeName = columnDescriptor.typeName();
+        if (columnDescriptor.isArray() && typeName.endsWith(ARRAY_TYPE_NAME_SUFFIX)) {
+            return "_" + typeName.substring(0, typeName.length() - ARRAY_TYPE_NAME_SUFFIX.length()).toLowerCase();
+        }
+        return typeName.toLowerCase();
+    }
+    
+    @Override
+    public int getColumnLength(final int columnIndex) {
+        return -1;
+    }
+    
+    @Override
+    public int getDecimals(final int columnIndex) {
+        return 0;
+    }
+    
+    @Override
+    public boolean isSigned(final int columnIndex) {
+        return false;
+    }
+    
+    @Override
+    public boolean isNotNull(final int columnIndex) {
+        return false;
+    }
+    
+    @Override
+    public boolean isAutoIncrement(final int columnIndex) {
+        return false;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector.ColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector.DoubleColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector.IntColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector.LongColumnVector;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.util.Calendar;
+
+/**
+ * Abstract columnar memory query result.
+ * 
+ * <p>Values are stored by column in primitive typed column vectors, and are only boxed when read.</p>
+ */
+public abstract class AbstractColumnarMemoryQueryResult implements QueryResult {
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final ColumnVector[] columnVectors;
+    
+    @Getter
+    private final int rowSize;
+    
+    @Getter
+    private int currentRowIndex = -1;
+    
+    private boolean wasNull;
+    
+    protected AbstractColumnarMemoryQueryResult(final QueryResultMetaData metaData, final ColumnVector[] columnVectors) {
+        this.metaData = metaData;
+        this.columnVectors = columnVectors;
+        rowSize = 0 == columnVectors.length ? 0 : columnVectors[0].size();
+    }
+    
+    @Override
+    public final boolean next() {
+        if (currentRowIndex + 1 < rowSize) {
+            currentRowIndex++;
+            return true;
+        }
+        currentRowIndex = rowSize;
+        return false;
+    }
+    
+    /**
+     * Get column vector.
+     *
+     * @param columnIndex column index
+     * @return column vector
+     */
+    public final ColumnVector getColumnVector(final int columnIndex) {
+        return columnVectors[columnIndex - 1];
+    }
+    
+    /**
+     * Judge whether value is not null and stored in int or long column vector, which can be got by {@link #getLong(int, int)} without boxing.
+     *
+     * @param columnIndex column index
+     * @param rowIndex row index
+     * @return value is not null integral value or not
+     */
+    public final boolean isLong(final int columnIndex, final int rowIndex) {
+        ColumnVector columnVector = columnVectors[columnIndex - 1];
+        return (columnVector instanceof LongColumnVector || columnVector instanceof IntColumnVector) && !columnVector.isNull(rowIndex);
+    }
+    
+    /**
+     * Get value of int or long column vector without boxing.
+     *
+     * @param columnIndex column index
+     * @param rowIndex row index
+     * @return long value
+     */
+    public final long getLong(final int columnIndex, final int rowIndex) {
+        ColumnVector columnVector = columnVectors[columnIndex - 1];
+        return columnVector instanceof LongColumnVector ? ((LongColumnVector) columnVector).getLong(rowIndex) : ((IntColumnVector) columnVector).getInt(rowIndex);
+    }
+    
+    /**
+     * Judge whether value is not null and stored in double column vector, which can be got by {@link #getDouble(int, int)} without boxing.
+     *
+     * @param columnIndex column index
+     * @param rowIndex row index
+     * @return value is not null floating point value or not
+     */
+    public final boolean isDouble(final int columnIndex, final int rowIndex) {
+        ColumnVector columnVector = columnVectors[columnIndex - 1];
+        return columnVector instanceof DoubleColumnVector && !columnVector.isNull(rowIndex);
+    }
+    
+    /**
+     * Get value of double column vector without boxing.
+     *
+     * @param columnIndex column index
+     * @param rowIndex row index
+     * @return double value
+     */
+    public final double getDouble(final int columnIndex, final int rowIndex) {
+        return ((DoubleColumnVector) columnVectors[columnIndex - 1]).getDouble(rowIndex);
+    }
+    
+    @Override
+    public final Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = columnVectors[columnIndex - 1].getValue(currentRowIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public final InputStream getInputStream(final int columnIndex, final String type) {
+        return getInputStream(getValue(columnIndex, Object.class));
+    }
+    
+    @SneakyThrows(IOException.class)
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public final boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public final void close() {
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector;
+
+import java.util.BitSet;
+
+/**
+ * Column vector, which stores values of one column for all rows.
+ */
+public abstract class ColumnVector {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private final BitSet nulls = new BitSet();
+    
+    private int size;
+    
+    private int capacity;
+    
+    /**
+     * Append null value.
+     */
+    public final void appendNull() {
+        nulls.set(nextIndex());
+    }
+    
+    /**
+     * Judge whether value is null.
+     *
+     * @param rowIndex row index
+     * @return value is null or not
+     */
+    public final boolean isNull(final int rowIndex) {
+        return nulls.get(rowIndex);
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index
+     * @return value, null if value is null
+     */
+    public final Object getValue(final int rowIndex) {
+        return nulls.get(rowIndex) ? null : getNonNullValue(rowIndex);
+    }
+    
+    /**
+     * Get size.
+     *
+     * @return size
+     */
+    public final int size() {
+        return size;
+    }
+    
+    /**
+     * Trim capacity to size after all values appended.
+     */
+    public void trimToSize() {
+        if (capacity > size) {
+            capacity = size;
+            resize(size);
+        }
+    }
+    
+    protected final int nextIndex() {
+        if (size == capacity) {
+            capacity = 0 == capacity ? INITIAL_CAPACITY : Math.max(capacity + 1, capacity + (capacity >> 1));
+            resize(capacity);
+        }
+        return size++;
+    }
+    
+    protected abstract void resize(int capacity);
+    
+    protected abstract Object getNonNullValue(int rowIndex);
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column vector for string values, which stores distinct values once and refers them by dictionary codes.
+ */
+public final class DictionaryStringColumnVector extends ColumnVector {
+    
+    private final List<String> dictionary = new ArrayList<>();
+    
+    private Map<String, Integer> dictionaryCodes = new HashMap<>();
+    
+    private int[] codes = new int[0];
+    
+    /**
+     * Append value.
+     *
+     * @param value value
+     */
+    public void append(final String value) {
+        if (null == value) {
+            appendNull();
+            return;
+        }
+        int index = nextIndex();
+        codes[index] = dictionaryCodes.computeIfAbsent(value, unused -> {
+            dictionary.add(value);
+            return dictionary.size() - 1;
+        });
+    }
+    
+    /**
+     * Get dictionary code.
+     *
+     * @param rowIndex row index
+     * @return dictionary code, meaningless if value is null
+     */
+    public int getCode(final int rowIndex) {
+        return codes[rowIndex];
+    }
+    
+    /**
+     * Get dictionary size.
+     *
+     * @return dictionary size
+     */
+    public int getDictionarySize() {
+        return dictionary.size();
+    }
+    
+    @Override
+    public void trimToSize() {
+        super.trimToSize();
+        dictionaryCodes = null;
+    }
+    
+    @Override
+    protected void resize(final int capacity) {
+        codes = Arrays.copyOf(codes, capacity);
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        return dictionary.get(codes[rowIndex]);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+/**
+ * Column vector for timestamp values, which stores epoch milliseconds and nanoseconds separately.
+ */
+public final class TimestampColumnVector extends ColumnVector {
+    
+    private long[] epochMillis = new long[0];
+    
+    private int[] nanos = new int[0];
+    
+    /**
+     * Append value.
+     *
+     * @param value value
+     */
+    public void append(final Timestamp value) {
+        if (null == value) {
+            appendNull();
+            return;
+        }
+        int index = nextIndex();
+        epochMillis[index] = value.getTime();
+        nanos[index] = value.getNanos();
+    }
+    
+    /**
+     * Get epoch milliseconds.
+     *
+     * @param rowIndex row index
+     * @return epoch milliseconds, meaningless if value is null
+     */
+    public long getEpochMillis(final int rowIndex) {
+        return epochMillis[rowIndex];
+    }
+    
+    @Override
+    protected void resize(final int capacity) {
+        epochMillis = Arrays.copyOf(epochMillis, capacity);
+        nanos = Arrays.copyOf(nanos, capacity);
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        Timestamp result = new Timestamp(epochMillis[rowIndex]);
+        result.setNanos(nanos[rowIndex]);
+        return result;
+    }
+}
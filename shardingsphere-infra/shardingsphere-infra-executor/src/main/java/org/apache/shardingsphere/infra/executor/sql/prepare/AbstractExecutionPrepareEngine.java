@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupConte
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.AdaptiveConnectionModeDecider;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
@@ -46,9 +47,16 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
     @SuppressWarnings("rawtypes")
     private final Map<ShardingSphereRule, ExecutionPrepareDecorator> decorators;
     
+    private final AdaptiveConnectionModeDecider adaptiveConnectionModeDecider;
+    
     protected AbstractExecutionPrepareEngine(final int maxConnectionsSizePerQuery, final Collection<ShardingSphereRule> rules) {
+        this(maxConnectionsSizePerQuery, rules, null);
+    }
+    
+    protected AbstractExecutionPrepareEngine(final int maxConnectionsSizePerQuery, final Collection<ShardingSphereRule> rules, final AdaptiveConnectionModeDecider adaptiveConnectionModeDecider) {
         this.maxConnectionsSizePerQuery = maxConnectionsSizePerQuery;
         decorators = ExecutionPrepareDecoratorFactory.getInstance(rules);
+        this.adaptiveConnectionModeDecider = adaptiveConnectionModeDecider;
     }
     
     @Override
@@ -57,15 +65,18 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
         for (Entry<String, List<SQLUnit>> entry : aggregateSQLUnitGroups(executionUnits).entrySet()) {
             String dataSourceName = entry.getKey();
             List<SQLUnit> sqlUnits = entry.getValue();
-            List<List<SQLUnit>> sqlUnitGroups = group(sqlUnits);
-            ConnectionMode connectionMode = maxConnectionsSizePerQuery < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
+            int connectionSize = null == adaptiveConnectionModeDecider
+                    ? Math.min(sqlUnits.size(), maxConnectionsSizePerQuery)
+                    : adaptiveConnectionModeDecider.decide(dataSourceName, sqlUnits, maxConnectionsSizePerQuery).getConnectionSize();
+            List<List<SQLUnit>> sqlUnitGroups = group(sqlUnits, connectionSize);
+            ConnectionMode connectionMode = connectionSize < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
             result.addAll(group(dataSourceName, sqlUnitGroups, connectionMode));
         }
         return decorate(routeContext, result);
     }
     
-    private List<List<SQLUnit>> group(final List<SQLUnit> sqlUnits) {
-        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
+    private List<List<SQLUnit>> group(final List<SQLUnit> sqlUnits, final int connectionSize) {
+        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % connectionSize ? sqlUnits.size() / connectionSize : sqlUnits.size() / connectionSize + 1, 1);
         return Lists.partition(sqlUnits, desiredPartitionSize);
     }
     
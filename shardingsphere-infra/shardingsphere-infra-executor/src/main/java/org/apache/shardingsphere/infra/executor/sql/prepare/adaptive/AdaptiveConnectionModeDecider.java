@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolMetaData;
+import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolMetaDataFactory;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Adaptive connection mode decider.
+ * 
+ * <p>Connection size of data source is decided by recent result row counts and execution latency of SQL units, and state of data source pool.
+ * It never exceeds SQL units size, max connections size per query, or available connections of data source pool:</p>
+ * <ul>
+ *     <li>Without statistics, connection size is limited by max connections size per query and available connections of data source pool.</li>
+ *     <li>If the pool is nearly saturated, small and fast results share one connection.</li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+public final class AdaptiveConnectionModeDecider {
+    
+    private static final double HIGH_SATURATION = 0.8D;
+    
+    private static final long SMALL_RESULT_ROW_COUNT = 1000L;
+    
+    private static final long FAST_LATENCY_NANOS = 1000000L;
+    
+    private final String databaseName;
+    
+    private final Map<String, DataSource> dataSources;
+    
+    /**
+     * Decide connection size and connection mode.
+     * 
+     * @param dataSourceName data source name
+     * @param sqlUnits SQL units to be executed on data source
+     * @param maxConnectionsSizePerQuery max connections size per query
+     * @return adaptive connection mode decision
+     */
+    public AdaptiveConnectionModeDecision decide(final String dataSourceName, final Collection<SQLUnit> sqlUnits, final int maxConnectionsSizePerQuery) {
+        double rowCountSum = 0D;
+        int rowCountSize = 0;
+        double latencySum = 0D;
+        int latencySize = 0;
+        for (SQLUnit each : sqlUnits) {
+            ExecutionStatistics statistics = ExecutionStatisticsRegistry.getOrRegister(databaseName, dataSourceName, each);
+            if (statistics.getAverageRowCount() >= 0D) {
+                rowCountSum += statistics.getAverageRowCount();
+                rowCountSize++;
+            }
+            if (statistics.getAverageLatencyNanos() >= 0D) {
+                latencySum += statistics.getAverageLatencyNanos();
+                latencySize++;
+            }
+        }
+        double averageRowCount = 0 == rowCountSize ? -1D : rowCountSum / rowCountSize;
+        double averageLatencyNanos = 0 == latencySize ? -1D : latencySum / latencySize;
+        Optional<DataSourcePoolMetaData> poolMetaData = findDataSourcePoolMetaData(dataSourceName);
+        double poolSaturation = poolMetaData.flatMap(optional -> optional.getSaturation(dataSources.get(dataSourceName))).orElse(-1D);
+        int availableConnectionSize = poolMetaData.flatMap(optional -> optional.getAvailableConnectionSize(dataSources.get(dataSourceName))).orElse(-1);
+        int connectionSize = decideConnectionSize(sqlUnits.size(), maxConnectionsSizePerQuery, averageRowCount, averageLatencyNanos, poolSaturation, availableConnectionSize);
+        AdaptiveConnectionModeDecision result = new AdaptiveConnectionModeDecision(
+                databaseName, dataSourceName, sqlUnits.size(), maxConnectionsSizePerQuery, averageRowCount, averageLatencyNanos, poolSaturation, availableConnectionSize, connectionSize);
+        ExecutionStatisticsRegistry.recordDecision(result);
+        return result;
+    }
+    
+    private Optional<DataSourcePoolMetaData> findDataSourcePoolMetaData(final String dataSourceName) {
+        DataSource dataSource = dataSources.get(dataSourceName);
+        return null == dataSource ? Optional.empty() : DataSourcePoolMetaDataFactory.findInstance(dataSource.getClass().getName());
+    }
+    
+    private int decideConnectionSize(final int sqlUnitSize, final int maxConnectionsSizePerQuery,
+                                     final double averageRowCount, final double averageLatencyNanos, final double poolSaturation, final int availableConnectionSize) {
+        if (poolSaturation >= HIGH_SATURATION && averageRowCount >= 0D && averageRowCount <= SMALL_RESULT_ROW_COUNT && averageLatencyNanos < FAST_LATENCY_NANOS) {
+            return 1;
+        }
+        int result = Math.min(sqlUnitSize, maxConnectionsSizePerQuery);
+        return availableConnectionSize < 0 ? result : Math.max(Math.min(result, availableConnectionSize), 1);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+
+/**
+ * Adaptive connection mode decision, which keeps decision inputs for debugging.
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class AdaptiveConnectionModeDecision {
+    
+    private final String databaseName;
+    
+    private final String dataSourceName;
+    
+    private final int sqlUnitSize;
+    
+    private final int maxConnectionsSizePerQuery;
+    
+    private final double averageRowCount;
+    
+    private final double averageLatencyNanos;
+    
+    private final double poolSaturation;
+    
+    private final int availableConnectionSize;
+    
+    private final int connectionSize;
+    
+    /**
+     * Get connection mode.
+     * 
+     * @return connection mode
+     */
+    public ConnectionMode getConnectionMode() {
+        return connectionSize < sqlUnitSize ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
+    }
+}
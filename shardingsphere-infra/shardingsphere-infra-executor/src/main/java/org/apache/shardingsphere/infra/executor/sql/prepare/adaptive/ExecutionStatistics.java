@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+/**
+ * Execution statistics of SQL on one data source.
+ * 
+ * <p>Latency and row count are smoothed by exponentially weighted moving average.</p>
+ */
+public final class ExecutionStatistics {
+    
+    private static final double SMOOTHING_FACTOR = 0.2D;
+    
+    private long latencySamples;
+    
+    private double averageLatencyNanos;
+    
+    private long rowCountSamples;
+    
+    private double averageRowCount;
+    
+    /**
+     * Record execution.
+     * 
+     * @param latencyNanos execution latency in nanoseconds
+     * @param rowCount result row count, negative if unknown
+     */
+    public synchronized void record(final long latencyNanos, final long rowCount) {
+        averageLatencyNanos = 0L == latencySamples ? latencyNanos : averageLatencyNanos + SMOOTHING_FACTOR * (latencyNanos - averageLatencyNanos);
+        latencySamples++;
+        if (rowCount >= 0L) {
+            averageRowCount = 0L == rowCountSamples ? rowCount : averageRowCount + SMOOTHING_FACTOR * (rowCount - averageRowCount);
+            rowCountSamples++;
+        }
+    }
+    
+    /**
+     * Get average latency in nanoseconds.
+     * 
+     * @return average latency in nanoseconds, negative if never recorded
+     */
+    public synchronized double getAverageLatencyNanos() {
+        return 0L == latencySamples ? -1D : averageLatencyNanos;
+    }
+    
+    /**
+     * Get average row count.
+     * 
+     * @return average row count, negative if never recorded
+     */
+    public synchronized double getAverageRowCount() {
+        return 0L == rowCountSamples ? -1D : averageRowCount;
+    }
+}
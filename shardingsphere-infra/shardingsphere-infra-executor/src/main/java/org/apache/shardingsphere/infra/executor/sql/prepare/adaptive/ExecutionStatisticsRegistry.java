@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Execution statistics registry.
+ * 
+ * <p>Statistics are keyed by database name, data source name and SQL fingerprint, and the least recently used ones are evicted over maximum size.
+ * They are registered when connection mode is decided adaptively, and bound to the deciding SQL unit so that executor callbacks record them for registered SQL units only.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExecutionStatisticsRegistry {
+    
+    private static final int MAXIMUM_SIZE = 65535;
+    
+    private static final Cache<StatisticsKey, ExecutionStatistics> STATISTICS = Caffeine.newBuilder().maximumSize(MAXIMUM_SIZE).build();
+    
+    private static final Cache<SQLUnit, ExecutionStatistics> BOUND_STATISTICS = Caffeine.newBuilder().weakKeys().build();
+    
+    private static final Map<DataSourceKey, AdaptiveConnectionModeDecision> LATEST_DECISIONS = new ConcurrentHashMap<>();
+    
+    /**
+     * Get or register execution statistics, and bind them to SQL unit.
+     * 
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param sqlUnit SQL unit
+     * @return execution statistics
+     */
+    public static ExecutionStatistics getOrRegister(final String databaseName, final String dataSourceName, final SQLUnit sqlUnit) {
+        ExecutionStatistics result = STATISTICS.get(new StatisticsKey(databaseName, dataSourceName, SQLFingerprintUtil.getFingerprint(sqlUnit.getSql())), key -> new ExecutionStatistics());
+        BOUND_STATISTICS.put(sqlUnit, result);
+        return result;
+    }
+    
+    /**
+     * Find execution statistics bound to SQL unit.
+     * 
+     * @param sqlUnit SQL unit
+     * @return found execution statistics
+     */
+    public static Optional<ExecutionStatistics> find(final SQLUnit sqlUnit) {
+        return null == sqlUnit ? Optional.empty() : Optional.ofNullable(BOUND_STATISTICS.getIfPresent(sqlUnit));
+    }
+    
+    /**
+     * Record latest decision of data source.
+     * 
+     * @param decision adaptive connection mode decision
+     */
+    public static void recordDecision(final AdaptiveConnectionModeDecision decision) {
+        LATEST_DECISIONS.put(new DataSourceKey(decision.getDatabaseName(), decision.getDataSourceName()), decision);
+    }
+    
+    /**
+     * Get latest decisions of database, which are exposed for debugging.
+     * 
+     * @param databaseName database name
+     * @return latest decisions, key is data source name
+     */
+    public static Map<String, AdaptiveConnectionModeDecision> getLatestDecisions(final String databaseName) {
+        return LATEST_DECISIONS.entrySet().stream().filter(entry -> entry.getKey().databaseName.equals(databaseName))
+                .collect(Collectors.toMap(entry -> entry.getKey().dataSourceName, Entry::getValue));
+    }
+    
+    /**
+     * Clear statistics and decisions of database.
+     * 
+     * @param databaseName database name
+     */
+    public static void clear(final String databaseName) {
+        STATISTICS.asMap().keySet().removeIf(each -> each.databaseName.equals(databaseName));
+        LATEST_DECISIONS.keySet().removeIf(each -> each.databaseName.equals(databaseName));
+    }
+    
+    /**
+     * Clear statistics and decisions of data sources.
+     * 
+     * @param databaseName database name
+     * @param dataSourceNames data source names
+     */
+    public static void clear(final String databaseName, final Collection<String> dataSourceNames) {
+        STATISTICS.asMap().keySet().removeIf(each -> each.databaseName.equals(databaseName) && dataSourceNames.contains(each.dataSourceName));
+        LATEST_DECISIONS.keySet().removeIf(each -> each.databaseName.equals(databaseName) && dataSourceNames.contains(each.dataSourceName));
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class DataSourceKey {
+        
+        private final String databaseName;
+        
+        private final String dataSourceName;
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class StatisticsKey {
+        
+        private final String databaseName;
+        
+        private final String dataSourceName;
+        
+        private final String fingerprint;
+    }
+}
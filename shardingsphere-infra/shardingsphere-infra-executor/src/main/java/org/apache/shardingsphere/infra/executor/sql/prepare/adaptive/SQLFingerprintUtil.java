@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL fingerprint utility class.
+ * 
+ * <p>Fingerprint of SQL replaces string and numeric literals with {@code ?}, folds lists of them into one {@code ?} and collapses whitespaces,
+ * so that SQL which differ in literals only share one fingerprint.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFingerprintUtil {
+    
+    private static final Pattern PARAMETER_LIST_PATTERN = Pattern.compile("\\?( ?, ?\\?)+");
+    
+    /**
+     * Get fingerprint of SQL.
+     * 
+     * @param sql SQL
+     * @return fingerprint
+     */
+    public static String getFingerprint(final String sql) {
+        StringBuilder result = new StringBuilder(sql.length());
+        int index = 0;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if ('\'' == each) {
+                index = skipStringLiteral(sql, index);
+                result.append('?');
+            } else if ('"' == each || '`' == each) {
+                int endIndex = skipQuotedIdentifier(sql, index, each);
+                result.append(sql, index, endIndex);
+                index = endIndex;
+            } else if (Character.isDigit(each) && (0 == index || !isIdentifierPart(sql.charAt(index - 1)))) {
+                index = skipNumericLiteral(sql, index);
+                result.append('?');
+            } else if (Character.isWhitespace(each)) {
+                if (0 != result.length() && ' ' != result.charAt(result.length() - 1)) {
+                    result.append(' ');
+                }
+                index++;
+            } else {
+                result.append(each);
+                index++;
+            }
+        }
+        return PARAMETER_LIST_PATTERN.matcher(result.toString().trim()).replaceAll("?");
+    }
+    
+    private static int skipStringLiteral(final String sql, final int startIndex) {
+        int result = startIndex + 1;
+        while (result < sql.length()) {
+            char each = sql.charAt(result);
+            if ('\\' == each) {
+                result += 2;
+            } else if ('\'' == each) {
+                if (result + 1 < sql.length() && '\'' == sql.charAt(result + 1)) {
+                    result += 2;
+                } else {
+                    return result + 1;
+                }
+            } else {
+                result++;
+            }
+        }
+        return sql.length();
+    }
+    
+    private static int skipQuotedIdentifier(final String sql, final int startIndex, final char quote) {
+        int result = sql.indexOf(quote, startIndex + 1);
+        return result < 0 ? sql.length() : result + 1;
+    }
+    
+    private static int skipNumericLiteral(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && (isIdentifierPart(sql.charAt(result)) || '.' == sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static boolean isIdentifierPart(final char value) {
+        return Character.isLetterOrDigit(value) || '_' == value || '$' == value;
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.DriverExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.prepare.AbstractExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.AdaptiveConnectionModeDecider;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
 import java.sql.SQLException;
@@ -54,7 +55,13 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     
     public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final ExecutorConnectionManager<C> connectionManager,
                                         final ExecutorStatementManager<C, ?, ?> statementManager, final StorageResourceOption option, final Collection<ShardingSphereRule> rules) {
-        super(maxConnectionsSizePerQuery, rules);
+        this(type, maxConnectionsSizePerQuery, connectionManager, statementManager, option, rules, null);
+    }
+    
+    public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final ExecutorConnectionManager<C> connectionManager,
+                                        final ExecutorStatementManager<C, ?, ?> statementManager, final StorageResourceOption option, final Collection<ShardingSphereRule> rules,
+                                        final AdaptiveConnectionModeDecider adaptiveConnectionModeDecider) {
+        super(maxConnectionsSizePerQuery, rules, adaptiveConnectionModeDecider);
         this.connectionManager = connectionManager;
         this.statementManager = statementManager;
         this.option = option;
@@ -93,6 +100,6 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         for (SQLUnit each : sqlUnits) {
             result.add((T) sqlExecutionUnitBuilder.build(new ExecutionUnit(dataSourceName, each), statementManager, connection, connectionMode, option));
         }
-        return new ExecutionGroup<>(result);
+        return new ExecutionGroup<>(dataSourceName, result);
     }
 }
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JDBC prepared statement cache.
+ * 
+ * <p>Idle prepared statements are cached in LRU order for each storage connection and keyed by rewritten SQL,
+ * so that server side prepared statements can be reused across executions.
+ * A cached prepared statement is borrowed by one execution at a time and returned to cache after use,
+ * its statement settings are restored to the ones captured when it was registered.</p>
+ */
+public final class JDBCPreparedStatementCache implements AutoCloseable {
+    
+    private final int maxSizePerConnection;
+    
+    private final Map<Connection, Map<CacheKey, CachedStatement>> idleStatements = new IdentityHashMap<>();
+    
+    private final Map<Statement, CachedStatement> borrowedStatements = new IdentityHashMap<>();
+    
+    public JDBCPreparedStatementCache(final int maxSizePerConnection) {
+        this.maxSizePerConnection = maxSizePerConnection;
+    }
+    
+    /**
+     * Judge whether prepared statement cache is enabled.
+     * 
+     * @return prepared statement cache is enabled or not
+     */
+    public boolean isEnabled() {
+        return maxSizePerConnection > 0;
+    }
+    
+    /**
+     * Borrow cached prepared statement.
+     * 
+     * @param connection storage connection
+     * @param sql rewritten SQL
+     * @param connectionMode connection mode
+     * @param option statement option
+     * @return borrowed prepared statement
+     * @throws SQLException SQL exception
+     */
+    public synchronized Optional<PreparedStatement> borrow(final Connection connection, final String sql, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        CacheKey key = createKey(sql, connectionMode, option);
+        Map<CacheKey, CachedStatement> statements = idleStatements.get(connection);
+        CachedStatement result = null == statements ? null : statements.remove(key);
+        if (null == result || result.getStatement().isClosed()) {
+            return Optional.empty();
+        }
+        borrowedStatements.put(result.getStatement(), result);
+        return Optional.of(result.getStatement());
+    }
+    
+    /**
+     * Register prepared statement created by caller as borrowed, it will be cached when released.
+     * 
+     * <p>Statement should be registered before any setting is changed, settings at registration are restored on release.</p>
+     * 
+     * @param connection storage connection
+     * @param sql rewritten SQL
+     * @param connectionMode connection mode
+     * @param option statement option
+     * @param statement prepared statement to be registered
+     */
+    public synchronized void register(final Connection connection, final String sql, final ConnectionMode connectionMode, final StatementOption option, final PreparedStatement statement) {
+        if (!isEnabled()) {
+            return;
+        }
+        StatementSettings defaultSettings;
+        try {
+            defaultSettings = StatementSettings.of(statement);
+        } catch (final SQLException ex) {
+            return;
+        }
+        borrowedStatements.put(statement, new CachedStatement(connection, createKey(sql, connectionMode, option), statement, defaultSettings));
+    }
+    
+    private CacheKey createKey(final String sql, final ConnectionMode connectionMode, final StatementOption option) {
+        return new CacheKey(sql, connectionMode, option.getResultSetType(), option.getResultSetConcurrency(), option.getResultSetHoldability(), option.isReturnGeneratedKeys());
+    }
+    
+    /**
+     * Release borrowed statement back to cache.
+     * 
+     * @param statement statement to be released
+     * @return whether statement is taken over by cache, caller should close statement by itself if not
+     */
+    public synchronized boolean release(final Statement statement) {
+        CachedStatement cachedStatement = borrowedStatements.remove(statement);
+        if (null == cachedStatement) {
+            return false;
+        }
+        try {
+            if (statement.isClosed() || cachedStatement.getConnection().isClosed()) {
+                return true;
+            }
+            closeResultSet(statement);
+            cachedStatement.getStatement().clearParameters();
+            statement.clearBatch();
+            cachedStatement.getDefaultSettings().restore(statement);
+        } catch (final SQLException ex) {
+            return false;
+        }
+        Map<CacheKey, CachedStatement> statements = idleStatements.computeIfAbsent(cachedStatement.getConnection(), key -> new LinkedHashMap<>(16, 0.75F, true));
+        CachedStatement replaced = statements.put(cachedStatement.getKey(), cachedStatement);
+        if (null != replaced) {
+            closeQuietly(replaced.getStatement());
+        }
+        Iterator<CachedStatement> iterator = statements.values().iterator();
+        while (statements.size() > maxSizePerConnection) {
+            closeQuietly(iterator.next().getStatement());
+            iterator.remove();
+        }
+        return true;
+    }
+    
+    private void closeResultSet(final Statement statement) throws SQLException {
+        ResultSet resultSet = statement.getResultSet();
+        if (null != resultSet) {
+            resultSet.close();
+        }
+    }
+    
+    /**
+     * Invalidate cached statements of storage connection.
+     * 
+     * <p>Idle statements will be closed, borrowed statements will be closed by their owners when released.</p>
+     * 
+     * @param connection storage connection
+     */
+    public synchronized void invalidate(final Connection connection) {
+        borrowedStatements.values().removeIf(each -> connection == each.getConnection());
+        Map<CacheKey, CachedStatement> statements = idleStatements.remove(connection);
+        if (null != statements) {
+            statements.values().forEach(each -> closeQuietly(each.getStatement()));
+        }
+    }
+    
+    /**
+     * Invalidate cached statements of all storage connections.
+     */
+    public synchronized void invalidateAll() {
+        borrowedStatements.clear();
+        Collection<Map<CacheKey, CachedStatement>> statements = new LinkedList<>(idleStatements.values());
+        idleStatements.clear();
+        statements.forEach(each -> each.values().forEach(cachedStatement -> closeQuietly(cachedStatement.getStatement())));
+    }
+    
+    private void closeQuietly(final Statement statement) {
+        try {
+            statement.close();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    @Override
+    public void close() {
+        invalidateAll();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final String sql;
+        
+        private final ConnectionMode connectionMode;
+        
+        private final int resultSetType;
+        
+        private final int resultSetConcurrency;
+        
+        private final int resultSetHoldability;
+        
+        private final boolean returnGeneratedKeys;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CachedStatement {
+        
+        private final Connection connection;
+        
+        private final CacheKey key;
+        
+        private final PreparedStatement statement;
+        
+        private final StatementSettings defaultSettings;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class StatementSettings {
+        
+        private final int maxRows;
+        
+        private final int fetchSize;
+        
+        private final int queryTimeout;
+        
+        private final int fetchDirection;
+        
+        private static StatementSettings of(final Statement statement) throws SQLException {
+            return new StatementSettings(statement.getMaxRows(), statement.getFetchSize(), statement.getQueryTimeout(), statement.getFetchDirection());
+        }
+        
+        private void restore(final Statement statement) throws SQLException {
+            if (maxRows != statement.getMaxRows()) {
+                statement.setMaxRows(maxRows);
+            }
+            if (fetchSize != statement.getFetchSize()) {
+                statement.setFetchSize(fetchSize);
+            }
+            if (queryTimeout != statement.getQueryTimeout()) {
+                statement.setQueryTimeout(queryTimeout);
+            }
+            if (fetchDirection != statement.getFetchDirection()) {
+                statement.setFetchDirection(fetchDirection);
+            }
+        }
+    }
+}
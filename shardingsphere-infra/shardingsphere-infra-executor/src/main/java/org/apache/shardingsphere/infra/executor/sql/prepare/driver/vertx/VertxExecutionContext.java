@@ -17,10 +17,21 @@
 
 package org.apache.shardingsphere.infra.executor.sql.prepare.driver.vertx;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.StorageResourceOption;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.ParameterMarkerType;
 
 /**
  * Vert.x execution context.
  */
+@RequiredArgsConstructor
+@Getter
 public final class VertxExecutionContext implements StorageResourceOption {
+    
+    private final ParameterMarkerType parameterMarkerType;
+    
+    public VertxExecutionContext() {
+        this(ParameterMarkerType.QUESTION);
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver.vertx.builder;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Parameter marker converter for Vert.x clients which only accept dollar parameter markers, such as PostgreSQL.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DollarParameterMarkerConverter {
+    
+    /**
+     * Convert question parameter markers of SQL into numbered dollar parameter markers.
+     * 
+     * <p>Markers in string literals, quoted identifiers, dollar quoted strings and comments are kept as they are.</p>
+     *
+     * @param sql SQL with question parameter markers
+     * @return SQL with dollar parameter markers
+     */
+    public static String convert(final String sql) {
+        if (sql.indexOf('?') < 0) {
+            return sql;
+        }
+        StringBuilder result = new StringBuilder(sql.length() + 8);
+        int parameterIndex = 0;
+        int index = 0;
+        while (index < sql.length()) {
+            int skippedEndIndex = skipQuotedOrComment(sql, index);
+            if (skippedEndIndex > index) {
+                result.append(sql, index, skippedEndIndex);
+                index = skippedEndIndex;
+                continue;
+            }
+            char each = sql.charAt(index);
+            if ('?' == each) {
+                result.append('$').append(++parameterIndex);
+            } else {
+                result.append(each);
+            }
+            index++;
+        }
+        return result.toString();
+    }
+    
+    private static int skipQuotedOrComment(final String sql, final int index) {
+        char current = sql.charAt(index);
+        switch (current) {
+            case '\'':
+                return skipQuoted(sql, index, '\'', isEscapeString(sql, index));
+            case '"':
+                return skipQuoted(sql, index, '"', false);
+            case '-':
+                return sql.startsWith("--", index) ? skipLineComment(sql, index) : index;
+            case '/':
+                return sql.startsWith("/*", index) ? skipBlockComment(sql, index) : index;
+            case '$':
+                return skipDollarQuoted(sql, index);
+            default:
+                return index;
+        }
+    }
+    
+    private static boolean isEscapeString(final String sql, final int quoteIndex) {
+        return quoteIndex > 0 && ('E' == sql.charAt(quoteIndex - 1) || 'e' == sql.charAt(quoteIndex - 1)) && (1 == quoteIndex || !isIdentifierPart(sql.charAt(quoteIndex - 2)));
+    }
+    
+    private static int skipQuoted(final String sql, final int startIndex, final char quote, final boolean backslashEscaped) {
+        int index = startIndex + 1;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if (backslashEscaped && '\\' == each) {
+                index += 2;
+                continue;
+            }
+            if (quote == each) {
+                if (index + 1 < sql.length() && quote == sql.charAt(index + 1)) {
+                    index += 2;
+                    continue;
+                }
+                return index + 1;
+            }
+            index++;
+        }
+        return sql.length();
+    }
+    
+    private static int skipLineComment(final String sql, final int startIndex) {
+        int result = sql.indexOf('\n', startIndex);
+        return result < 0 ? sql.length() : result + 1;
+    }
+    
+    private static int skipBlockComment(final String sql, final int startIndex) {
+        int result = sql.indexOf("*/", startIndex + 2);
+        return result < 0 ? sql.length() : result + 2;
+    }
+    
+    private static int skipDollarQuoted(final String sql, final int startIndex) {
+        if (startIndex > 0 && isIdentifierPart(sql.charAt(startIndex - 1))) {
+            return startIndex;
+        }
+        int tagEndIndex = startIndex + 1;
+        while (tagEndIndex < sql.length() && isIdentifierPart(sql.charAt(tagEndIndex))) {
+            if (tagEndIndex == startIndex + 1 && Character.isDigit(sql.charAt(tagEndIndex))) {
+                return startIndex;
+            }
+            tagEndIndex++;
+        }
+        if (tagEndIndex >= sql.length() || '$' != sql.charAt(tagEndIndex)) {
+            return startIndex;
+        }
+        String tag = sql.substring(startIndex, tagEndIndex + 1);
+        int result = sql.indexOf(tag, tagEndIndex + 1);
+        return result < 0 ? sql.length() : result + tag.length();
+    }
+    
+    private static boolean isIdentifierPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch;
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.vertx.VertxExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.vertx.ExecutorVertxStatementManager;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.vertx.VertxExecutionContext;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.ParameterMarkerType;
 
 import java.sql.SQLException;
 
@@ -35,7 +36,10 @@ public final class PreparedQueryExecutionUnitBuilder implements VertxExecutionUn
     @Override
     public VertxExecutionUnit build(final ExecutionUnit executionUnit, final ExecutorVertxStatementManager statementManager,
                                     final Future<? extends SqlClient> connection, final ConnectionMode connectionMode, final VertxExecutionContext option) throws SQLException {
-        return new VertxExecutionUnit(executionUnit, connectionMode, connection.compose(sqlClient -> Future.succeededFuture(sqlClient.preparedQuery(executionUnit.getSqlUnit().getSql()))));
+        String sql = ParameterMarkerType.DOLLAR == option.getParameterMarkerType()
+                ? DollarParameterMarkerConverter.convert(executionUnit.getSqlUnit().getSql())
+                : executionUnit.getSqlUnit().getSql();
+        return new VertxExecutionUnit(executionUnit, connectionMode, connection.compose(sqlClient -> Future.succeededFuture(sqlClient.preparedQuery(sql))));
     }
     
     @Override
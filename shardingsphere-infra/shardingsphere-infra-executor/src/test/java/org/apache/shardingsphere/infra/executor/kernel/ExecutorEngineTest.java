@@ -20,19 +20,25 @@ package org.apache.shardingsphere.infra.executor.kernel;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 public final class ExecutorEngineTest {
@@ -96,6 +102,33 @@ public final class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    public void assertParallelExecuteWithCancelledCallback() throws SQLException {
+        List<String> actual = executorEngine.execute(executionGroupContext, firstCallback, createCancelledCallback(), false);
+        assertThat(actual.size(), is(2));
+    }
+    
+    @Test
+    public void assertSerialExecuteWithCancelledCallback() throws SQLException {
+        List<String> actual = executorEngine.execute(executionGroupContext, firstCallback, createCancelledCallback(), true);
+        assertThat(actual.size(), is(2));
+    }
+    
+    private ExecutorCallback<Object, String> createCancelledCallback() {
+        return new ExecutorCallback<Object, String>() {
+            
+            @Override
+            public Collection<String> execute(final Collection<Object> inputs, final boolean isTrunkThread, final Map<String, Object> dataMap) {
+                return Collections.nCopies(inputs.size(), "succeed");
+            }
+            
+            @Override
+            public boolean isCancelled() {
+                return true;
+            }
+        };
+    }
+    
     @Test
     public void assertExecutionGroupIsEmpty() throws SQLException {
         CountDownLatch latch = new CountDownLatch(1);
@@ -103,4 +136,44 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertTrue(actual.isEmpty());
     }
+    
+    @Test
+    public void assertParallelExecuteAsync() throws InterruptedException, ExecutionException {
+        List<String> actual = executorEngine.executeAsync(executionGroupContext, firstCallback, callback, false).get();
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    public void assertSerialExecuteAsync() throws InterruptedException, ExecutionException {
+        CompletableFuture<List<String>> actual = executorEngine.executeAsync(executionGroupContext, firstCallback, callback, true);
+        assertTrue(actual.isDone());
+        latch.await();
+        assertThat(actual.get().size(), is(4));
+    }
+    
+    @Test
+    public void assertParallelExecuteAsyncWithFailure() throws InterruptedException {
+        SQLException expected = new SQLException("failed");
+        CompletableFuture<List<String>> actual = executorEngine.executeAsync(executionGroupContext, firstCallback, new ExecutorCallback<Object, String>() {
+            
+            @Override
+            public Collection<String> execute(final Collection<Object> inputs, final boolean isTrunkThread, final Map<String, Object> dataMap) throws SQLException {
+                throw expected;
+            }
+        }, false);
+        try {
+            actual.get();
+            fail("Expected execution exception.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), is(expected));
+        }
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithEmptyExecutionGroup() {
+        CompletableFuture<List<String>> actual = executorEngine.executeAsync(new ExecutionGroupContext<>(new LinkedList<>()), null, callback, false);
+        assertTrue(actual.isDone());
+        assertTrue(actual.join().isEmpty());
+    }
 }
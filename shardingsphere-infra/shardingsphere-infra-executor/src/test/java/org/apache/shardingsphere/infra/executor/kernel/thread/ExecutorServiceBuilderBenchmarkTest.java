@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.type.PlatformExecutorServiceBuilder;
+import org.apache.shardingsphere.infra.executor.kernel.thread.type.VirtualExecutorServiceBuilder;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Benchmark of executor service builders, which compares throughput against connection count on platform threads and virtual threads.
+ * 
+ * <p>Every query blocks for a simulated storage round trip, as JDBC calls do.
+ * Skipped by default, run it with {@code -Dbenchmark=true}.</p>
+ */
+@Slf4j
+public final class ExecutorServiceBuilderBenchmarkTest {
+    
+    private static final int KERNEL_EXECUTOR_SIZE = 64;
+    
+    private static final int QUERIES_PER_CONNECTION = 200;
+    
+    private static final long ROUND_TRIP_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+    
+    private static final int[] CONNECTION_COUNTS = {16, 64, 256, 1024};
+    
+    @Before
+    public void setUp() {
+        Assume.assumeTrue(Boolean.getBoolean("benchmark"));
+    }
+    
+    @Test
+    public void assertThroughputWithPlatformThreads() {
+        assertThroughput(new PlatformExecutorServiceBuilder());
+    }
+    
+    @Test
+    public void assertThroughputWithVirtualThreads() {
+        ExecutorServiceBuilder builder = new VirtualExecutorServiceBuilder();
+        Assume.assumeTrue("Virtual threads are not supported by current runtime.", builder.isSupported());
+        assertThroughput(builder);
+    }
+    
+    private void assertThroughput(final ExecutorServiceBuilder builder) {
+        ExecutorService executorService = builder.build(KERNEL_EXECUTOR_SIZE, "benchmark-%d");
+        try {
+            runQueries(executorService, CONNECTION_COUNTS[0]);
+            for (int each : CONNECTION_COUNTS) {
+                long startNanos = System.nanoTime();
+                long queries = runQueries(executorService, each);
+                long elapsedNanos = System.nanoTime() - startNanos;
+                assertThat(queries, is((long) each * QUERIES_PER_CONNECTION));
+                log.info("type: {}, connections: {}, throughput: {} queries/s", builder.getType(), each, queries * TimeUnit.SECONDS.toNanos(1L) / elapsedNanos);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private long runQueries(final ExecutorService executorService, final int connectionCount) {
+        LongAdder result = new LongAdder();
+        Collection<CompletableFuture<Void>> connections = new ArrayList<>(connectionCount);
+        for (int i = 0; i < connectionCount; i++) {
+            CompletableFuture<Void> connection = CompletableFuture.completedFuture(null);
+            for (int j = 0; j < QUERIES_PER_CONNECTION; j++) {
+                connection = connection.thenRunAsync(() -> {
+                    LockSupport.parkNanos(ROUND_TRIP_NANOS);
+                    result.increment();
+                }, executorService);
+            }
+            connections.add(connection);
+        }
+        CompletableFuture.allOf(connections.toArray(new CompletableFuture[0])).join();
+        return result.sum();
+    }
+}
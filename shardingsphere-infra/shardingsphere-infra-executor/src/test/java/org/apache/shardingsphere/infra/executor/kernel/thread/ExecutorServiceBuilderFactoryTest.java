@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.apache.shardingsphere.infra.executor.kernel.thread.type.PlatformExecutorServiceBuilder;
+import org.apache.shardingsphere.infra.executor.kernel.thread.type.VirtualExecutorServiceBuilder;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ExecutorServiceBuilderFactoryTest {
+    
+    @Test
+    public void assertGetDefaultInstance() {
+        assertThat(ExecutorServiceBuilderFactory.getInstance(), instanceOf(PlatformExecutorServiceBuilder.class));
+    }
+    
+    @Test
+    public void assertGetInstanceWithPlatformType() {
+        assertThat(ExecutorServiceBuilderFactory.getInstance("PLATFORM"), instanceOf(PlatformExecutorServiceBuilder.class));
+    }
+    
+    @Test
+    public void assertGetInstanceWithVirtualType() {
+        Class<?> expected = new VirtualExecutorServiceBuilder().isSupported() ? VirtualExecutorServiceBuilder.class : PlatformExecutorServiceBuilder.class;
+        assertThat(ExecutorServiceBuilderFactory.getInstance("VIRTUAL"), instanceOf(expected));
+    }
+    
+    @Test
+    public void assertGetInstanceWithAbsentType() {
+        assertThat(ExecutorServiceBuilderFactory.getInstance(null), instanceOf(PlatformExecutorServiceBuilder.class));
+        assertThat(ExecutorServiceBuilderFactory.getInstance("INVALID"), instanceOf(PlatformExecutorServiceBuilder.class));
+    }
+    
+    @Test
+    public void assertBuild() throws ExecutionException, InterruptedException {
+        ExecutorService executorService = ExecutorServiceBuilderFactory.getInstance("VIRTUAL").build(0, "test-%d");
+        try {
+            assertThat(executorService.submit(() -> Thread.currentThread().getName().startsWith("ShardingSphere-test-")).get(), is(true));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertBuildSingleThread() throws ExecutionException, InterruptedException {
+        ExecutorService executorService = ExecutorServiceBuilderFactory.getInstance("VIRTUAL").buildSingleThread("test");
+        try {
+            assertThat(executorService.submit(() -> Thread.currentThread().getName()).get(), is("test"));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread.bulkhead;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class DataSourceBulkheadSchedulerTest {
+    
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+    
+    private final CountDownLatch blocker = new CountDownLatch(1);
+    
+    @After
+    public void tearDown() {
+        blocker.countDown();
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertSubmitWithoutLimitation() throws ExecutionException, InterruptedException {
+        DataSourceBulkheadScheduler scheduler = new DataSourceBulkheadScheduler(executorService, 0, 0L);
+        assertThat(scheduler.submit("foo_db", "foo_ds", null, () -> 1).get(), is(1));
+        assertTrue(scheduler.getBulkheads().isEmpty());
+    }
+    
+    @Test
+    public void assertSubmitWithConcurrencyLimitation() throws ExecutionException, InterruptedException {
+        DataSourceBulkheadScheduler scheduler = new DataSourceBulkheadScheduler(executorService, 1, 0L);
+        final Future<Integer> first = scheduler.submit("foo_db", "foo_ds", null, () -> block(1));
+        final Future<Integer> second = scheduler.submit("foo_db", "foo_ds", null, () -> 2);
+        assertThat(scheduler.submit("foo_db", "bar_ds", null, () -> 3).get(), is(3));
+        DataSourceBulkhead bulkhead = getBulkhead(scheduler, "foo_db", "foo_ds");
+        assertThat(bulkhead.getRunningCount(), is(1));
+        assertThat(bulkhead.getQueueDepth(), is(1));
+        blocker.countDown();
+        assertThat(first.get(), is(1));
+        assertThat(second.get(), is(2));
+        assertThat(bulkhead.getQueueDepth(), is(0));
+        assertThat(bulkhead.getRejectedCount(), is(0L));
+    }
+    
+    @Test
+    public void assertSubmitFairlyByTenant() throws ExecutionException, InterruptedException {
+        DataSourceBulkheadScheduler scheduler = new DataSourceBulkheadScheduler(executorService, 1, 0L);
+        List<String> actual = new CopyOnWriteArrayList<>();
+        final Future<Integer> first = scheduler.submit("foo_db", "foo_ds", "foo_user", () -> block(1));
+        final Future<Boolean> second = scheduler.submit("foo_db", "foo_ds", "foo_user", () -> actual.add("foo_1"));
+        final Future<Boolean> third = scheduler.submit("foo_db", "foo_ds", "foo_user", () -> actual.add("foo_2"));
+        final Future<Boolean> fourth = scheduler.submit("foo_db", "foo_ds", "bar_user", () -> actual.add("bar_1"));
+        blocker.countDown();
+        first.get();
+        second.get();
+        third.get();
+        fourth.get();
+        assertThat(actual, is(Arrays.asList("foo_1", "bar_1", "foo_2")));
+    }
+    
+    @Test
+    public void assertRejectWhenWaitPastDeadline() throws InterruptedException {
+        DataSourceBulkheadScheduler scheduler = new DataSourceBulkheadScheduler(executorService, 1, 10L);
+        scheduler.submit("foo_db", "foo_ds", null, () -> block(1));
+        Future<Integer> actual = scheduler.submit("foo_db", "foo_ds", null, () -> 2);
+        try {
+            actual.get();
+            fail("Expected execution exception.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(SQLTimeoutException.class));
+        }
+        DataSourceBulkhead bulkhead = getBulkhead(scheduler, "foo_db", "foo_ds");
+        assertThat(bulkhead.getQueueDepth(), is(0));
+        assertThat(bulkhead.getRejectedCount(), is(1L));
+    }
+    
+    @Test
+    public void assertSubmitAsyncWithoutLimitation() {
+        DataSourceBulkheadScheduler scheduler = new DataSourceBulkheadScheduler(executorService, 0, 0L);
+        assertThat(scheduler.submitAsync("foo_db", "foo_ds", null, () -> 1).join(), is(1));
+        assertTrue(scheduler.getBulkheads().isEmpty());
+    }
+    
+    @Test
+    public void assertSubmitAsyncWithConcurrencyLimitation() {
+        DataSourceBulkheadScheduler scheduler = new DataSourceBulkheadScheduler(executorService, 1, 0L);
+        final CompletableFuture<Integer> first = scheduler.submitAsync("foo_db", "foo_ds", null, () -> block(1));
+        final CompletableFuture<Integer> second = scheduler.submitAsync("foo_db", "foo_ds", null, () -> 2);
+        assertThat(getBulkhead(scheduler, "foo_db", "foo_ds").getQueueDepth(), is(1));
+        blocker.countDown();
+        assertThat(first.join(), is(1));
+        assertThat(second.join(), is(2));
+    }
+    
+    @Test
+    public void assertSubmitAsyncWithFailure() throws InterruptedException {
+        DataSourceBulkheadScheduler scheduler = new DataSourceBulkheadScheduler(executorService, 1, 0L);
+        SQLException expected = new SQLException("failed");
+        try {
+            scheduler.submitAsync("foo_db", "foo_ds", null, () -> {
+                throw expected;
+            }).get();
+            fail("Expected execution exception.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), is(expected));
+        }
+    }
+    
+    @Test
+    public void assertSubmitWithSameDataSourceNameOfDifferentDatabases() throws ExecutionException, InterruptedException {
+        DataSourceBulkheadScheduler scheduler = new DataSourceBulkheadScheduler(executorService, 1, 0L);
+        final Future<Integer> first = scheduler.submit("foo_db", "foo_ds", null, () -> block(1));
+        assertThat(scheduler.submit("bar_db", "foo_ds", null, () -> 2).get(), is(2));
+        assertThat(getBulkhead(scheduler, "foo_db", "foo_ds").getRunningCount(), is(1));
+        assertThat(getBulkhead(scheduler, "bar_db", "foo_ds").getRunningCount(), is(0));
+        assertThat(scheduler.getBulkheads().size(), is(2));
+        blocker.countDown();
+        assertThat(first.get(), is(1));
+    }
+    
+    private DataSourceBulkhead getBulkhead(final DataSourceBulkheadScheduler scheduler, final String databaseName, final String dataSourceName) {
+        return scheduler.getBulkheads().stream().filter(each -> databaseName.equals(each.getDatabaseName()) && dataSourceName.equals(each.getDataSourceName())).findFirst().orElse(null);
+    }
+    
+    private int block(final int result) throws InterruptedException {
+        blocker.await();
+        return result;
+    }
+}
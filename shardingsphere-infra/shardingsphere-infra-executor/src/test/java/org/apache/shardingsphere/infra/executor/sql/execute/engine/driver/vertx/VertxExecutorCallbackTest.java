@@ -23,7 +23,10 @@ import io.vertx.sqlclient.PreparedQuery;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.Tuple;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.vertx.VertxPostgreSQLQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.vertx.VertxQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.junit.Before;
@@ -33,6 +36,7 @@ import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.sql.JDBCType;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
@@ -41,6 +45,7 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -71,6 +76,22 @@ public final class VertxExecutorCallbackTest {
         assertThat(actual.iterator().next().result(), instanceOf(VertxQueryResult.class));
     }
     
+    @Test
+    public void assertExecutePostgreSQLQuery() throws SQLException {
+        ColumnDescriptor columnDescriptor = mock(ColumnDescriptor.class);
+        when(columnDescriptor.name()).thenReturn("order_ids");
+        when(columnDescriptor.isArray()).thenReturn(true);
+        when(columnDescriptor.typeName()).thenReturn("INT4_ARRAY");
+        when(columnDescriptor.jdbcType()).thenReturn(JDBCType.ARRAY);
+        when(rowSet.columnDescriptors()).thenReturn(Collections.singletonList(columnDescriptor));
+        Collection<Future<ExecuteResult>> actual = callback.execute(Collections.singletonList(vertxExecutionUnit), true, Collections.emptyMap());
+        QueryResult actualResult = (QueryResult) actual.iterator().next().result();
+        assertThat(actualResult.getMetaData(), instanceOf(VertxPostgreSQLQueryResultMetaData.class));
+        assertThat(actualResult.getMetaData().getColumnLabel(1), is("order_ids"));
+        assertThat(actualResult.getMetaData().getColumnType(1), is(JDBCType.ARRAY.getVendorTypeNumber()));
+        assertThat(actualResult.getMetaData().getColumnTypeName(1), is("_int4"));
+    }
+    
     @Test
     public void assertExecuteUpdate() throws SQLException {
         when(rowSet.columnDescriptors()).thenReturn(null);
@@ -26,6 +26,8 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ExecutionStatistics;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ExecutionStatisticsRegistry;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.junit.Before;
@@ -40,6 +42,7 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -47,7 +50,9 @@ import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -99,6 +104,30 @@ public final class JDBCExecutorCallbackTest {
         assertThat(cachedDataSourceMetaData.size(), is(1));
     }
     
+    @Test
+    public void assertExecuteWithRegisteredExecutionStatistics() throws SQLException {
+        ExecutionStatistics statistics = ExecutionStatisticsRegistry.getOrRegister("foo_db", "ds", units.iterator().next().getExecutionUnit().getSqlUnit());
+        JDBCExecutorCallback<Integer> callback = new JDBCExecutorCallback<Integer>(DatabaseTypeFactory.getInstance("MySQL"), mock(SelectStatement.class), true, new EventBusContext()) {
+            
+            @Override
+            protected Integer executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+                return ((PreparedStatement) statement).executeUpdate();
+            }
+            
+            @Override
+            protected Optional<Integer> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
+                return Optional.empty();
+            }
+        };
+        try {
+            callback.execute(units, true, Collections.emptyMap());
+            assertTrue(statistics.getAverageLatencyNanos() >= 0D);
+            assertThat(statistics.getAverageRowCount(), is(-1D));
+        } finally {
+            ExecutionStatisticsRegistry.clear("foo_db");
+        }
+    }
+    
     @Test
     public void assertExecuteFailedAndProtocolTypeDifferentWithDatabaseType() throws SQLException {
         Object saneResult = new Object();
@@ -136,4 +165,47 @@ public final class JDBCExecutorCallbackTest {
         };
         callback.execute(units, true, Collections.emptyMap());
     }
+    
+    @Test
+    public void assertExecuteWithRowLimitReached() throws SQLException {
+        JDBCExecutorCallback<Integer> callback = new JDBCExecutorCallback<Integer>(DatabaseTypeFactory.getInstance("MySQL"), mock(SelectStatement.class), true, new EventBusContext()) {
+            
+            @Override
+            protected Integer executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) {
+                return 1;
+            }
+            
+            @Override
+            protected Optional<Integer> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
+                return Optional.empty();
+            }
+            
+            @Override
+            protected long getLoadedRowCount(final Integer executeResult) {
+                return executeResult;
+            }
+        };
+        callback.setRowLimit(1L);
+        assertThat(callback.execute(Arrays.asList(units.iterator().next(), units.iterator().next()), true, Collections.emptyMap()), is(Collections.singletonList(1)));
+        assertTrue(callback.isCancelled());
+    }
+    
+    @Test
+    public void assertExecuteFailedAfterCancelled() throws SQLException {
+        JDBCExecutorCallback<Object> callback = new JDBCExecutorCallback<Object>(DatabaseTypeFactory.getInstance("MySQL"), mock(SelectStatement.class), true, new EventBusContext()) {
+            
+            @Override
+            protected Object executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+                cancel();
+                throw new SQLException("Query execution was interrupted");
+            }
+            
+            @Override
+            protected Optional<Object> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
+                return Optional.empty();
+            }
+        };
+        assertThat(callback.execute(units, true, Collections.emptyMap()), is(Collections.emptyList()));
+        verify(preparedStatement).cancel();
+    }
 }
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class JDBCColumnarMemoryQueryResultTest {
+    
+    private final DatabaseType databaseType = new MySQLDatabaseType();
+    
+    @Test(expected = SQLException.class)
+    public void assertConstructorWithSqlException() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.INTEGER);
+        when(resultSet.next()).thenThrow(new SQLException(""));
+        new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+    }
+    
+    @Test
+    public void assertNext() throws SQLException {
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(getMockedResultSet(Types.INTEGER), databaseType);
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueByNull() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.INTEGER);
+        when(resultSet.wasNull()).thenReturn(true);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, int.class));
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueByBoolean() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.BOOLEAN);
+        when(resultSet.getBoolean(1)).thenReturn(true);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertTrue((boolean) actual.getValue(1, boolean.class));
+        assertFalse(actual.wasNull());
+    }
+    
+    @Test
+    public void assertGetValueBySmallInt() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.SMALLINT);
+        when(resultSet.getInt(1)).thenReturn(1);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, int.class), is(1));
+    }
+    
+    @Test
+    public void assertGetValueBySignedInteger() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.INTEGER);
+        when(resultSet.getMetaData().isSigned(1)).thenReturn(true);
+        when(resultSet.getInt(1)).thenReturn(1);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, int.class), is(1));
+    }
+    
+    @Test
+    public void assertGetValueByUnsignedInteger() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.INTEGER);
+        when(resultSet.getLong(1)).thenReturn(1L);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, long.class), is(1L));
+    }
+    
+    @Test
+    public void assertGetValueBySignedBigInt() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.BIGINT);
+        when(resultSet.getMetaData().isSigned(1)).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(1L);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, long.class), is(1L));
+    }
+    
+    @Test
+    public void assertGetValueByUnsignedBigInt() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.BIGINT);
+        when(resultSet.getBigDecimal(1)).thenReturn(new BigDecimal("1"));
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, BigInteger.class), is(new BigInteger("1")));
+    }
+    
+    @Test
+    public void assertGetValueByDouble() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.DOUBLE);
+        when(resultSet.getDouble(1)).thenReturn(1.5D);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, double.class), is(1.5D));
+    }
+    
+    @Test
+    public void assertGetValueByVarchar() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.VARCHAR);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getString(1)).thenReturn("foo", null, "foo");
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("foo"));
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, String.class));
+        assertTrue(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("foo"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueByTimestamp() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.TIMESTAMP);
+        Timestamp value = new Timestamp(1000L);
+        value.setNanos(123456789);
+        when(resultSet.getTimestamp(1)).thenReturn(value);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Timestamp.class), is(value));
+    }
+    
+    @Test
+    public void assertGetValueByDecimal() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.DECIMAL);
+        when(resultSet.getBigDecimal(1)).thenReturn(new BigDecimal("1.5"));
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, BigDecimal.class), is(new BigDecimal("1.5")));
+    }
+    
+    @Test
+    public void assertGetCalendarValue() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.SMALLINT);
+        when(resultSet.getInt(1)).thenReturn(1);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getCalendarValue(1, Integer.class, Calendar.getInstance()), is(1));
+    }
+    
+    private ResultSet getMockedResultSet(final int columnTypes) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, false);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(columnTypes);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        return result;
+    }
+}
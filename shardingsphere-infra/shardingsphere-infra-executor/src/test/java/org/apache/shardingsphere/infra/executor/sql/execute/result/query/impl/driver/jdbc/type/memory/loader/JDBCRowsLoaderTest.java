@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector.ColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector.ObjectColumnVector;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class JDBCRowsLoaderTest {
+    
+    @Test
+    public void assertLoadColumnVectorsWithRowBasedLoader() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getObject(1)).thenReturn(1L, null);
+        when(resultSet.getObject(2)).thenReturn("foo", "bar");
+        ColumnVector[] actual = new RowBasedJDBCRowsLoader().loadColumnVectors(2, resultSet);
+        assertThat(actual.length, is(2));
+        assertThat(actual[0], instanceOf(ObjectColumnVector.class));
+        assertThat(actual[0].size(), is(2));
+        assertThat(actual[0].getValue(0), is(1L));
+        assertTrue(actual[0].isNull(1));
+        assertFalse(actual[1].isNull(0));
+        assertThat(actual[1].getValue(1), is("bar"));
+    }
+    
+    private static final class RowBasedJDBCRowsLoader implements JDBCRowsLoader {
+        
+        @Override
+        public Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet) throws SQLException {
+            return resultSet.next() ? Collections.singletonList(loadRow(columnCount, resultSet)) : Collections.emptyList();
+        }
+        
+        @Override
+        public MemoryQueryResultDataRow loadRow(final int columnCount, final ResultSet resultSet) throws SQLException {
+            Object[] result = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                result[i] = resultSet.getObject(i + 1);
+            }
+            return new MemoryQueryResultDataRow(Arrays.asList(result));
+        }
+        
+        @Override
+        public String getType() {
+            return "FIXTURE";
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
+
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader.DialectJDBCRowsLoaderFactory;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class JDBCPrefetchStreamQueryResultTest {
+    
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    
+    @After
+    public void tearDown() {
+        executorService.shutdown();
+    }
+    
+    @Test
+    public void assertNext() throws SQLException {
+        JDBCPrefetchStreamQueryResult queryResult = createQueryResult(mockResultSet(), 2);
+        assertTrue(queryResult.next());
+        assertThat(queryResult.getValue(1, int.class), is(1));
+        assertTrue(queryResult.next());
+        assertThat(queryResult.getValue(1, int.class), is(2));
+        assertTrue(queryResult.next());
+        assertThat(queryResult.getValue(1, int.class), is(3));
+        assertFalse(queryResult.next());
+        assertFalse(queryResult.next());
+    }
+    
+    @Test
+    public void assertNextWithOnePrefetchRow() throws SQLException {
+        JDBCPrefetchStreamQueryResult queryResult = createQueryResult(mockResultSet(), 1);
+        int count = 0;
+        while (queryResult.next()) {
+            count++;
+        }
+        assertThat(count, is(3));
+    }
+    
+    @Test
+    public void assertPrefetchIsBounded() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        new JDBCPrefetchStreamQueryResult(resultSet, DialectJDBCRowsLoaderFactory.getInstance(new MySQLDatabaseType()), 2, Runnable::run);
+        verify(resultSet, times(2)).next();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithFetchException() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true).thenThrow(new SQLException("fetch failed"));
+        JDBCPrefetchStreamQueryResult queryResult = createQueryResult(resultSet, 4);
+        assertTrue(queryResult.next());
+        queryResult.next();
+    }
+    
+    @Test
+    public void assertWasNull() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.wasNull()).thenReturn(true);
+        JDBCPrefetchStreamQueryResult queryResult = createQueryResult(resultSet, 2);
+        assertTrue(queryResult.next());
+        queryResult.getValue(1, Object.class);
+        assertTrue(queryResult.wasNull());
+    }
+    
+    @Test
+    public void assertGetInputStream() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.getMetaData().getColumnType(1)).thenReturn(Types.VARBINARY);
+        when(resultSet.getBytes(1)).thenReturn(new byte[]{1});
+        JDBCPrefetchStreamQueryResult queryResult = createQueryResult(resultSet, 2);
+        assertTrue(queryResult.next());
+        InputStream actual = queryResult.getInputStream(1, "Binary");
+        assertTrue(actual instanceof ByteArrayInputStream);
+        assertThat(((ByteArrayInputStream) actual).read(), is(1));
+    }
+    
+    @Test
+    public void assertCancel() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true);
+        Statement statement = mock(Statement.class);
+        when(resultSet.getStatement()).thenReturn(statement);
+        createQueryResult(resultSet, 2).cancel();
+        verify(statement).cancel();
+    }
+    
+    @Test
+    public void assertCancelAfterExhausted() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        Statement statement = mock(Statement.class);
+        when(resultSet.getStatement()).thenReturn(statement);
+        JDBCPrefetchStreamQueryResult queryResult = createQueryResult(resultSet, 2);
+        while (queryResult.next()) {
+            queryResult.getValue(1, int.class);
+        }
+        queryResult.cancel();
+        verify(statement, never()).cancel();
+    }
+    
+    @Test
+    public void assertClose() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true);
+        JDBCPrefetchStreamQueryResult queryResult = createQueryResult(resultSet, 2);
+        assertTrue(queryResult.next());
+        queryResult.close();
+        verify(resultSet).close();
+        assertFalse(queryResult.next());
+    }
+    
+    private JDBCPrefetchStreamQueryResult createQueryResult(final ResultSet resultSet, final int prefetchRows) throws SQLException {
+        return new JDBCPrefetchStreamQueryResult(resultSet, DialectJDBCRowsLoaderFactory.getInstance(new MySQLDatabaseType()), prefetchRows, executorService);
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(metaData.isSigned(1)).thenReturn(true);
+        when(result.getMetaData()).thenReturn(metaData);
+        when(result.next()).thenReturn(true, true, true, false);
+        when(result.getInt(1)).thenReturn(1, 2, 3);
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class JDBCStreamQueryResultFactoryTest {
+    
+    @Test
+    public void assertNewInstanceWithPrefetchRows() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.KERNEL_STREAM_PREFETCH_ROWS.getKey(), "16");
+        assertThat(JDBCStreamQueryResultFactory.newInstance(mockResultSet(), new MySQLDatabaseType(), new ConfigurationProperties(props)), instanceOf(JDBCPrefetchStreamQueryResult.class));
+    }
+    
+    @Test
+    public void assertNewInstanceWithDefaultProperties() throws SQLException {
+        assertThat(JDBCStreamQueryResultFactory.newInstance(mockResultSet(), new MySQLDatabaseType(), new ConfigurationProperties(new Properties())), instanceOf(JDBCStreamQueryResult.class));
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        return result;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.vector;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DictionaryStringColumnVectorTest {
+    
+    @Test
+    public void assertAppend() {
+        DictionaryStringColumnVector actual = new DictionaryStringColumnVector();
+        for (int i = 0; i < 100; i++) {
+            actual.append(0 == i % 2 ? "foo" : "bar");
+        }
+        actual.append(null);
+        actual.trimToSize();
+        assertThat(actual.size(), is(101));
+        assertThat(actual.getDictionarySize(), is(2));
+        assertThat(actual.getCode(0), is(0));
+        assertThat(actual.getCode(1), is(1));
+        assertThat(actual.getValue(98), is("foo"));
+        assertThat(actual.getValue(99), is("bar"));
+        assertFalse(actual.isNull(99));
+        assertTrue(actual.isNull(100));
+        assertNull(actual.getValue(100));
+    }
+}
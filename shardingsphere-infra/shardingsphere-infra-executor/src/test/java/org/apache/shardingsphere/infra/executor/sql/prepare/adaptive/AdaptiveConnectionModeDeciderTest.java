@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.fixture.FixtureDataSource;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class AdaptiveConnectionModeDeciderTest {
+    
+    private static final String DATABASE_NAME = "foo_db";
+    
+    private static final String DATA_SOURCE_NAME = "foo_ds";
+    
+    @After
+    public void tearDown() {
+        ExecutionStatisticsRegistry.clear(DATABASE_NAME);
+    }
+    
+    @Test
+    public void assertDecideWithoutStatistics() {
+        AdaptiveConnectionModeDecision actual = createDecider(0, 10).decide(DATA_SOURCE_NAME, createSQLUnits(8), 2);
+        assertThat(actual.getConnectionSize(), is(2));
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(actual.getAverageRowCount(), is(-1D));
+        assertThat(ExecutionStatisticsRegistry.getLatestDecisions(DATABASE_NAME).get(DATA_SOURCE_NAME), is(actual));
+    }
+    
+    @Test
+    public void assertDecideWithoutDataSourcePoolMetaData() {
+        AdaptiveConnectionModeDecision actual = new AdaptiveConnectionModeDecider(DATABASE_NAME, Collections.emptyMap()).decide(DATA_SOURCE_NAME, createSQLUnits(8), 2);
+        assertThat(actual.getConnectionSize(), is(2));
+        assertThat(actual.getPoolSaturation(), is(-1D));
+        assertThat(actual.getAvailableConnectionSize(), is(-1));
+    }
+    
+    @Test
+    public void assertDecideForSmallAndSlowResults() {
+        recordStatistics(8, 2000000L, 10L);
+        AdaptiveConnectionModeDecision actual = createDecider(2, 10).decide(DATA_SOURCE_NAME, createSQLUnits(16), 2);
+        assertThat(actual.getConnectionSize(), is(2));
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(actual.getPoolSaturation(), is(0.2D));
+    }
+    
+    @Test
+    public void assertDecideForHugeResults() {
+        recordStatistics(8, 2000000L, 1000000L);
+        AdaptiveConnectionModeDecision actual = createDecider(2, 10).decide(DATA_SOURCE_NAME, createSQLUnits(8), 8);
+        assertThat(actual.getConnectionSize(), is(8));
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.MEMORY_STRICTLY));
+    }
+    
+    @Test
+    public void assertDecideWithSQLUnitSizeGreaterThanPoolSize() {
+        recordStatistics(16, 2000000L, 1000000L);
+        AdaptiveConnectionModeDecision actual = createDecider(0, 4).decide(DATA_SOURCE_NAME, createSQLUnits(16), 32);
+        assertThat(actual.getConnectionSize(), is(4));
+        assertThat(actual.getAvailableConnectionSize(), is(4));
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    @Test
+    public void assertDecideWithFewAvailableConnections() {
+        recordStatistics(8, 2000000L, 1000000L);
+        assertThat(createDecider(7, 10).decide(DATA_SOURCE_NAME, createSQLUnits(8), 8).getConnectionSize(), is(3));
+    }
+    
+    @Test
+    public void assertDecideWithoutAvailableConnections() {
+        assertThat(createDecider(10, 10).decide(DATA_SOURCE_NAME, createSQLUnits(8), 8).getConnectionSize(), is(1));
+    }
+    
+    @Test
+    public void assertDecideForSmallAndFastResultsWithSaturatedPool() {
+        recordStatistics(4, 1000L, 10L);
+        AdaptiveConnectionModeDecision actual = createDecider(9, 10).decide(DATA_SOURCE_NAME, createSQLUnits(4), 4);
+        assertThat(actual.getConnectionSize(), is(1));
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+        assertThat(actual.getPoolSaturation(), is(0.9D));
+    }
+    
+    private void recordStatistics(final int sqlUnitSize, final long latencyNanos, final long rowCount) {
+        for (SQLUnit each : createSQLUnits(sqlUnitSize)) {
+            ExecutionStatisticsRegistry.getOrRegister(DATABASE_NAME, DATA_SOURCE_NAME, each).record(latencyNanos, rowCount);
+        }
+    }
+    
+    private List<SQLUnit> createSQLUnits(final int size) {
+        List<SQLUnit> result = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            result.add(new SQLUnit(String.format("SELECT * FROM t_order_%d", i), Collections.emptyList()));
+        }
+        return result;
+    }
+    
+    private AdaptiveConnectionModeDecider createDecider(final int activeConnections, final int maximumPoolSize) {
+        return new AdaptiveConnectionModeDecider(DATABASE_NAME, Collections.singletonMap(DATA_SOURCE_NAME, new FixtureDataSource(activeConnections, maximumPoolSize)));
+    }
+}
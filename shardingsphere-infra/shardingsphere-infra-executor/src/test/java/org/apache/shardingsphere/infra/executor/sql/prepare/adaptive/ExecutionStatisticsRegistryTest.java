@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ExecutionStatisticsRegistryTest {
+    
+    @After
+    public void tearDown() {
+        ExecutionStatisticsRegistry.clear("foo_db");
+        ExecutionStatisticsRegistry.clear("bar_db");
+    }
+    
+    @Test
+    public void assertGetOrRegisterWithSameFingerprint() {
+        ExecutionStatistics expected = ExecutionStatisticsRegistry.getOrRegister("foo_db", "ds_0", createSQLUnit("SELECT * FROM t_order WHERE order_id = 1"));
+        assertThat(ExecutionStatisticsRegistry.getOrRegister("foo_db", "ds_0", createSQLUnit("SELECT * FROM t_order WHERE order_id = 10")), sameInstance(expected));
+    }
+    
+    @Test
+    public void assertGetOrRegisterWithSameDataSourceNameOfDifferentDatabases() {
+        ExecutionStatistics statistics = ExecutionStatisticsRegistry.getOrRegister("foo_db", "ds_0", createSQLUnit("SELECT * FROM t_order"));
+        assertThat(ExecutionStatisticsRegistry.getOrRegister("bar_db", "ds_0", createSQLUnit("SELECT * FROM t_order")), not(sameInstance(statistics)));
+    }
+    
+    @Test
+    public void assertFindBoundStatistics() {
+        SQLUnit sqlUnit = createSQLUnit("SELECT * FROM t_order");
+        ExecutionStatistics expected = ExecutionStatisticsRegistry.getOrRegister("foo_db", "ds_0", sqlUnit);
+        assertThat(ExecutionStatisticsRegistry.find(sqlUnit).orElse(null), sameInstance(expected));
+        assertFalse(ExecutionStatisticsRegistry.find(createSQLUnit("SELECT * FROM t_order")).isPresent());
+        assertFalse(ExecutionStatisticsRegistry.find(null).isPresent());
+    }
+    
+    @Test
+    public void assertClearDataSources() {
+        SQLUnit sqlUnit = createSQLUnit("SELECT * FROM t_order");
+        ExecutionStatistics statistics0 = ExecutionStatisticsRegistry.getOrRegister("foo_db", "ds_0", sqlUnit);
+        ExecutionStatistics statistics1 = ExecutionStatisticsRegistry.getOrRegister("foo_db", "ds_1", sqlUnit);
+        ExecutionStatisticsRegistry.clear("foo_db", Collections.singleton("ds_0"));
+        assertThat(ExecutionStatisticsRegistry.getOrRegister("foo_db", "ds_0", sqlUnit), not(sameInstance(statistics0)));
+        assertThat(ExecutionStatisticsRegistry.getOrRegister("foo_db", "ds_1", sqlUnit), sameInstance(statistics1));
+    }
+    
+    @Test
+    public void assertClearDatabase() {
+        AdaptiveConnectionModeDecision decision = new AdaptiveConnectionModeDecision("foo_db", "ds_0", 1, 1, -1D, -1D, -1D, -1, 1);
+        ExecutionStatisticsRegistry.recordDecision(decision);
+        assertThat(ExecutionStatisticsRegistry.getLatestDecisions("foo_db").get("ds_0"), is(decision));
+        assertTrue(ExecutionStatisticsRegistry.getLatestDecisions("bar_db").isEmpty());
+        ExecutionStatisticsRegistry.clear("foo_db");
+        assertTrue(ExecutionStatisticsRegistry.getLatestDecisions("foo_db").isEmpty());
+    }
+    
+    private SQLUnit createSQLUnit(final String sql) {
+        return new SQLUnit(sql, Collections.emptyList());
+    }
+}
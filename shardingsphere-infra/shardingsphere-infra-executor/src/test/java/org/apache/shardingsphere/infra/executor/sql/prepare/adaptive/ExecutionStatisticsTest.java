@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ExecutionStatisticsTest {
+    
+    @Test
+    public void assertGetAveragesWithoutRecord() {
+        ExecutionStatistics actual = new ExecutionStatistics();
+        assertThat(actual.getAverageLatencyNanos(), is(-1D));
+        assertThat(actual.getAverageRowCount(), is(-1D));
+    }
+    
+    @Test
+    public void assertRecord() {
+        ExecutionStatistics actual = new ExecutionStatistics();
+        actual.record(100L, 10L);
+        actual.record(200L, -1L);
+        actual.record(100L, 20L);
+        assertThat(actual.getAverageLatencyNanos(), is(116D));
+        assertThat(actual.getAverageRowCount(), is(12D));
+    }
+}
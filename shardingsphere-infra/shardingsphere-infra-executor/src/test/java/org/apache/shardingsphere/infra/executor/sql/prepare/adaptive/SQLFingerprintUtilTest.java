@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLFingerprintUtilTest {
+    
+    @Test
+    public void assertGetFingerprintWithLiterals() {
+        assertThat(SQLFingerprintUtil.getFingerprint("SELECT * FROM t_order_1 WHERE order_id = 10 AND status = 'it''s \\'ok'"),
+                is("SELECT * FROM t_order_1 WHERE order_id = ? AND status = ?"));
+    }
+    
+    @Test
+    public void assertGetFingerprintWithDecimalLiteral() {
+        assertThat(SQLFingerprintUtil.getFingerprint("SELECT price * 1.5 FROM t_order"), is("SELECT price * ? FROM t_order"));
+    }
+    
+    @Test
+    public void assertGetFingerprintWithInList() {
+        assertThat(SQLFingerprintUtil.getFingerprint("SELECT * FROM t_order WHERE order_id IN (1, 2,3) AND user_id IN (?, ?)"),
+                is("SELECT * FROM t_order WHERE order_id IN (?) AND user_id IN (?)"));
+    }
+    
+    @Test
+    public void assertGetFingerprintWithQuotedIdentifiers() {
+        assertThat(SQLFingerprintUtil.getFingerprint("SELECT `1`, \"2\" FROM t_order"), is("SELECT `1`, \"2\" FROM t_order"));
+    }
+    
+    @Test
+    public void assertGetFingerprintWithWhitespaces() {
+        assertThat(SQLFingerprintUtil.getFingerprint("  SELECT *\n\tFROM   t_order  "), is("SELECT * FROM t_order"));
+    }
+}
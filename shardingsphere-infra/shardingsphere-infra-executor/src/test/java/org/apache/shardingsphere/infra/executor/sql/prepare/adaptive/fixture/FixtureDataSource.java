@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.fixture;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.logging.Logger;
+
+@RequiredArgsConstructor
+@Getter
+public final class FixtureDataSource implements DataSource {
+    
+    private final int activeConnections;
+    
+    private final int maximumPoolSize;
+    
+    @Override
+    public Connection getConnection() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("getConnection");
+    }
+    
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("getConnection");
+    }
+    
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+    
+    @Override
+    public void setLogWriter(final PrintWriter out) {
+    }
+    
+    @Override
+    public void setLoginTimeout(final int seconds) {
+    }
+    
+    @Override
+    public int getLoginTimeout() {
+        return 0;
+    }
+    
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("getParentLogger");
+    }
+    
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("unwrap");
+    }
+    
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) {
+        return false;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.fixture;
+
+import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolFieldMetaData;
+import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolMetaData;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+public final class FixtureDataSourcePoolMetaData implements DataSourcePoolMetaData {
+    
+    @Override
+    public Map<String, Object> getDefaultProperties() {
+        return Collections.emptyMap();
+    }
+    
+    @Override
+    public Map<String, Object> getInvalidProperties() {
+        return Collections.emptyMap();
+    }
+    
+    @Override
+    public Map<String, String> getPropertySynonyms() {
+        return Collections.emptyMap();
+    }
+    
+    @Override
+    public Collection<String> getTransientFieldNames() {
+        return Collections.emptyList();
+    }
+    
+    @Override
+    public DataSourcePoolFieldMetaData getFieldMetaData() {
+        return null;
+    }
+    
+    @Override
+    public Optional<Double> getSaturation(final DataSource dataSource) {
+        return Optional.of((double) ((FixtureDataSource) dataSource).getActiveConnections() / ((FixtureDataSource) dataSource).getMaximumPoolSize());
+    }
+    
+    @Override
+    public Optional<Integer> getAvailableConnectionSize(final DataSource dataSource) {
+        return Optional.of(((FixtureDataSource) dataSource).getMaximumPoolSize() - ((FixtureDataSource) dataSource).getActiveConnections());
+    }
+    
+    @Override
+    public String getType() {
+        return FixtureDataSource.class.getName();
+    }
+}
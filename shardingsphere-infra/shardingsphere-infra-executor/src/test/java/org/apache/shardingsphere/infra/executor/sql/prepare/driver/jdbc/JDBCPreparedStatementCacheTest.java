@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class JDBCPreparedStatementCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order_0 WHERE order_id = ?";
+    
+    private final StatementOption option = new StatementOption(false);
+    
+    @Test
+    public void assertBorrowWhenDisabled() throws SQLException {
+        JDBCPreparedStatementCache cache = new JDBCPreparedStatementCache(0);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.register(connection, SQL, ConnectionMode.MEMORY_STRICTLY, option, statement);
+        assertFalse(cache.release(statement));
+        assertFalse(cache.borrow(connection, SQL, ConnectionMode.MEMORY_STRICTLY, option).isPresent());
+    }
+    
+    @Test
+    public void assertBorrowReleasedStatement() throws SQLException {
+        JDBCPreparedStatementCache cache = new JDBCPreparedStatementCache(8);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(statement.getResultSet()).thenReturn(resultSet);
+        cache.register(connection, SQL, ConnectionMode.MEMORY_STRICTLY, option, statement);
+        assertTrue(cache.release(statement));
+        verify(resultSet).close();
+        verify(statement).clearParameters();
+        verify(statement).clearBatch();
+        Optional<PreparedStatement> actual = cache.borrow(connection, SQL, ConnectionMode.MEMORY_STRICTLY, option);
+        assertTrue(actual.isPresent());
+        assertSame(statement, actual.get());
+        assertFalse(cache.borrow(connection, SQL, ConnectionMode.MEMORY_STRICTLY, option).isPresent());
+    }
+    
+    @Test
+    public void assertReleaseWithChangedStatementSettings() throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.getMaxRows()).thenReturn(0, 10);
+        when(statement.getFetchSize()).thenReturn(0, 100);
+        when(statement.getQueryTimeout()).thenReturn(0, 30);
+        when(statement.getFetchDirection()).thenReturn(ResultSet.FETCH_FORWARD, ResultSet.FETCH_REVERSE);
+        JDBCPreparedStatementCache cache = new JDBCPreparedStatementCache(8);
+        cache.register(mock(Connection.class), SQL, ConnectionMode.MEMORY_STRICTLY, option, statement);
+        assertTrue(cache.release(statement));
+        verify(statement).setMaxRows(0);
+        verify(statement).setFetchSize(0);
+        verify(statement).setQueryTimeout(0);
+        verify(statement).setFetchDirection(ResultSet.FETCH_FORWARD);
+    }
+    
+    @Test
+    public void assertReleaseWithUnchangedStatementSettings() throws SQLException {
+        JDBCPreparedStatementCache cache = new JDBCPreparedStatementCache(8);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.register(mock(Connection.class), SQL, ConnectionMode.MEMORY_STRICTLY, option, statement);
+        assertTrue(cache.release(statement));
+        verify(statement, never()).setMaxRows(anyInt());
+        verify(statement, never()).setFetchSize(anyInt());
+        verify(statement, never()).setQueryTimeout(anyInt());
+        verify(statement, never()).setFetchDirection(anyInt());
+    }
+    
+    @Test
+    public void assertBorrowWithDifferentKey() throws SQLException {
+        JDBCPreparedStatementCache cache = new JDBCPreparedStatementCache(8);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.register(connection, SQL, ConnectionMode.MEMORY_STRICTLY, option, statement);
+        assertTrue(cache.release(statement));
+        assertFalse(cache.borrow(connection, SQL, ConnectionMode.CONNECTION_STRICTLY, option).isPresent());
+        assertFalse(cache.borrow(connection, SQL, ConnectionMode.MEMORY_STRICTLY, new StatementOption(true)).isPresent());
+        assertFalse(cache.borrow(mock(Connection.class), SQL, ConnectionMode.MEMORY_STRICTLY, option).isPresent());
+    }
+    
+    @Test
+    public void assertReleaseWithEviction() throws SQLException {
+        JDBCPreparedStatementCache cache = new JDBCPreparedStatementCache(1);
+        Connection connection = mock(Connection.class);
+        PreparedStatement eldestStatement = mock(PreparedStatement.class);
+        PreparedStatement latestStatement = mock(PreparedStatement.class);
+        cache.register(connection, SQL, ConnectionMode.MEMORY_STRICTLY, option, eldestStatement);
+        cache.register(connection, "SELECT * FROM t_order_1", ConnectionMode.MEMORY_STRICTLY, option, latestStatement);
+        assertTrue(cache.release(eldestStatement));
+        assertTrue(cache.release(latestStatement));
+        verify(eldestStatement).close();
+        verify(latestStatement, never()).close();
+        assertFalse(cache.borrow(connection, SQL, ConnectionMode.MEMORY_STRICTLY, option).isPresent());
+    }
+    
+    @Test
+    public void assertReleaseWhenConnectionClosed() throws SQLException {
+        JDBCPreparedStatementCache cache = new JDBCPreparedStatementCache(8);
+        Connection connection = mock(Connection.class);
+        when(connection.isClosed()).thenReturn(true);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.register(connection, SQL, ConnectionMode.MEMORY_STRICTLY, option, statement);
+        assertTrue(cache.release(statement));
+        assertFalse(cache.borrow(connection, SQL, ConnectionMode.MEMORY_STRICTLY, option).isPresent());
+    }
+    
+    @Test
+    public void assertInvalidate() throws SQLException {
+        JDBCPreparedStatementCache cache = new JDBCPreparedStatementCache(8);
+        Connection connection = mock(Connection.class);
+        PreparedStatement idleStatement = mock(PreparedStatement.class);
+        PreparedStatement borrowedStatement = mock(PreparedStatement.class);
+        cache.register(connection, SQL, ConnectionMode.MEMORY_STRICTLY, option, idleStatement);
+        cache.register(connection, SQL, ConnectionMode.CONNECTION_STRICTLY, option, borrowedStatement);
+        assertTrue(cache.release(idleStatement));
+        cache.invalidate(connection);
+        verify(idleStatement).close();
+        assertFalse(cache.release(borrowedStatement));
+        assertFalse(cache.borrow(connection, SQL, ConnectionMode.MEMORY_STRICTLY, option).isPresent());
+    }
+    
+    @Test
+    public void assertClose() throws SQLException {
+        JDBCPreparedStatementCache cache = new JDBCPreparedStatementCache(8);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        cache.register(mock(Connection.class), SQL, ConnectionMode.MEMORY_STRICTLY, option, statement);
+        assertTrue(cache.release(statement));
+        cache.close();
+        verify(statement).close();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver.vertx.builder;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class DollarParameterMarkerConverterTest {
+    
+    @Test
+    public void assertConvertWithoutParameterMarker() {
+        String sql = "SELECT * FROM t_order";
+        assertThat(DollarParameterMarkerConverter.convert(sql), is(sql));
+    }
+    
+    @Test
+    public void assertConvertParameterMarkers() {
+        assertThat(DollarParameterMarkerConverter.convert("SELECT * FROM t_order WHERE user_id = ? AND order_id IN (?, ?)"),
+                is("SELECT * FROM t_order WHERE user_id = $1 AND order_id IN ($2, $3)"));
+    }
+    
+    @Test
+    public void assertConvertWithQuotedParameterMarkers() {
+        assertThat(DollarParameterMarkerConverter.convert("SELECT '?', 'it''s ?', E'\\'?', \"col?\" FROM t_order WHERE status = ?"),
+                is("SELECT '?', 'it''s ?', E'\\'?', \"col?\" FROM t_order WHERE status = $1"));
+    }
+    
+    @Test
+    public void assertConvertWithCommentedParameterMarkers() {
+        assertThat(DollarParameterMarkerConverter.convert("SELECT /* ? */ * FROM t_order -- ?\nWHERE user_id = ?"), is("SELECT /* ? */ * FROM t_order -- ?\nWHERE user_id = $1"));
+    }
+    
+    @Test
+    public void assertConvertWithDollarQuotedParameterMarkers() {
+        assertThat(DollarParameterMarkerConverter.convert("SELECT $$?$$, $tag$ ? $tag$, ? FROM t_order"), is("SELECT $$?$$, $tag$ ? $tag$, $1 FROM t_order"));
+    }
+}
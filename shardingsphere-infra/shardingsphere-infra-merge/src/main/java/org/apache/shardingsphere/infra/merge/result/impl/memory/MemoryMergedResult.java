@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
+import lombok.AccessLevel;
+import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.Blob;
@@ -36,29 +40,49 @@ import java.util.List;
 
 /**
  * Memory merged result.
+ * 
+ * <p>Memory budget is estimated heap bytes which rows of merged result can hold, less than or equal to 0 means no limitation.</p>
  *
  * @param <T> type of rule
  */
 public abstract class MemoryMergedResult<T extends ShardingSphereRule> implements MergedResult {
     
+    @Getter(AccessLevel.PROTECTED)
+    private final long memoryBudgetBytes;
+    
+    private final Iterable<MemoryQueryResultRow> memoryResultSetRowsSource;
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
     private MemoryQueryResultRow currentResultSetRow;
     
+    private boolean firstRowPending;
+    
     private boolean wasNull;
     
     protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
-        List<MemoryQueryResultRow> memoryQueryResultRows = init(rule, schema, sqlStatementContext, queryResults);
-        memoryResultSetRows = memoryQueryResultRows.iterator();
-        if (!memoryQueryResultRows.isEmpty()) {
-            currentResultSetRow = memoryQueryResultRows.get(0);
+        this(rule, schema, sqlStatementContext, queryResults, 0L);
+    }
+    
+    protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults,
+                                 final long memoryBudgetBytes) throws SQLException {
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        memoryResultSetRowsSource = init(rule, schema, sqlStatementContext, queryResults);
+        memoryResultSetRows = memoryResultSetRowsSource.iterator();
+        if (memoryResultSetRows.hasNext()) {
+            currentResultSetRow = memoryResultSetRows.next();
+            firstRowPending = true;
         }
     }
     
-    protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext<?> sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
+    protected abstract Iterable<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext<?> sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
     
     @Override
     public final boolean next() {
+        if (firstRowPending) {
+            firstRowPending = false;
+            return true;
+        }
         if (memoryResultSetRows.hasNext()) {
             currentResultSetRow = memoryResultSetRows.next();
             return true;
@@ -93,4 +117,15 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public void close() throws SQLException {
+        if (memoryResultSetRowsSource instanceof Closeable) {
+            try {
+                ((Closeable) memoryResultSetRowsSource).close();
+            } catch (final IOException ex) {
+                throw new SQLException(ex);
+            }
+        }
+    }
 }
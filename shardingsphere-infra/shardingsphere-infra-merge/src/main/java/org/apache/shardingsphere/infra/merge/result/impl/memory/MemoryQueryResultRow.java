@@ -18,25 +18,44 @@
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
 import com.google.common.base.Preconditions;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.AbstractColumnarMemoryQueryResult;
 
 import java.sql.SQLException;
 
 /**
  * Memory query result row.
  */
-@RequiredArgsConstructor
 public final class MemoryQueryResultRow {
     
-    private final Object[] data;
+    private final int columnCount;
+    
+    private final AbstractColumnarMemoryQueryResult columnarQueryResult;
+    
+    private final int rowIndex;
+    
+    private Object[] data;
+    
+    public MemoryQueryResultRow(final Object[] data) {
+        columnCount = data.length;
+        columnarQueryResult = null;
+        rowIndex = -1;
+        this.data = data;
+    }
     
     public MemoryQueryResultRow(final QueryResult queryResult) throws SQLException {
-        data = load(queryResult);
+        columnCount = queryResult.getMetaData().getColumnCount();
+        if (queryResult instanceof AbstractColumnarMemoryQueryResult) {
+            columnarQueryResult = (AbstractColumnarMemoryQueryResult) queryResult;
+            rowIndex = columnarQueryResult.getCurrentRowIndex();
+        } else {
+            columnarQueryResult = null;
+            rowIndex = -1;
+            data = load(queryResult);
+        }
     }
     
     private Object[] load(final QueryResult queryResult) throws SQLException {
-        int columnCount = queryResult.getMetaData().getColumnCount();
         Object[] result = new Object[columnCount];
         for (int i = 0; i < columnCount; i++) {
             result[i] = queryResult.getValue(i + 1, Object.class);
@@ -51,8 +70,50 @@ public final class MemoryQueryResultRow {
      * @return data from cell
      */
     public Object getCell(final int columnIndex) {
-        Preconditions.checkArgument(columnIndex > 0 && columnIndex < data.length + 1);
-        return data[columnIndex - 1];
+        Preconditions.checkArgument(columnIndex > 0 && columnIndex < columnCount + 1);
+        return null == data ? columnarQueryResult.getColumnVector(columnIndex).getValue(rowIndex) : data[columnIndex - 1];
+    }
+    
+    /**
+     * Judge whether cell is not null integral value of columnar query result, which can be got by {@link #getLongCell(int)} without boxing.
+     *
+     * @param columnIndex column index
+     * @return cell is not null integral value of columnar query result or not
+     */
+    public boolean isLongCell(final int columnIndex) {
+        Preconditions.checkArgument(columnIndex > 0 && columnIndex < columnCount + 1);
+        return null == data && columnarQueryResult.isLong(columnIndex, rowIndex);
+    }
+    
+    /**
+     * Get long data from cell without boxing.
+     *
+     * @param columnIndex column index
+     * @return long data from cell
+     */
+    public long getLongCell(final int columnIndex) {
+        return columnarQueryResult.getLong(columnIndex, rowIndex);
+    }
+    
+    /**
+     * Judge whether cell is not null floating point value of columnar query result, which can be got by {@link #getDoubleCell(int)} without boxing.
+     *
+     * @param columnIndex column index
+     * @return cell is not null floating point value of columnar query result or not
+     */
+    public boolean isDoubleCell(final int columnIndex) {
+        Preconditions.checkArgument(columnIndex > 0 && columnIndex < columnCount + 1);
+        return null == data && columnarQueryResult.isDouble(columnIndex, rowIndex);
+    }
+    
+    /**
+     * Get double data from cell without boxing.
+     *
+     * @param columnIndex column index
+     * @return double data from cell
+     */
+    public double getDoubleCell(final int columnIndex) {
+        return columnarQueryResult.getDouble(columnIndex, rowIndex);
     }
     
     /**
@@ -62,7 +123,18 @@ public final class MemoryQueryResultRow {
      * @param value data for cell
      */
     public void setCell(final int columnIndex, final Object value) {
-        Preconditions.checkArgument(columnIndex > 0 && columnIndex < data.length + 1);
+        Preconditions.checkArgument(columnIndex > 0 && columnIndex < columnCount + 1);
+        if (null == data) {
+            data = loadColumnarRow();
+        }
         data[columnIndex - 1] = value;
     }
+    
+    private Object[] loadColumnarRow() {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = columnarQueryResult.getColumnVector(i + 1).getValue(rowIndex);
+        }
+        return result;
+    }
 }
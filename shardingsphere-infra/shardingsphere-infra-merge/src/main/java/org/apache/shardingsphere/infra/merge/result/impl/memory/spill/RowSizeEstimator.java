@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+/**
+ * Estimator of heap size of memory query result row.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RowSizeEstimator {
+    
+    private static final long ROW_OVERHEAD_BYTES = 32L;
+    
+    private static final long REFERENCE_BYTES = 8L;
+    
+    private static final long BOXED_VALUE_BYTES = 24L;
+    
+    private static final long OBJECT_VALUE_BYTES = 48L;
+    
+    /**
+     * Estimate heap size of row.
+     *
+     * @param row memory query result row
+     * @param columnCount column count
+     * @return estimated bytes
+     */
+    public static long estimate(final MemoryQueryResultRow row, final int columnCount) {
+        long result = ROW_OVERHEAD_BYTES;
+        for (int i = 1; i <= columnCount; i++) {
+            result += REFERENCE_BYTES + estimate(row.getCell(i));
+        }
+        return result;
+    }
+    
+    private static long estimate(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return OBJECT_VALUE_BYTES + ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return BOXED_VALUE_BYTES + ((byte[]) value).length;
+        }
+        return value instanceof Number || value instanceof Boolean ? BOXED_VALUE_BYTES : OBJECT_VALUE_BYTES;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Memory query result rows merged from sorted runs of spill files.
+ * 
+ * <p>Spill files are deleted once all of their rows are read, or when the rows are closed.</p>
+ */
+public final class SortedRunsMergedRows implements Iterable<MemoryQueryResultRow>, Closeable {
+    
+    private final Collection<SpillFile> sortedRuns;
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private boolean iterated;
+    
+    public SortedRunsMergedRows(final Collection<SpillFile> sortedRuns, final Comparator<MemoryQueryResultRow> comparator) {
+        this.sortedRuns = sortedRuns;
+        this.comparator = comparator;
+    }
+    
+    @SneakyThrows(IOException.class)
+    @Override
+    public Iterator<MemoryQueryResultRow> iterator() {
+        Preconditions.checkState(!iterated, "Sorted runs can only be iterated once.");
+        iterated = true;
+        PriorityQueue<SortedRunCursor> cursors = new PriorityQueue<>(Math.max(1, sortedRuns.size()), (o1, o2) -> comparator.compare(o1.currentRow, o2.currentRow));
+        for (SpillFile each : sortedRuns) {
+            SortedRunCursor cursor = new SortedRunCursor(each, each.openReader());
+            if (cursor.next()) {
+                cursors.offer(cursor);
+            }
+        }
+        return new SortedRunsIterator(cursors);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        for (SpillFile each : sortedRuns) {
+            each.delete();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class SortedRunsIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private final PriorityQueue<SortedRunCursor> cursors;
+        
+        @Override
+        public boolean hasNext() {
+            return !cursors.isEmpty();
+        }
+        
+        @SneakyThrows(IOException.class)
+        @Override
+        public MemoryQueryResultRow next() {
+            SortedRunCursor cursor = cursors.poll();
+            if (null == cursor) {
+                throw new NoSuchElementException();
+            }
+            MemoryQueryResultRow result = cursor.currentRow;
+            if (cursor.next()) {
+                cursors.offer(cursor);
+            }
+            if (cursors.isEmpty()) {
+                close();
+            }
+            return result;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SortedRunCursor {
+        
+        private final SpillFile spillFile;
+        
+        private final SpillFileReader reader;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        private boolean next() throws IOException {
+            Object[] row = reader.read();
+            if (null == row) {
+                spillFile.delete();
+                return false;
+            }
+            currentRow = new MemoryQueryResultRow(row);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import lombok.Getter;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Spill file, which holds rows of memory merge in local temporary file.
+ */
+public final class SpillFile {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final File file;
+    
+    private DataOutputStream output;
+    
+    private SpillFileReader reader;
+    
+    @Getter
+    private int rowCount;
+    
+    public SpillFile() throws IOException {
+        file = File.createTempFile("shardingsphere-merge-", ".spill");
+        file.deleteOnExit();
+        output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] row) throws IOException {
+        SpillRowFormat.writeRow(output, row);
+        rowCount++;
+    }
+    
+    /**
+     * Finish writing.
+     *
+     * @return spilled bytes
+     * @throws IOException IO exception
+     */
+    public long finish() throws IOException {
+        output.writeInt(SpillRowFormat.END_OF_ROWS);
+        output.close();
+        long result = output.size();
+        output = null;
+        return result;
+    }
+    
+    /**
+     * Open reader of finished spill file.
+     *
+     * @return spill file reader
+     * @throws IOException IO exception
+     */
+    public SpillFileReader openReader() throws IOException {
+        reader = new SpillFileReader(file, BUFFER_SIZE);
+        return reader;
+    }
+    
+    /**
+     * Delete spill file.
+     *
+     * @throws IOException IO exception
+     */
+    public void delete() throws IOException {
+        if (null != output) {
+            output.close();
+            output = null;
+        }
+        if (null != reader) {
+            reader.close();
+            reader = null;
+        }
+        Files.deleteIfExists(file.toPath());
+    }
+}
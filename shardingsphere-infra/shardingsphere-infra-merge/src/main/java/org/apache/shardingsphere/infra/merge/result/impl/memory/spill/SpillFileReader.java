@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Spill file reader.
+ */
+public final class SpillFileReader implements Closeable {
+    
+    private final DataInputStream input;
+    
+    SpillFileReader(final File file, final int bufferSize) throws IOException {
+        input = new DataInputStream(new BufferedInputStream(new FileInputStream(file), bufferSize));
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return next row, null if no more rows
+     * @throws IOException IO exception
+     */
+    public Object[] read() throws IOException {
+        return SpillRowFormat.readRow(input);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
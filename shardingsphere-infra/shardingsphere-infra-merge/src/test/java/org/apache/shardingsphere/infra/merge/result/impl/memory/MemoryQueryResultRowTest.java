@@ -17,14 +17,22 @@
 
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCColumnarMemoryQueryResult;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -71,4 +79,62 @@ public final class MemoryQueryResultRowTest {
     public void assertSetCellWithColumnIndexOutOfRange() {
         memoryResultSetRow.setCell(2, "new");
     }
+    
+    @Test
+    public void assertGetAndSetCellWithColumnarQueryResult() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L);
+        when(resultSet.getString(2)).thenReturn("foo", null);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(resultSetMetaData.isSigned(1)).thenReturn(true);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        QueryResult queryResult = new JDBCColumnarMemoryQueryResult(resultSet, new MySQLDatabaseType());
+        queryResult.next();
+        MemoryQueryResultRow firstRow = new MemoryQueryResultRow(queryResult);
+        queryResult.next();
+        MemoryQueryResultRow secondRow = new MemoryQueryResultRow(queryResult);
+        assertThat(firstRow.getCell(1), is(1L));
+        assertThat(firstRow.getCell(2), is("foo"));
+        assertThat(secondRow.getCell(1), is(2L));
+        assertNull(secondRow.getCell(2));
+        secondRow.setCell(2, "bar");
+        assertThat(secondRow.getCell(1), is(2L));
+        assertThat(secondRow.getCell(2), is("bar"));
+    }
+    
+    @Test
+    public void assertGetPrimitiveCellWithColumnarQueryResult() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getInt(1)).thenReturn(1, 0);
+        when(resultSet.wasNull()).thenReturn(false, false, true, false);
+        when(resultSet.getDouble(2)).thenReturn(1.5D, 2.5D);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(resultSetMetaData.isSigned(1)).thenReturn(true);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.DOUBLE);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        QueryResult queryResult = new JDBCColumnarMemoryQueryResult(resultSet, new MySQLDatabaseType());
+        queryResult.next();
+        MemoryQueryResultRow firstRow = new MemoryQueryResultRow(queryResult);
+        assertTrue(firstRow.isLongCell(1));
+        assertThat(firstRow.getLongCell(1), is(1L));
+        assertFalse(firstRow.isDoubleCell(1));
+        assertTrue(firstRow.isDoubleCell(2));
+        assertThat(firstRow.getDoubleCell(2), is(1.5D));
+        assertFalse(firstRow.isLongCell(2));
+        queryResult.next();
+        MemoryQueryResultRow secondRow = new MemoryQueryResultRow(queryResult);
+        assertFalse(secondRow.isLongCell(1));
+        assertTrue(secondRow.isDoubleCell(2));
+        assertThat(secondRow.getDoubleCell(2), is(2.5D));
+        secondRow.setCell(2, 3.5D);
+        assertFalse(secondRow.isDoubleCell(2));
+        assertFalse(memoryResultSetRow.isLongCell(1));
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SortedRunsMergedRowsTest {
+    
+    @Test
+    public void assertIterator() throws IOException {
+        Comparator<MemoryQueryResultRow> comparator = Comparator.comparing(each -> (Integer) each.getCell(1));
+        Iterator<MemoryQueryResultRow> actual = new SortedRunsMergedRows(Arrays.asList(createSortedRun(1, 4, 5), createSortedRun(), createSortedRun(2, 3, 6)), comparator).iterator();
+        for (int i = 1; i <= 6; i++) {
+            assertTrue(actual.hasNext());
+            assertThat(actual.next().getCell(1), is(i));
+        }
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertIteratorTwice() throws IOException {
+        SortedRunsMergedRows actual = new SortedRunsMergedRows(Arrays.asList(createSortedRun(1)), Comparator.comparing(each -> (Integer) each.getCell(1)));
+        actual.iterator();
+        actual.iterator();
+    }
+    
+    @Test(expected = IOException.class)
+    public void assertCloseBeforeFullyRead() throws IOException {
+        SpillFile sortedRun = createSortedRun(1, 2);
+        SortedRunsMergedRows actual = new SortedRunsMergedRows(Arrays.asList(sortedRun, createSortedRun(3)), Comparator.comparing(each -> (Integer) each.getCell(1)));
+        Iterator<MemoryQueryResultRow> rows = actual.iterator();
+        assertThat(rows.next().getCell(1), is(1));
+        actual.close();
+        sortedRun.openReader();
+    }
+    
+    private SpillFile createSortedRun(final int... values) throws IOException {
+        SpillFile result = new SpillFile();
+        for (int each : values) {
+            result.write(new Object[]{each});
+        }
+        result.finish();
+        return result;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillFileTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] row = {null, true, (byte) 1, (short) 2, 3, 4L, 5.5F, 6.5D, new BigDecimal("7.50"), new BigInteger("8"), "foo", new byte[]{9},
+                new Date(10L), new Time(11L), timestamp, LocalDate.of(2022, 1, 1)};
+        SpillFile spillFile = new SpillFile();
+        try {
+            spillFile.write(row);
+            spillFile.write(new Object[]{"bar"});
+            assertTrue(spillFile.finish() > 0L);
+            assertThat(spillFile.getRowCount(), is(2));
+            SpillFileReader reader = spillFile.openReader();
+            assertThat(reader.read(), is(row));
+            assertThat(reader.read(), is(new Object[]{"bar"}));
+            assertNull(reader.read());
+        } finally {
+            spillFile.delete();
+        }
+    }
+}
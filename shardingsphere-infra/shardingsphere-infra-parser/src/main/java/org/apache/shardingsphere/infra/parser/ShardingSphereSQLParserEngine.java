@@ -22,10 +22,13 @@ import org.apache.shardingsphere.distsql.parser.engine.api.DistSQLStatementParse
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLFingerprintParserEngine;
 import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
+import java.util.Optional;
+
 /**
  * ShardingSphere SQL parser engine.
  */
@@ -36,8 +39,13 @@ public final class ShardingSphereSQLParserEngine {
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
     
     public ShardingSphereSQLParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+        this(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, false);
+    }
+    
+    public ShardingSphereSQLParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                         final boolean isParseComment, final boolean isSQLFingerprintCacheEnabled) {
         sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(
-                databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment);
+                databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, isSQLFingerprintCacheEnabled);
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
     }
     
@@ -65,4 +73,13 @@ public final class ShardingSphereSQLParserEngine {
             }
         }
     }
+    
+    /**
+     * Get SQL fingerprint parser engine.
+     *
+     * @return SQL fingerprint parser engine, empty if SQL fingerprint cache is disabled
+     */
+    public Optional<SQLFingerprintParserEngine> getSQLFingerprintParserEngine() {
+        return sqlStatementParserEngine.getSQLFingerprintParserEngine();
+    }
 }
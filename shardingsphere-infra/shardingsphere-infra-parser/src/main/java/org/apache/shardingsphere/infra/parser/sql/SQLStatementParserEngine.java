@@ -20,8 +20,11 @@ package org.apache.shardingsphere.infra.parser.sql;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLFingerprintParserEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Optional;
+
 /**
  * SQL statement parser engine.
  */
@@ -32,7 +35,12 @@ public final class SQLStatementParserEngine {
     private final LoadingCache<String, SQLStatement> sqlStatementCache;
     
     public SQLStatementParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, isParseComment);
+        this(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, false);
+    }
+    
+    public SQLStatementParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                    final boolean isParseComment, final boolean isSQLFingerprintCacheEnabled) {
+        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, isParseComment, isSQLFingerprintCacheEnabled);
         sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment);
     }
     
@@ -46,4 +54,13 @@ public final class SQLStatementParserEngine {
     public SQLStatement parse(final String sql, final boolean useCache) {
         return useCache ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
     }
+    
+    /**
+     * Get SQL fingerprint parser engine.
+     *
+     * @return SQL fingerprint parser engine, empty if SQL fingerprint cache is disabled
+     */
+    public Optional<SQLFingerprintParserEngine> getSQLFingerprintParserEngine() {
+        return sqlStatementParserExecutor.getSQLFingerprintParserEngine();
+    }
 }
@@ -43,9 +43,24 @@ public final class SQLStatementParserEngineFactory {
      */
     public static SQLStatementParserEngine getSQLStatementParserEngine(final String databaseType,
                                                                        final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+        return getSQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, false);
+    }
+    
+    /**
+     * Get SQL statement parser engine.
+     *
+     * @param databaseType name of database type
+     * @param sqlStatementCacheOption SQL statement cache option
+     * @param parseTreeCacheOption parse tree cache option
+     * @param isParseComment is parse comment
+     * @param isSQLFingerprintCacheEnabled is SQL fingerprint cache enabled
+     * @return SQL statement parser engine
+     */
+    public static SQLStatementParserEngine getSQLStatementParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                                                       final boolean isParseComment, final boolean isSQLFingerprintCacheEnabled) {
         SQLStatementParserEngine result = ENGINES.get(databaseType);
         if (null == result) {
-            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, isParseComment));
+            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, isSQLFingerprintCacheEnabled));
         }
         return result;
     }
@@ -18,10 +18,12 @@
 package org.apache.shardingsphere.infra.parser.sql;
 
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLFingerprintParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -33,9 +35,16 @@ public final class SQLStatementParserExecutor {
     
     private final SQLVisitorEngine visitorEngine;
     
+    private final SQLFingerprintParserEngine sqlFingerprintParserEngine;
+    
     public SQLStatementParserExecutor(final String databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+        this(databaseType, parseTreeCacheOption, isParseComment, false);
+    }
+    
+    public SQLStatementParserExecutor(final String databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment, final boolean isSQLFingerprintCacheEnabled) {
         parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
         visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", isParseComment, new Properties());
+        sqlFingerprintParserEngine = isSQLFingerprintCacheEnabled ? new SQLFingerprintParserEngine(databaseType, parseTreeCacheOption) : null;
     }
     
     /**
@@ -45,6 +54,15 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        return visitorEngine.visit(parserEngine.parse(sql, false));
+        return null == sqlFingerprintParserEngine ? visitorEngine.visit(parserEngine.parse(sql, false)) : sqlFingerprintParserEngine.parse(sql, visitorEngine);
+    }
+    
+    /**
+     * Get SQL fingerprint parser engine.
+     *
+     * @return SQL fingerprint parser engine, empty if SQL fingerprint cache is disabled
+     */
+    public Optional<SQLFingerprintParserEngine> getSQLFingerprintParserEngine() {
+        return Optional.ofNullable(sqlFingerprintParserEngine);
     }
 }
@@ -29,6 +29,8 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilde
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.ParameterFilterable;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -85,7 +87,7 @@ public final class RouteSQLRewriteEngine {
             if (containsDollarMarker && !parameters.isEmpty()) {
                 continue;
             }
-            parameters.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each));
+            parameters.addAll(getParameters(sqlRewriteContext, routeContext, each));
         }
         return new SQLRewriteUnit(String.join(" UNION ALL ", sql), parameters);
     }
@@ -93,7 +95,7 @@ public final class RouteSQLRewriteEngine {
     private void addSQLRewriteUnits(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits, final SQLRewriteContext sqlRewriteContext,
                                     final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
         for (RouteUnit each : routeUnits) {
-            sqlRewriteUnits.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each)));
+            sqlRewriteUnits.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext, routeContext, each)));
         }
     }
     
@@ -119,15 +121,26 @@ public final class RouteSQLRewriteEngine {
         return result;
     }
     
-    private List<Object> getParameters(final ParameterBuilder parameterBuilder, final RouteContext routeContext, final RouteUnit routeUnit) {
+    private List<Object> getParameters(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final RouteUnit routeUnit) {
+        ParameterBuilder parameterBuilder = sqlRewriteContext.getParameterBuilder();
         if (parameterBuilder instanceof StandardParameterBuilder) {
-            return parameterBuilder.getParameters();
+            return ((StandardParameterBuilder) parameterBuilder).getParameters(getFilteredParameterIndexes(sqlRewriteContext.getSqlTokens(), routeUnit));
         }
         return routeContext.getOriginalDataNodes().isEmpty()
                 ? ((GroupedParameterBuilder) parameterBuilder).getParameters()
                 : buildRouteParameters((GroupedParameterBuilder) parameterBuilder, routeContext, routeUnit);
     }
     
+    private Collection<Integer> getFilteredParameterIndexes(final Collection<SQLToken> sqlTokens, final RouteUnit routeUnit) {
+        Collection<Integer> result = new LinkedList<>();
+        for (SQLToken each : sqlTokens) {
+            if (each instanceof ParameterFilterable) {
+                result.addAll(((ParameterFilterable) each).getRemovedParameterIndexes(routeUnit));
+            }
+        }
+        return result;
+    }
+    
     private List<Object> buildRouteParameters(final GroupedParameterBuilder parameterBuilder, final RouteContext routeContext, final RouteUnit routeUnit) {
         List<Object> result = new LinkedList<>();
         int count = 0;
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilde
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -36,6 +37,8 @@ import java.util.TreeMap;
 @RequiredArgsConstructor
 public final class StandardParameterBuilder implements ParameterBuilder {
     
+    private static final Object FILTERED_PARAMETER = new Object();
+    
     private final List<Object> originalParameters;
     
     @Getter
@@ -76,10 +79,23 @@ public final class StandardParameterBuilder implements ParameterBuilder {
     
     @Override
     public List<Object> getParameters() {
+        return getParameters(Collections.emptyList());
+    }
+    
+    /**
+     * Get parameters without filtered parameters.
+     *
+     * @param filteredIndexes original parameter indexes to be filtered
+     * @return parameters
+     */
+    public List<Object> getParameters(final Collection<Integer> filteredIndexes) {
         List<Object> result = new LinkedList<>(originalParameters);
         for (Entry<Integer, Object> entry : replacedIndexAndParameters.entrySet()) {
             result.set(entry.getKey(), entry.getValue());
         }
+        for (int each : filteredIndexes) {
+            result.set(each, FILTERED_PARAMETER);
+        }
         for (Entry<Integer, Collection<Object>> entry : ((TreeMap<Integer, Collection<Object>>) addedIndexAndParameters).descendingMap().entrySet()) {
             if (entry.getKey() > result.size()) {
                 result.addAll(entry.getValue());
@@ -90,6 +106,9 @@ public final class StandardParameterBuilder implements ParameterBuilder {
         for (int index : removeIndexAndParameters) {
             result.remove(index);
         }
+        if (!filteredIndexes.isEmpty()) {
+            result.removeIf(each -> FILTERED_PARAMETER == each);
+        }
         return result;
     }
 }
@@ -44,4 +44,9 @@ public final class StandardParameterBuilderTest {
     public void assertGetParameters() {
         assertThat(parameterBuilder.getParameters(), is(Arrays.<Object>asList(1, 1, 5, 7)));
     }
+    
+    @Test
+    public void assertGetParametersWithFilteredIndexes() {
+        assertThat(parameterBuilder.getParameters(Collections.singleton(2)), is(Arrays.<Object>asList(1, 5, 7)));
+    }
 }
@@ -54,4 +54,17 @@ public interface SQLRouter<T extends ShardingSphereRule> extends OrderedSPI<T> {
      * @param props configuration properties
      */
     void decorateRouteContext(RouteContext routeContext, LogicSQL logicSQL, ShardingSphereDatabase database, T rule, ConfigurationProperties props);
+    
+    /**
+     * Judge whether route context is cacheable.
+     * 
+     * <p>Route context is cacheable only if it is decided by SQL, parameters and rule, and never by load balance, transaction or other runtime state.
+     * Route contexts which are decided by random choice of routing engines are marked as not cacheable by {@link RouteContext#setCacheable(boolean)}.</p>
+     *
+     * @param rule rule
+     * @return route context is cacheable or not
+     */
+    default boolean isRouteContextCacheable(T rule) {
+        return false;
+    }
 }
@@ -49,6 +49,9 @@ public final class RouteContext {
     @Setter
     private boolean isFederated;
     
+    @Setter
+    private boolean cacheable = true;
+    
     /**
      * Judge is route for single database and table only or not.
      *
@@ -0,0 +1,399 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>Compile inline expression which only contains literals, variables, {@code +}, {@code -}, {@code *}, {@code %}, {@code hashCode()} and {@code abs()}
+ * into thread-safe evaluator, values which can not be evaluated as Groovy does are not supported and evaluated result will be absent.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class InlineExpressionCompiler {
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression
+     * @return compiled inline expression, absent if inline expression can not be compiled
+     */
+    static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        Collection<Object> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            char each = inlineExpression.charAt(index);
+            if ('"' == each || '\\' == each) {
+                return Optional.empty();
+            }
+            if ('$' != each) {
+                literal.append(each);
+                index++;
+                continue;
+            }
+            int beginIndex = getPlaceholderBeginIndex(inlineExpression, index);
+            int endIndex = beginIndex < 0 ? -1 : getPlaceholderEndIndex(inlineExpression, beginIndex);
+            if (endIndex < 0) {
+                return Optional.empty();
+            }
+            Optional<Node> node = new Parser(inlineExpression.substring(beginIndex, endIndex)).parse();
+            if (!node.isPresent()) {
+                return Optional.empty();
+            }
+            if (literal.length() > 0) {
+                segments.add(literal.toString());
+                literal.setLength(0);
+            }
+            segments.add(node.get());
+            index = endIndex + 1;
+        }
+        if (literal.length() > 0) {
+            segments.add(literal.toString());
+        }
+        return Optional.of(new CompiledInlineExpression(segments.toArray()));
+    }
+    
+    private static int getPlaceholderBeginIndex(final String inlineExpression, final int dollarIndex) {
+        if (inlineExpression.startsWith("{", dollarIndex + 1)) {
+            return dollarIndex + 2;
+        }
+        return inlineExpression.startsWith("->{", dollarIndex + 1) ? dollarIndex + 4 : -1;
+    }
+    
+    private static int getPlaceholderEndIndex(final String inlineExpression, final int beginIndex) {
+        boolean quoted = false;
+        for (int i = beginIndex; i < inlineExpression.length(); i++) {
+            char each = inlineExpression.charAt(i);
+            if ('\'' == each) {
+                quoted = !quoted;
+            } else if (!quoted && '{' == each) {
+                return -1;
+            } else if (!quoted && '}' == each) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private static String toText(final Object value) {
+        if (value instanceof String) {
+            return (String) value;
+        }
+        if (isIntegral(value) || value instanceof Character || value instanceof Boolean) {
+            return value.toString();
+        }
+        return null;
+    }
+    
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private static Object calculate(final char operator, final Object left, final Object right) {
+        if (isIntegral(left) && isIntegral(right)) {
+            return left instanceof Long || right instanceof Long
+                    ? calculate(operator, ((Number) left).longValue(), ((Number) right).longValue())
+                    : (Object) (int) calculate(operator, ((Number) left).intValue(), ((Number) right).intValue());
+        }
+        if ('+' == operator && (left instanceof String || right instanceof String)) {
+            String leftText = toText(left);
+            String rightText = toText(right);
+            return null == leftText || null == rightText ? null : leftText + rightText;
+        }
+        return null;
+    }
+    
+    private static long calculate(final char operator, final long left, final long right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            default:
+                return left % right;
+        }
+    }
+    
+    private static int calculate(final char operator, final int left, final int right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            default:
+                return left % right;
+        }
+    }
+    
+    private static Object negate(final Object value) {
+        if (value instanceof Integer) {
+            return -(Integer) value;
+        }
+        if (value instanceof Long) {
+            return -(Long) value;
+        }
+        return null;
+    }
+    
+    private static Object abs(final Object value) {
+        if (value instanceof Integer) {
+            return Math.abs((Integer) value);
+        }
+        if (value instanceof Long) {
+            return Math.abs((Long) value);
+        }
+        return null;
+    }
+    
+    /**
+     * Compiled inline expression.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    static final class CompiledInlineExpression {
+        
+        private final Object[] segments;
+        
+        /**
+         * Evaluate compiled inline expression.
+         *
+         * @param variables variables
+         * @return evaluated result, absent if variables are not supported
+         */
+        Optional<String> evaluate(final Map<String, ?> variables) {
+            StringBuilder result = new StringBuilder();
+            for (Object each : segments) {
+                if (each instanceof String) {
+                    result.append((String) each);
+                    continue;
+                }
+                String text = toText(((Node) each).evaluate(variables));
+                if (null == text) {
+                    return Optional.empty();
+                }
+                result.append(text);
+            }
+            return Optional.of(result.toString());
+        }
+    }
+    
+    private interface Node {
+        
+        /**
+         * Evaluate node.
+         *
+         * @param variables variables
+         * @return evaluated value, null if variables are not supported
+         */
+        Object evaluate(Map<String, ?> variables);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Parser {
+        
+        private final String expression;
+        
+        private int position;
+        
+        Optional<Node> parse() {
+            Node result = parseAdditive();
+            skipWhitespace();
+            return null == result || position < expression.length() ? Optional.empty() : Optional.of(result);
+        }
+        
+        private Node parseAdditive() {
+            Node result = parseMultiplicative();
+            while (null != result) {
+                char operator = peek();
+                if ('+' != operator && '-' != operator) {
+                    return result;
+                }
+                position++;
+                Node left = result;
+                Node right = parseMultiplicative();
+                result = null == right ? null : variables -> calculate(operator, left.evaluate(variables), right.evaluate(variables));
+            }
+            return null;
+        }
+        
+        private Node parseMultiplicative() {
+            Node result = parseUnary();
+            while (null != result) {
+                char operator = peek();
+                if ('*' != operator && '%' != operator) {
+                    return '/' == operator ? null : result;
+                }
+                position++;
+                Node left = result;
+                Node right = parseUnary();
+                result = null == right ? null : variables -> calculate(operator, left.evaluate(variables), right.evaluate(variables));
+            }
+            return null;
+        }
+        
+        private Node parseUnary() {
+            if ('-' != peek()) {
+                return parsePostfix();
+            }
+            position++;
+            Node operand = parseUnary();
+            return null == operand ? null : variables -> negate(operand.evaluate(variables));
+        }
+        
+        private Node parsePostfix() {
+            Node result = parsePrimary();
+            while (null != result && '.' == peek()) {
+                position++;
+                String method = parseIdentifier();
+                if (!parseEmptyArguments()) {
+                    return null;
+                }
+                Node target = result;
+                if ("hashCode".equals(method)) {
+                    result = variables -> {
+                        Object value = target.evaluate(variables);
+                        return null == value ? null : value.hashCode();
+                    };
+                } else if ("abs".equals(method)) {
+                    result = variables -> abs(target.evaluate(variables));
+                } else {
+                    return null;
+                }
+            }
+            return result;
+        }
+        
+        private Node parsePrimary() {
+            char current = peek();
+            if ('(' == current) {
+                position++;
+                Node result = parseAdditive();
+                if (null == result || ')' != peek()) {
+                    return null;
+                }
+                position++;
+                return result;
+            }
+            if ('\'' == current) {
+                return parseStringLiteral();
+            }
+            if (Character.isDigit(current)) {
+                return parseIntegerLiteral();
+            }
+            String identifier = parseIdentifier();
+            if (null == identifier) {
+                return null;
+            }
+            if ("Math".equals(identifier)) {
+                return parseMathAbs();
+            }
+            return '(' == peek() ? null : variables -> variables.get(identifier);
+        }
+        
+        private Node parseMathAbs() {
+            if ('.' != peek()) {
+                return null;
+            }
+            position++;
+            if (!"abs".equals(parseIdentifier()) || '(' != peek()) {
+                return null;
+            }
+            position++;
+            Node operand = parseAdditive();
+            if (null == operand || ')' != peek()) {
+                return null;
+            }
+            position++;
+            return variables -> abs(operand.evaluate(variables));
+        }
+        
+        private Node parseStringLiteral() {
+            int endIndex = expression.indexOf('\'', position + 1);
+            if (endIndex < 0) {
+                return null;
+            }
+            String value = expression.substring(position + 1, endIndex);
+            if (value.contains("\\") || value.contains("$")) {
+                return null;
+            }
+            position = endIndex + 1;
+            return variables -> value;
+        }
+        
+        private Node parseIntegerLiteral() {
+            int startIndex = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            String literal = expression.substring(startIndex, position);
+            if (position < expression.length() && (Character.isLetter(expression.charAt(position)) || '.' == expression.charAt(position) || '_' == expression.charAt(position))
+                    || literal.length() > 1 && '0' == literal.charAt(0) || literal.length() > 9) {
+                return null;
+            }
+            Integer value = Integer.parseInt(literal);
+            return variables -> value;
+        }
+        
+        private String parseIdentifier() {
+            skipWhitespace();
+            int startIndex = position;
+            if (position >= expression.length() || !Character.isJavaIdentifierStart(expression.charAt(position)) || '$' == expression.charAt(position)) {
+                return null;
+            }
+            while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position)) && '$' != expression.charAt(position)) {
+                position++;
+            }
+            return expression.substring(startIndex, position);
+        }
+        
+        private boolean parseEmptyArguments() {
+            if ('(' != peek()) {
+                return false;
+            }
+            position++;
+            if (')' != peek()) {
+                return false;
+            }
+            position++;
+            return true;
+        }
+        
+        private char peek() {
+            skipWhitespace();
+            return position < expression.length() ? expression.charAt(position) : 0;
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
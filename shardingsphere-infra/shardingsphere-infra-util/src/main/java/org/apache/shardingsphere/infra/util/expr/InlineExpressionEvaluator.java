@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Inline expression evaluator.
+ * 
+ * <p>Common inline expressions are compiled once and evaluated without Groovy, other expressions and values are evaluated by Groovy closure.</p>
+ */
+public final class InlineExpressionEvaluator {
+    
+    private final String inlineExpression;
+    
+    private final InlineExpressionCompiler.CompiledInlineExpression compiledInlineExpression;
+    
+    public InlineExpressionEvaluator(final String inlineExpression) {
+        this.inlineExpression = inlineExpression;
+        compiledInlineExpression = InlineExpressionCompiler.compile(inlineExpression).orElse(null);
+    }
+    
+    /**
+     * Judge whether inline expression is compiled.
+     *
+     * @return is compiled or not
+     */
+    public boolean isCompiled() {
+        return null != compiledInlineExpression;
+    }
+    
+    /**
+     * Evaluate inline expression.
+     *
+     * @param variables variables
+     * @return evaluated result
+     */
+    public String evaluate(final Map<String, ?> variables) {
+        if (null != compiledInlineExpression) {
+            Optional<String> result = compiledInlineExpression.evaluate(variables);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        return evaluateClosure(variables);
+    }
+    
+    private String evaluateClosure(final Map<String, ?> variables) {
+        Closure<?> closure = new InlineExpressionParser(inlineExpression).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        for (Entry<String, ?> entry : variables.entrySet()) {
+            closure.setProperty(entry.getKey(), entry.getValue());
+        }
+        return closure.call().toString();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class InlineExpressionEvaluatorTest {
+    
+    @Test
+    public void assertEvaluateWithModulo() {
+        InlineExpressionEvaluator evaluator = new InlineExpressionEvaluator("t_order_${user_id % 16}");
+        assertTrue(evaluator.isCompiled());
+        assertThat(evaluator.evaluate(Collections.singletonMap("user_id", 35)), is("t_order_3"));
+        assertThat(evaluator.evaluate(Collections.singletonMap("user_id", 35L)), is("t_order_3"));
+    }
+    
+    @Test
+    public void assertEvaluateWithMultipleVariables() {
+        InlineExpressionEvaluator evaluator = new InlineExpressionEvaluator("ds_${user_id % 2}_${(order_id + 1) * 2 - 1}");
+        assertTrue(evaluator.isCompiled());
+        Map<String, Object> variables = new HashMap<>(2, 1);
+        variables.put("user_id", 3);
+        variables.put("order_id", 4);
+        assertThat(evaluator.evaluate(variables), is("ds_1_9"));
+    }
+    
+    @Test
+    public void assertEvaluateWithHashCode() {
+        InlineExpressionEvaluator evaluator = new InlineExpressionEvaluator("t_order_${Math.abs(order_no.hashCode()) % 4}");
+        assertTrue(evaluator.isCompiled());
+        assertThat(evaluator.evaluate(Collections.singletonMap("order_no", "no_10")), is("t_order_" + Math.abs("no_10".hashCode()) % 4));
+    }
+    
+    @Test
+    public void assertEvaluateWithStringConcatenation() {
+        InlineExpressionEvaluator evaluator = new InlineExpressionEvaluator("${'t_' + type + '_' + value % 2}");
+        assertTrue(evaluator.isCompiled());
+        Map<String, Object> variables = new HashMap<>(2, 1);
+        variables.put("type", "order");
+        variables.put("value", 5);
+        assertThat(evaluator.evaluate(variables), is("t_order_1"));
+    }
+    
+    @Test
+    public void assertEvaluateWithArrowPlaceholder() {
+        InlineExpressionEvaluator evaluator = new InlineExpressionEvaluator("t_order_$->{user_id % 2}");
+        assertTrue(evaluator.isCompiled());
+        assertThat(evaluator.evaluate(Collections.singletonMap("user_id", 35)), is("t_order_1"));
+    }
+    
+    @Test
+    public void assertEvaluateWithOnlyArrowPlaceholder() {
+        InlineExpressionEvaluator evaluator = new InlineExpressionEvaluator("$->{id % 2}");
+        assertTrue(evaluator.isCompiled());
+        assertThat(evaluator.evaluate(Collections.singletonMap("id", 4L)), is("0"));
+    }
+    
+    @Test
+    public void assertEvaluateWithMixedPlaceholders() {
+        InlineExpressionEvaluator evaluator = new InlineExpressionEvaluator("ds_${user_id % 2}.t_order_$->{order_id % 4}");
+        assertTrue(evaluator.isCompiled());
+        Map<String, Object> variables = new HashMap<>(2, 1);
+        variables.put("user_id", 3);
+        variables.put("order_id", 6);
+        assertThat(evaluator.evaluate(variables), is("ds_1.t_order_2"));
+    }
+    
+    @Test
+    public void assertCompileWithArrowPlaceholderRange() {
+        assertFalse(new InlineExpressionEvaluator("t_order_$->{0..1}").isCompiled());
+    }
+    
+    @Test
+    public void assertCompileWithIncompletePlaceholder() {
+        assertFalse(new InlineExpressionEvaluator("t_order_$->user_id").isCompiled());
+        assertFalse(new InlineExpressionEvaluator("t_order_$-{user_id}").isCompiled());
+        assertFalse(new InlineExpressionEvaluator("t_order_$").isCompiled());
+    }
+    
+    @Test
+    public void assertEvaluateWithUncompiledExpression() {
+        InlineExpressionEvaluator evaluator = new InlineExpressionEvaluator("t_order_${user_id.intdiv(10) % 2}");
+        assertFalse(evaluator.isCompiled());
+        assertThat(evaluator.evaluate(Collections.singletonMap("user_id", 35)), is("t_order_1"));
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        InlineExpressionEvaluator evaluator = new InlineExpressionEvaluator("t_order_${user_id % 2}");
+        assertTrue(evaluator.isCompiled());
+        assertThat(evaluator.evaluate(Collections.singletonMap("user_id", BigInteger.valueOf(3L))), is("t_order_1"));
+    }
+}
@@ -80,6 +80,7 @@ public final class BatchPreparedStatementExecutor {
      */
     public void init(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) {
         this.executionGroupContext = executionGroupContext;
+        executionGroupContext.setDatabaseName(databaseName);
     }
     
     /**
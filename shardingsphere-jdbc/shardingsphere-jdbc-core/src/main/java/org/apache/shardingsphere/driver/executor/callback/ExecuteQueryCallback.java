@@ -17,13 +17,16 @@
 
 package org.apache.shardingsphere.driver.executor.callback;
 
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResult;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResultFactory;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResultFactory;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.AbstractColumnarMemoryQueryResult;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.ResultSet;
@@ -36,14 +39,28 @@ import java.util.Optional;
  */
 public abstract class ExecuteQueryCallback extends JDBCExecutorCallback<QueryResult> {
     
-    protected ExecuteQueryCallback(final DatabaseType databaseType, final SQLStatement sqlStatement, final boolean isExceptionThrown, final EventBusContext eventBusContext) {
+    private final ConfigurationProperties props;
+    
+    protected ExecuteQueryCallback(final DatabaseType databaseType, final ConfigurationProperties props, final SQLStatement sqlStatement, final boolean isExceptionThrown,
+                                   final EventBusContext eventBusContext) {
         super(databaseType, sqlStatement, isExceptionThrown, eventBusContext);
+        this.props = props;
     }
     
     @Override
     protected final QueryResult executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
         ResultSet resultSet = executeQuery(sql, statement);
-        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? new JDBCStreamQueryResult(resultSet) : new JDBCMemoryQueryResult(resultSet, getDatabaseType());
+        return ConnectionMode.MEMORY_STRICTLY == connectionMode
+                ? JDBCStreamQueryResultFactory.newInstance(resultSet, getDatabaseType(), props)
+                : JDBCMemoryQueryResultFactory.newInstance(resultSet, getDatabaseType(), props);
+    }
+    
+    @Override
+    protected final long getLoadedRowCount(final QueryResult executeResult) {
+        if (executeResult instanceof AbstractMemoryQueryResult) {
+            return ((AbstractMemoryQueryResult) executeResult).getRowCount();
+        }
+        return executeResult instanceof AbstractColumnarMemoryQueryResult ? ((AbstractColumnarMemoryQueryResult) executeResult).getRowSize() : 0L;
     }
     
     @Override
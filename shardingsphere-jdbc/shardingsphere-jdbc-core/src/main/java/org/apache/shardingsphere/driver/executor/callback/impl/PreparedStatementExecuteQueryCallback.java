@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.driver.executor.callback.impl;
 
 import org.apache.shardingsphere.driver.executor.callback.ExecuteQueryCallback;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -32,8 +33,9 @@ import java.sql.Statement;
  */
 public final class PreparedStatementExecuteQueryCallback extends ExecuteQueryCallback {
     
-    public PreparedStatementExecuteQueryCallback(final DatabaseType databaseType, final SQLStatement sqlStatement, final boolean isExceptionThrown, final EventBusContext eventBusContext) {
-        super(databaseType, sqlStatement, isExceptionThrown, eventBusContext);
+    public PreparedStatementExecuteQueryCallback(final DatabaseType databaseType, final ConfigurationProperties props, final SQLStatement sqlStatement, final boolean isExceptionThrown,
+                                                 final EventBusContext eventBusContext) {
+        super(databaseType, props, sqlStatement, isExceptionThrown, eventBusContext);
     }
     
     @Override
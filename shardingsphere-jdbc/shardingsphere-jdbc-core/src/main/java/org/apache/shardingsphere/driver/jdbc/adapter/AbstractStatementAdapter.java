@@ -33,6 +33,7 @@ import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.stream.Collectors;
 
 /**
  * Adapter for {@code Statement}.
@@ -181,7 +182,7 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     public final void close() throws SQLException {
         closed = true;
         try {
-            forceExecuteTemplate.execute((Collection) getRoutedStatements(), Statement::close);
+            forceExecuteTemplate.execute((Collection) getUnmanagedRoutedStatements(), Statement::close);
             if (null != getExecutor()) {
                 getExecutor().close();
             }
@@ -193,6 +194,11 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
         }
     }
     
+    private Collection<? extends Statement> getUnmanagedRoutedStatements() {
+        StatementManager statementManager = getStatementManager();
+        return null == statementManager ? getRoutedStatements() : getRoutedStatements().stream().filter(each -> !statementManager.isManaged(each)).collect(Collectors.toList());
+    }
+    
     protected final void handleExceptionInTransaction(final ShardingSphereConnection connection, final MetaDataContexts metaDataContexts) {
         if (connection.getConnectionManager().getConnectionTransaction().isInTransaction()) {
             DatabaseType databaseType = metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getResource().getDatabaseType();
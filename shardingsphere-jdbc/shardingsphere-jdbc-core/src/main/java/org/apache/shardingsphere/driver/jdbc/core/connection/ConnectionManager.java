@@ -25,10 +25,12 @@ import lombok.Getter;
 import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.driver.jdbc.adapter.invocation.MethodInvocationRecorder;
 import org.apache.shardingsphere.driver.jdbc.core.ShardingSphereSavepoint;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCPreparedStatementCache;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
 import org.apache.shardingsphere.infra.instance.metadata.proxy.ProxyInstanceMetaData;
@@ -76,11 +78,16 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
     
     private final Random random = new SecureRandom();
     
+    private final ContextManager contextManager;
+    
+    private volatile JDBCPreparedStatementCache preparedStatementCache;
+    
     public ConnectionManager(final String databaseName, final ContextManager contextManager) {
         dataSourceMap.putAll(contextManager.getDataSourceMap(databaseName));
         dataSourceMap.putAll(getTrafficDataSourceMap(databaseName, contextManager));
         physicalDataSourceMap.putAll(contextManager.getDataSourceMap(databaseName));
         connectionTransaction = createConnectionTransaction(databaseName, contextManager);
+        this.contextManager = contextManager;
     }
     
     private Map<String, DataSource> getTrafficDataSourceMap(final String databaseName, final ContextManager contextManager) {
@@ -130,6 +137,23 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
         return null == type ? new ConnectionTransaction(databaseName, transactionRule) : new ConnectionTransaction(databaseName, type, transactionRule);
     }
     
+    /**
+     * Get prepared statement cache of storage connections.
+     * 
+     * @return prepared statement cache
+     */
+    public JDBCPreparedStatementCache getPreparedStatementCache() {
+        if (null == preparedStatementCache) {
+            synchronized (this) {
+                if (null == preparedStatementCache) {
+                    preparedStatementCache = new JDBCPreparedStatementCache(
+                            contextManager.getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PREPARED_STATEMENT_CACHE_SIZE_PER_CONNECTION));
+                }
+            }
+        }
+        return preparedStatementCache;
+    }
+    
     /**
      * Set auto commit.
      * 
@@ -162,6 +186,7 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
      * @throws SQLException SQL exception
      */
     public void rollback() throws SQLException {
+        invalidatePreparedStatementCache();
         if (connectionTransaction.isLocalTransaction()) {
             forceExecuteTemplate.execute(cachedConnections.values(), Connection::rollback);
         } else {
@@ -362,8 +387,15 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
         return physicalDataSourceMap.containsKey(dataSourceName);
     }
     
+    private void invalidatePreparedStatementCache() {
+        if (null != preparedStatementCache) {
+            preparedStatementCache.invalidateAll();
+        }
+    }
+    
     @Override
     public void close() throws SQLException {
+        invalidatePreparedStatementCache();
         try {
             forceExecuteTemplate.execute(cachedConnections.values(), Connection::close);
         } finally {
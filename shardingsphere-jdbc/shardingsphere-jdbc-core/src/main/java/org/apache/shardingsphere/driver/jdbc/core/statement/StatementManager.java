@@ -23,12 +23,15 @@ import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTempla
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCStatementManager;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCPreparedStatementCache;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -40,6 +43,16 @@ public final class StatementManager implements ExecutorJDBCStatementManager, Aut
     
     private final ForceExecuteTemplate<Statement> forceExecuteTemplate = new ForceExecuteTemplate<>();
     
+    private final JDBCPreparedStatementCache preparedStatementCache;
+    
+    public StatementManager() {
+        this(new JDBCPreparedStatementCache(0));
+    }
+    
+    public StatementManager(final JDBCPreparedStatementCache preparedStatementCache) {
+        this.preparedStatementCache = preparedStatementCache;
+    }
+    
     @SuppressWarnings("MagicConstant")
     @Override
     public Statement createStorageResource(final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
@@ -51,18 +64,42 @@ public final class StatementManager implements ExecutorJDBCStatementManager, Aut
     public Statement createStorageResource(final ExecutionUnit executionUnit, final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
         Statement result = cachedStatements.get(new CacheKey(executionUnit, connectionMode));
         if (null == result) {
-            String sql = executionUnit.getSqlUnit().getSql();
-            result = option.isReturnGeneratedKeys() ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
-                    : connection.prepareStatement(sql, option.getResultSetType(), option.getResultSetConcurrency(), option.getResultSetHoldability());
+            result = borrowOrPrepareStatement(executionUnit.getSqlUnit().getSql(), connection, connectionMode, option);
             cachedStatements.put(new CacheKey(executionUnit, connectionMode), result);
         }
         return result;
     }
     
+    @SuppressWarnings("MagicConstant")
+    private PreparedStatement borrowOrPrepareStatement(final String sql, final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
+        Optional<PreparedStatement> cachedStatement = preparedStatementCache.borrow(connection, sql, connectionMode, option);
+        if (cachedStatement.isPresent()) {
+            return cachedStatement.get();
+        }
+        PreparedStatement result = option.isReturnGeneratedKeys() ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+                : connection.prepareStatement(sql, option.getResultSetType(), option.getResultSetConcurrency(), option.getResultSetHoldability());
+        preparedStatementCache.register(connection, sql, connectionMode, option, result);
+        return result;
+    }
+    
+    /**
+     * Judge whether statement is managed by statement manager.
+     * 
+     * @param statement statement
+     * @return statement is managed or not
+     */
+    public boolean isManaged(final Statement statement) {
+        return cachedStatements.values().stream().anyMatch(each -> each == statement);
+    }
+    
     @Override
     public void close() throws SQLException {
         try {
-            forceExecuteTemplate.execute(cachedStatements.values(), Statement::close);
+            forceExecuteTemplate.execute(cachedStatements.values(), each -> {
+                if (!preparedStatementCache.release(each)) {
+                    each.close();
+                }
+            });
         } finally {
             cachedStatements.clear();
         }
@@ -59,6 +59,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class ShardingSphereResultSetTest {
@@ -102,6 +103,13 @@ public final class ShardingSphereResultSetTest {
         return result;
     }
     
+    @Test
+    public void assertClose() throws SQLException {
+        shardingSphereResultSet.close();
+        assertTrue(shardingSphereResultSet.isClosed());
+        verify(mergeResultSet).close();
+    }
+    
     @Test
     public void assertNext() throws SQLException {
         when(mergeResultSet.next()).thenReturn(true);
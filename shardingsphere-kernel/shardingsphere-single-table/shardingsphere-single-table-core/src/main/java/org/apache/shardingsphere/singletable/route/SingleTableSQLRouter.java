@@ -118,6 +118,11 @@ public final class SingleTableSQLRouter implements SQLRouter<SingleTableRule> {
         Preconditions.checkState(allTablesInSameDataSource, "All tables must be in the same datasource.");
     }
     
+    @Override
+    public boolean isRouteContextCacheable(final SingleTableRule rule) {
+        return true;
+    }
+    
     @Override
     public int getOrder() {
         return SingleTableOrder.ORDER;
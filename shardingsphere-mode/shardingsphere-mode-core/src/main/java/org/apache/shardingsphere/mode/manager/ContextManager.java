@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.mode.manager;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
@@ -24,10 +25,12 @@ import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDa
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.context.kernel.plan.ExecutionPlanCache;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ExecutionStatisticsRegistry;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContextFactory;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
@@ -57,6 +60,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -72,10 +76,17 @@ public final class ContextManager implements AutoCloseable {
     
     private final ExecutorEngine executorEngine;
     
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong metaDataVersion = new AtomicLong();
+    
     public ContextManager(final MetaDataContexts metaDataContexts, final InstanceContext instanceContext) {
         this.metaDataContexts = metaDataContexts;
         this.instanceContext = instanceContext;
-        executorEngine = ExecutorEngine.createExecutorEngineWithSize(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        ConfigurationProperties props = metaDataContexts.getMetaData().getProps();
+        executorEngine = ExecutorEngine.createExecutorEngineWithSize(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE),
+                props.<String>getValue(ConfigurationPropertyKey.EXECUTOR_THREAD_TYPE),
+                props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE),
+                props.<Long>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_WAIT_MILLISECONDS));
     }
     
     /**
@@ -84,7 +95,18 @@ public final class ContextManager implements AutoCloseable {
      * @param metaDataContexts meta data contexts
      */
     public synchronized void renewMetaDataContexts(final MetaDataContexts metaDataContexts) {
+        MetaDataContexts previousMetaDataContexts = this.metaDataContexts;
         this.metaDataContexts = metaDataContexts;
+        invalidateAllCaches(previousMetaDataContexts);
+    }
+    
+    /**
+     * Get meta data version, which is increased after every change of meta data.
+     *
+     * @return meta data version
+     */
+    public long getMetaDataVersion() {
+        return metaDataVersion.get();
     }
     
     /**
@@ -126,6 +148,8 @@ public final class ContextManager implements AutoCloseable {
         metaDataContexts.getMetaData().dropDatabase(actualDatabaseName);
         metaDataContexts.getOptimizerContext().dropDatabase(actualDatabaseName);
         metaDataContexts.getPersistService().getDatabaseMetaDataService().deleteDatabase(actualDatabaseName);
+        ExecutionStatisticsRegistry.clear(actualDatabaseName);
+        invalidateCaches(actualDatabaseName);
     }
     
     /**
@@ -140,6 +164,7 @@ public final class ContextManager implements AutoCloseable {
         }
         metaDataContexts.getMetaData().getDatabase(databaseName).putSchema(schemaName, new ShardingSphereSchema());
         metaDataContexts.getOptimizerContext().addSchema(databaseName, schemaName);
+        invalidateCaches(databaseName);
     }
     
     /**
@@ -171,6 +196,7 @@ public final class ContextManager implements AutoCloseable {
     private synchronized void alterTable(final String databaseName, final String schemaName, final ShardingSphereTable beBoChangedTable) {
         alterTable(metaDataContexts.getMetaData().getDatabase(databaseName), schemaName, beBoChangedTable);
         metaDataContexts.getOptimizerContext().alterTable(databaseName, schemaName, beBoChangedTable);
+        invalidateCaches(databaseName);
     }
     
     private synchronized void alterTable(final ShardingSphereDatabase database, final String schemaName, final ShardingSphereTable beBoChangedTable) {
@@ -188,6 +214,7 @@ public final class ContextManager implements AutoCloseable {
         if (metaDataContexts.getMetaData().getDatabase(databaseName).containsSchema(schemaName)) {
             metaDataContexts.getMetaData().getDatabase(databaseName).getSchema(schemaName).remove(toBeDeletedTableName);
             metaDataContexts.getOptimizerContext().dropTable(databaseName, schemaName, toBeDeletedTableName);
+            invalidateCaches(databaseName);
             // TODO check whether need to reloadRules(single table rule) if table dropped?
         }
     }
@@ -205,6 +232,7 @@ public final class ContextManager implements AutoCloseable {
         }
         database.removeSchema(schemaName);
         metaDataContexts.getOptimizerContext().getFederationMetaData().getDatabase(databaseName).removeSchemaMetadata(schemaName);
+        invalidateCaches(databaseName);
     }
     
     /**
@@ -222,6 +250,8 @@ public final class ContextManager implements AutoCloseable {
         persistMetaData(metaDataContexts);
         metaDataContexts.getPersistService().getDataSourceService().append(metaDataContexts.getMetaData().getActualDatabaseName(databaseName), toBeUpdatedDataSourcePropsMap);
         switchingResource.closeStaleDataSources();
+        ExecutionStatisticsRegistry.clear(metaDataContexts.getMetaData().getActualDatabaseName(databaseName), toBeUpdatedDataSourcePropsMap.keySet());
+        invalidateCaches(databaseName);
     }
     
     /**
@@ -237,6 +267,8 @@ public final class ContextManager implements AutoCloseable {
             dataSourceMap.remove(each);
         }
         metaDataContexts.getPersistService().getDataSourceService().drop(metaDataContexts.getMetaData().getActualDatabaseName(databaseName), toBeDroppedResourceNames);
+        ExecutionStatisticsRegistry.clear(metaDataContexts.getMetaData().getActualDatabaseName(databaseName), toBeDroppedResourceNames);
+        invalidateCaches(databaseName);
     }
     
     /**
@@ -255,6 +287,7 @@ public final class ContextManager implements AutoCloseable {
         } catch (final SQLException ex) {
             log.error("Alter database: {} rule configurations failed", databaseName, ex);
         }
+        invalidateCaches(databaseName);
     }
     
     /**
@@ -275,6 +308,8 @@ public final class ContextManager implements AutoCloseable {
         } catch (final SQLException ex) {
             log.error("Alter database: {} data source configuration failed", databaseName, ex);
         }
+        ExecutionStatisticsRegistry.clear(metaDataContexts.getMetaData().getActualDatabaseName(databaseName));
+        invalidateCaches(databaseName);
     }
     
     /**
@@ -297,6 +332,8 @@ public final class ContextManager implements AutoCloseable {
         } catch (SQLException ex) {
             log.error("Alter database: {} data source and rule configuration failed", databaseName, ex);
         }
+        ExecutionStatisticsRegistry.clear(metaDataContexts.getMetaData().getActualDatabaseName(databaseName));
+        invalidateCaches(databaseName);
     }
     
     @SuppressWarnings("rawtypes")
@@ -352,6 +389,7 @@ public final class ContextManager implements AutoCloseable {
         ShardingSphereMetaData toBeChangedMetaData = new ShardingSphereMetaData(
                 metaDataContexts.getMetaData().getDatabases(), toBeChangedGlobalRuleMetaData, metaDataContexts.getMetaData().getProps());
         metaDataContexts = newMetaDataContexts(toBeChangedMetaData, metaDataContexts.getOptimizerContext());
+        invalidateAllCaches(metaDataContexts);
     }
     
     /**
@@ -363,6 +401,7 @@ public final class ContextManager implements AutoCloseable {
         ShardingSphereMetaData toBeChangedMetaData = new ShardingSphereMetaData(
                 metaDataContexts.getMetaData().getDatabases(), metaDataContexts.getMetaData().getGlobalRuleMetaData(), new ConfigurationProperties(props));
         metaDataContexts = newMetaDataContexts(toBeChangedMetaData, metaDataContexts.getOptimizerContext());
+        invalidateAllCaches(metaDataContexts);
     }
     
     /**
@@ -382,6 +421,7 @@ public final class ContextManager implements AutoCloseable {
         } catch (final SQLException ex) {
             log.error("Reload database: {} failed", databaseName, ex);
         }
+        invalidateCaches(databaseName);
     }
     
     private Map<String, ShardingSphereSchema> getToBeDeletedSchemas(final ShardingSphereDatabase reloadedDatabase) {
@@ -414,6 +454,7 @@ public final class ContextManager implements AutoCloseable {
         } catch (final SQLException ex) {
             log.error("Reload meta data of database: {} schema: {} with data source: {} failed", databaseName, schemaName, dataSourceName, ex);
         }
+        invalidateCaches(databaseName);
     }
     
     private ShardingSphereSchema loadSchema(final String databaseName, final String schemaName, final String dataSourceName) throws SQLException {
@@ -468,10 +509,24 @@ public final class ContextManager implements AutoCloseable {
             database.getSchema(schemaName).put(tableName, schema.get(tableName));
             metaDataContexts.getPersistService().getDatabaseMetaDataService().persistMetaData(database.getName(), schemaName, database.getSchema(schemaName));
         }
+        invalidateCaches(databaseName);
+    }
+    
+    private void invalidateCaches(final String databaseName) {
+        if (metaDataContexts.getMetaData().containsDatabase(databaseName)) {
+            ExecutionPlanCache.invalidate(metaDataContexts.getMetaData().getDatabase(databaseName));
+        }
+        metaDataVersion.incrementAndGet();
+    }
+    
+    private void invalidateAllCaches(final MetaDataContexts metaDataContexts) {
+        metaDataContexts.getMetaData().getDatabases().values().forEach(ExecutionPlanCache::invalidate);
+        metaDataVersion.incrementAndGet();
     }
     
     @Override
     public void close() throws Exception {
+        metaDataContexts.getMetaData().getDatabases().values().forEach(ExecutionPlanCache::invalidate);
         executorEngine.close();
         metaDataContexts.close();
     }
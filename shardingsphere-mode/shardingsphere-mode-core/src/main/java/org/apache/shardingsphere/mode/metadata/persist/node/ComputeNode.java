@@ -37,6 +37,8 @@ public final class ComputeNode {
     
     private static final String PROCESS_TRIGGER = "process_trigger";
     
+    private static final String RESULT_CACHE_INVALIDATION = "result_cache_invalidation";
+    
     private static final String STATUS_NODE = "status";
     
     private static final String WORKER_ID = "worker_id";
@@ -91,6 +93,26 @@ public final class ComputeNode {
         return String.join("/", "", ROOT_NODE, COMPUTE_NODE, PROCESS_TRIGGER, String.join(":", instanceId, showProcessListId));
     }
     
+    /**
+     * Get result cache invalidation node path.
+     *
+     * @return path of result cache invalidation node
+     */
+    public static String getResultCacheInvalidationNodePath() {
+        return String.join("/", "", ROOT_NODE, COMPUTE_NODE, RESULT_CACHE_INVALIDATION);
+    }
+    
+    /**
+     * Get result cache invalidation table node path.
+     *
+     * @param databaseName database name
+     * @param tableName table name
+     * @return path of result cache invalidation table node
+     */
+    public static String getResultCacheInvalidationTableNodePath(final String databaseName, final String tableName) {
+        return String.join("/", "", ROOT_NODE, COMPUTE_NODE, RESULT_CACHE_INVALIDATION, String.join(":", databaseName, tableName));
+    }
+    
     /**
      * Get compute node instance labels path.
      *
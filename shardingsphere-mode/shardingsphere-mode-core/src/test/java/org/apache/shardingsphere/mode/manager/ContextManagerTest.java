@@ -25,6 +25,9 @@ import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ExecutionStatistics;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ExecutionStatisticsRegistry;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResource;
@@ -54,6 +57,8 @@ import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -112,6 +117,13 @@ public final class ContextManagerTest {
         assertThat(contextManager.getMetaDataContexts(), is(contexts));
     }
     
+    @Test
+    public void assertGetMetaDataVersion() {
+        long version = contextManager.getMetaDataVersion();
+        contextManager.renewMetaDataContexts(mock(MetaDataContexts.class));
+        assertThat(contextManager.getMetaDataVersion(), is(version + 1));
+    }
+    
     @Test
     public void assertAddDatabase() throws SQLException {
         contextManager.addDatabase("new_db");
@@ -216,6 +228,17 @@ public final class ContextManagerTest {
         assertTrue(contextManager.getMetaDataContexts().getMetaData().getDatabase("foo_db").getResource().getDataSources().isEmpty());
     }
     
+    @Test
+    public void assertDropResourcesWithExecutionStatistics() {
+        when(metaDataContexts.getMetaData().getActualDatabaseName("foo_db")).thenReturn("foo_db");
+        when(metaDataContexts.getMetaData().getDatabase("foo_db").getResource().getDataSources()).thenReturn(new HashMap<>(Collections.singletonMap("foo_ds", new MockedDataSource())));
+        SQLUnit sqlUnit = new SQLUnit("SELECT * FROM t_order", Collections.emptyList());
+        ExecutionStatistics statistics = ExecutionStatisticsRegistry.getOrRegister("foo_db", "foo_ds", sqlUnit);
+        contextManager.dropResources("foo_db", Collections.singleton("foo_ds"));
+        assertThat(ExecutionStatisticsRegistry.getOrRegister("foo_db", "foo_ds", sqlUnit), not(sameInstance(statistics)));
+        ExecutionStatisticsRegistry.clear("foo_db");
+    }
+    
     @Test
     public void assertAlterRuleConfiguration() {
         ShardingSphereResource resource = mock(ShardingSphereResource.class);
@@ -50,6 +50,16 @@ public final class ComputeNodeTest {
                 is("/nodes/compute_nodes/process_trigger/foo_instance:foo_process_id"));
     }
     
+    @Test
+    public void assertGetResultCacheInvalidationNodePath() {
+        assertThat(ComputeNode.getResultCacheInvalidationNodePath(), is("/nodes/compute_nodes/result_cache_invalidation"));
+    }
+    
+    @Test
+    public void assertGetResultCacheInvalidationTableNodePath() {
+        assertThat(ComputeNode.getResultCacheInvalidationTableNodePath("foo_db", "foo_tbl"), is("/nodes/compute_nodes/result_cache_invalidation/foo_db:foo_tbl"));
+    }
+    
     @Test
     public void assertGetInstanceLabelsNodePath() {
         assertThat(ComputeNode.getInstanceLabelsNodePath("foo_instance"), is("/nodes/compute_nodes/labels/foo_instance"));
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.instance.metadata.jdbc.JDBCInstanceMetaDa
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.service.LockRegistryService;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.service.MutexLockRegistryService;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceWatcherFactory;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.subscriber.ResultCacheRegistrySubscriber;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.subscriber.ScalingRegistrySubscriber;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.subscriber.SchemaMetaDataRegistrySubscriber;
 import org.apache.shardingsphere.mode.process.subscriber.ProcessRegistrySubscriber;
@@ -86,6 +87,7 @@ public final class RegistryCenter {
         new StorageNodeStatusSubscriber(repository, eventBusContext);
         new ScalingRegistrySubscriber(repository, eventBusContext);
         new ProcessRegistrySubscriber(repository, eventBusContext);
+        new ResultCacheRegistrySubscriber(repository, eventBusContext);
     }
     
     /**
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.subscriber;
+
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.event.TableDataChangedEvent;
+import org.apache.shardingsphere.mode.metadata.persist.node.ComputeNode;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+
+/**
+ * Result cache registry subscriber.
+ */
+@SuppressWarnings("UnstableApiUsage")
+public final class ResultCacheRegistrySubscriber {
+    
+    private final ClusterPersistRepository repository;
+    
+    public ResultCacheRegistrySubscriber(final ClusterPersistRepository repository, final EventBusContext eventBusContext) {
+        this.repository = repository;
+        eventBusContext.register(this);
+    }
+    
+    /**
+     * Notify all compute nodes to invalidate cached results of changed tables.
+     *
+     * @param event table data changed event
+     */
+    @Subscribe
+    public void invalidate(final TableDataChangedEvent event) {
+        String timestamp = String.valueOf(System.currentTimeMillis());
+        for (String each : event.getTableNames()) {
+            repository.persist(ComputeNode.getResultCacheInvalidationTableNodePath(event.getDatabaseName(), each), timestamp);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceWatcher;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.event.ResultCacheInvalidationEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.InstanceOfflineEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.InstanceOnlineEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.LabelsEvent;
@@ -73,6 +74,8 @@ public final class ComputeNodeStateChangedWatcher implements GovernanceWatcher<G
             return createInstanceEvent(event);
         } else if (event.getKey().startsWith(ComputeNode.getProcessTriggerNodePatch())) {
             return createShowProcessListTriggerEvent(event);
+        } else if (event.getKey().startsWith(ComputeNode.getResultCacheInvalidationNodePath())) {
+            return createResultCacheInvalidationEvent(event);
         }
         return Optional.empty();
     }
@@ -95,6 +98,11 @@ public final class ComputeNodeStateChangedWatcher implements GovernanceWatcher<G
         return Pattern.compile(ComputeNode.getProcessTriggerNodePatch() + "/([\\S]+):([\\S]+)$", Pattern.CASE_INSENSITIVE).matcher(event.getKey());
     }
     
+    private Optional<GovernanceEvent> createResultCacheInvalidationEvent(final DataChangedEvent event) {
+        Matcher matcher = Pattern.compile(ComputeNode.getResultCacheInvalidationNodePath() + "/([\\S]+):([\\S]+)$", Pattern.CASE_INSENSITIVE).matcher(event.getKey());
+        return matcher.find() ? Optional.of(new ResultCacheInvalidationEvent(matcher.group(1), matcher.group(2))) : Optional.empty();
+    }
+    
     private Optional<GovernanceEvent> createInstanceEvent(final DataChangedEvent event) {
         Matcher matcher = matchInstanceOnlinePath(event.getKey());
         if (matcher.find()) {
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.subscriber;
+
+import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.event.TableDataChangedEvent;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ResultCacheRegistrySubscriberTest {
+    
+    @Mock
+    private ClusterPersistRepository repository;
+    
+    @Mock
+    private EventBusContext eventBusContext;
+    
+    @Test
+    public void assertInvalidate() {
+        ResultCacheRegistrySubscriber subscriber = new ResultCacheRegistrySubscriber(repository, eventBusContext);
+        verify(eventBusContext).register(subscriber);
+        subscriber.invalidate(new TableDataChangedEvent("foo_db", Arrays.asList("t_order", "t_config")));
+        verify(repository).persist(eq("/nodes/compute_nodes/result_cache_invalidation/foo_db:t_order"), anyString());
+        verify(repository).persist(eq("/nodes/compute_nodes/result_cache_invalidation/foo_db:t_config"), anyString());
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.stat
 
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.event.ResultCacheInvalidationEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.ComputeNodeStatus;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.LabelsEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.StateEvent;
@@ -73,4 +74,13 @@ public final class ComputeNodeStateChangedWatcherTest {
         assertThat(((LabelsEvent) actual.get()).getLabels(), is(Arrays.asList("label_1", "label_2")));
         assertThat(((LabelsEvent) actual.get()).getInstanceId(), is("127.0.0.1@3307"));
     }
+    
+    @Test
+    public void assertCreateResultCacheInvalidationEvent() {
+        Optional<GovernanceEvent> actual = new ComputeNodeStateChangedWatcher()
+                .createGovernanceEvent(new DataChangedEvent("/nodes/compute_nodes/result_cache_invalidation/foo_db:t_config", "1", Type.UPDATED));
+        assertTrue(actual.isPresent());
+        assertThat(((ResultCacheInvalidationEvent) actual.get()).getDatabaseName(), is("foo_db"));
+        assertThat(((ResultCacheInvalidationEvent) actual.get()).getTableName(), is("t_config"));
+    }
 }
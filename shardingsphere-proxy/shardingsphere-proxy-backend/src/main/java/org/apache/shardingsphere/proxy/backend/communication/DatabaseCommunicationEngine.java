@@ -29,14 +29,17 @@ import org.apache.shardingsphere.infra.binder.statement.ddl.CloseStatementContex
 import org.apache.shardingsphere.infra.binder.statement.ddl.CursorStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.type.CursorAvailable;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.context.refresher.MetaDataRefreshEngine;
 import org.apache.shardingsphere.infra.distsql.exception.resource.RequiredResourceMissedException;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.event.MetaDataRefreshedEvent;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtil;
@@ -44,6 +47,7 @@ import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.mode.manager.lock.LockJudgeEngine;
 import org.apache.shardingsphere.mode.manager.lock.LockJudgeEngineFactory;
+import org.apache.shardingsphere.proxy.backend.communication.cache.ResultCache;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.RuleNotExistedException;
 import org.apache.shardingsphere.proxy.backend.exception.UnsupportedUpdateOperationException;
@@ -55,9 +59,11 @@ import org.apache.shardingsphere.proxy.backend.response.header.query.QueryRespon
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.handler.data.DatabaseBackendHandler;
+import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.ddl.fetch.FetchOrderByValueGroupsHolder;
 
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -84,6 +90,8 @@ public abstract class DatabaseCommunicationEngine implements DatabaseBackendHand
     
     private MergedResult mergedResult;
     
+    private QueryResult passthroughQueryResult;
+    
     private final BackendConnection<?> backendConnection;
     
     private final LockJudgeEngine lockJudgeEngine;
@@ -155,9 +163,19 @@ public abstract class DatabaseCommunicationEngine implements DatabaseBackendHand
     protected QueryResponseHeader processExecuteQuery(final ExecutionContext executionContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
         queryHeaders = createQueryHeaders(executionContext, queryResultSample);
         mergedResult = mergeQuery(executionContext.getSqlStatementContext(), queryResults);
+        passthroughQueryResult = isPassthrough(queryResults) ? queryResults.get(0) : null;
         return new QueryResponseHeader(queryHeaders);
     }
     
+    private boolean isPassthrough(final List<QueryResult> queryResults) {
+        if (1 != queryResults.size() || !(queryResults.get(0) instanceof AbstractStreamQueryResult)
+                || !(mergedResult instanceof TransparentMergedResult || mergedResult instanceof IteratorStreamMergedResult)) {
+            return false;
+        }
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(
+                ConfigurationPropertyKey.PROXY_BACKEND_SINGLE_ROUTE_PASSTHROUGH_ENABLED);
+    }
+    
     protected List<QueryHeader> createQueryHeaders(final ExecutionContext executionContext, final QueryResult queryResultSample) throws SQLException {
         int columnCount = getColumnCount(executionContext, queryResultSample);
         List<QueryHeader> result = new ArrayList<>(columnCount);
@@ -191,6 +209,7 @@ public abstract class DatabaseCommunicationEngine implements DatabaseBackendHand
     }
     
     protected UpdateResponseHeader processExecuteUpdate(final ExecutionContext executionContext, final Collection<UpdateResult> updateResults) {
+        ResultCache.getInstance().invalidate(backendConnection.getConnectionSession(), executionContext.getSqlStatementContext().getTablesContext().getTableNames());
         UpdateResponseHeader result = new UpdateResponseHeader(executionContext.getSqlStatementContext().getSqlStatement(), updateResults);
         mergeUpdateCount(executionContext.getSqlStatementContext(), result);
         return result;
@@ -243,6 +262,65 @@ public abstract class DatabaseCommunicationEngine implements DatabaseBackendHand
         return new QueryResponseRow(cells);
     }
     
+    /**
+     * Get row values without column types.
+     *
+     * @return row values
+     * @throws SQLException SQL exception
+     */
+    public List<Object> getRowValues() throws SQLException {
+        List<Object> result = new ArrayList<>(queryHeaders.size());
+        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+            result.add(mergedResult.getValue(columnIndex, Object.class));
+        }
+        return result;
+    }
+    
+    /**
+     * Get row data for text protocol.
+     * 
+     * <p>Values of single route query results which need no merge or decoration are relayed in text format of storage node, except columns of binary types.</p>
+     *
+     * @return row data for text protocol
+     * @throws SQLException SQL exception
+     */
+    @Override
+    public List<Object> getTextRowData() throws SQLException {
+        if (null == passthroughQueryResult) {
+            return getRowValues();
+        }
+        List<Object> result = new ArrayList<>(queryHeaders.size());
+        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+            result.add(passthroughQueryResult.getValue(columnIndex, isBinaryColumnType(queryHeaders.get(columnIndex - 1).getColumnType()) ? Object.class : String.class));
+        }
+        return result;
+    }
+    
+    private boolean isBinaryColumnType(final int columnType) {
+        switch (columnType) {
+            case Types.BIT:
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            case Types.BLOB:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Close database communication engine.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Override
+    public void close() throws SQLException {
+        if (null != mergedResult) {
+            mergedResult.close();
+        }
+    }
+    
     protected void checkLockedDatabase(final ExecutionContext executionContext) {
         if (lockJudgeEngine.isLocked(ProxyContext.getInstance().getContextManager().getInstanceContext().getLockContext(),
                 backendConnection.getConnectionSession().getDatabaseName(), executionContext.getSqlStatementContext())) {
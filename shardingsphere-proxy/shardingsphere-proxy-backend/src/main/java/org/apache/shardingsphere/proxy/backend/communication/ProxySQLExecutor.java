@@ -30,9 +30,11 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.raw.RawExecut
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.raw.RawSQLExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.raw.callback.RawSQLExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.AdaptiveConnectionModeDecider;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.executor.sql.prepare.raw.RawExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.RawExecutionRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
@@ -61,6 +63,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Proxy SQL Executor.
@@ -133,6 +136,32 @@ public final class ProxySQLExecutor {
                 : useDriverToExecute(executionContext, rules, maxConnectionsSizePerQuery, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown());
     }
     
+    /**
+     * Execute SQL asynchronously.
+     * 
+     * <p>Execution groups are prepared on the caller thread, only the execution of them is asynchronous.</p>
+     *
+     * @param executionContext execution context
+     * @return future of execute results
+     */
+    public CompletableFuture<List<ExecuteResult>> executeAsync(final ExecutionContext executionContext) {
+        String databaseName = backendConnection.getConnectionSession().getDatabaseName();
+        Collection<ShardingSphereRule> rules = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabase(databaseName).getRuleMetaData().getRules();
+        int maxConnectionsSizePerQuery = ProxyContext.getInstance()
+                .getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        boolean isReturnGeneratedKeys = executionContext.getSqlStatementContext().getSqlStatement() instanceof MySQLInsertStatement;
+        if (hasRawExecutionRule(rules)) {
+            CompletableFuture<List<ExecuteResult>> result = new CompletableFuture<>();
+            try {
+                result.complete(rawExecute(executionContext, rules, maxConnectionsSizePerQuery));
+            } catch (final SQLException ex) {
+                result.completeExceptionally(ex);
+            }
+            return result;
+        }
+        return useDriverToExecuteAsync(executionContext, rules, maxConnectionsSizePerQuery, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown());
+    }
+    
     private boolean hasRawExecutionRule(final Collection<ShardingSphereRule> rules) {
         for (ShardingSphereRule each : rules) {
             if (each instanceof RawExecutionRule) {
@@ -159,20 +188,46 @@ public final class ProxySQLExecutor {
     
     private List<ExecuteResult> useDriverToExecute(final ExecutionContext executionContext, final Collection<ShardingSphereRule> rules,
                                                    final int maxConnectionsSizePerQuery, final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) throws SQLException {
-        JDBCBackendStatement statementManager = (JDBCBackendStatement) backendConnection.getConnectionSession().getStatementManager();
-        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = new DriverExecutionPrepareEngine<>(
-                type, maxConnectionsSizePerQuery, backendConnection, statementManager, new StatementOption(isReturnGeneratedKeys), rules);
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
         try {
-            executionGroupContext = prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+            executionGroupContext = prepareDriverExecutionGroupContext(executionContext, rules, maxConnectionsSizePerQuery, isReturnGeneratedKeys);
         } catch (final SQLException ex) {
             return getSaneExecuteResults(executionContext, ex);
         }
-        executionGroupContext.setDatabaseName(backendConnection.getConnectionSession().getDatabaseName());
-        executionGroupContext.setGrantee(backendConnection.getConnectionSession().getGrantee());
         return jdbcExecutor.execute(executionContext.getLogicSQL(), executionGroupContext, isReturnGeneratedKeys, isExceptionThrown);
     }
     
+    private CompletableFuture<List<ExecuteResult>> useDriverToExecuteAsync(final ExecutionContext executionContext, final Collection<ShardingSphereRule> rules,
+                                                                           final int maxConnectionsSizePerQuery, final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
+        try {
+            executionGroupContext = prepareDriverExecutionGroupContext(executionContext, rules, maxConnectionsSizePerQuery, isReturnGeneratedKeys);
+        } catch (final SQLException ex) {
+            return getSaneExecuteResultsFuture(executionContext, ex);
+        }
+        return jdbcExecutor.executeAsync(executionContext.getLogicSQL(), executionGroupContext, isReturnGeneratedKeys, isExceptionThrown);
+    }
+    
+    private ExecutionGroupContext<JDBCExecutionUnit> prepareDriverExecutionGroupContext(final ExecutionContext executionContext, final Collection<ShardingSphereRule> rules,
+                                                                                        final int maxConnectionsSizePerQuery, final boolean isReturnGeneratedKeys) throws SQLException {
+        JDBCBackendStatement statementManager = (JDBCBackendStatement) backendConnection.getConnectionSession().getStatementManager();
+        DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = new DriverExecutionPrepareEngine<>(
+                type, maxConnectionsSizePerQuery, backendConnection, statementManager, new StatementOption(isReturnGeneratedKeys), rules, createAdaptiveConnectionModeDecider());
+        ExecutionGroupContext<JDBCExecutionUnit> result = prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        result.setDatabaseName(backendConnection.getConnectionSession().getDatabaseName());
+        result.setGrantee(backendConnection.getConnectionSession().getGrantee());
+        return result;
+    }
+    
+    private AdaptiveConnectionModeDecider createAdaptiveConnectionModeDecider() {
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        if (!metaDataContexts.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED)) {
+            return null;
+        }
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(backendConnection.getConnectionSession().getDatabaseName());
+        return new AdaptiveConnectionModeDecider(database.getName(), database.getResource().getDataSources());
+    }
+    
     private List<ExecuteResult> getSaneExecuteResults(final ExecutionContext executionContext, final SQLException originalException) throws SQLException {
         DatabaseType databaseType = ProxyContext.getInstance().getDatabase(backendConnection.getConnectionSession().getDatabaseName()).getResource().getDatabaseType();
         Optional<ExecuteResult> executeResult = SaneQueryResultEngineFactory.getInstance(databaseType)
@@ -182,4 +237,14 @@ public final class ProxySQLExecutor {
         }
         throw originalException;
     }
+    
+    private CompletableFuture<List<ExecuteResult>> getSaneExecuteResultsFuture(final ExecutionContext executionContext, final SQLException originalException) {
+        CompletableFuture<List<ExecuteResult>> result = new CompletableFuture<>();
+        try {
+            result.complete(getSaneExecuteResults(executionContext, originalException));
+        } catch (final SQLException ex) {
+            result.completeExceptionally(ex);
+        }
+        return result;
+    }
 }
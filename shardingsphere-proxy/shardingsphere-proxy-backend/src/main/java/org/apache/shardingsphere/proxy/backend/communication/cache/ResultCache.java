@@ -0,0 +1,321 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.eventbus.Subscribe;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.event.ResultCacheInvalidationEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.event.TableDataChangedEvent;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Query result cache of proxy.
+ * 
+ * <p>Merged rows of queries whose logic tables are all configured by {@link ConfigurationPropertyKey#PROXY_BACKEND_RESULT_CACHE_TABLES} are held in serialized form,
+ * keyed by normalized SQL and parameters. Cached results are only valid for versions of logic tables they are read at, which are increased by DML and DDL
+ * executed on any compute node, and all of them are discarded once meta data or properties changed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@SuppressWarnings("UnstableApiUsage")
+public final class ResultCache {
+    
+    private static final ResultCache INSTANCE = new ResultCache();
+    
+    private final Map<String, AtomicLong> tableVersions = new ConcurrentHashMap<>();
+    
+    private volatile CacheContext context;
+    
+    /**
+     * Get instance of result cache.
+     *
+     * @return got instance
+     */
+    public static ResultCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Create result cache key of query.
+     *
+     * @param connectionSession connection session
+     * @param logicSQL logic SQL
+     * @return result cache key, or empty if results of the query are not cacheable
+     */
+    public Optional<ResultCacheKey> createKey(final ConnectionSession connectionSession, final LogicSQL logicSQL) {
+        CacheContext currentContext = getContext();
+        if (currentContext.policy.isEmpty() || !isCacheableQuery(connectionSession, logicSQL.getSqlStatementContext()) || !isCacheableParameters(logicSQL.getParameters())) {
+            return Optional.empty();
+        }
+        Collection<String> tableNames = logicSQL.getSqlStatementContext().getTablesContext().getTableNames();
+        Optional<Long> ttlMillis = currentContext.policy.findTTLMillis(tableNames);
+        if (!ttlMillis.isPresent()) {
+            return Optional.empty();
+        }
+        String databaseName = connectionSession.getDatabaseName();
+        return Optional.of(new ResultCacheKey(databaseName, normalize(logicSQL.getSql()), logicSQL.getParameters().toArray(),
+                getTableVersions(databaseName, tableNames), ttlMillis.get(), currentContext.metaDataVersion));
+    }
+    
+    private boolean isCacheableQuery(final ConnectionSession connectionSession, final SQLStatementContext<?> sqlStatementContext) {
+        if (!(sqlStatementContext instanceof SelectStatementContext) || connectionSession.getTransactionStatus().isInTransaction() || !connectionSession.isAutoCommit()) {
+            return false;
+        }
+        return !HintManager.isInstantiated() && !SelectStatementHandler.getLockSegment(((SelectStatementContext) sqlStatementContext).getSqlStatement()).isPresent();
+    }
+    
+    private boolean isCacheableParameters(final List<Object> parameters) {
+        for (Object each : parameters) {
+            if (null != each && !isImmutableValue(each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isImmutableValue(final Object value) {
+        if (value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return true;
+        }
+        return value instanceof byte[] || value instanceof Date || value instanceof Temporal;
+    }
+    
+    private String normalize(final String sql) {
+        StringBuilder result = new StringBuilder(sql.length());
+        char quote = 0;
+        boolean pendingWhitespace = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char each = sql.charAt(i);
+            if (0 == quote && Character.isWhitespace(each)) {
+                pendingWhitespace = 0 != result.length();
+                continue;
+            }
+            if (pendingWhitespace) {
+                result.append(' ');
+                pendingWhitespace = false;
+            }
+            if (0 == quote && ('\'' == each || '"' == each || '`' == each)) {
+                quote = each;
+            } else if (quote == each) {
+                quote = 0;
+            }
+            result.append(each);
+        }
+        return result.toString();
+    }
+    
+    private Map<String, Long> getTableVersions(final String databaseName, final Collection<String> tableNames) {
+        Map<String, Long> result = new HashMap<>(tableNames.size(), 1);
+        for (String each : tableNames) {
+            result.put(each.toLowerCase(), getTableVersion(databaseName, each).get());
+        }
+        return result;
+    }
+    
+    private AtomicLong getTableVersion(final String databaseName, final String tableName) {
+        return tableVersions.computeIfAbsent(String.join(".", String.valueOf(databaseName).toLowerCase(), tableName.toLowerCase()), unused -> new AtomicLong());
+    }
+    
+    /**
+     * Find cached result.
+     *
+     * @param key result cache key
+     * @return cached result, or empty if absent or read at older versions of logic tables
+     */
+    public Optional<ResultCacheEntry> find(final ResultCacheKey key) {
+        Cache<ResultCacheKey, ResultCacheEntry> cache = getContext().cache;
+        ResultCacheEntry result = cache.getIfPresent(key);
+        if (null == result) {
+            return Optional.empty();
+        }
+        if (!result.getTableVersions().equals(key.getTableVersions())) {
+            cache.asMap().remove(key, result);
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+    
+    /**
+     * Put result of query.
+     *
+     * @param key result cache key
+     * @param queryHeaders query headers
+     * @param rows merged rows
+     */
+    public void put(final ResultCacheKey key, final List<QueryHeader> queryHeaders, final List<List<Object>> rows) {
+        ResultCacheRowsSerializer.serialize(rows).ifPresent(each -> put(key, queryHeaders, each));
+    }
+    
+    void put(final ResultCacheKey key, final List<QueryHeader> queryHeaders, final byte[] serializedRows) {
+        CacheContext currentContext = getContext();
+        if (currentContext.metaDataVersion != key.getMetaDataVersion()) {
+            return;
+        }
+        currentContext.cache.put(key, new ResultCacheEntry(Collections.unmodifiableList(new ArrayList<>(queryHeaders)), serializedRows, key.getTableVersions(), key.getTtlMillis()));
+    }
+    
+    /**
+     * Cache merged result of query while it is iterated.
+     *
+     * @param key result cache key
+     * @param queryHeaders query headers
+     * @param mergedResult merged result
+     * @return merged result which puts its rows into result cache once all of them are iterated
+     */
+    public MergedResult cache(final ResultCacheKey key, final List<QueryHeader> queryHeaders, final MergedResult mergedResult) {
+        return new ResultCachingMergedResult(mergedResult, key, queryHeaders, getContext().maxBytes);
+    }
+    
+    /**
+     * Invalidate cached results of logic tables whose data changed.
+     * 
+     * <p>Logic tables changed in transaction are invalidated again when the transaction ends, because uncommitted changes are invisible to other sessions.</p>
+     *
+     * @param connectionSession connection session
+     * @param tableNames logic table names
+     */
+    public void invalidate(final ConnectionSession connectionSession, final Collection<String> tableNames) {
+        ResultCachePolicy policy = getContext().policy;
+        if (policy.isEmpty()) {
+            return;
+        }
+        Collection<String> cachedTableNames = tableNames.stream().filter(policy::contains).collect(Collectors.toList());
+        if (cachedTableNames.isEmpty()) {
+            return;
+        }
+        increaseTableVersions(connectionSession.getDatabaseName(), cachedTableNames);
+        if (connectionSession.getTransactionStatus().isInTransaction()) {
+            connectionSession.getResultCacheInvalidatedTables().addAll(cachedTableNames);
+        }
+    }
+    
+    /**
+     * Invalidate cached results of logic table changed on other compute nodes.
+     *
+     * @param event result cache invalidation event
+     */
+    @Subscribe
+    public void invalidate(final ResultCacheInvalidationEvent event) {
+        getTableVersion(event.getDatabaseName(), event.getTableName()).incrementAndGet();
+    }
+    
+    /**
+     * Invalidate cached results of logic tables changed in the ended transaction.
+     *
+     * @param connectionSession connection session
+     */
+    public void invalidateTransactionChanges(final ConnectionSession connectionSession) {
+        Collection<String> tableNames = connectionSession.getResultCacheInvalidatedTables();
+        if (tableNames.isEmpty()) {
+            return;
+        }
+        increaseTableVersions(connectionSession.getDatabaseName(), new ArrayList<>(tableNames));
+        tableNames.clear();
+    }
+    
+    private void increaseTableVersions(final String databaseName, final Collection<String> tableNames) {
+        for (String each : tableNames) {
+            getTableVersion(databaseName, each).incrementAndGet();
+        }
+        InstanceContext instanceContext = ProxyContext.getInstance().getContextManager().getInstanceContext();
+        if (instanceContext.isCluster()) {
+            instanceContext.getEventBusContext().post(new TableDataChangedEvent(databaseName, tableNames));
+        }
+    }
+    
+    private CacheContext getContext() {
+        ContextManager contextManager = ProxyContext.getInstance().getContextManager();
+        long metaDataVersion = contextManager.getMetaDataVersion();
+        CacheContext result = context;
+        if (null == result || metaDataVersion != result.metaDataVersion) {
+            result = new CacheContext(metaDataVersion, contextManager.getMetaDataContexts().getMetaData().getProps());
+            context = result;
+        }
+        return result;
+    }
+    
+    private static final class CacheContext {
+        
+        private final long metaDataVersion;
+        
+        private final ResultCachePolicy policy;
+        
+        private final long maxBytes;
+        
+        private final Cache<ResultCacheKey, ResultCacheEntry> cache;
+        
+        CacheContext(final long metaDataVersion, final ConfigurationProperties props) {
+            this.metaDataVersion = metaDataVersion;
+            String tables = props.getValue(ConfigurationPropertyKey.PROXY_BACKEND_RESULT_CACHE_TABLES);
+            Long ttlMillis = props.getValue(ConfigurationPropertyKey.PROXY_BACKEND_RESULT_CACHE_TTL_MILLISECONDS);
+            Long maxBytes = props.getValue(ConfigurationPropertyKey.PROXY_BACKEND_RESULT_CACHE_MAX_BYTES);
+            boolean enabled = null != tables && null != ttlMillis && null != maxBytes;
+            policy = new ResultCachePolicy(enabled ? tables : "", enabled ? ttlMillis : 0L);
+            this.maxBytes = enabled ? Math.max(0L, maxBytes) : 0L;
+            cache = Caffeine.newBuilder().maximumWeight(this.maxBytes)
+                    .weigher((ResultCacheKey key, ResultCacheEntry value) -> value.getSerializedRows().length).expireAfter(new TTLExpiry()).build();
+        }
+    }
+    
+    private static final class TTLExpiry implements Expiry<ResultCacheKey, ResultCacheEntry> {
+        
+        @Override
+        public long expireAfterCreate(final ResultCacheKey key, final ResultCacheEntry value, final long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(value.getTtlMillis());
+        }
+        
+        @Override
+        public long expireAfterUpdate(final ResultCacheKey key, final ResultCacheEntry value, final long currentTime, final long currentDuration) {
+            return TimeUnit.MILLISECONDS.toNanos(value.getTtlMillis());
+        }
+        
+        @Override
+        public long expireAfterRead(final ResultCacheKey key, final ResultCacheEntry value, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.cache;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Result cache key.
+ * 
+ * <p>Keys are equal by database name, normalized SQL and parameters, versions of logic tables and TTL are taken when the key is created.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+@Getter(AccessLevel.PACKAGE)
+@EqualsAndHashCode
+public final class ResultCacheKey {
+    
+    private final String databaseName;
+    
+    private final String sql;
+    
+    private final Object[] parameters;
+    
+    @EqualsAndHashCode.Exclude
+    private final Map<String, Long> tableVersions;
+    
+    @EqualsAndHashCode.Exclude
+    private final long ttlMillis;
+    
+    @EqualsAndHashCode.Exclude
+    private final long metaDataVersion;
+}
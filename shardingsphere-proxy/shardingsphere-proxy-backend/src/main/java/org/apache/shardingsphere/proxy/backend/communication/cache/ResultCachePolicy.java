@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Result cache policy, which tells logic tables whose query results are cached and their TTL.
+ */
+@Slf4j
+public final class ResultCachePolicy {
+    
+    private final Map<String, Long> tableTTLMillis = new HashMap<>();
+    
+    public ResultCachePolicy(final String tables, final long defaultTTLMillis) {
+        for (String each : tables.split(",")) {
+            String table = each.trim();
+            if (!table.isEmpty()) {
+                putTable(table, defaultTTLMillis);
+            }
+        }
+    }
+    
+    private void putTable(final String table, final long defaultTTLMillis) {
+        int separatorIndex = table.indexOf(':');
+        if (-1 == separatorIndex) {
+            tableTTLMillis.put(table.toLowerCase(), defaultTTLMillis);
+            return;
+        }
+        try {
+            tableTTLMillis.put(table.substring(0, separatorIndex).trim().toLowerCase(), Long.parseLong(table.substring(separatorIndex + 1).trim()));
+        } catch (final NumberFormatException ex) {
+            log.warn("Ignore result cache policy `{}` with invalid TTL.", table);
+        }
+    }
+    
+    /**
+     * Judge whether no logic table is cached.
+     *
+     * @return no logic table is cached or not
+     */
+    public boolean isEmpty() {
+        return tableTTLMillis.isEmpty();
+    }
+    
+    /**
+     * Judge whether query results of logic table are cached.
+     *
+     * @param tableName logic table name
+     * @return query results of logic table are cached or not
+     */
+    public boolean contains(final String tableName) {
+        return tableTTLMillis.containsKey(tableName.toLowerCase());
+    }
+    
+    /**
+     * Find TTL of query results on logic tables.
+     *
+     * @param tableNames logic table names
+     * @return minimum TTL of logic tables in milliseconds, or empty if any logic table is not cached
+     */
+    public Optional<Long> findTTLMillis(final Collection<String> tableNames) {
+        if (tableNames.isEmpty()) {
+            return Optional.empty();
+        }
+        long result = Long.MAX_VALUE;
+        for (String each : tableNames) {
+            Long ttlMillis = tableTTLMillis.get(each.toLowerCase());
+            if (null == ttlMillis || ttlMillis <= 0L) {
+                return Optional.empty();
+            }
+            result = Math.min(result, ttlMillis);
+        }
+        return Optional.of(result);
+    }
+}
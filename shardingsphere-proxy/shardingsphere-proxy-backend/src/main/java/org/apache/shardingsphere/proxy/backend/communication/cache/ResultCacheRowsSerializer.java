@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.cache;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Serializer of rows held by result cache.
+ * 
+ * <p>Each value is written as a type tag followed by its binary form, rows with values of other types are not serializable.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ResultCacheRowsSerializer {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte STRING = 1;
+    
+    private static final byte INTEGER = 2;
+    
+    private static final byte LONG = 3;
+    
+    private static final byte SHORT = 4;
+    
+    private static final byte BYTE = 5;
+    
+    private static final byte BOOLEAN = 6;
+    
+    private static final byte FLOAT = 7;
+    
+    private static final byte DOUBLE = 8;
+    
+    private static final byte BIG_DECIMAL = 9;
+    
+    private static final byte BIG_INTEGER = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte DATE = 12;
+    
+    private static final byte TIME = 13;
+    
+    private static final byte TIMESTAMP = 14;
+    
+    private static final byte LOCAL_DATE = 15;
+    
+    private static final byte LOCAL_TIME = 16;
+    
+    private static final byte LOCAL_DATE_TIME = 17;
+    
+    /**
+     * Serialize rows.
+     *
+     * @param rows rows
+     * @return serialized rows, or empty if any value is not serializable
+     */
+    public static Optional<byte[]> serialize(final List<List<Object>> rows) {
+        ResultCacheRowsWriter writer = new ResultCacheRowsWriter(Long.MAX_VALUE);
+        for (List<Object> each : rows) {
+            if (!writer.write(each)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(writer.toByteArray());
+    }
+    
+    static boolean writeRow(final DataOutputStream output, final List<Object> row) throws IOException {
+        output.writeInt(row.size());
+        for (Object each : row) {
+            if (!writeValue(output, each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean writeValue(final DataOutputStream output, final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+            return true;
+        }
+        if (value instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(output, ((String) value).getBytes(StandardCharsets.UTF_8));
+            return true;
+        }
+        if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes(output, (byte[]) value);
+            return true;
+        }
+        if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+            return true;
+        }
+        return value instanceof Number ? writeNumber(output, (Number) value) : writeTemporal(output, value);
+    }
+    
+    private static boolean writeNumber(final DataOutputStream output, final Number value) throws IOException {
+        if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt(value.intValue());
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong(value.longValue());
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort(value.shortValue());
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte(value.byteValue());
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat(value.floatValue());
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble(value.doubleValue());
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+            output.writeInt(((BigDecimal) value).scale());
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, ((BigInteger) value).toByteArray());
+        } else {
+            return false;
+        }
+        return true;
+    }
+    
+    private static boolean writeTemporal(final DataOutputStream output, final Object value) throws IOException {
+        if (value instanceof Timestamp) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof Date) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (value instanceof Time) {
+            output.writeByte(TIME);
+            output.writeLong(((Time) value).getTime());
+        } else if (value instanceof LocalDateTime) {
+            output.writeByte(LOCAL_DATE_TIME);
+            output.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            output.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else if (value instanceof LocalDate) {
+            output.writeByte(LOCAL_DATE);
+            output.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            output.writeByte(LOCAL_TIME);
+            output.writeLong(((LocalTime) value).toNanoOfDay());
+        } else {
+            return false;
+        }
+        return true;
+    }
+    
+    private static void writeBytes(final DataOutputStream output, final byte[] value) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+    
+    /**
+     * Deserialize rows.
+     *
+     * @param serializedRows serialized rows
+     * @return rows
+     */
+    @SneakyThrows(IOException.class)
+    public static List<List<Object>> deserialize(final byte[] serializedRows) {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(serializedRows));
+        int rowCount = input.readInt();
+        List<List<Object>> result = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            int columnCount = input.readInt();
+            List<Object> row = new ArrayList<>(columnCount);
+            for (int j = 0; j < columnCount; j++) {
+                row.add(readValue(input));
+            }
+            result.add(row);
+        }
+        return result;
+    }
+    
+    private static Object readValue(final DataInputStream input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case SHORT:
+                return input.readShort();
+            case BYTE:
+                return input.readByte();
+            case BOOLEAN:
+                return input.readBoolean();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case BIG_DECIMAL:
+                return new BigDecimal(new BigInteger(readBytes(input)), input.readInt());
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case BYTES:
+                return readBytes(input);
+            default:
+                return readTemporal(input, type);
+        }
+    }
+    
+    private static Object readTemporal(final DataInputStream input, final byte type) throws IOException {
+        switch (type) {
+            case DATE:
+                return new Date(input.readLong());
+            case TIME:
+                return new Time(input.readLong());
+            case TIMESTAMP:
+                Timestamp result = new Timestamp(input.readLong());
+                result.setNanos(input.readInt());
+                return result;
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(input.readLong());
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.of(LocalDate.ofEpochDay(input.readLong()), LocalTime.ofNanoOfDay(input.readLong()));
+            default:
+                throw new IOException(String.format("Unknown value type `%s` of cached rows.", type));
+        }
+    }
+    
+    private static byte[] readBytes(final DataInputStream input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+}
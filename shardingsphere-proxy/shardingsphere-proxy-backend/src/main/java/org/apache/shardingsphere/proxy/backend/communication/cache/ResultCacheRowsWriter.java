@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.cache;
+
+import lombok.SneakyThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Writer of rows held by result cache, which serializes rows one by one within maximum bytes.
+ */
+final class ResultCacheRowsWriter {
+    
+    private final long maxBytes;
+    
+    private ByteArrayOutputStream rowsOutput = new ByteArrayOutputStream();
+    
+    private DataOutputStream output = new DataOutputStream(rowsOutput);
+    
+    private int rowCount;
+    
+    ResultCacheRowsWriter(final long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+    
+    /**
+     * Write row.
+     * 
+     * <p>Once a row is not serializable or serialized rows exceed maximum bytes, written rows are discarded and no more rows are written.</p>
+     *
+     * @param row row
+     * @return whether row is written
+     */
+    @SneakyThrows(IOException.class)
+    boolean write(final List<Object> row) {
+        if (null == output) {
+            return false;
+        }
+        if (!ResultCacheRowsSerializer.writeRow(output, row) || rowsOutput.size() + Integer.BYTES > maxBytes) {
+            rowsOutput = null;
+            output = null;
+            return false;
+        }
+        rowCount++;
+        return true;
+    }
+    
+    /**
+     * Get serialized rows.
+     *
+     * @return serialized rows
+     */
+    byte[] toByteArray() {
+        byte[] rows = rowsOutput.toByteArray();
+        return ByteBuffer.allocate(Integer.BYTES + rows.length).putInt(rowCount).put(rows).array();
+    }
+}
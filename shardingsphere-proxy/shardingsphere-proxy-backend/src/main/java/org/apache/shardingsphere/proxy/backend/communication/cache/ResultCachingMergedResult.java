@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.cache;
+
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * Merged result which puts its rows into result cache once all of them are iterated.
+ * 
+ * <p>Rows are still streamed from the underlying merged result, and serialized while being iterated.
+ * Caching is given up as soon as serialized rows exceed maximum bytes of result cache or any value is not serializable,
+ * and nothing is cached if the merged result is closed before all rows are iterated.</p>
+ */
+public final class ResultCachingMergedResult implements MergedResult {
+    
+    private final MergedResult mergedResult;
+    
+    private final ResultCacheKey key;
+    
+    private final List<QueryHeader> queryHeaders;
+    
+    private ResultCacheRowsWriter writer;
+    
+    private List<Object> currentRow;
+    
+    private boolean wasNull;
+    
+    public ResultCachingMergedResult(final MergedResult mergedResult, final ResultCacheKey key, final List<QueryHeader> queryHeaders, final long maxBytes) {
+        this.mergedResult = mergedResult;
+        this.key = key;
+        this.queryHeaders = queryHeaders;
+        writer = new ResultCacheRowsWriter(maxBytes);
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        currentRow = null;
+        boolean result = mergedResult.next();
+        if (null == writer) {
+            return result;
+        }
+        if (!result) {
+            ResultCache.getInstance().put(key, queryHeaders, writer.toByteArray());
+            writer = null;
+            return false;
+        }
+        currentRow = new ArrayList<>(queryHeaders.size());
+        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+            currentRow.add(mergedResult.getValue(columnIndex, Object.class));
+        }
+        if (!writer.write(currentRow)) {
+            writer = null;
+        }
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (null == currentRow || Object.class != type) {
+            return mergedResult.getValue(columnIndex, type);
+        }
+        Object result = currentRow.get(columnIndex - 1);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return mergedResult.getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return mergedResult.getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return null == currentRow ? mergedResult.wasNull() : wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        writer = null;
+        mergedResult.close();
+    }
+}
@@ -31,15 +31,21 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.ExecutorStatementManager;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.federation.executor.FederationContext;
 import org.apache.shardingsphere.infra.federation.executor.FederationExecutor;
 import org.apache.shardingsphere.infra.federation.executor.FederationExecutorFactory;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataMergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtil;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.communication.ProxySQLExecutor;
+import org.apache.shardingsphere.proxy.backend.communication.cache.ResultCache;
+import org.apache.shardingsphere.proxy.backend.communication.cache.ResultCacheEntry;
+import org.apache.shardingsphere.proxy.backend.communication.cache.ResultCacheKey;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
@@ -63,7 +69,10 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
 
 /**
  * JDBC database communication engine.
@@ -80,6 +89,8 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
     
     private volatile FederationExecutor federationExecutor;
     
+    private volatile ResultCacheKey resultCacheKey;
+    
     public JDBCDatabaseCommunicationEngine(final String driverType, final ShardingSphereDatabase database, final LogicSQL logicSQL, final JDBCBackendConnection backendConnection) {
         super(driverType, database, logicSQL, backendConnection);
         proxySQLExecutor = new ProxySQLExecutor(driverType, backendConnection, this);
@@ -112,18 +123,13 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public ResponseHeader execute() throws SQLException {
-        LogicSQL logicSQL = getLogicSQL();
-        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
-        ExecutionContext executionContext = getKernelProcessor().generateExecutionContext(
-                logicSQL, getDatabase(), metaDataContexts.getMetaData().getGlobalRuleMetaData(), metaDataContexts.getMetaData().getProps());
-        // TODO move federation route logic to binder
-        SQLStatementContext<?> sqlStatementContext = logicSQL.getSqlStatementContext();
-        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(backendConnection.getConnectionSession().getDatabaseName());
-        if (executionContext.getRouteContext().isFederated() || (sqlStatementContext instanceof SelectStatementContext
-                && SystemSchemaUtil.containsSystemSchema(sqlStatementContext.getDatabaseType(), sqlStatementContext.getTablesContext().getSchemaNames(), database))) {
-            prepareFederationExecutor();
-            ResultSet resultSet = doExecuteFederation(logicSQL, metaDataContexts);
-            return processExecuteFederation(resultSet, metaDataContexts);
+        Optional<ResponseHeader> cachedResponseHeader = findCachedResponseHeader();
+        if (cachedResponseHeader.isPresent()) {
+            return cachedResponseHeader.get();
+        }
+        ExecutionContext executionContext = generateExecutionContext();
+        if (isFederationRequired(executionContext)) {
+            return executeFederation();
         }
         if (executionContext.getExecutionUnits().isEmpty()) {
             return new UpdateResponseHeader(executionContext.getSqlStatementContext().getSqlStatement());
@@ -131,11 +137,89 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
         checkLockedDatabase(executionContext);
         List result = proxySQLExecutor.execute(executionContext);
+        return processExecuteResults(executionContext, result);
+    }
+    
+    /**
+     * Execute to database asynchronously.
+     * 
+     * <p>Federation and empty execution units are still executed on the caller thread.</p>
+     *
+     * @return future of backend response
+     */
+    @Override
+    public CompletableFuture<ResponseHeader> executeAsync() {
+        Optional<ResponseHeader> cachedResponseHeader = findCachedResponseHeader();
+        if (cachedResponseHeader.isPresent()) {
+            return CompletableFuture.completedFuture(cachedResponseHeader.get());
+        }
+        ExecutionContext executionContext = generateExecutionContext();
+        if (isFederationRequired(executionContext) || executionContext.getExecutionUnits().isEmpty()) {
+            return super.executeAsync();
+        }
+        proxySQLExecutor.checkExecutePrerequisites(executionContext);
+        checkLockedDatabase(executionContext);
+        return proxySQLExecutor.executeAsync(executionContext).thenApply(each -> {
+            try {
+                return processExecuteResults(executionContext, each);
+            } catch (final SQLException ex) {
+                throw new CompletionException(ex);
+            }
+        });
+    }
+    
+    private Optional<ResponseHeader> findCachedResponseHeader() {
+        resultCacheKey = ResultCache.getInstance().createKey(backendConnection.getConnectionSession(), getLogicSQL()).orElse(null);
+        if (null == resultCacheKey) {
+            return Optional.empty();
+        }
+        Optional<ResultCacheEntry> entry = ResultCache.getInstance().find(resultCacheKey);
+        if (!entry.isPresent()) {
+            return Optional.empty();
+        }
+        resultCacheKey = null;
+        setQueryHeaders(entry.get().getQueryHeaders());
+        setMergedResult(new LocalDataMergedResult(entry.get().getRows().stream().map(LocalDataQueryResultRow::new).collect(Collectors.toList())));
+        return Optional.of(new QueryResponseHeader(getQueryHeaders()));
+    }
+    
+    private ExecutionContext generateExecutionContext() {
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        return getKernelProcessor().generateExecutionContext(getLogicSQL(), getDatabase(), metaDataContexts.getMetaData().getGlobalRuleMetaData(), metaDataContexts.getMetaData().getProps());
+    }
+    
+    private boolean isFederationRequired(final ExecutionContext executionContext) {
+        // TODO move federation route logic to binder
+        SQLStatementContext<?> sqlStatementContext = getLogicSQL().getSqlStatementContext();
+        ShardingSphereDatabase database = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabase(backendConnection.getConnectionSession().getDatabaseName());
+        return executionContext.getRouteContext().isFederated() || (sqlStatementContext instanceof SelectStatementContext
+                && SystemSchemaUtil.containsSystemSchema(sqlStatementContext.getDatabaseType(), sqlStatementContext.getTablesContext().getSchemaNames(), database));
+    }
+    
+    private ResponseHeader executeFederation() throws SQLException {
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        prepareFederationExecutor();
+        ResultSet resultSet = doExecuteFederation(getLogicSQL(), metaDataContexts);
+        return processExecuteFederation(resultSet, metaDataContexts);
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ResponseHeader processExecuteResults(final ExecutionContext executionContext, final List result) throws SQLException {
         refreshMetaData(executionContext);
         Object executeResultSample = result.iterator().next();
-        return executeResultSample instanceof QueryResult
-                ? processExecuteQuery(executionContext, result, (QueryResult) executeResultSample)
-                : processExecuteUpdate(executionContext, result);
+        if (!(executeResultSample instanceof QueryResult)) {
+            return processExecuteUpdate(executionContext, result);
+        }
+        ResponseHeader responseHeader = processExecuteQuery(executionContext, result, (QueryResult) executeResultSample);
+        if (null != resultCacheKey) {
+            cacheMergedResult(resultCacheKey);
+        }
+        return responseHeader;
+    }
+    
+    private void cacheMergedResult(final ResultCacheKey key) {
+        setMergedResult(ResultCache.getInstance().cache(key, getQueryHeaders(), getMergedResult()));
+        setPassthroughQueryResult(null);
     }
     
     private void prepareFederationExecutor() {
@@ -190,6 +274,11 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeFederationExecutor().ifPresent(result::add);
+        try {
+            super.close();
+        } catch (final SQLException ex) {
+            result.add(ex);
+        }
         if (result.isEmpty()) {
             return;
         }
@@ -213,7 +302,11 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
     
     private Collection<SQLException> closeStatements() {
         Collection<SQLException> result = new LinkedList<>();
+        ExecutorStatementManager<?, ?, ?> statementManager = backendConnection.getConnectionSession().getStatementManager();
         for (Statement each : cachedStatements) {
+            if (statementManager instanceof JDBCBackendStatement && ((JDBCBackendStatement) statementManager).releasePreparedStatement(each)) {
+                continue;
+            }
             try {
                 each.cancel();
                 each.close();
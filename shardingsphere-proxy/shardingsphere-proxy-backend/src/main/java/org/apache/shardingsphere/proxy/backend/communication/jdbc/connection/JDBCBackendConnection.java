@@ -22,9 +22,11 @@ import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
 import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.JDBCBackendTransactionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
@@ -96,6 +98,11 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         for (Connection each : result) {
             replayTransactionOption(each);
         }
+        if (isSessionVariablesReplayEnabled()) {
+            for (Connection each : result) {
+                connectionSession.getSessionVariableRecorder().replayVariables(each);
+            }
+        }
         if (connectionSession.getTransactionStatus().isInTransaction()) {
             for (Connection each : result) {
                 replayMethodsInvocation(each);
@@ -122,6 +129,26 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         }
     }
     
+    /**
+     * Replay session variables on cached connections.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void replaySessionVariables() throws SQLException {
+        synchronized (cachedConnections) {
+            if (cachedConnections.isEmpty() || !isSessionVariablesReplayEnabled()) {
+                return;
+            }
+            for (Connection each : cachedConnections.values()) {
+                connectionSession.getSessionVariableRecorder().replayVariables(each);
+            }
+        }
+    }
+    
+    private boolean isSessionVariablesReplayEnabled() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_SESSION_VARIABLES_REPLAY_ENABLED);
+    }
+    
     /**
      * Whether execute SQL serial or not.
      *
@@ -245,14 +272,20 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
     public Collection<SQLException> closeConnections(final boolean forceRollback) {
         Collection<SQLException> result = new LinkedList<>();
         synchronized (cachedConnections) {
+            boolean resetSessionVariables = !cachedConnections.isEmpty() && isSessionVariablesReplayEnabled();
             for (Connection each : cachedConnections.values()) {
+                invalidatePreparedStatements(each);
                 try {
                     if (forceRollback && connectionSession.getTransactionStatus().isInTransaction()) {
                         each.rollback();
                     }
-                    each.close();
+                    if (resetSessionVariables) {
+                        connectionSession.getSessionVariableRecorder().resetVariables(each);
+                    }
                 } catch (final SQLException ex) {
                     result.add(ex);
+                } finally {
+                    closeConnection(each, result);
                 }
             }
             cachedConnections.clear();
@@ -262,4 +295,18 @@ public final class JDBCBackendConnection implements BackendConnection<Void>, Exe
         }
         return result;
     }
+    
+    private void closeConnection(final Connection connection, final Collection<SQLException> exceptions) {
+        try {
+            connection.close();
+        } catch (final SQLException ex) {
+            exceptions.add(ex);
+        }
+    }
+    
+    private void invalidatePreparedStatements(final Connection connection) {
+        if (connectionSession.getStatementManager() instanceof JDBCBackendStatement) {
+            ((JDBCBackendStatement) connectionSession.getStatementManager()).invalidatePreparedStatements(connection);
+        }
+    }
 }
@@ -17,9 +17,9 @@
 
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 
+import io.netty.channel.ChannelHandlerContext;
 import lombok.SneakyThrows;
 
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -29,20 +29,24 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 public final class ResourceLock {
     
-    private static final long DEFAULT_TIMEOUT_MILLISECONDS = 200L;
-    
     private final Lock lock = new ReentrantLock();
     
     private final Condition condition = lock.newCondition();
     
     /**
-     * Await.
+     * Await until channel is writable or inactive.
+     * 
+     * <p>Channel state is checked under the lock, so writability changed notification can not be lost between check and await.</p>
+     *
+     * @param context channel handler context
      */
     @SneakyThrows(InterruptedException.class)
-    public void doAwait() {
+    public void doAwait(final ChannelHandlerContext context) {
         lock.lock();
         try {
-            condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+            while (!context.channel().isWritable() && context.channel().isActive()) {
+                condition.await();
+            }
         } finally {
             lock.unlock();
         }
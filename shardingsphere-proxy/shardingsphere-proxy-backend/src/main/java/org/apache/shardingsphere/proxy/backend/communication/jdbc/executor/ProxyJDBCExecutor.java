@@ -23,10 +23,12 @@ import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.JDBCDatabaseCommunicationEngine;
@@ -36,6 +38,7 @@ import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Proxy JDBC executor.
@@ -82,4 +85,48 @@ public final class ProxyJDBCExecutor {
             ExecuteProcessEngine.clean();
         }
     }
+    
+    /**
+     * Execute asynchronously.
+     *
+     * @param logicSQL logic SQL
+     * @param executionGroupContext execution group context
+     * @param isReturnGeneratedKeys is return generated keys
+     * @param isExceptionThrown is exception thrown
+     * @return future of execute results
+     */
+    public CompletableFuture<List<ExecuteResult>> executeAsync(final LogicSQL logicSQL, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                               final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) {
+        try {
+            MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+            EventBusContext eventBusContext = ProxyContext.getInstance().getContextManager().getInstanceContext().getEventBusContext();
+            ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
+            DatabaseType protocolType = database.getProtocolType();
+            DatabaseType databaseType = database.getResource().getDatabaseType();
+            ExecuteProcessEngine.initialize(logicSQL, executionGroupContext, eventBusContext);
+            boolean isProcessReported = ExecutorDataMap.getValue().containsKey(ExecuteProcessConstants.EXECUTE_ID.name());
+            SQLStatementContext<?> context = logicSQL.getSqlStatementContext();
+            return jdbcExecutor.executeAsync(executionGroupContext,
+                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, databaseType, context.getSqlStatement(), databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown,
+                            true),
+                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, databaseType, context.getSqlStatement(), databaseCommunicationEngine, isReturnGeneratedKeys, isExceptionThrown,
+                            false))
+                    .whenComplete((unused, ex) -> finishProcess(executionGroupContext.getExecutionID(), isProcessReported, eventBusContext));
+        } finally {
+            ExecutorDataMap.getValue().remove(ExecuteProcessConstants.EXECUTE_ID.name());
+        }
+    }
+    
+    private void finishProcess(final String executionID, final boolean isProcessReported, final EventBusContext eventBusContext) {
+        if (!isProcessReported) {
+            return;
+        }
+        // execute process engine reads execute ID from executor data map of current thread, which is not the thread initialized it
+        ExecutorDataMap.getValue().put(ExecuteProcessConstants.EXECUTE_ID.name(), executionID);
+        try {
+            ExecuteProcessEngine.finish(executionID, eventBusContext);
+        } finally {
+            ExecuteProcessEngine.clean();
+        }
+    }
 }
@@ -20,10 +20,12 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.statement;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.db.protocol.parameter.TypeUnspecifiedSQLParameter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCStatementManager;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCPreparedStatementCache;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.proxy.backend.communication.SQLStatementDatabaseHolder;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -39,12 +41,14 @@ import java.util.Optional;
 /**
  * JDBC backend statement.
  */
-@Getter
-@Setter
 public final class JDBCBackendStatement implements ExecutorJDBCStatementManager {
     
+    @Getter
+    @Setter
     private String databaseName;
     
+    private volatile JDBCPreparedStatementCache preparedStatementCache;
+    
     @Override
     public Statement createStorageResource(final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
         Statement result = connection.createStatement();
@@ -58,9 +62,7 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
     public Statement createStorageResource(final ExecutionUnit executionUnit, final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
         String sql = executionUnit.getSqlUnit().getSql();
         List<Object> parameters = executionUnit.getSqlUnit().getParameters();
-        PreparedStatement result = option.isReturnGeneratedKeys()
-                ? connection.prepareStatement(executionUnit.getSqlUnit().getSql(), Statement.RETURN_GENERATED_KEYS)
-                : connection.prepareStatement(sql);
+        PreparedStatement result = borrowOrPrepareStatement(sql, connection, connectionMode, option);
         for (int i = 0; i < parameters.size(); i++) {
             Object parameter = parameters.get(i);
             if (parameter instanceof TypeUnspecifiedSQLParameter) {
@@ -75,6 +77,51 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
         return result;
     }
     
+    private PreparedStatement borrowOrPrepareStatement(final String sql, final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
+        JDBCPreparedStatementCache cache = getPreparedStatementCache();
+        Optional<PreparedStatement> cachedStatement = cache.borrow(connection, sql, connectionMode, option);
+        if (cachedStatement.isPresent()) {
+            return cachedStatement.get();
+        }
+        PreparedStatement result = option.isReturnGeneratedKeys() ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+        cache.register(connection, sql, connectionMode, option, result);
+        return result;
+    }
+    
+    private JDBCPreparedStatementCache getPreparedStatementCache() {
+        if (null == preparedStatementCache) {
+            synchronized (this) {
+                if (null == preparedStatementCache) {
+                    preparedStatementCache = new JDBCPreparedStatementCache(
+                            ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                                    .<Integer>getValue(ConfigurationPropertyKey.PREPARED_STATEMENT_CACHE_SIZE_PER_CONNECTION));
+                }
+            }
+        }
+        return preparedStatementCache;
+    }
+    
+    /**
+     * Release statement back to prepared statement cache.
+     * 
+     * @param statement statement to be released
+     * @return whether statement is taken over by cache, caller should close statement by itself if not
+     */
+    public boolean releasePreparedStatement(final Statement statement) {
+        return null != preparedStatementCache && preparedStatementCache.release(statement);
+    }
+    
+    /**
+     * Invalidate cached prepared statements of backend connection.
+     * 
+     * @param connection backend connection
+     */
+    public void invalidatePreparedStatements(final Connection connection) {
+        if (null != preparedStatementCache) {
+            preparedStatementCache.invalidate(connection);
+        }
+    }
+    
     private void setFetchSize(final Statement statement) throws SQLException {
         DatabaseType databaseType = ProxyContext.getInstance().getContextManager().getMetaDataContexts()
                 .getMetaData().getDatabase(null == databaseName ? SQLStatementDatabaseHolder.get() : databaseName).getResource().getDatabaseType();
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction;
 
 import org.apache.shardingsphere.proxy.backend.communication.TransactionManager;
+import org.apache.shardingsphere.proxy.backend.communication.cache.ResultCache;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.sharding.merge.ddl.fetch.FetchOrderByValueGroupsHolder;
@@ -85,6 +86,7 @@ public final class JDBCBackendTransactionManager implements TransactionManager<V
                 connection.getConnectionSession().getTransactionStatus().setRollbackOnly(false);
                 TransactionHolder.clear();
                 FetchOrderByValueGroupsHolder.remove();
+                ResultCache.getInstance().invalidateTransactionChanges(connection.getConnectionSession());
             }
         }
         return null;
@@ -104,6 +106,7 @@ public final class JDBCBackendTransactionManager implements TransactionManager<V
                 connection.getConnectionSession().getTransactionStatus().setRollbackOnly(false);
                 TransactionHolder.clear();
                 FetchOrderByValueGroupsHolder.remove();
+                ResultCache.getInstance().invalidateTransactionChanges(connection.getConnectionSession());
             }
         }
         return null;
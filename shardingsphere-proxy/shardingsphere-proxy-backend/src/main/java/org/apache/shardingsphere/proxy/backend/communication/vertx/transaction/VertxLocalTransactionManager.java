@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.backend.communication.vertx.transaction;
 import io.vertx.core.Future;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.proxy.backend.communication.TransactionManager;
+import org.apache.shardingsphere.proxy.backend.communication.cache.ResultCache;
 import org.apache.shardingsphere.proxy.backend.communication.vertx.VertxBackendConnection;
 
 /**
@@ -47,7 +48,7 @@ public final class VertxLocalTransactionManager implements TransactionManager<Fu
         }
         connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
         connection.getConnectionPostProcessors().clear();
-        return connection.executeInAllCachedConnections("commit");
+        return connection.executeInAllCachedConnections("commit").onComplete(unused -> ResultCache.getInstance().invalidateTransactionChanges(connection.getConnectionSession()));
     }
     
     @Override
@@ -57,7 +58,7 @@ public final class VertxLocalTransactionManager implements TransactionManager<Fu
         }
         connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
         connection.getConnectionPostProcessors().clear();
-        return connection.executeInAllCachedConnections("rollback");
+        return connection.executeInAllCachedConnections("rollback").onComplete(unused -> ResultCache.getInstance().invalidateTransactionChanges(connection.getConnectionSession()));
     }
     
     @Override
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Proxy backend handler.
@@ -50,6 +52,21 @@ public interface ProxyBackendHandler {
         }
     }
     
+    /**
+     * Execute command asynchronously.
+     *
+     * @return future of response header
+     */
+    default CompletableFuture<ResponseHeader> executeAsync() {
+        CompletableFuture<ResponseHeader> result = new CompletableFuture<>();
+        try {
+            result.complete(execute());
+        } catch (final SQLException ex) {
+            result.completeExceptionally(ex);
+        }
+        return result;
+    }
+    
     /**
      * Goto next result value.
      *
@@ -70,6 +87,16 @@ public interface ProxyBackendHandler {
         return new QueryResponseRow(Collections.emptyList());
     }
     
+    /**
+     * Get row data for text protocol.
+     *
+     * @return row data for text protocol
+     * @throws SQLException SQL exception
+     */
+    default List<Object> getTextRowData() throws SQLException {
+        return getRowData().getData();
+    }
+    
     /**
      * Close handler.
      *
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.proxy.backend.handler.admin.mysql;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.spi.type.typed.TypedSPIRegistry;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatement;
 
 import java.util.stream.Collectors;
@@ -31,9 +33,27 @@ public final class DefaultMySQLSessionVariableHandler implements MySQLSessionVar
     
     @Override
     public void handle(final ConnectionSession connectionSession, final SetStatement setStatement) {
+        for (VariableAssignSegment each : setStatement.getVariableAssigns()) {
+            if (isUserVariable(each)) {
+                connectionSession.getSessionVariableRecorder().setUserVariable(each.getVariable().getVariable().substring(1), each.getAssignValue());
+            } else if (isSessionVariableWithoutHandler(each)) {
+                connectionSession.getSessionVariableRecorder().setVariable(each.getVariable().getVariable(), each.getAssignValue());
+            }
+        }
         if (log.isDebugEnabled()) {
-            log.debug("Set statement {} was discarded.", setStatement.getVariableAssigns().stream()
+            log.debug("Set statement {} was recorded.", setStatement.getVariableAssigns().stream()
                     .map(segment -> String.format("%s %s = %s", segment.getVariable().getScope(), segment.getVariable().getVariable(), segment.getAssignValue())).collect(Collectors.joining(", ")));
         }
     }
+    
+    private boolean isUserVariable(final VariableAssignSegment variableAssign) {
+        String variableName = variableAssign.getVariable().getVariable();
+        return null == variableAssign.getVariable().getScope() && variableName.startsWith("@") && !variableName.startsWith("@@");
+    }
+    
+    private boolean isSessionVariableWithoutHandler(final VariableAssignSegment variableAssign) {
+        String scope = variableAssign.getVariable().getScope();
+        return (null == scope || "session".equalsIgnoreCase(scope) || "local".equalsIgnoreCase(scope))
+                && !TypedSPIRegistry.findRegisteredService(MySQLSessionVariableHandler.class, variableAssign.getVariable().getVariable()).isPresent();
+    }
 }
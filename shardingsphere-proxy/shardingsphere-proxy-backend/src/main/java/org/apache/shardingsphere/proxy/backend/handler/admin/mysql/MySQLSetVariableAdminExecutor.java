@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngineFactory;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.handler.admin.executor.DatabaseAdminExecutor;
@@ -56,6 +57,9 @@ public final class MySQLSetVariableAdminExecutor implements DatabaseAdminExecuto
         for (MySQLSessionVariableHandler each : handlers) {
             each.handle(connectionSession, setStatement);
         }
+        if (connectionSession.getBackendConnection() instanceof JDBCBackendConnection) {
+            ((JDBCBackendConnection) connectionSession.getBackendConnection()).replaySessionVariables();
+        }
         executeSetGlobalVariablesIfPresent(connectionSession);
     }
     
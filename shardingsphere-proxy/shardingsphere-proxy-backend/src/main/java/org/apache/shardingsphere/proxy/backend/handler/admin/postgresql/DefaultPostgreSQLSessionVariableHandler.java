@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.backend.handler.admin.postgresql;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatement;
 
 /**
@@ -29,7 +30,12 @@ public final class DefaultPostgreSQLSessionVariableHandler implements PostgreSQL
     
     @Override
     public void handle(final ConnectionSession connectionSession, final SetStatement setStatement) {
-        log.debug("Set statement {} was discarded.", setStatement.getVariableAssigns().stream().findFirst()
+        for (VariableAssignSegment each : setStatement.getVariableAssigns()) {
+            if (!"LOCAL".equalsIgnoreCase(each.getVariable().getScope())) {
+                connectionSession.getSessionVariableRecorder().setVariable(each.getVariable().getVariable(), each.getAssignValue());
+            }
+        }
+        log.debug("Set statement {} was recorded.", setStatement.getVariableAssigns().stream().findFirst()
                 .map(segment -> String.format("%s = %s", segment.getVariable().getVariable(), segment.getAssignValue())).orElseGet(setStatement::toString));
     }
 }
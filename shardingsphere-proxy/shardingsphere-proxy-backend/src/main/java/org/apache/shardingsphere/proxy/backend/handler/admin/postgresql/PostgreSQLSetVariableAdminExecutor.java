@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.handler.admin.postgresql;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.handler.admin.executor.DatabaseAdminExecutor;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
@@ -37,6 +38,9 @@ public final class PostgreSQLSetVariableAdminExecutor implements DatabaseAdminEx
     @Override
     public void execute(final ConnectionSession connectionSession) throws SQLException {
         PostgreSQLSessionVariableHandlerFactory.getHandler(getSetConfigurationParameter(setStatement)).handle(connectionSession, setStatement);
+        if (connectionSession.getBackendConnection() instanceof JDBCBackendConnection) {
+            ((JDBCBackendConnection) connectionSession.getBackendConnection()).replaySessionVariables();
+        }
     }
     
     private String getSetConfigurationParameter(final SetStatement setStatement) {
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Session variable recorder for {@link ConnectionSession}.
+ */
+public final class SessionVariableRecorder {
+    
+    private final Map<String, String> sessionVariables = new ConcurrentHashMap<>();
+    
+    private final Map<String, String> userVariables = new ConcurrentHashMap<>();
+    
+    /**
+     * Record session variable.
+     *
+     * @param variableName variable name
+     * @param assignValue assign value
+     */
+    public void setVariable(final String variableName, final String assignValue) {
+        sessionVariables.put(variableName.toLowerCase(Locale.ROOT), assignValue);
+    }
+    
+    /**
+     * Record user variable.
+     *
+     * @param variableName user variable name without leading {@code @}
+     * @param assignValue assign value
+     */
+    public void setUserVariable(final String variableName, final String assignValue) {
+        userVariables.put(variableName.toLowerCase(Locale.ROOT), assignValue);
+    }
+    
+    /**
+     * Judge whether no session variable recorded.
+     *
+     * @return no session variable recorded or not
+     */
+    public boolean isEmpty() {
+        return sessionVariables.isEmpty() && userVariables.isEmpty();
+    }
+    
+    /**
+     * Replay recorded session variables on connection.
+     *
+     * @param connection connection
+     * @throws SQLException SQL exception
+     */
+    public void replayVariables(final Connection connection) throws SQLException {
+        if (isEmpty()) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (Entry<String, String> entry : sessionVariables.entrySet()) {
+                statement.execute(String.format("SET %s = %s", entry.getKey(), entry.getValue()));
+            }
+            for (Entry<String, String> entry : userVariables.entrySet()) {
+                statement.execute(String.format("SET @%s = %s", entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+    
+    /**
+     * Reset recorded session variables on connection.
+     *
+     * @param connection connection
+     * @throws SQLException SQL exception
+     */
+    public void resetVariables(final Connection connection) throws SQLException {
+        if (isEmpty()) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String each : sessionVariables.keySet()) {
+                statement.execute(String.format("SET %s = DEFAULT", each));
+            }
+            for (String each : userVariables.keySet()) {
+                statement.execute(String.format("SET @%s = NULL", each));
+            }
+        }
+    }
+}
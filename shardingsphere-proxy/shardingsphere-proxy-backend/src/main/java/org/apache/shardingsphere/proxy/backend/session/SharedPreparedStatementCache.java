@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.function.Supplier;
+
+/**
+ * Prepared statement template cache shared by all {@link ConnectionSession}s.
+ * 
+ * <p>Templates hold immutable parts of prepared statements only, and are keyed by database name, SQL and version of meta data.</p>
+ *
+ * @param <T> type of prepared statement template
+ */
+public final class SharedPreparedStatementCache<T> {
+    
+    private static final int MAXIMUM_SIZE = 65535;
+    
+    private final Cache<TemplateKey, T> templates = Caffeine.newBuilder().softValues().maximumSize(MAXIMUM_SIZE).build();
+    
+    private volatile long metaDataVersion;
+    
+    /**
+     * Get prepared statement template, or load it if absent.
+     *
+     * @param databaseName database name
+     * @param sql SQL
+     * @param loader loader of prepared statement template
+     * @return prepared statement template
+     */
+    public T get(final String databaseName, final String sql, final Supplier<T> loader) {
+        long currentMetaDataVersion = ProxyContext.getInstance().getContextManager().getMetaDataVersion();
+        if (metaDataVersion != currentMetaDataVersion) {
+            metaDataVersion = currentMetaDataVersion;
+            templates.invalidateAll();
+        }
+        return templates.get(new TemplateKey(databaseName, sql, currentMetaDataVersion), unused -> loader.get());
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class TemplateKey {
+        
+        private final String databaseName;
+        
+        private final String sql;
+        
+        private final long metaDataVersion;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.cache;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ResultCachePolicyTest {
+    
+    @Test
+    public void assertContains() {
+        ResultCachePolicy policy = new ResultCachePolicy("t_config:30000, T_DICT", 60000L);
+        assertFalse(policy.isEmpty());
+        assertTrue(policy.contains("t_config"));
+        assertTrue(policy.contains("t_dict"));
+        assertFalse(policy.contains("t_order"));
+    }
+    
+    @Test
+    public void assertIsEmpty() {
+        assertTrue(new ResultCachePolicy("", 60000L).isEmpty());
+        assertTrue(new ResultCachePolicy("t_config:invalid", 60000L).isEmpty());
+    }
+    
+    @Test
+    public void assertFindTTLMillis() {
+        ResultCachePolicy policy = new ResultCachePolicy("t_config:30000,t_dict", 60000L);
+        assertThat(policy.findTTLMillis(Collections.singletonList("t_dict")), is(Optional.of(60000L)));
+        assertThat(policy.findTTLMillis(Arrays.asList("t_config", "t_dict")), is(Optional.of(30000L)));
+    }
+    
+    @Test
+    public void assertFindTTLMillisWithUncachedTable() {
+        ResultCachePolicy policy = new ResultCachePolicy("t_config:30000,t_dict:0", 60000L);
+        assertFalse(policy.findTTLMillis(Arrays.asList("t_config", "t_order")).isPresent());
+        assertFalse(policy.findTTLMillis(Collections.singletonList("t_dict")).isPresent());
+        assertFalse(policy.findTTLMillis(Collections.emptyList()).isPresent());
+    }
+}
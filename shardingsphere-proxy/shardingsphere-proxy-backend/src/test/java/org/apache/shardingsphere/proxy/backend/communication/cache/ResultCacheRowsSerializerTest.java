@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.cache;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ResultCacheRowsSerializerTest {
+    
+    @Test
+    public void assertSerializeAndDeserialize() {
+        Timestamp timestamp = new Timestamp(1640966400000L);
+        timestamp.setNanos(123456789);
+        List<List<Object>> rows = Arrays.asList(
+                Arrays.asList(null, "foo", 1, 2L, (short) 3, (byte) 4, true, 1.5F, 2.5D, new BigDecimal("3.14"), new BigInteger("12345678901234567890")),
+                Arrays.asList(new Date(1640966400000L), new Time(3600000L), timestamp, LocalDate.of(2022, 1, 1), LocalTime.of(1, 2, 3), LocalDateTime.of(2022, 1, 1, 1, 2, 3)));
+        Optional<byte[]> actual = ResultCacheRowsSerializer.serialize(rows);
+        assertTrue(actual.isPresent());
+        assertThat(ResultCacheRowsSerializer.deserialize(actual.get()), is(rows));
+    }
+    
+    @Test
+    public void assertSerializeAndDeserializeBytes() {
+        Optional<byte[]> actual = ResultCacheRowsSerializer.serialize(Collections.singletonList(Collections.singletonList(new byte[]{1, 2})));
+        assertTrue(actual.isPresent());
+        assertThat(ResultCacheRowsSerializer.deserialize(actual.get()).get(0).get(0), is(new byte[]{1, 2}));
+    }
+    
+    @Test
+    public void assertSerializeUnsupportedValue() {
+        assertFalse(ResultCacheRowsSerializer.serialize(Collections.singletonList(Collections.singletonList(new Object()))).isPresent());
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.cache;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataMergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.local.LocalDataQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.event.ResultCacheInvalidationEvent;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.util.ProxyContextRestorer;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ResultCacheTest extends ProxyContextRestorer {
+    
+    private static final AtomicLong META_DATA_VERSION = new AtomicLong(Long.MIN_VALUE);
+    
+    private final List<QueryHeader> queryHeaders = Collections.singletonList(new QueryHeader("db", "t_config", "k", "k", Types.VARCHAR, "VARCHAR", 32, 0, false, true, true, false));
+    
+    private final List<List<Object>> rows = Collections.singletonList(Collections.singletonList("foo"));
+    
+    private ContextManager contextManager;
+    
+    @Before
+    public void setUp() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_RESULT_CACHE_TABLES.getKey(), "t_config:30000");
+        initContextManager(props);
+    }
+    
+    private void initContextManager(final Properties props) {
+        MetaDataContexts metaDataContexts = new MetaDataContexts(mock(MetaDataPersistService.class),
+                new ShardingSphereMetaData(Collections.emptyMap(), mock(ShardingSphereRuleMetaData.class), new ConfigurationProperties(props)), mock(OptimizerContext.class));
+        contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts()).thenReturn(metaDataContexts);
+        when(contextManager.getMetaDataVersion()).thenReturn(META_DATA_VERSION.incrementAndGet());
+        ProxyContext.init(contextManager);
+    }
+    
+    @Test
+    public void assertFindAfterPut() {
+        ConnectionSession connectionSession = mockConnectionSession(false);
+        Optional<ResultCacheKey> key = ResultCache.getInstance().createKey(connectionSession, createSelectLogicSQL("SELECT * FROM t_config WHERE k = ?", "t_config"));
+        assertTrue(key.isPresent());
+        assertFalse(ResultCache.getInstance().find(key.get()).isPresent());
+        ResultCache.getInstance().put(key.get(), queryHeaders, rows);
+        Optional<ResultCacheKey> actualKey = ResultCache.getInstance().createKey(connectionSession, createSelectLogicSQL("SELECT *\n  FROM t_config WHERE k = ?  ", "t_config"));
+        assertTrue(actualKey.isPresent());
+        Optional<ResultCacheEntry> actual = ResultCache.getInstance().find(actualKey.get());
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getQueryHeaders(), is(queryHeaders));
+        assertThat(actual.get().getRows(), is(rows));
+    }
+    
+    @Test
+    public void assertCreateKeyWithUncachedTable() {
+        assertFalse(ResultCache.getInstance().createKey(mockConnectionSession(false), createSelectLogicSQL("SELECT * FROM t_order", "t_order")).isPresent());
+    }
+    
+    @Test
+    public void assertCreateKeyInTransaction() {
+        assertFalse(ResultCache.getInstance().createKey(mockConnectionSession(true), createSelectLogicSQL("SELECT * FROM t_config", "t_config")).isPresent());
+    }
+    
+    @Test
+    public void assertCreateKeyWithUpdateStatement() {
+        UpdateStatementContext sqlStatementContext = mock(UpdateStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getTableNames()).thenReturn(Collections.singletonList("t_config"));
+        LogicSQL logicSQL = new LogicSQL(sqlStatementContext, "UPDATE t_config SET v = 1", Collections.emptyList());
+        assertFalse(ResultCache.getInstance().createKey(mockConnectionSession(false), logicSQL).isPresent());
+    }
+    
+    @Test
+    public void assertFindAfterInvalidate() {
+        ConnectionSession connectionSession = mockConnectionSession(false);
+        ResultCacheKey key = ResultCache.getInstance().createKey(connectionSession, createSelectLogicSQL("SELECT * FROM t_config", "t_config")).orElseThrow(IllegalStateException::new);
+        ResultCache.getInstance().put(key, queryHeaders, rows);
+        ResultCache.getInstance().invalidate(connectionSession, Arrays.asList("T_CONFIG", "t_order"));
+        ResultCacheKey actualKey = ResultCache.getInstance().createKey(connectionSession, createSelectLogicSQL("SELECT * FROM t_config", "t_config")).orElseThrow(IllegalStateException::new);
+        assertFalse(ResultCache.getInstance().find(actualKey).isPresent());
+    }
+    
+    @Test
+    public void assertFindAfterInvalidateByEvent() {
+        ConnectionSession connectionSession = mockConnectionSession(false);
+        ResultCacheKey key = ResultCache.getInstance().createKey(connectionSession, createSelectLogicSQL("SELECT * FROM t_config", "t_config")).orElseThrow(IllegalStateException::new);
+        ResultCache.getInstance().put(key, queryHeaders, rows);
+        ResultCache.getInstance().invalidate(new ResultCacheInvalidationEvent("db", "t_config"));
+        ResultCacheKey actualKey = ResultCache.getInstance().createKey(connectionSession, createSelectLogicSQL("SELECT * FROM t_config", "t_config")).orElseThrow(IllegalStateException::new);
+        assertFalse(ResultCache.getInstance().find(actualKey).isPresent());
+    }
+    
+    @Test
+    public void assertPutAfterMetaDataChanged() {
+        ConnectionSession connectionSession = mockConnectionSession(false);
+        ResultCacheKey key = ResultCache.getInstance().createKey(connectionSession, createSelectLogicSQL("SELECT * FROM t_config", "t_config")).orElseThrow(IllegalStateException::new);
+        when(contextManager.getMetaDataVersion()).thenReturn(META_DATA_VERSION.incrementAndGet());
+        ResultCache.getInstance().put(key, queryHeaders, rows);
+        ResultCacheKey actualKey = ResultCache.getInstance().createKey(connectionSession, createSelectLogicSQL("SELECT * FROM t_config", "t_config")).orElseThrow(IllegalStateException::new);
+        assertFalse(ResultCache.getInstance().find(actualKey).isPresent());
+    }
+    
+    @Test
+    public void assertCacheMergedResult() throws SQLException {
+        ResultCacheKey key = ResultCache.getInstance().createKey(mockConnectionSession(false), createSelectLogicSQL("SELECT * FROM t_config", "t_config")).orElseThrow(IllegalStateException::new);
+        MergedResult actual = ResultCache.getInstance().cache(key, queryHeaders, createMergedResult(rows));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is("foo"));
+        assertFalse(actual.wasNull());
+        assertFalse(ResultCache.getInstance().find(key).isPresent());
+        assertFalse(actual.next());
+        Optional<ResultCacheEntry> entry = ResultCache.getInstance().find(key);
+        assertTrue(entry.isPresent());
+        assertThat(entry.get().getRows(), is(rows));
+    }
+    
+    @Test
+    public void assertCacheMergedResultLargerThanMaxBytes() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_RESULT_CACHE_TABLES.getKey(), "t_config:30000");
+        props.setProperty(ConfigurationPropertyKey.PROXY_BACKEND_RESULT_CACHE_MAX_BYTES.getKey(), "64");
+        initContextManager(props);
+        List<List<Object>> largeRows = new LinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            largeRows.add(Collections.singletonList(String.format("value_%010d", i)));
+        }
+        ResultCacheKey key = ResultCache.getInstance().createKey(mockConnectionSession(false), createSelectLogicSQL("SELECT * FROM t_config", "t_config")).orElseThrow(IllegalStateException::new);
+        MergedResult actual = ResultCache.getInstance().cache(key, queryHeaders, createMergedResult(largeRows));
+        for (List<Object> each : largeRows) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(each.get(0)));
+        }
+        assertFalse(actual.next());
+        assertFalse(ResultCache.getInstance().find(key).isPresent());
+    }
+    
+    @Test
+    public void assertCacheMergedResultClosedBeforeIterated() throws SQLException {
+        ResultCacheKey key = ResultCache.getInstance().createKey(mockConnectionSession(false), createSelectLogicSQL("SELECT * FROM t_config", "t_config")).orElseThrow(IllegalStateException::new);
+        MergedResult actual = ResultCache.getInstance().cache(key, queryHeaders, createMergedResult(rows));
+        assertTrue(actual.next());
+        actual.close();
+        assertFalse(actual.next());
+        assertFalse(ResultCache.getInstance().find(key).isPresent());
+    }
+    
+    @Test
+    public void assertInvalidateTransactionChanges() {
+        ConnectionSession connectionSession = mockConnectionSession(true);
+        when(connectionSession.getResultCacheInvalidatedTables()).thenReturn(new HashSet<>());
+        ResultCache.getInstance().invalidate(connectionSession, Collections.singletonList("t_config"));
+        assertThat(connectionSession.getResultCacheInvalidatedTables(), is(Collections.singleton("t_config")));
+        ResultCache.getInstance().invalidateTransactionChanges(connectionSession);
+        assertTrue(connectionSession.getResultCacheInvalidatedTables().isEmpty());
+    }
+    
+    private ConnectionSession mockConnectionSession(final boolean inTransaction) {
+        ConnectionSession result = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+        when(result.getDatabaseName()).thenReturn("db");
+        when(result.getTransactionStatus().isInTransaction()).thenReturn(inTransaction);
+        when(result.isAutoCommit()).thenReturn(!inTransaction);
+        return result;
+    }
+    
+    private LogicSQL createSelectLogicSQL(final String sql, final String tableName) {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getTableNames()).thenReturn(Collections.singletonList(tableName));
+        when(sqlStatementContext.getSqlStatement()).thenReturn(new MySQLSelectStatement());
+        return new LogicSQL(sqlStatementContext, sql, Collections.singletonList("k1"));
+    }
+    
+    private MergedResult createMergedResult(final List<List<Object>> rows) {
+        return new LocalDataMergedResult(rows.stream().map(LocalDataQueryResultRow::new).collect(Collectors.toList()));
+    }
+}
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.federation.executor.FederationContext;
 import org.apache.shardingsphere.infra.federation.executor.FederationExecutor;
@@ -56,6 +57,7 @@ import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callb
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilderEngine;
 import org.apache.shardingsphere.proxy.backend.util.ProxyContextRestorer;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -74,6 +76,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -198,6 +201,25 @@ public final class JDBCDatabaseCommunicationEngineTest extends ProxyContextResto
         }
     }
     
+    @Test
+    public void assertGetTextRowDataWithPassthrough() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        SQLStatementContext<?> sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        JDBCDatabaseCommunicationEngine engine =
+                DatabaseCommunicationEngineFactory.getInstance().newDatabaseCommunicationEngine(new LogicSQL(sqlStatementContext, "schemaName", Collections.emptyList()), backendConnection, true);
+        MemberAccessor accessor = Plugins.getMemberAccessor();
+        accessor.set(DatabaseCommunicationEngine.class.getDeclaredField("queryHeaders"), engine, Arrays.asList(
+                new QueryHeader("schema", "t_order", "order_id", "order_id", Types.TIMESTAMP, "DATETIME", 19, 0, false, false, false, false),
+                new QueryHeader("schema", "t_order", "content", "content", Types.VARBINARY, "VARBINARY", 10, 0, false, false, false, false)));
+        JDBCStreamQueryResult queryResult = mock(JDBCStreamQueryResult.class);
+        when(queryResult.getValue(1, String.class)).thenReturn("2022-01-01 00:00:00");
+        when(queryResult.getValue(2, Object.class)).thenReturn(new byte[]{1});
+        accessor.set(DatabaseCommunicationEngine.class.getDeclaredField("passthroughQueryResult"), engine, queryResult);
+        List<Object> actual = engine.getTextRowData();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), is("2022-01-01 00:00:00"));
+        assertThat(actual.get(1), is(new byte[]{1}));
+    }
+    
     private ShardingSphereDatabase createDatabaseMetaData() {
         ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
         ShardingSphereColumn column = new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false);
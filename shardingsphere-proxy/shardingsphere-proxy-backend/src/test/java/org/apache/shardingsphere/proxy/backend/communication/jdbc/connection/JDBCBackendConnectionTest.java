@@ -256,6 +256,16 @@ public final class JDBCBackendConnectionTest extends ProxyContextRestorer {
         assertTrue(backendConnection.closeConnections(false).contains(sqlException));
     }
     
+    @Test
+    public void assertCloseConnectionsCorrectlyWhenRollbackFailed() throws SQLException {
+        connectionSession.getTransactionStatus().setInTransaction(true);
+        Connection connection = prepareCachedConnections();
+        SQLException sqlException = new SQLException("");
+        doThrow(sqlException).when(connection).rollback();
+        assertTrue(backendConnection.closeConnections(true).contains(sqlException));
+        verify(connection).close();
+    }
+    
     @Test
     public void assertCreateStorageResourceCorrectlyWhenConnectionModeMemoryStrictly() throws SQLException {
         Connection connection = mock(Connection.class);
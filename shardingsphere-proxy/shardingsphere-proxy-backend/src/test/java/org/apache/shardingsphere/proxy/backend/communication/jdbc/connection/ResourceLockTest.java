@@ -17,36 +17,56 @@
 
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
 import org.junit.Test;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class ResourceLockTest {
     
     @Test
-    public void assertDoAwait() {
-        ResourceLock resourceLock = new ResourceLock();
-        long startTime = System.currentTimeMillis();
-        resourceLock.doAwait();
-        assertTrue(System.currentTimeMillis() - startTime >= 200L);
+    public void assertDoAwaitWithWritableChannel() {
+        ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+        Channel channel = mock(Channel.class);
+        when(context.channel()).thenReturn(channel);
+        when(channel.isWritable()).thenReturn(true);
+        new ResourceLock().doAwait(context);
+    }
+    
+    @Test
+    public void assertDoAwaitWithInactiveChannel() {
+        ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+        when(context.channel()).thenReturn(mock(Channel.class));
+        new ResourceLock().doAwait(context);
     }
     
     @Test
     public void assertDoNotify() {
+        AtomicBoolean writable = new AtomicBoolean();
+        ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+        Channel channel = mock(Channel.class);
+        when(context.channel()).thenReturn(channel);
+        when(channel.isActive()).thenReturn(true);
+        when(channel.isWritable()).thenAnswer(invocation -> writable.get());
         ResourceLock resourceLock = new ResourceLock();
-        long startTime = System.currentTimeMillis();
         ExecutorService executorService = Executors.newFixedThreadPool(1);
         executorService.submit(() -> {
             try {
                 Thread.sleep(50L);
             } catch (final InterruptedException ignored) {
             }
+            writable.set(true);
             resourceLock.doNotify();
         });
-        resourceLock.doAwait();
-        assertTrue(System.currentTimeMillis() > startTime);
+        resourceLock.doAwait(context);
+        assertTrue(writable.get());
+        executorService.shutdown();
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.admin.mysql;
+
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.SessionVariableRecorder;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLSetStatement;
+import org.junit.Test;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class DefaultMySQLSessionVariableHandlerTest {
+    
+    @Test
+    public void assertHandleSessionVariable() {
+        SessionVariableRecorder recorder = mock(SessionVariableRecorder.class);
+        new DefaultMySQLSessionVariableHandler().handle(mockConnectionSession(recorder), createSetStatement("SESSION", "sql_mode", "''"));
+        verify(recorder).setVariable("sql_mode", "''");
+        verify(recorder, never()).setUserVariable(anyString(), anyString());
+    }
+    
+    @Test
+    public void assertHandleUserVariable() {
+        SessionVariableRecorder recorder = mock(SessionVariableRecorder.class);
+        new DefaultMySQLSessionVariableHandler().handle(mockConnectionSession(recorder), createSetStatement(null, "@user_variable", "1"));
+        verify(recorder).setUserVariable("user_variable", "1");
+        verify(recorder, never()).setVariable(anyString(), anyString());
+    }
+    
+    @Test
+    public void assertHandleGlobalVariable() {
+        SessionVariableRecorder recorder = mock(SessionVariableRecorder.class);
+        new DefaultMySQLSessionVariableHandler().handle(mockConnectionSession(recorder), createSetStatement("GLOBAL", "sql_mode", "''"));
+        verify(recorder, never()).setVariable(anyString(), anyString());
+        verify(recorder, never()).setUserVariable(anyString(), anyString());
+    }
+    
+    private ConnectionSession mockConnectionSession(final SessionVariableRecorder recorder) {
+        ConnectionSession result = mock(ConnectionSession.class);
+        when(result.getSessionVariableRecorder()).thenReturn(recorder);
+        return result;
+    }
+    
+    private MySQLSetStatement createSetStatement(final String scope, final String variableName, final String assignValue) {
+        VariableSegment variable = new VariableSegment();
+        variable.setScope(scope);
+        variable.setVariable(variableName);
+        VariableAssignSegment variableAssign = new VariableAssignSegment();
+        variableAssign.setVariable(variable);
+        variableAssign.setAssignValue(assignValue);
+        MySQLSetStatement result = new MySQLSetStatement();
+        result.getVariableAssigns().add(variableAssign);
+        return result;
+    }
+}
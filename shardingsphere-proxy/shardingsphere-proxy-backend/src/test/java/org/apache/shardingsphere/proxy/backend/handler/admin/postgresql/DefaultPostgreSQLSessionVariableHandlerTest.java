@@ -18,11 +18,16 @@
 package org.apache.shardingsphere.proxy.backend.handler.admin.postgresql;
 
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.SessionVariableRecorder;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableSegment;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dal.PostgreSQLSetStatement;
 import org.junit.Test;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 public final class DefaultPostgreSQLSessionVariableHandlerTest {
     
@@ -32,4 +37,35 @@ public final class DefaultPostgreSQLSessionVariableHandlerTest {
         new DefaultPostgreSQLSessionVariableHandler().handle(connectionSession, new PostgreSQLSetStatement());
         verifyNoInteractions(connectionSession);
     }
+    
+    @Test
+    public void assertHandleWithVariableAssign() {
+        ConnectionSession connectionSession = mock(ConnectionSession.class);
+        SessionVariableRecorder recorder = mock(SessionVariableRecorder.class);
+        when(connectionSession.getSessionVariableRecorder()).thenReturn(recorder);
+        VariableSegment variable = new VariableSegment();
+        variable.setVariable("search_path");
+        VariableAssignSegment variableAssign = new VariableAssignSegment();
+        variableAssign.setVariable(variable);
+        variableAssign.setAssignValue("public");
+        PostgreSQLSetStatement setStatement = new PostgreSQLSetStatement();
+        setStatement.getVariableAssigns().add(variableAssign);
+        new DefaultPostgreSQLSessionVariableHandler().handle(connectionSession, setStatement);
+        verify(recorder).setVariable("search_path", "public");
+    }
+    
+    @Test
+    public void assertHandleWithLocalVariableAssign() {
+        VariableSegment variable = new VariableSegment();
+        variable.setScope("LOCAL");
+        variable.setVariable("search_path");
+        VariableAssignSegment variableAssign = new VariableAssignSegment();
+        variableAssign.setVariable(variable);
+        variableAssign.setAssignValue("public");
+        PostgreSQLSetStatement setStatement = new PostgreSQLSetStatement();
+        setStatement.getVariableAssigns().add(variableAssign);
+        ConnectionSession connectionSession = mock(ConnectionSession.class);
+        new DefaultPostgreSQLSessionVariableHandler().handle(connectionSession, setStatement);
+        verifyNoInteractions(connectionSession);
+    }
 }
@@ -40,8 +40,9 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class PostgreSQLAdminExecutorFactoryTest {
@@ -86,9 +87,9 @@ public final class PostgreSQLAdminExecutorFactoryTest {
         CommonSQLStatementContext<SetStatement> statementContext = new CommonSQLStatementContext<>(setStatement);
         Optional<DatabaseAdminExecutor> actual = postgreSQLAdminExecutorFactory.create(statementContext, null, null);
         assertTrue(actual.isPresent());
-        ConnectionSession connectionSession = mock(ConnectionSession.class);
+        ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
         actual.get().execute(connectionSession);
-        verifyNoInteractions(connectionSession);
+        verify(connectionSession.getSessionVariableRecorder()).setVariable("extra_float_digits", null);
     }
     
     @Test
@@ -97,9 +98,9 @@ public final class PostgreSQLAdminExecutorFactoryTest {
         CommonSQLStatementContext<SetStatement> statementContext = new CommonSQLStatementContext<>(setStatement);
         Optional<DatabaseAdminExecutor> actual = postgreSQLAdminExecutorFactory.create(statementContext, null, null);
         assertTrue(actual.isPresent());
-        ConnectionSession connectionSession = mock(ConnectionSession.class);
+        ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
         actual.get().execute(connectionSession);
-        verifyNoInteractions(connectionSession);
+        verify(connectionSession.getSessionVariableRecorder()).setVariable("application_name", null);
     }
     
     private SetStatement createSetStatement(final String configurationParameter) {
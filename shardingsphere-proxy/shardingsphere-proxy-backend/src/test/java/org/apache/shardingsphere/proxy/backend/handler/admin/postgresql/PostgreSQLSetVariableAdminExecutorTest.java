@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.backend.handler.admin.postgresql;
 
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dal.PostgreSQLSetStatement;
 import org.junit.Test;
 import org.mockito.MockedStatic;
@@ -36,8 +37,9 @@ public final class PostgreSQLSetVariableAdminExecutorTest {
         try (MockedStatic<PostgreSQLSessionVariableHandlerFactory> mockStatic = mockStatic(PostgreSQLSessionVariableHandlerFactory.class)) {
             PostgreSQLSessionVariableHandler mockHandler = mock(PostgreSQLSessionVariableHandler.class);
             mockStatic.when(() -> PostgreSQLSessionVariableHandlerFactory.getHandler("")).thenReturn(mockHandler);
-            executor.execute(null);
-            verify(mockHandler).handle(null, setStatement);
+            ConnectionSession connectionSession = mock(ConnectionSession.class);
+            executor.execute(connectionSession);
+            verify(mockHandler).handle(connectionSession, setStatement);
         }
     }
 }
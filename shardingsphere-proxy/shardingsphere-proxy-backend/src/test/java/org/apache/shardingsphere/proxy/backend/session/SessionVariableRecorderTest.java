@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public final class SessionVariableRecorderTest {
+    
+    @Test
+    public void assertRecordVariable() {
+        SessionVariableRecorder recorder = new SessionVariableRecorder();
+        assertTrue(recorder.isEmpty());
+        recorder.setVariable("SQL_MODE", "''");
+        assertFalse(recorder.isEmpty());
+    }
+    
+    @Test
+    public void assertRecordUserVariable() {
+        SessionVariableRecorder recorder = new SessionVariableRecorder();
+        recorder.setUserVariable("user_variable", "1");
+        assertFalse(recorder.isEmpty());
+    }
+    
+    @Test
+    public void assertReplayWithoutVariables() throws SQLException {
+        Connection connection = mock(Connection.class);
+        new SessionVariableRecorder().replayVariables(connection);
+        new SessionVariableRecorder().resetVariables(connection);
+        verifyNoInteractions(connection);
+    }
+    
+    @Test
+    public void assertReplayVariables() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        SessionVariableRecorder recorder = new SessionVariableRecorder();
+        recorder.setVariable("SQL_MODE", "''");
+        recorder.setUserVariable("user_variable", "1");
+        Statement statement = connection.createStatement();
+        recorder.replayVariables(connection);
+        verify(statement).execute("SET sql_mode = ''");
+        verify(statement).execute("SET @user_variable = 1");
+        verify(statement).close();
+    }
+    
+    @Test
+    public void assertResetVariables() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        SessionVariableRecorder recorder = new SessionVariableRecorder();
+        recorder.setVariable("sql_mode", "''");
+        recorder.setUserVariable("user_variable", "1");
+        recorder.resetVariables(connection);
+        verify(statement).execute("SET sql_mode = DEFAULT");
+        verify(statement).execute("SET @user_variable = NULL");
+        verify(statement).close();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.util.ProxyContextRestorer;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SharedPreparedStatementCacheTest extends ProxyContextRestorer {
+    
+    private final ContextManager contextManager = mock(ContextManager.class);
+    
+    private final AtomicInteger loadCount = new AtomicInteger();
+    
+    @Before
+    public void setUp() {
+        ProxyContext.init(contextManager);
+    }
+    
+    @Test
+    public void assertGetWithSameKey() {
+        SharedPreparedStatementCache<Integer> cache = new SharedPreparedStatementCache<>();
+        assertThat(cache.get("foo_db", "SELECT 1", loadCount::incrementAndGet), is(1));
+        assertThat(cache.get("foo_db", "SELECT 1", loadCount::incrementAndGet), is(1));
+        assertThat(loadCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertGetWithDifferentDatabase() {
+        SharedPreparedStatementCache<Integer> cache = new SharedPreparedStatementCache<>();
+        assertThat(cache.get("foo_db", "SELECT 1", loadCount::incrementAndGet), is(1));
+        assertThat(cache.get("bar_db", "SELECT 1", loadCount::incrementAndGet), is(2));
+    }
+    
+    @Test
+    public void assertGetAfterMetaDataChanged() {
+        SharedPreparedStatementCache<Integer> cache = new SharedPreparedStatementCache<>();
+        assertThat(cache.get("foo_db", "SELECT 1", loadCount::incrementAndGet), is(1));
+        when(contextManager.getMetaDataVersion()).thenReturn(1L);
+        assertThat(cache.get("foo_db", "SELECT 1", loadCount::incrementAndGet), is(2));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+/**
+ * Adaptive flush threshold.
+ * 
+ * <p>Threshold is halved when channel becomes unwritable, and grows back towards max threshold while client drains flushed rows in time.</p>
+ */
+public final class AdaptiveFlushThreshold {
+    
+    private static final int INCREASE_DIVISOR = 16;
+    
+    private final int maxThreshold;
+    
+    private final int increment;
+    
+    private int threshold;
+    
+    public AdaptiveFlushThreshold(final int maxThreshold) {
+        this.maxThreshold = Math.max(1, maxThreshold);
+        increment = Math.max(1, this.maxThreshold / INCREASE_DIVISOR);
+        threshold = this.maxThreshold;
+    }
+    
+    /**
+     * Judge whether rows need to be flushed.
+     *
+     * @param unflushedCount count of rows written but not flushed
+     * @return need to be flushed or not
+     */
+    public boolean isReached(final int unflushedCount) {
+        return unflushedCount >= threshold;
+    }
+    
+    /**
+     * Grow threshold after rows flushed without channel becoming unwritable.
+     */
+    public void grow() {
+        threshold = Math.min(maxThreshold, threshold + increment);
+    }
+    
+    /**
+     * Shrink threshold when channel becomes unwritable.
+     */
+    public void shrink() {
+        threshold = Math.max(1, threshold / 2);
+    }
+    
+    /**
+     * Get current threshold.
+     *
+     * @return current threshold
+     */
+    public int get() {
+        return threshold;
+    }
+}
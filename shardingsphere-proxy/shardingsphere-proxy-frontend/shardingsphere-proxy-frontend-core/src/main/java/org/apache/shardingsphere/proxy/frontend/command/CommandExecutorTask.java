@@ -36,6 +36,7 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.constant.LogMDCConstants;
 import org.apache.shardingsphere.proxy.frontend.exception.ExpectedExceptions;
+import org.apache.shardingsphere.proxy.frontend.executor.UserExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.slf4j.MDC;
 
@@ -43,6 +44,8 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 /**
@@ -60,6 +63,13 @@ public final class CommandExecutorTask implements Runnable {
     
     private final Object message;
     
+    private final boolean asyncExecution;
+    
+    public CommandExecutorTask(final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final ConnectionSession connectionSession, final ChannelHandlerContext context,
+                               final Object message) {
+        this(databaseProtocolFrontendEngine, connectionSession, context, message, false);
+    }
+    
     /**
      * To make sure SkyWalking will be available at the next release of ShardingSphere,
      * a new plugin should be provided to SkyWalking project if this API changed.
@@ -69,13 +79,19 @@ public final class CommandExecutorTask implements Runnable {
     @Override
     public void run() {
         boolean isNeedFlush = false;
+        boolean isAsyncExecuting = false;
         boolean sqlShowEnabled = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.SQL_SHOW);
         try (PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message, context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get())) {
             if (sqlShowEnabled) {
                 fillLogMDC();
             }
             connectionSession.getBackendConnection().prepareForTaskExecution();
-            isNeedFlush = executeCommand(context, payload);
+            if (asyncExecution) {
+                executeCommandAsync(payload);
+                isAsyncExecuting = true;
+            } else {
+                isNeedFlush = executeCommand(context, payload);
+            }
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -87,16 +103,9 @@ public final class CommandExecutorTask implements Runnable {
         } finally {
             // TODO optimize SQLStatementDatabaseHolder
             SQLStatementDatabaseHolder.remove();
-            Collection<SQLException> exceptions = Collections.emptyList();
-            try {
-                connectionSession.getBackendConnection().closeExecutionResources();
-            } catch (final BackendConnectionException ex) {
-                exceptions = ex.getExceptions().stream().filter(SQLException.class::isInstance).map(SQLException.class::cast).collect(Collectors.toList());
+            if (!isAsyncExecuting) {
+                finishCommand(isNeedFlush);
             }
-            if (isNeedFlush) {
-                context.flush();
-            }
-            processClosedExceptions(exceptions);
             if (sqlShowEnabled) {
                 clearLogMDC();
             }
@@ -126,6 +135,90 @@ public final class CommandExecutorTask implements Runnable {
         }
     }
     
+    private void executeCommandAsync(final PacketPayload payload) throws SQLException {
+        CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
+        CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
+        CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, connectionSession);
+        CommandExecutor commandExecutor = commandExecuteEngine.getCommandExecutor(type, commandPacket, connectionSession);
+        CompletableFuture<Collection<DatabasePacket<?>>> future;
+        try {
+            future = commandExecutor.executeAsync();
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            future = new CompletableFuture<>();
+            future.completeExceptionally(ex);
+        }
+        // writing query data may wait for channel writable, so the continuation must not run on the thread which completes the execution
+        future.whenCompleteAsync((responsePackets, failure) -> completeCommand(commandExecuteEngine, commandExecutor, responsePackets, failure), UserExecutorGroup.getInstance().getExecutorService());
+    }
+    
+    private void completeCommand(final CommandExecuteEngine commandExecuteEngine, final CommandExecutor commandExecutor, final Collection<DatabasePacket<?>> responsePackets, final Throwable failure) {
+        boolean isNeedFlush = false;
+        try {
+            isNeedFlush = writeResponse(commandExecuteEngine, commandExecutor, responsePackets, failure);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            processException(ex);
+            // CHECKSTYLE:OFF
+        } catch (final Error error) {
+            // CHECKSTYLE:ON
+            processException(new RuntimeException(error));
+        } finally {
+            finishCommand(isNeedFlush);
+        }
+    }
+    
+    private boolean writeResponse(final CommandExecuteEngine commandExecuteEngine, final CommandExecutor commandExecutor,
+                                  final Collection<DatabasePacket<?>> responsePackets, final Throwable failure) throws SQLException {
+        try {
+            if (null != failure) {
+                throw getAsyncExecutionException(failure);
+            }
+            if (responsePackets.isEmpty()) {
+                return false;
+            }
+            responsePackets.forEach(context::write);
+            if (commandExecutor instanceof QueryCommandExecutor) {
+                commandExecuteEngine.writeQueryData(context, connectionSession.getBackendConnection(), (QueryCommandExecutor) commandExecutor, responsePackets.size());
+            }
+            return true;
+        } catch (final SQLException | BackendException ex) {
+            databaseProtocolFrontendEngine.handleException(connectionSession, ex);
+            throw ex;
+        } finally {
+            commandExecutor.close();
+        }
+    }
+    
+    private SQLException getAsyncExecutionException(final Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && null != failure.getCause() ? failure.getCause() : failure;
+        if (cause instanceof SQLException) {
+            return (SQLException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new SQLException(cause);
+    }
+    
+    private void finishCommand(final boolean isNeedFlush) {
+        Collection<SQLException> exceptions = Collections.emptyList();
+        try {
+            connectionSession.getBackendConnection().closeExecutionResources();
+        } catch (final BackendConnectionException ex) {
+            exceptions = ex.getExceptions().stream().filter(SQLException.class::isInstance).map(SQLException.class::cast).collect(Collectors.toList());
+        }
+        if (isNeedFlush) {
+            context.flush();
+        }
+        processClosedExceptions(exceptions);
+    }
+    
     private void processException(final Exception cause) {
         if (!ExpectedExceptions.isExpected(cause.getClass())) {
             log.error("Exception occur: ", cause);
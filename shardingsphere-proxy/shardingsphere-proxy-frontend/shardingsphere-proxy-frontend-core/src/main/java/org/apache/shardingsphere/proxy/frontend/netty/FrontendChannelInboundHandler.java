@@ -92,6 +92,7 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
+        notifyResourceLock();
         UserExecutorGroup.getInstance().getExecutorService().execute(this::closeAllResources);
     }
     
@@ -108,6 +109,12 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelWritabilityChanged(final ChannelHandlerContext context) {
         if (context.channel().isWritable()) {
+            notifyResourceLock();
+        }
+    }
+    
+    private void notifyResourceLock() {
+        if (connectionSession.getBackendConnection() instanceof JDBCBackendConnection) {
             ((JDBCBackendConnection) connectionSession.getBackendConnection()).getResourceLock().doNotify();
         }
     }
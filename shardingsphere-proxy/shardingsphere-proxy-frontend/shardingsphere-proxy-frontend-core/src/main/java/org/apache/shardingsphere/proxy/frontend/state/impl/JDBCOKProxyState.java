@@ -36,9 +36,9 @@ public final class JDBCOKProxyState implements OKProxyState {
     
     @Override
     public void execute(final ChannelHandlerContext context, final Object message, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final ConnectionSession connectionSession) {
-        CommandExecutorTask commandExecutorTask = new CommandExecutorTask(databaseProtocolFrontendEngine, connectionSession, context, message);
         ExecutorService executorService = determineSuitableExecutorService(context, message, databaseProtocolFrontendEngine, connectionSession);
-        executorService.execute(commandExecutorTask);
+        boolean asyncExecution = UserExecutorGroup.getInstance().getExecutorService() == executorService && isAsyncExecutionEnabled();
+        executorService.execute(new CommandExecutorTask(databaseProtocolFrontendEngine, connectionSession, context, message, asyncExecution));
     }
     
     private ExecutorService determineSuitableExecutorService(final ChannelHandlerContext context, final Object message, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine,
@@ -58,6 +58,10 @@ public final class JDBCOKProxyState implements OKProxyState {
                 || TransactionType.isDistributedTransaction(connectionSession.getTransactionStatus().getTransactionType());
     }
     
+    private boolean isAsyncExecutionEnabled() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_ASYNC_EXECUTION_ENABLED);
+    }
+    
     private boolean isPreferNettyEventLoop() {
         switch (ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<String>getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE)) {
             case "OLTP":
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class AdaptiveFlushThresholdTest {
+    
+    @Test
+    public void assertIsReached() {
+        AdaptiveFlushThreshold actual = new AdaptiveFlushThreshold(128);
+        assertFalse(actual.isReached(127));
+        assertTrue(actual.isReached(128));
+    }
+    
+    @Test
+    public void assertShrink() {
+        AdaptiveFlushThreshold actual = new AdaptiveFlushThreshold(128);
+        actual.shrink();
+        assertThat(actual.get(), is(64));
+        for (int i = 0; i < 10; i++) {
+            actual.shrink();
+        }
+        assertThat(actual.get(), is(1));
+    }
+    
+    @Test
+    public void assertGrow() {
+        AdaptiveFlushThreshold actual = new AdaptiveFlushThreshold(128);
+        actual.shrink();
+        actual.grow();
+        assertThat(actual.get(), is(72));
+        for (int i = 0; i < 10; i++) {
+            actual.grow();
+        }
+        assertThat(actual.get(), is(128));
+    }
+    
+    @Test
+    public void assertNonPositiveMaxThreshold() {
+        AdaptiveFlushThreshold actual = new AdaptiveFlushThreshold(0);
+        assertThat(actual.get(), is(1));
+        assertTrue(actual.isReached(1));
+    }
+}
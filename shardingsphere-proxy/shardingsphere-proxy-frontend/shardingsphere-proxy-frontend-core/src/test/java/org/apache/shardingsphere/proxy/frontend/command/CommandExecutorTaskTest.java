@@ -48,13 +48,16 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -135,6 +138,45 @@ public final class CommandExecutorTaskTest extends ProxyContextRestorer {
         verify(backendConnection).closeExecutionResources();
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertRunAsync() throws SQLException, BackendConnectionException {
+        when(queryCommandExecutor.executeAsync()).thenReturn(CompletableFuture.completedFuture(Collections.singleton(databasePacket)));
+        when(engine.getCommandExecuteEngine().getCommandPacket(payload, commandPacketType, connectionSession)).thenReturn(commandPacket);
+        when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, connectionSession)).thenReturn(queryCommandExecutor);
+        when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
+        when(engine.getCodecEngine().createPacketPayload(message, StandardCharsets.UTF_8)).thenReturn(payload);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message, true);
+        actual.run();
+        verify(handlerContext, timeout(5000L)).flush();
+        verify(handlerContext).write(databasePacket);
+        verify(engine.getCommandExecuteEngine()).writeQueryData(handlerContext, backendConnection, queryCommandExecutor, 1);
+        verify(queryCommandExecutor).close();
+        verify(backendConnection).closeExecutionResources();
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertRunAsyncWithException() throws BackendConnectionException, SQLException {
+        SQLException mockException = new SQLException("mock");
+        CompletableFuture<Collection<DatabasePacket<?>>> future = new CompletableFuture<>();
+        future.completeExceptionally(mockException);
+        when(commandExecutor.executeAsync()).thenReturn(future);
+        when(engine.getCodecEngine().createPacketPayload(message, StandardCharsets.UTF_8)).thenReturn(payload);
+        when(engine.getCommandExecuteEngine().getCommandPacket(payload, commandPacketType, connectionSession)).thenReturn(commandPacket);
+        when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
+        when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, connectionSession)).thenReturn(commandExecutor);
+        when(engine.getCommandExecuteEngine().getErrorPacket(mockException)).thenReturn(databasePacket);
+        when(engine.getCommandExecuteEngine().getOtherPacket(connectionSession)).thenReturn(Optional.of(databasePacket));
+        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message, true);
+        actual.run();
+        verify(backendConnection, timeout(5000L)).closeExecutionResources();
+        verify(engine).handleException(connectionSession, mockException);
+        verify(handlerContext, times(2)).write(databasePacket);
+        verify(handlerContext).flush();
+        verify(commandExecutor).close();
+    }
+    
     @SuppressWarnings("unchecked")
     @Test
     public void assertRunByCommandExecutor() throws SQLException, BackendConnectionException {
@@ -36,6 +36,7 @@ import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.SharedPreparedStatementCache;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.exception.UnsupportedPreparedStatementException;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
@@ -54,6 +55,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
     
+    private static final SharedPreparedStatementCache<MySQLPreparedStatementTemplate> TEMPLATES = new SharedPreparedStatementCache<>();
+    
     private final MySQLComStmtPreparePacket packet;
     
     private final ConnectionSession connectionSession;
@@ -63,6 +66,16 @@ public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
     @Override
     public Collection<DatabasePacket<?>> execute() throws SQLException {
         failedIfContainsMultiStatements();
+        MySQLPreparedStatementTemplate template = TEMPLATES.get(connectionSession.getDatabaseName(), packet.getSql(), this::createTemplate);
+        SQLStatement sqlStatement = template.getSqlStatement();
+        int statementId = MySQLStatementIDGenerator.getInstance().nextStatementId(connectionSession.getConnectionId());
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases(),
+                sqlStatement, connectionSession.getDefaultDatabaseName());
+        connectionSession.getPreparedStatementRegistry().addPreparedStatement(statementId, new MySQLPreparedStatement(packet.getSql(), sqlStatement, sqlStatementContext));
+        return createPackets(statementId, template.getProjectionCount(), sqlStatement.getParameterCount());
+    }
+    
+    private MySQLPreparedStatementTemplate createTemplate() {
         MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
         SQLParserRule sqlParserRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
         SQLStatement sqlStatement = sqlParserRule.getSQLParserEngine(
@@ -70,12 +83,7 @@ public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
         if (!MySQLComStmtPrepareChecker.isStatementAllowed(sqlStatement)) {
             throw new UnsupportedPreparedStatementException();
         }
-        int projectionCount = getProjectionCount(sqlStatement);
-        int statementId = MySQLStatementIDGenerator.getInstance().nextStatementId(connectionSession.getConnectionId());
-        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases(),
-                sqlStatement, connectionSession.getDefaultDatabaseName());
-        connectionSession.getPreparedStatementRegistry().addPreparedStatement(statementId, new MySQLPreparedStatement(packet.getSql(), sqlStatement, sqlStatementContext));
-        return createPackets(statementId, projectionCount, sqlStatement.getParameterCount());
+        return new MySQLPreparedStatementTemplate(sqlStatement, getProjectionCount(sqlStatement));
     }
     
     private void failedIfContainsMultiStatements() {
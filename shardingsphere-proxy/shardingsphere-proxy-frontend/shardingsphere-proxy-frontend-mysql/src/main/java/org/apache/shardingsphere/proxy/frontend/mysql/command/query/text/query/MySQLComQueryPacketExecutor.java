@@ -47,6 +47,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * COM_QUERY command packet executor for MySQL.
@@ -99,6 +100,17 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
         return processUpdate((UpdateResponseHeader) responseHeader);
     }
     
+    @Override
+    public CompletableFuture<Collection<DatabasePacket<?>>> executeAsync() {
+        return proxyBackendHandler.executeAsync().thenApply(responseHeader -> {
+            if (responseHeader instanceof QueryResponseHeader) {
+                return processQuery((QueryResponseHeader) responseHeader);
+            }
+            responseType = ResponseType.UPDATE;
+            return processUpdate((UpdateResponseHeader) responseHeader);
+        });
+    }
+    
     private Collection<DatabasePacket<?>> processQuery(final QueryResponseHeader queryResponseHeader) {
         responseType = ResponseType.QUERY;
         Collection<DatabasePacket<?>> result = ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet, ServerStatusFlagCalculator.calculateFor(connectionSession));
@@ -117,7 +129,7 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     @Override
     public MySQLPacket getQueryRowPacket() throws SQLException {
-        return new MySQLTextResultSetRowPacket(++currentSequenceId, proxyBackendHandler.getRowData().getData());
+        return new MySQLTextResultSetRowPacket(++currentSequenceId, proxyBackendHandler.getTextRowData());
     }
     
     @Override
@@ -43,6 +43,7 @@ import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.communication.cache.ResultCache;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
@@ -61,6 +62,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -88,6 +90,8 @@ public final class MySQLMultiStatementsHandler implements ProxyBackendHandler {
     
     private final Map<String, List<ExecutionUnit>> dataSourcesToExecutionUnits = new HashMap<>();
     
+    private final Collection<String> tableNames = new LinkedHashSet<>();
+    
     private ExecutionContext anyExecutionContext;
     
     public MySQLMultiStatementsHandler(final ConnectionSession connectionSession, final SQLStatement sqlStatementSample, final String sql) throws SQLException {
@@ -102,6 +106,7 @@ public final class MySQLMultiStatementsHandler implements ProxyBackendHandler {
             if (null == anyExecutionContext) {
                 anyExecutionContext = executionContext;
             }
+            tableNames.addAll(executionContext.getSqlStatementContext().getTablesContext().getTableNames());
             for (ExecutionUnit eachExecutionUnit : executionContext.getExecutionUnits()) {
                 dataSourcesToExecutionUnits.computeIfAbsent(eachExecutionUnit.getDataSourceName(), unused -> new LinkedList<>()).add(eachExecutionUnit);
             }
@@ -169,6 +174,7 @@ public final class MySQLMultiStatementsHandler implements ProxyBackendHandler {
         DatabaseType databaseType = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName()).getResource().getDatabaseType();
         JDBCExecutorCallback<int[]> callback = new BatchedJDBCExecutorCallback(databaseType, sqlStatementSample, isExceptionThrown);
         List<int[]> executeResults = jdbcExecutor.execute(executionGroupContext, callback);
+        ResultCache.getInstance().invalidate(connectionSession, tableNames);
         int updated = 0;
         for (int[] eachResult : executeResults) {
             for (int each : eachResult) {
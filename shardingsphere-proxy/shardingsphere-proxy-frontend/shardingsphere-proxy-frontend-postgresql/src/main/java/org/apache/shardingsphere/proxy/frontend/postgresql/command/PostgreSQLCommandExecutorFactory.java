@@ -35,6 +35,7 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.Postg
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLUnsupportedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedBatchedStatementsCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLPipelinedQueryExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.bind.PostgreSQLComBindExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.close.PostgreSQLComCloseExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.describe.PostgreSQLComDescribeExecutor;
@@ -46,6 +47,7 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Command executor factory for PostgreSQL.
@@ -74,13 +76,61 @@ public final class PostgreSQLCommandExecutorFactory {
         if (aggregatedCommandPacket.isContainsBatchedStatements()) {
             return new PostgreSQLAggregatedCommandExecutor(getExecutorsOfAggregatedBatchedStatements(aggregatedCommandPacket, connectionSession, connectionContext));
         }
-        List<CommandExecutor> result = new ArrayList<>(aggregatedCommandPacket.getPackets().size());
-        for (PostgreSQLCommandPacket each : aggregatedCommandPacket.getPackets()) {
+        List<PostgreSQLCommandPacket> packets = aggregatedCommandPacket.getPackets();
+        List<CommandExecutor> result = new ArrayList<>(packets.size());
+        boolean isPipelined = containsPipelinedQueries(packets);
+        int index = 0;
+        while (index < packets.size()) {
+            int pipelinedQueryEndIndex = isPipelined ? getPipelinedQueryEndIndex(packets, index) : -1;
+            if (-1 != pipelinedQueryEndIndex) {
+                result.add(new PostgreSQLPipelinedQueryExecutor(connectionContext, connectionSession, packets.subList(index, pipelinedQueryEndIndex + 1)));
+                index = pipelinedQueryEndIndex + 1;
+                continue;
+            }
+            PostgreSQLCommandPacket each = packets.get(index++);
             result.add(getCommandExecutor((PostgreSQLCommandPacketType) each.getIdentifier(), each, connectionSession, connectionContext));
         }
         return new PostgreSQLAggregatedCommandExecutor(result);
     }
     
+    private static boolean containsPipelinedQueries(final List<PostgreSQLCommandPacket> packets) {
+        int pipelinedQueries = 0;
+        int index = 0;
+        while (index < packets.size()) {
+            int pipelinedQueryEndIndex = getPipelinedQueryEndIndex(packets, index);
+            if (-1 == pipelinedQueryEndIndex) {
+                index++;
+                continue;
+            }
+            if (++pipelinedQueries > 1) {
+                return true;
+            }
+            index = pipelinedQueryEndIndex + 1;
+        }
+        return false;
+    }
+    
+    private static int getPipelinedQueryEndIndex(final List<PostgreSQLCommandPacket> packets, final int startIndex) {
+        int index = startIndex;
+        PostgreSQLComParsePacket parsePacket = packets.get(index) instanceof PostgreSQLComParsePacket ? (PostgreSQLComParsePacket) packets.get(index++) : null;
+        if (index >= packets.size() || !(packets.get(index) instanceof PostgreSQLComBindPacket)) {
+            return -1;
+        }
+        PostgreSQLComBindPacket bindPacket = (PostgreSQLComBindPacket) packets.get(index++);
+        if (null != parsePacket && !Objects.equals(parsePacket.getStatementId(), bindPacket.getStatementId())) {
+            return -1;
+        }
+        String portal = bindPacket.getPortal();
+        if (index < packets.size() && isDescribePortal(packets.get(index), portal)) {
+            index++;
+        }
+        return index < packets.size() && packets.get(index) instanceof PostgreSQLComExecutePacket && Objects.equals(portal, ((PostgreSQLComExecutePacket) packets.get(index)).getPortal()) ? index : -1;
+    }
+    
+    private static boolean isDescribePortal(final PostgreSQLCommandPacket packet, final String portal) {
+        return packet instanceof PostgreSQLComDescribePacket && 'P' == ((PostgreSQLComDescribePacket) packet).getType() && Objects.equals(portal, ((PostgreSQLComDescribePacket) packet).getName());
+    }
+    
     private static List<CommandExecutor> getExecutorsOfAggregatedBatchedStatements(final PostgreSQLAggregatedCommandPacket aggregatedCommandPacket, final ConnectionSession connectionSession,
                                                                                    final PostgreSQLConnectionContext connectionContext) throws SQLException {
         List<PostgreSQLCommandPacket> packets = aggregatedCommandPacket.getPackets();
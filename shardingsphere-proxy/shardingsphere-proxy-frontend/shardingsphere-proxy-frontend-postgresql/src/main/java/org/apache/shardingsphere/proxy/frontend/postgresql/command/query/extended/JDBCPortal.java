@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
 
+import io.vertx.core.Future;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLArrayColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
@@ -28,6 +30,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.Pos
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLNoDataPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLPortalSuspendedPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLParameterStatusPacket;
@@ -38,6 +41,7 @@ import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
@@ -56,13 +60,18 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.EmptyStatem
 import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
 
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * PostgreSQL portal using JDBC backend.
+ * PostgreSQL portal using JDBC backend, or Vert.x backend when bound by {@link #bindFuture()}.
  */
 public final class JDBCPortal implements Portal<Void> {
     
@@ -76,12 +85,14 @@ public final class JDBCPortal implements Portal<Void> {
     
     private final ProxyBackendHandler proxyBackendHandler;
     
-    private final JDBCBackendConnection backendConnection;
+    private final BackendConnection<?> backendConnection;
+    
+    private final Map<Integer, PostgreSQLColumnType> binaryColumnTypes = new HashMap<>();
     
     private ResponseHeader responseHeader;
     
     public JDBCPortal(final String name, final PostgreSQLPreparedStatement preparedStatement, final List<Object> parameters, final List<PostgreSQLValueFormat> resultFormats,
-                      final JDBCBackendConnection backendConnection) throws SQLException {
+                      final BackendConnection<?> backendConnection) throws SQLException {
         this.name = name;
         this.sqlStatement = preparedStatement.getSqlStatement();
         this.resultFormats = resultFormats;
@@ -109,10 +120,64 @@ public final class JDBCPortal implements Portal<Void> {
     @SneakyThrows(SQLException.class)
     @Override
     public Void bind() {
-        responseHeader = proxyBackendHandler.execute();
+        setResponseHeader(proxyBackendHandler.execute());
         return null;
     }
     
+    /**
+     * Bind asynchronously.
+     * 
+     * <p>The execution is prepared on the caller thread, only the execution of it is asynchronous.</p>
+     *
+     * @return future of binding
+     */
+    public CompletableFuture<Void> bindAsync() {
+        return proxyBackendHandler.executeAsync().thenAccept(this::setResponseHeader);
+    }
+    
+    /**
+     * Bind with Vert.x backend.
+     *
+     * @return future of binding
+     */
+    public Future<Void> bindFuture() {
+        return proxyBackendHandler.executeFuture().map(responseHeader -> {
+            setResponseHeader(responseHeader);
+            return null;
+        });
+    }
+    
+    private void setResponseHeader(final ResponseHeader responseHeader) {
+        this.responseHeader = responseHeader;
+        if (responseHeader instanceof QueryResponseHeader) {
+            initBinaryColumnTypes(((QueryResponseHeader) responseHeader).getQueryHeaders());
+        }
+    }
+    
+    private void initBinaryColumnTypes(final List<QueryHeader> queryHeaders) {
+        for (int i = 0; i < queryHeaders.size(); i++) {
+            if (PostgreSQLValueFormat.TEXT == determineValueFormat(i)) {
+                continue;
+            }
+            Optional<PostgreSQLColumnType> binaryColumnType = findBinaryColumnType(queryHeaders.get(i));
+            if (binaryColumnType.isPresent()) {
+                binaryColumnTypes.put(i, binaryColumnType.get());
+            }
+        }
+    }
+    
+    private Optional<PostgreSQLColumnType> findBinaryColumnType(final QueryHeader queryHeader) {
+        PostgreSQLColumnType result;
+        try {
+            result = Types.ARRAY == queryHeader.getColumnType()
+                    ? PostgreSQLColumnType.valueOf(PostgreSQLArrayColumnType.getTypeOid(queryHeader.getColumnTypeName()))
+                    : PostgreSQLColumnType.valueOfJDBCType(queryHeader.getColumnType());
+        } catch (final IllegalArgumentException ignored) {
+            return Optional.empty();
+        }
+        return PostgreSQLBinaryProtocolValueFactory.isSupported(result) ? Optional.of(result) : Optional.empty();
+    }
+    
     @Override
     public PostgreSQLPacket describe() {
         if (responseHeader instanceof QueryResponseHeader) {
@@ -133,7 +198,8 @@ public final class JDBCPortal implements Portal<Void> {
         Collection<PostgreSQLColumnDescription> result = new LinkedList<>();
         int columnIndex = 0;
         for (QueryHeader each : queryResponseHeader.getQueryHeaders()) {
-            result.add(new PostgreSQLColumnDescription(each.getColumnLabel(), ++columnIndex, each.getColumnType(), each.getColumnLength(), each.getColumnTypeName()));
+            PostgreSQLValueFormat dataFormat = binaryColumnTypes.containsKey(columnIndex) ? PostgreSQLValueFormat.BINARY : PostgreSQLValueFormat.TEXT;
+            result.add(new PostgreSQLColumnDescription(each.getColumnLabel(), ++columnIndex, each.getColumnType(), each.getColumnLength(), each.getColumnTypeName(), dataFormat));
         }
         return result;
     }
@@ -176,8 +242,8 @@ public final class JDBCPortal implements Portal<Void> {
         List<Object> result = new ArrayList<>(cells.size());
         List<QueryResponseCell> columns = new ArrayList<>(cells);
         for (int i = 0; i < columns.size(); i++) {
-            PostgreSQLValueFormat format = determineValueFormat(i);
-            result.add(PostgreSQLValueFormat.BINARY == format ? createBinaryCell(columns.get(i)) : columns.get(i).getData());
+            PostgreSQLColumnType binaryColumnType = binaryColumnTypes.get(i);
+            result.add(null == binaryColumnType ? columns.get(i).getData() : new BinaryCell(binaryColumnType, columns.get(i).getData()));
         }
         return result;
     }
@@ -186,10 +252,6 @@ public final class JDBCPortal implements Portal<Void> {
         return resultFormats.isEmpty() ? PostgreSQLValueFormat.TEXT : resultFormats.get(columnIndex % resultFormats.size());
     }
     
-    private BinaryCell createBinaryCell(final QueryResponseCell cell) {
-        return new BinaryCell(PostgreSQLColumnType.valueOfJDBCType(cell.getJdbcType()), cell.getData());
-    }
-    
     private PostgreSQLIdentifierPacket createExecutionCompletedPacket(final boolean isSuspended, final int fetchedRows) {
         if (isSuspended) {
             suspendPortal();
@@ -203,7 +265,9 @@ public final class JDBCPortal implements Portal<Void> {
     }
     
     private void suspendPortal() {
-        backendConnection.markResourceInUse(proxyBackendHandler);
+        if (backendConnection instanceof JDBCBackendConnection) {
+            ((JDBCBackendConnection) backendConnection).markResourceInUse(proxyBackendHandler);
+        }
     }
     
     private long getUpdateCount() {
@@ -213,7 +277,9 @@ public final class JDBCPortal implements Portal<Void> {
     @SneakyThrows(SQLException.class)
     @Override
     public void close() {
-        backendConnection.unmarkResourceInUse(proxyBackendHandler);
+        if (backendConnection instanceof JDBCBackendConnection) {
+            ((JDBCBackendConnection) backendConnection).unmarkResourceInUse(proxyBackendHandler);
+        }
         proxyBackendHandler.close();
     }
 }
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -36,13 +37,42 @@ public final class PostgreSQLAggregatedCommandExecutor implements CommandExecuto
     @Override
     public Collection<DatabasePacket<?>> execute() throws SQLException {
         List<DatabasePacket<?>> result = new LinkedList<>();
-        for (CommandExecutor each : executors) {
-            try {
-                result.addAll(each.execute());
-            } finally {
-                each.close();
+        int startedIndex = -1;
+        try {
+            for (int i = 0; i < executors.size(); i++) {
+                CommandExecutor each = executors.get(i);
+                if (i > startedIndex && each instanceof PostgreSQLPipelinedQueryExecutor) {
+                    startedIndex = startPipelinedQueries(i);
+                }
+                try {
+                    result.addAll(each.execute());
+                } finally {
+                    each.close();
+                }
             }
+        } finally {
+            waitForStartedQueries(startedIndex);
         }
         return Collections.singletonList(new PostgreSQLAggregatedResponsesPacket(result));
     }
+    
+    private int startPipelinedQueries(final int startIndex) throws SQLException {
+        Collection<PostgreSQLPreparedStatement> inFlightPreparedStatements = new HashSet<>();
+        int result = startIndex - 1;
+        for (int i = startIndex; i < executors.size() && executors.get(i) instanceof PostgreSQLPipelinedQueryExecutor; i++) {
+            if (!((PostgreSQLPipelinedQueryExecutor) executors.get(i)).start(inFlightPreparedStatements)) {
+                break;
+            }
+            result = i;
+        }
+        return result;
+    }
+    
+    private void waitForStartedQueries(final int startedIndex) {
+        for (int i = 0; i <= startedIndex; i++) {
+            if (executors.get(i) instanceof PostgreSQLPipelinedQueryExecutor) {
+                ((PostgreSQLPipelinedQueryExecutor) executors.get(i)).waitForStartedQuery();
+            }
+        }
+    }
 }
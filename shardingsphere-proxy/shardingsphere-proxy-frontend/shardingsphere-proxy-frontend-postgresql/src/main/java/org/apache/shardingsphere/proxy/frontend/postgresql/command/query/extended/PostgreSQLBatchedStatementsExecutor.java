@@ -41,6 +41,7 @@ import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.Statemen
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.proxy.backend.communication.cache.ResultCache;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
@@ -177,8 +178,10 @@ public final class PostgreSQLBatchedStatementsExecutor {
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
         DatabaseType databaseType = database.getResource().getDatabaseType();
         DatabaseType protocolType = database.getProtocolType();
-        JDBCExecutorCallback<int[]> callback = new BatchedStatementsJDBCExecutorCallback(protocolType, databaseType, preparedStatement.getSqlStatement(), isExceptionThrown);
+        JDBCExecutorCallback<int[]> callback = new BatchedStatementsJDBCExecutorCallback(protocolType, databaseType, preparedStatement.getSqlStatement(), isExceptionThrown,
+                (JDBCBackendStatement) connectionSession.getStatementManager());
         List<int[]> executeResults = jdbcExecutor.execute(executionGroupContext, callback);
+        ResultCache.getInstance().invalidate(connectionSession, anyExecutionContext.getSqlStatementContext().getTablesContext().getTableNames());
         int result = 0;
         for (int[] eachResult : executeResults) {
             for (int each : eachResult) {
@@ -190,8 +193,12 @@ public final class PostgreSQLBatchedStatementsExecutor {
     
     private static class BatchedStatementsJDBCExecutorCallback extends JDBCExecutorCallback<int[]> {
         
-        BatchedStatementsJDBCExecutorCallback(final DatabaseType protocolType, final DatabaseType databaseType, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
+        private final JDBCBackendStatement backendStatement;
+        
+        BatchedStatementsJDBCExecutorCallback(final DatabaseType protocolType, final DatabaseType databaseType, final SQLStatement sqlStatement, final boolean isExceptionThrown,
+                                              final JDBCBackendStatement backendStatement) {
             super(protocolType, databaseType, sqlStatement, isExceptionThrown, ProxyContext.getInstance().getContextManager().getInstanceContext().getEventBusContext());
+            this.backendStatement = backendStatement;
         }
         
         @Override
@@ -199,7 +206,9 @@ public final class PostgreSQLBatchedStatementsExecutor {
             try {
                 return statement.executeBatch();
             } finally {
-                statement.close();
+                if (!backendStatement.releasePreparedStatement(statement)) {
+                    statement.close();
+                }
             }
         }
         
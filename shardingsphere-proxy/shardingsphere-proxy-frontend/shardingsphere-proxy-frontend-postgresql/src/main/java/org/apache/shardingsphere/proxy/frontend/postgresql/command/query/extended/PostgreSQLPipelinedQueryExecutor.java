@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
+
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLBindCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.OpenGaussDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.parse.PostgreSQLComParseExecutor;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.CommitStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.RollbackStatement;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Pipelined query executor for PostgreSQL.
+ * 
+ * <p>Executes a Parse (optional), Bind, Describe portal (optional) and Execute sequence as a unit.
+ * A query may be started before the responses of the queries pipelined ahead of it are built.</p>
+ */
+public final class PostgreSQLPipelinedQueryExecutor implements CommandExecutor {
+    
+    private final PostgreSQLConnectionContext connectionContext;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final PostgreSQLComParsePacket parsePacket;
+    
+    private final PostgreSQLComBindPacket bindPacket;
+    
+    private final PostgreSQLComDescribePacket describePacket;
+    
+    private final PostgreSQLComExecutePacket executePacket;
+    
+    private Collection<DatabasePacket<?>> parseResponses;
+    
+    private PostgreSQLPreparedStatement preparedStatement;
+    
+    private JDBCPortal portal;
+    
+    private CompletableFuture<Void> bindFuture;
+    
+    public PostgreSQLPipelinedQueryExecutor(final PostgreSQLConnectionContext connectionContext, final ConnectionSession connectionSession, final List<PostgreSQLCommandPacket> packets) {
+        this.connectionContext = connectionContext;
+        this.connectionSession = connectionSession;
+        int index = 0;
+        parsePacket = packets.get(index) instanceof PostgreSQLComParsePacket ? (PostgreSQLComParsePacket) packets.get(index++) : null;
+        bindPacket = (PostgreSQLComBindPacket) packets.get(index++);
+        describePacket = packets.get(index) instanceof PostgreSQLComDescribePacket ? (PostgreSQLComDescribePacket) packets.get(index++) : null;
+        executePacket = (PostgreSQLComExecutePacket) packets.get(index);
+    }
+    
+    /**
+     * Start query asynchronously if it could be pipelined.
+     * 
+     * <p>Only side effect free queries outside of transaction on PostgreSQL compatible storages are started ahead, others are left to {@link #execute()},
+     * because a query started ahead is still executed if a query before it fails.
+     * A prepared statement already in flight gets its own statement context, because parameters are set up on the statement context.</p>
+     *
+     * @param inFlightPreparedStatements prepared statements of the queries started ahead
+     * @return started or not
+     * @throws SQLException SQL exception
+     */
+    public boolean start(final Collection<PostgreSQLPreparedStatement> inFlightPreparedStatements) throws SQLException {
+        prepare();
+        if (null != portal || !isPipelinable()) {
+            return null != portal;
+        }
+        if (!inFlightPreparedStatements.add(preparedStatement)) {
+            preparedStatement = new PostgreSQLPreparedStatement(preparedStatement.getSql(), preparedStatement.getSqlStatement(), SQLStatementContextFactory.newInstance(
+                    ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases(), preparedStatement.getSqlStatement(),
+                    connectionSession.getDefaultDatabaseName()), preparedStatement.getParameterTypes());
+        }
+        portal = createPortal();
+        bindFuture = portal.bindAsync();
+        return true;
+    }
+    
+    private void prepare() {
+        if (null != preparedStatement) {
+            return;
+        }
+        parseResponses = null == parsePacket ? Collections.emptyList() : new PostgreSQLComParseExecutor(parsePacket, connectionSession).execute();
+        preparedStatement = connectionSession.getPreparedStatementRegistry().getPreparedStatement(bindPacket.getStatementId());
+    }
+    
+    private boolean isPipelinable() {
+        if (!(preparedStatement.getSqlStatement() instanceof SelectStatement) || !preparedStatement.getSqlStatementContext().isPresent()
+                || !PostgreSQLSideEffectFreeQueryChecker.isSideEffectFree(preparedStatement.getSql()) || !connectionSession.isAutoCommit() || connectionSession.getTransactionStatus().isInTransaction()
+                || null == connectionSession.getDefaultDatabaseName()) {
+            return false;
+        }
+        DatabaseType databaseType = ProxyContext.getInstance().getDatabase(connectionSession.getDefaultDatabaseName()).getResource().getDatabaseType();
+        return databaseType instanceof PostgreSQLDatabaseType || databaseType instanceof OpenGaussDatabaseType;
+    }
+    
+    private JDBCPortal createPortal() throws SQLException {
+        JDBCBackendConnection backendConnection = (JDBCBackendConnection) connectionSession.getBackendConnection();
+        return new JDBCPortal(bindPacket.getPortal(), preparedStatement, bindPacket.readParameters(preparedStatement.getParameterTypes()), bindPacket.readResultFormats(), backendConnection);
+    }
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
+        prepare();
+        List<DatabasePacket<?>> result = new LinkedList<>(parseResponses);
+        if (null == portal) {
+            portal = createPortal();
+            connectionContext.addPortal(portal);
+            portal.bind();
+        } else {
+            connectionContext.addPortal(portal);
+            awaitBinding();
+        }
+        result.add(PostgreSQLBindCompletePacket.getInstance());
+        if (null != describePacket) {
+            result.add(portal.describe());
+        }
+        result.addAll(portal.execute(executePacket.getMaxRows()));
+        return result;
+    }
+    
+    private void awaitBinding() throws SQLException {
+        try {
+            bindFuture.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+    
+    /**
+     * Wait for the query started ahead to finish, ignoring its failure.
+     */
+    public void waitForStartedQuery() {
+        if (null != bindFuture) {
+            bindFuture.handle((unused, ex) -> null).join();
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (null != portal && (portal.getSqlStatement() instanceof CommitStatement || portal.getSqlStatement() instanceof RollbackStatement)) {
+            connectionContext.closeAllPortals();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+
+/**
+ * Side effect free query checker for PostgreSQL.
+ * 
+ * <p>A query started ahead is executed even if a query before it in the same pipeline fails, so only queries without side effects could be pipelined.
+ * The check is lexical and conservative: any word followed by a parenthesis which is not a known keyword or built-in is regarded as a function call,
+ * and words which indicate data modification or row locking disqualify the query.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLSideEffectFreeQueryChecker {
+    
+    private static final Collection<String> NON_FUNCTION_WORDS_BEFORE_PARENTHESIS = new HashSet<>(Arrays.asList(
+            "SELECT", "FROM", "WHERE", "AND", "OR", "NOT", "IN", "EXISTS", "ANY", "SOME", "ALL", "AS", "ON", "USING", "JOIN", "LATERAL", "VALUES", "BY", "HAVING",
+            "WHEN", "THEN", "ELSE", "CASE", "BETWEEN", "LIKE", "ILIKE", "IS", "DISTINCT", "UNION", "INTERSECT", "EXCEPT", "LIMIT", "OFFSET", "OVER", "FILTER", "GROUP",
+            "ROW", "ARRAY", "CAST", "COALESCE", "NULLIF", "GREATEST", "LEAST", "COUNT", "SUM", "AVG", "MIN", "MAX",
+            "NUMERIC", "DECIMAL", "VARCHAR", "CHAR", "CHARACTER", "VARYING", "TIMESTAMP", "TIME", "INTERVAL", "BIT"));
+    
+    private static final Collection<String> SIDE_EFFECT_WORDS = new HashSet<>(Arrays.asList("INSERT", "UPDATE", "DELETE", "MERGE", "INTO", "SHARE"));
+    
+    /**
+     * Judge whether query is free of side effects.
+     *
+     * @param sql SQL of query
+     * @return is free of side effects or not
+     */
+    public static boolean isSideEffectFree(final String sql) {
+        int length = sql.length();
+        int index = 0;
+        String previousWord = null;
+        while (index < length) {
+            char current = sql.charAt(index);
+            if ('(' == current && null != previousWord && !NON_FUNCTION_WORDS_BEFORE_PARENTHESIS.contains(previousWord)) {
+                return false;
+            }
+            if (Character.isWhitespace(current)) {
+                index++;
+                continue;
+            }
+            previousWord = null;
+            if ('\'' == current) {
+                index = skipStringLiteral(sql, index, isEscapeStringPrefixed(sql, index));
+            } else if ('"' == current) {
+                index = skipQuoted(sql, index, '"');
+                previousWord = "\"";
+            } else if ('-' == current && sql.startsWith("--", index)) {
+                index = skipLineComment(sql, index);
+            } else if ('/' == current && sql.startsWith("/*", index)) {
+                index = skipBlockComment(sql, index);
+            } else if ('$' == current && index + 1 < length && !Character.isDigit(sql.charAt(index + 1))) {
+                index = skipDollarQuoted(sql, index);
+            } else if (Character.isLetter(current) || '_' == current) {
+                int end = index;
+                while (end < length && (Character.isLetterOrDigit(sql.charAt(end)) || '_' == sql.charAt(end) || '$' == sql.charAt(end))) {
+                    end++;
+                }
+                previousWord = sql.substring(index, end).toUpperCase(Locale.ROOT);
+                if (SIDE_EFFECT_WORDS.contains(previousWord)) {
+                    return false;
+                }
+                index = end;
+            } else {
+                index++;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isEscapeStringPrefixed(final String sql, final int quoteIndex) {
+        return quoteIndex > 0 && 'E' == Character.toUpperCase(sql.charAt(quoteIndex - 1)) && (1 == quoteIndex || !Character.isLetterOrDigit(sql.charAt(quoteIndex - 2)));
+    }
+    
+    private static int skipStringLiteral(final String sql, final int startIndex, final boolean backslashEscaped) {
+        int index = startIndex + 1;
+        while (index < sql.length()) {
+            char current = sql.charAt(index);
+            if (backslashEscaped && '\\' == current) {
+                index += 2;
+                continue;
+            }
+            if ('\'' == current) {
+                if (index + 1 < sql.length() && '\'' == sql.charAt(index + 1)) {
+                    index += 2;
+                    continue;
+                }
+                return index + 1;
+            }
+            index++;
+        }
+        return index;
+    }
+    
+    private static int skipQuoted(final String sql, final int startIndex, final char quote) {
+        int result = sql.indexOf(quote, startIndex + 1);
+        return result < 0 ? sql.length() : result + 1;
+    }
+    
+    private static int skipLineComment(final String sql, final int startIndex) {
+        int result = sql.indexOf('\n', startIndex);
+        return result < 0 ? sql.length() : result + 1;
+    }
+    
+    private static int skipBlockComment(final String sql, final int startIndex) {
+        int result = sql.indexOf("*/", startIndex + 2);
+        return result < 0 ? sql.length() : result + 2;
+    }
+    
+    private static int skipDollarQuoted(final String sql, final int startIndex) {
+        int tagEnd = sql.indexOf('$', startIndex + 1);
+        if (tagEnd < 0) {
+            return sql.length();
+        }
+        String tag = sql.substring(startIndex, tagEnd + 1);
+        int result = sql.indexOf(tag, tagEnd + 1);
+        return result < 0 ? sql.length() : result + tag.length();
+    }
+}
@@ -31,6 +31,7 @@ import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.SharedPreparedStatementCache;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLPreparedStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.ParameterMarkerType;
@@ -52,19 +53,17 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class PostgreSQLComParseExecutor implements CommandExecutor {
     
+    private static final SharedPreparedStatementCache<PostgreSQLPreparedStatementTemplate> TEMPLATES = new SharedPreparedStatementCache<>();
+    
     private final PostgreSQLComParsePacket packet;
     
     private final ConnectionSession connectionSession;
     
     @Override
     public Collection<DatabasePacket<?>> execute() {
-        ShardingSphereSQLParserEngine sqlParserEngine = null;
-        String sql = packet.getSql();
-        SQLStatement sqlStatement = sql.trim().isEmpty() ? new EmptyStatement() : (sqlParserEngine = createShardingSphereSQLParserEngine(connectionSession.getDatabaseName())).parse(sql, true);
-        if (sqlStatement.getParameterCount() > 0) {
-            sql = convertSQLToJDBCStyle(sqlStatement, sql);
-            sqlStatement = sqlParserEngine.parse(sql, true);
-        }
+        PostgreSQLPreparedStatementTemplate template = TEMPLATES.get(connectionSession.getDatabaseName(), packet.getSql(), this::createTemplate);
+        String sql = template.getSql();
+        SQLStatement sqlStatement = template.getSqlStatement();
         List<PostgreSQLColumnType> paddedColumnTypes = paddingColumnTypes(sqlStatement.getParameterCount(), packet.readParameterTypes());
         SQLStatementContext<?> sqlStatementContext = !(sqlStatement instanceof DistSQLStatement || sqlStatement instanceof EmptyStatement)
                 ? SQLStatementContextFactory.newInstance(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases(),
@@ -74,6 +73,20 @@ public final class PostgreSQLComParseExecutor implements CommandExecutor {
         return Collections.singletonList(PostgreSQLParseCompletePacket.getInstance());
     }
     
+    private PostgreSQLPreparedStatementTemplate createTemplate() {
+        String sql = packet.getSql();
+        if (sql.trim().isEmpty()) {
+            return new PostgreSQLPreparedStatementTemplate(sql, new EmptyStatement());
+        }
+        ShardingSphereSQLParserEngine sqlParserEngine = createShardingSphereSQLParserEngine(connectionSession.getDatabaseName());
+        SQLStatement sqlStatement = sqlParserEngine.parse(sql, true);
+        if (sqlStatement.getParameterCount() > 0) {
+            sql = convertSQLToJDBCStyle(sqlStatement, sql);
+            sqlStatement = sqlParserEngine.parse(sql, true);
+        }
+        return new PostgreSQLPreparedStatementTemplate(sql, sqlStatement);
+    }
+    
     private ShardingSphereSQLParserEngine createShardingSphereSQLParserEngine(final String databaseName) {
         MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
         SQLParserRule sqlParserRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
@@ -17,12 +17,15 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
 
+import io.vertx.core.Future;
+import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLEmptyQueryResponsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLNoDataPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLPortalSuspendedPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLParameterStatusPacket;
@@ -72,6 +75,7 @@ import java.util.List;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -149,6 +153,18 @@ public final class JDBCPortalTest extends ProxyContextRestorer {
         assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLCommandCompletePacket.class));
     }
     
+    @Test
+    public void assertBindFuture() throws SQLException {
+        QueryResponseHeader responseHeader = mock(QueryResponseHeader.class);
+        QueryHeader queryHeader = new QueryHeader("schema", "table", "columnLabel", "columnName", Types.INTEGER, "columnTypeName", 0, 0, false, false, false, false);
+        when(responseHeader.getQueryHeaders()).thenReturn(Collections.singletonList(queryHeader));
+        when(proxyBackendHandler.executeFuture()).thenReturn(Future.succeededFuture(responseHeader));
+        PostgreSQLPreparedStatement preparedStatement = new PostgreSQLPreparedStatement("", new PostgreSQLSelectStatement(), mock(SelectStatementContext.class), Collections.emptyList());
+        JDBCPortal portal = new JDBCPortal("", preparedStatement, Collections.emptyList(), Collections.emptyList(), backendConnection);
+        assertTrue(portal.bindFuture().succeeded());
+        assertThat(portal.describe(), instanceOf(PostgreSQLRowDescriptionPacket.class));
+    }
+    
     @Test
     public void assertExecuteSelectStatementAndPortalSuspended() throws SQLException {
         QueryResponseHeader responseHeader = mock(QueryResponseHeader.class);
@@ -172,6 +188,25 @@ public final class JDBCPortalTest extends ProxyContextRestorer {
         assertThat(actualPacketsIterator.next(), instanceOf(PostgreSQLPortalSuspendedPacket.class));
     }
     
+    @Test
+    public void assertExecuteSelectStatementWithBinaryResultFormat() throws SQLException {
+        QueryResponseHeader responseHeader = mock(QueryResponseHeader.class);
+        QueryHeader intHeader = new QueryHeader("schema", "table", "id", "id", Types.INTEGER, "int4", 0, 0, false, false, false, false);
+        QueryHeader xmlHeader = new QueryHeader("schema", "table", "doc", "doc", Types.SQLXML, "xml", 0, 0, false, false, false, false);
+        when(responseHeader.getQueryHeaders()).thenReturn(Arrays.asList(intHeader, xmlHeader));
+        when(proxyBackendHandler.execute()).thenReturn(responseHeader);
+        when(proxyBackendHandler.next()).thenReturn(true, false);
+        when(proxyBackendHandler.getRowData()).thenReturn(new QueryResponseRow(Arrays.asList(new QueryResponseCell(Types.INTEGER, 1), new QueryResponseCell(Types.SQLXML, "<a/>"))));
+        PostgreSQLPreparedStatement preparedStatement = new PostgreSQLPreparedStatement("", new PostgreSQLSelectStatement(), mock(SelectStatementContext.class), Collections.emptyList());
+        JDBCPortal portal = new JDBCPortal("", preparedStatement, Collections.emptyList(), Collections.singletonList(PostgreSQLValueFormat.BINARY), backendConnection);
+        portal.bind();
+        Iterator<Object> actualData = ((PostgreSQLDataRowPacket) portal.execute(0).iterator().next()).getData().iterator();
+        BinaryCell actualBinaryCell = (BinaryCell) actualData.next();
+        assertThat(actualBinaryCell.getColumnType(), is(PostgreSQLColumnType.POSTGRESQL_TYPE_INT4));
+        assertThat(actualBinaryCell.getData(), is(1));
+        assertThat(actualData.next(), is("<a/>"));
+    }
+    
     @Test
     public void assertExecuteUpdate() throws SQLException {
         when(proxyBackendHandler.execute()).thenReturn(mock(UpdateResponseHeader.class));
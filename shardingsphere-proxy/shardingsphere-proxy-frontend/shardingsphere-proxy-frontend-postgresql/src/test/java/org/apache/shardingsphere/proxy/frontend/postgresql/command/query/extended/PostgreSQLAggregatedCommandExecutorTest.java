@@ -21,9 +21,11 @@ import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedResponsesPacket;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.junit.Test;
+import org.mockito.InOrder;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -31,7 +33,11 @@ import java.util.List;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class PostgreSQLAggregatedCommandExecutorTest {
@@ -51,4 +57,35 @@ public final class PostgreSQLAggregatedCommandExecutorTest {
         assertThat(actualPackets.size(), is(1));
         assertThat(actualPackets.iterator().next(), instanceOf(PostgreSQLAggregatedResponsesPacket.class));
     }
+    
+    @Test
+    public void assertExecutePipelinedQueries() throws SQLException {
+        PostgreSQLPipelinedQueryExecutor firstExecutor = mock(PostgreSQLPipelinedQueryExecutor.class);
+        PostgreSQLPipelinedQueryExecutor secondExecutor = mock(PostgreSQLPipelinedQueryExecutor.class);
+        CommandExecutor syncExecutor = mock(CommandExecutor.class);
+        when(firstExecutor.start(anyCollection())).thenReturn(true);
+        when(secondExecutor.start(anyCollection())).thenReturn(true);
+        new PostgreSQLAggregatedCommandExecutor(Arrays.asList(firstExecutor, secondExecutor, syncExecutor)).execute();
+        InOrder inOrder = inOrder(firstExecutor, secondExecutor, syncExecutor);
+        inOrder.verify(firstExecutor).start(anyCollection());
+        inOrder.verify(secondExecutor).start(anyCollection());
+        inOrder.verify(firstExecutor).execute();
+        inOrder.verify(secondExecutor).execute();
+        inOrder.verify(syncExecutor).execute();
+        verify(secondExecutor, times(1)).start(anyCollection());
+    }
+    
+    @Test
+    public void assertExecuteNotPipelinableQuery() throws SQLException {
+        PostgreSQLPipelinedQueryExecutor firstExecutor = mock(PostgreSQLPipelinedQueryExecutor.class);
+        PostgreSQLPipelinedQueryExecutor secondExecutor = mock(PostgreSQLPipelinedQueryExecutor.class);
+        when(firstExecutor.start(anyCollection())).thenReturn(false);
+        when(secondExecutor.start(anyCollection())).thenReturn(true);
+        new PostgreSQLAggregatedCommandExecutor(Arrays.asList(firstExecutor, secondExecutor)).execute();
+        InOrder inOrder = inOrder(firstExecutor, secondExecutor);
+        inOrder.verify(firstExecutor).start(anyCollection());
+        inOrder.verify(firstExecutor).execute();
+        inOrder.verify(secondExecutor).start(anyCollection());
+        inOrder.verify(secondExecutor).execute();
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
+
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLEmptyQueryResponsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLBindCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.PreparedStatementRegistry;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.EmptyStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLSelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLPipelinedQueryExecutorTest {
+    
+    @Mock
+    private PostgreSQLConnectionContext connectionContext;
+    
+    @Mock
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private PostgreSQLComBindPacket bindPacket;
+    
+    @Mock
+    private PostgreSQLComExecutePacket executePacket;
+    
+    @Before
+    public void setUp() {
+        when(connectionSession.getPreparedStatementRegistry()).thenReturn(new PreparedStatementRegistry());
+        connectionSession.getPreparedStatementRegistry().addPreparedStatement("S_1", new PostgreSQLPreparedStatement("", new EmptyStatement(), null, Collections.emptyList()));
+        when(bindPacket.getStatementId()).thenReturn("S_1");
+    }
+    
+    @Test
+    public void assertStartNotPipelinableQuery() throws SQLException {
+        PostgreSQLPipelinedQueryExecutor executor = new PostgreSQLPipelinedQueryExecutor(connectionContext, connectionSession, Arrays.asList(bindPacket, executePacket));
+        assertFalse(executor.start(new HashSet<>()));
+    }
+    
+    @Test
+    public void assertStartQueryWithFunctionCall() throws SQLException {
+        connectionSession.getPreparedStatementRegistry().addPreparedStatement("S_1",
+                new PostgreSQLPreparedStatement("SELECT nextval('seq')", new PostgreSQLSelectStatement(), mock(SQLStatementContext.class), Collections.emptyList()));
+        PostgreSQLPipelinedQueryExecutor executor = new PostgreSQLPipelinedQueryExecutor(connectionContext, connectionSession, Arrays.asList(bindPacket, executePacket));
+        assertFalse(executor.start(new HashSet<>()));
+    }
+    
+    @Test
+    public void assertExecuteNotPipelinableQuery() throws SQLException {
+        JDBCBackendConnection backendConnection = mock(JDBCBackendConnection.class);
+        when(connectionSession.getBackendConnection()).thenReturn(backendConnection);
+        when(backendConnection.getConnectionSession()).thenReturn(connectionSession);
+        when(bindPacket.getPortal()).thenReturn("");
+        when(bindPacket.readParameters(anyList())).thenReturn(Collections.emptyList());
+        when(bindPacket.readResultFormats()).thenReturn(Collections.emptyList());
+        PostgreSQLPipelinedQueryExecutor executor = new PostgreSQLPipelinedQueryExecutor(connectionContext, connectionSession, Arrays.asList(bindPacket, executePacket));
+        Iterator<DatabasePacket<?>> actual = executor.execute().iterator();
+        assertThat(actual.next(), is(PostgreSQLBindCompletePacket.getInstance()));
+        assertThat(actual.next(), instanceOf(PostgreSQLEmptyQueryResponsePacket.class));
+        assertFalse(actual.hasNext());
+        verify(connectionContext).addPortal(any(JDBCPortal.class));
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class PostgreSQLSideEffectFreeQueryCheckerTest {
+    
+    @Test
+    public void assertIsSideEffectFree() {
+        assertTrue(PostgreSQLSideEffectFreeQueryChecker.isSideEffectFree("SELECT * FROM t_order WHERE order_id IN (SELECT order_id FROM t_order_item WHERE user_id = $1)"));
+        assertTrue(PostgreSQLSideEffectFreeQueryChecker.isSideEffectFree("SELECT count(*), CAST(order_id AS NUMERIC(10, 2)) FROM t_order"));
+        assertTrue(PostgreSQLSideEffectFreeQueryChecker.isSideEffectFree("SELECT 'f(1)', \"order\" FROM t_order -- nextval('s')\n WHERE status = $tag$ g() $tag$"));
+    }
+    
+    @Test
+    public void assertIsNotSideEffectFreeWithFunctionCall() {
+        assertFalse(PostgreSQLSideEffectFreeQueryChecker.isSideEffectFree("SELECT nextval('seq')"));
+        assertFalse(PostgreSQLSideEffectFreeQueryChecker.isSideEffectFree("SELECT * FROM t_order WHERE order_id = pg_catalog.f (1)"));
+        assertFalse(PostgreSQLSideEffectFreeQueryChecker.isSideEffectFree("SELECT \"myFunction\"(1)"));
+        assertFalse(PostgreSQLSideEffectFreeQueryChecker.isSideEffectFree("SELECT E'\\'', f(1)"));
+    }
+    
+    @Test
+    public void assertIsNotSideEffectFreeWithModificationOrLocking() {
+        assertFalse(PostgreSQLSideEffectFreeQueryChecker.isSideEffectFree("SELECT * INTO t_order_copy FROM t_order"));
+        assertFalse(PostgreSQLSideEffectFreeQueryChecker.isSideEffectFree("WITH deleted AS (DELETE FROM t_order RETURNING *) SELECT * FROM deleted"));
+        assertFalse(PostgreSQLSideEffectFreeQueryChecker.isSideEffectFree("SELECT * FROM t_order FOR UPDATE"));
+        assertFalse(PostgreSQLSideEffectFreeQueryChecker.isSideEffectFree("SELECT * FROM t_order FOR SHARE"));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.reactive.postgresql.command.query.simple;
+
+import io.vertx.core.Future;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLEmptyQueryResponsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.handshake.PostgreSQLParameterStatusPacket;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
+import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
+import org.apache.shardingsphere.proxy.frontend.reactive.command.executor.ReactiveCommandExecutor;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.EmptyStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.CommitStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.RollbackStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Reactive command query executor for PostgreSQL.
+ */
+public final class ReactivePostgreSQLComQueryExecutor implements ReactiveCommandExecutor {
+    
+    private final PostgreSQLConnectionContext connectionContext;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final ProxyBackendHandler proxyBackendHandler;
+    
+    public ReactivePostgreSQLComQueryExecutor(final PostgreSQLConnectionContext connectionContext, final PostgreSQLComQueryPacket packet,
+                                              final ConnectionSession connectionSession) throws SQLException {
+        this.connectionContext = connectionContext;
+        this.connectionSession = connectionSession;
+        proxyBackendHandler = ProxyBackendHandlerFactory.newInstance(DatabaseTypeFactory.getInstance("PostgreSQL"), packet.getSql(), connectionSession);
+    }
+    
+    @Override
+    public Future<Collection<DatabasePacket<?>>> executeFuture() {
+        return proxyBackendHandler.executeFuture().compose(responseHeader -> {
+            try {
+                return Future.succeededFuture(createResponsePackets(responseHeader));
+            } catch (final SQLException ex) {
+                return Future.failedFuture(ex);
+            }
+        });
+    }
+    
+    private Collection<DatabasePacket<?>> createResponsePackets(final ResponseHeader responseHeader) throws SQLException {
+        List<DatabasePacket<?>> result = new LinkedList<>();
+        if (responseHeader instanceof QueryResponseHeader) {
+            result.add(createRowDescriptionPacket((QueryResponseHeader) responseHeader));
+            long dataRows = 0;
+            while (proxyBackendHandler.next()) {
+                result.add(new PostgreSQLDataRowPacket(proxyBackendHandler.getTextRowData()));
+                dataRows++;
+            }
+            result.add(new PostgreSQLCommandCompletePacket(PostgreSQLCommand.SELECT.name(), dataRows));
+        } else {
+            result.addAll(createUpdatePackets((UpdateResponseHeader) responseHeader));
+        }
+        result.add(connectionSession.getTransactionStatus().isInTransaction() ? PostgreSQLReadyForQueryPacket.IN_TRANSACTION : PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION);
+        return result;
+    }
+    
+    private PostgreSQLRowDescriptionPacket createRowDescriptionPacket(final QueryResponseHeader queryResponseHeader) {
+        Collection<PostgreSQLColumnDescription> columnDescriptions = new LinkedList<>();
+        int columnIndex = 0;
+        for (QueryHeader each : queryResponseHeader.getQueryHeaders()) {
+            columnDescriptions.add(new PostgreSQLColumnDescription(each.getColumnLabel(), ++columnIndex, each.getColumnType(), each.getColumnLength(), each.getColumnTypeName()));
+        }
+        return new PostgreSQLRowDescriptionPacket(columnDescriptions.size(), columnDescriptions);
+    }
+    
+    private Collection<DatabasePacket<?>> createUpdatePackets(final UpdateResponseHeader updateResponseHeader) {
+        SQLStatement sqlStatement = updateResponseHeader.getSqlStatement();
+        if (sqlStatement instanceof CommitStatement || sqlStatement instanceof RollbackStatement) {
+            connectionContext.closeAllPortals();
+        }
+        Collection<DatabasePacket<?>> result = new LinkedList<>();
+        if (sqlStatement instanceof SetStatement) {
+            result.add(new PostgreSQLCommandCompletePacket("SET", 0));
+            for (VariableAssignSegment each : ((SetStatement) sqlStatement).getVariableAssigns()) {
+                result.add(new PostgreSQLParameterStatusPacket(each.getVariable().getVariable(), IdentifierValue.getQuotedContent(each.getAssignValue())));
+            }
+            return result;
+        }
+        result.add(sqlStatement instanceof EmptyStatement ? new PostgreSQLEmptyQueryResponsePacket()
+                : new PostgreSQLCommandCompletePacket(PostgreSQLCommand.valueOf(sqlStatement.getClass()).map(PostgreSQLCommand::getTag).orElse(""), updateResponseHeader.getUpdateCount()));
+        return result;
+    }
+    
+    @Override
+    public Future<Void> closeFuture() {
+        try {
+            proxyBackendHandler.close();
+            return Future.succeededFuture();
+        } catch (final SQLException ex) {
+            return Future.failedFuture(ex);
+        }
+    }
+}
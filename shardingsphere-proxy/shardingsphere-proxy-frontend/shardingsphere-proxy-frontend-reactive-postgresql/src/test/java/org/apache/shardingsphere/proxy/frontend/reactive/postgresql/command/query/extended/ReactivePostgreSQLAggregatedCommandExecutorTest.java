@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.reactive.postgresql.command.query.extended;
+
+import io.vertx.core.Future;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedResponsesPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLBindCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.proxy.frontend.reactive.command.executor.ReactiveCommandExecutor;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ReactivePostgreSQLAggregatedCommandExecutorTest {
+    
+    @Mock
+    private ReactiveCommandExecutor bindExecutor;
+    
+    @Mock
+    private ReactiveCommandExecutor syncExecutor;
+    
+    @Test
+    public void assertExecuteFuture() {
+        when(bindExecutor.executeFuture()).thenReturn(Future.succeededFuture(Collections.singletonList(PostgreSQLBindCompletePacket.getInstance())));
+        when(bindExecutor.closeFuture()).thenReturn(Future.succeededFuture());
+        when(syncExecutor.executeFuture()).thenReturn(Future.succeededFuture(Collections.singletonList(PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION)));
+        when(syncExecutor.closeFuture()).thenReturn(Future.succeededFuture());
+        Future<Collection<DatabasePacket<?>>> actual = new ReactivePostgreSQLAggregatedCommandExecutor(Arrays.asList(bindExecutor, syncExecutor)).executeFuture();
+        assertTrue(actual.succeeded());
+        assertThat(actual.result().size(), is(1));
+        assertThat(actual.result().iterator().next(), instanceOf(PostgreSQLAggregatedResponsesPacket.class));
+        InOrder inOrder = inOrder(bindExecutor, syncExecutor);
+        inOrder.verify(bindExecutor).executeFuture();
+        inOrder.verify(bindExecutor).closeFuture();
+        inOrder.verify(syncExecutor).executeFuture();
+        inOrder.verify(syncExecutor).closeFuture();
+    }
+    
+    @Test
+    public void assertExecuteFutureFailed() {
+        SQLException cause = new SQLException("");
+        when(bindExecutor.executeFuture()).thenReturn(Future.failedFuture(cause));
+        when(bindExecutor.closeFuture()).thenReturn(Future.succeededFuture());
+        Future<Collection<DatabasePacket<?>>> actual = new ReactivePostgreSQLAggregatedCommandExecutor(Arrays.asList(bindExecutor, syncExecutor)).executeFuture();
+        assertTrue(actual.failed());
+        assertThat(actual.cause(), is(cause));
+        verify(bindExecutor).closeFuture();
+        verify(syncExecutor, never()).executeFuture();
+    }
+}
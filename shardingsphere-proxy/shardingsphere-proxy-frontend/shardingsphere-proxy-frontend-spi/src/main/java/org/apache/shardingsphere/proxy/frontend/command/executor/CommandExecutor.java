@@ -21,6 +21,7 @@ import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Command executor.
@@ -35,6 +36,21 @@ public interface CommandExecutor {
      */
     Collection<DatabasePacket<?>> execute() throws SQLException;
     
+    /**
+     * Execute command asynchronously.
+     *
+     * @return future of database packets to be sent
+     */
+    default CompletableFuture<Collection<DatabasePacket<?>>> executeAsync() {
+        CompletableFuture<Collection<DatabasePacket<?>>> result = new CompletableFuture<>();
+        try {
+            result.complete(execute());
+        } catch (final SQLException ex) {
+            result.completeExceptionally(ex);
+        }
+        return result;
+    }
+    
     /**
      * Close command executor.
      *
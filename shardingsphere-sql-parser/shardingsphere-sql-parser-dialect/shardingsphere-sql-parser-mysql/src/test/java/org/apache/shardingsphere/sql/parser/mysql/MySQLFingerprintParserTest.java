@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql;
+
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLFingerprintParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLFingerprintParserTest {
+    
+    private final SQLVisitorEngine visitorEngine = new SQLVisitorEngine("MySQL", "STATEMENT", false, new Properties());
+    
+    @Test
+    public void assertParseWithSameFingerprint() {
+        SQLFingerprintParserEngine engine = new SQLFingerprintParserEngine("MySQL", new CacheOption(128, 1024L));
+        assertLiteral(engine.parse("SELECT * FROM t_order WHERE order_id = 10", visitorEngine), 10, 40);
+        assertLiteral(engine.parse("SELECT * FROM t_order WHERE order_id = 20", visitorEngine), 20, 40);
+        assertThat(engine.getHitCount(), is(1L));
+        assertThat(engine.getMissCount(), is(1L));
+    }
+    
+    @Test
+    public void assertParseWithDifferentLiteralLength() {
+        SQLFingerprintParserEngine engine = new SQLFingerprintParserEngine("MySQL", new CacheOption(128, 1024L));
+        assertLiteral(engine.parse("SELECT * FROM t_order WHERE order_id = 10", visitorEngine), 10, 40);
+        assertLiteral(engine.parse("SELECT * FROM t_order WHERE order_id = 100", visitorEngine), 100, 41);
+        assertThat(engine.getHitCount(), is(1L));
+        assertThat(engine.getMissCount(), is(1L));
+    }
+    
+    @Test
+    public void assertParseWithStringLiteral() {
+        SQLFingerprintParserEngine engine = new SQLFingerprintParserEngine("MySQL", new CacheOption(128, 1024L));
+        engine.parse("SELECT * FROM t_user WHERE name = 'foo'", visitorEngine);
+        SelectStatement actual = engine.parse("SELECT * FROM t_user WHERE name = 'bar'", visitorEngine);
+        BinaryOperationExpression expression = (BinaryOperationExpression) actual.getWhere().get().getExpr();
+        assertThat(((LiteralExpressionSegment) expression.getRight()).getLiterals(), is("bar"));
+        assertThat(engine.getHitCount(), is(1L));
+    }
+    
+    @Test
+    public void assertParseWithDifferentLiteralLengthBeforeOtherSegments() {
+        SQLFingerprintParserEngine engine = new SQLFingerprintParserEngine("MySQL", new CacheOption(128, 1024L));
+        engine.parse("SELECT * FROM t_user WHERE name = 'foo' AND user_id = 1", visitorEngine);
+        SelectStatement actual = engine.parse("SELECT * FROM t_user WHERE name = 'foobar' AND user_id = 10", visitorEngine);
+        BinaryOperationExpression expression = (BinaryOperationExpression) actual.getWhere().get().getExpr();
+        BinaryOperationExpression userIdExpression = (BinaryOperationExpression) expression.getRight();
+        assertThat(((LiteralExpressionSegment) ((BinaryOperationExpression) expression.getLeft()).getRight()).getLiterals(), is("foobar"));
+        assertThat(userIdExpression.getText(), is("user_id = 10"));
+        assertThat(userIdExpression.getStartIndex(), is(47));
+        assertThat(((LiteralExpressionSegment) userIdExpression.getRight()).getLiterals(), is(10));
+        assertThat(engine.getHitCount(), is(1L));
+    }
+    
+    private void assertLiteral(final SelectStatement actual, final Object expectedLiteral, final int expectedStopIndex) {
+        BinaryOperationExpression expression = (BinaryOperationExpression) actual.getWhere().get().getExpr();
+        LiteralExpressionSegment literal = (LiteralExpressionSegment) expression.getRight();
+        assertThat(literal.getLiterals(), is(expectedLiteral));
+        assertThat(literal.getStopIndex(), is(expectedStopIndex));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.api;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.database.fingerprint.SQLFingerprint;
+import org.apache.shardingsphere.sql.parser.core.database.fingerprint.SQLFingerprintExtractor;
+import org.apache.shardingsphere.sql.parser.core.database.fingerprint.SQLTemplateCharStream;
+import org.apache.shardingsphere.sql.parser.core.database.fingerprint.SQLTemplateToken;
+import org.apache.shardingsphere.sql.parser.core.database.parser.DatabaseTypedSQLParserFacadeFactory;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+
+/**
+ * SQL fingerprint parser engine.
+ * 
+ * <p>Parse trees are cached as templates keyed by SQL fingerprint, SQLs which only differ in literals share the same template
+ * and only lexing and visiting are needed for them, the tokens lexed from current SQL are bound to the template before visiting.</p>
+ */
+public final class SQLFingerprintParserEngine {
+    
+    private final SQLFingerprintExtractor sqlFingerprintExtractor;
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    private final Cache<String, ParseASTNode> templateCache;
+    
+    public SQLFingerprintParserEngine(final String databaseType, final CacheOption cacheOption) {
+        sqlFingerprintExtractor = new SQLFingerprintExtractor(DatabaseTypedSQLParserFacadeFactory.getInstance(databaseType).getLexerClass());
+        sqlParserExecutor = new SQLParserExecutor(databaseType);
+        templateCache = Caffeine.newBuilder().softValues().initialCapacity(cacheOption.getInitialCapacity()).maximumSize(cacheOption.getMaximumSize()).recordStats().build();
+    }
+    
+    /**
+     * Parse SQL and visit it.
+     *
+     * @param sql SQL to be parsed
+     * @param visitorEngine SQL visitor engine
+     * @param <T> type of SQL visitor result
+     * @return SQL visitor result
+     */
+    public <T> T parse(final String sql, final SQLVisitorEngine visitorEngine) {
+        SQLTemplateCharStream.bind(sql);
+        try {
+            SQLFingerprint fingerprint = sqlFingerprintExtractor.extract(sql);
+            SQLTemplateToken.bind(fingerprint.getTokenStream().getTokens());
+            ParseASTNode template = templateCache.getIfPresent(fingerprint.getValue());
+            if (null == template) {
+                template = sqlParserExecutor.parse(sql, fingerprint.getTokenStream());
+                templateCache.put(fingerprint.getValue(), template);
+            }
+            return visitorEngine.visit(template);
+        } finally {
+            SQLTemplateToken.unbind();
+            SQLTemplateCharStream.unbind();
+        }
+    }
+    
+    /**
+     * Get hit count of fingerprint cache.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return templateCache.stats().hitCount();
+    }
+    
+    /**
+     * Get miss count of fingerprint cache.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return templateCache.stats().missCount();
+    }
+}
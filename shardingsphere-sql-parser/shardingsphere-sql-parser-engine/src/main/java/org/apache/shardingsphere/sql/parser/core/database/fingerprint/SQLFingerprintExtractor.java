@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fingerprint;
+
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * SQL fingerprint extractor.
+ * 
+ * <p>Fingerprint consists of the type and text of every token, literals are normalized to a fixed placeholder and token positions are excluded,
+ * so SQLs which only differ in literal values share the same fingerprint regardless of literal lengths.
+ * Literal values and positions are re-bound to the cached template by {@link SQLTemplateToken}.</p>
+ */
+@RequiredArgsConstructor
+public final class SQLFingerprintExtractor {
+    
+    private static final Collection<String> LITERAL_TOKEN_NAMES = new HashSet<>(Arrays.asList(
+            "STRING_", "SINGLE_QUOTED_TEXT", "NCHAR_TEXT", "NUMBER_", "INT_NUM_", "FLOAT_NUM_", "DECIMAL_NUM_", "INTEGER_", "HEX_DIGIT_", "BIT_NUM_"));
+    
+    private static final String LITERAL_PLACEHOLDER = "?";
+    
+    private final Class<? extends SQLLexer> lexerClass;
+    
+    /**
+     * Extract SQL fingerprint.
+     * 
+     * <p>SQL must be bound to {@link SQLTemplateCharStream} before extracting.</p>
+     *
+     * @param sql SQL to be extracted
+     * @return SQL fingerprint
+     */
+    public SQLFingerprint extract(final String sql) {
+        CommonTokenStream tokenStream = SQLParserFactory.newTokenStream(new SQLTemplateCharStream(), lexerClass);
+        Lexer lexer = (Lexer) tokenStream.getTokenSource();
+        lexer.setTokenFactory(new SQLTemplateTokenFactory());
+        tokenStream.fill();
+        Vocabulary vocabulary = lexer.getVocabulary();
+        StringBuilder result = new StringBuilder(sql.length() << 1);
+        for (Token each : tokenStream.getTokens()) {
+            String text = Token.EOF != each.getType() && LITERAL_TOKEN_NAMES.contains(vocabulary.getSymbolicName(each.getType())) ? LITERAL_PLACEHOLDER : each.getText();
+            result.append(each.getType()).append(',').append(text.length()).append(':').append(text);
+        }
+        return new SQLFingerprint(result.toString(), tokenStream);
+    }
+}
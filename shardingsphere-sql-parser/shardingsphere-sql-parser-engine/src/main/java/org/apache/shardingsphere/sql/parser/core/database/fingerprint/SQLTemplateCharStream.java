@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fingerprint;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.misc.Interval;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+
+import java.util.Objects;
+
+/**
+ * SQL template char stream.
+ * 
+ * <p>Tokens of a cached parse tree template read their text lazily from this stream, which delegates to the SQL bound to current thread.
+ * Binding another SQL with the same fingerprint makes the template visit as if it was parsed from that SQL.</p>
+ */
+public final class SQLTemplateCharStream implements CharStream {
+    
+    private static final ThreadLocal<CharStream> BOUND_CHAR_STREAM = new ThreadLocal<>();
+    
+    /**
+     * Bind SQL to current thread.
+     *
+     * @param sql SQL to be bound
+     */
+    public static void bind(final String sql) {
+        BOUND_CHAR_STREAM.set(SQLParserFactory.getSQLCharStream(sql));
+    }
+    
+    /**
+     * Unbind SQL from current thread.
+     */
+    public static void unbind() {
+        BOUND_CHAR_STREAM.remove();
+    }
+    
+    private CharStream getBoundCharStream() {
+        return Objects.requireNonNull(BOUND_CHAR_STREAM.get(), "No SQL is bound to SQL template char stream.");
+    }
+    
+    @Override
+    public String getText(final Interval interval) {
+        return getBoundCharStream().getText(interval);
+    }
+    
+    @Override
+    public void consume() {
+        getBoundCharStream().consume();
+    }
+    
+    @Override
+    public int LA(final int i) {
+        return getBoundCharStream().LA(i);
+    }
+    
+    @Override
+    public int mark() {
+        return getBoundCharStream().mark();
+    }
+    
+    @Override
+    public void release(final int marker) {
+        getBoundCharStream().release(marker);
+    }
+    
+    @Override
+    public int index() {
+        return getBoundCharStream().index();
+    }
+    
+    @Override
+    public void seek(final int index) {
+        getBoundCharStream().seek(index);
+    }
+    
+    @Override
+    public int size() {
+        return getBoundCharStream().size();
+    }
+    
+    @Override
+    public String getSourceName() {
+        return getBoundCharStream().getSourceName();
+    }
+}
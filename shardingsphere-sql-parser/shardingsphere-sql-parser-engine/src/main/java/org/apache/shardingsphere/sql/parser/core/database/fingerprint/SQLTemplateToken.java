@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fingerprint;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+
+import java.util.List;
+
+/**
+ * SQL template token.
+ * 
+ * <p>Tokens of a cached parse tree template read their positions and text from the token with the same index
+ * lexed from the SQL bound to current thread, so literals with different lengths are re-bound to the template.</p>
+ */
+public final class SQLTemplateToken extends CommonToken {
+    
+    private static final long serialVersionUID = -1509441765389573367L;
+    
+    private static final ThreadLocal<List<Token>> BOUND_TOKENS = new ThreadLocal<>();
+    
+    public SQLTemplateToken(final Pair<TokenSource, CharStream> source, final int type, final int channel, final int start, final int stop) {
+        super(source, type, channel, start, stop);
+    }
+    
+    public SQLTemplateToken(final int type, final String text) {
+        super(type, text);
+    }
+    
+    /**
+     * Bind tokens lexed from current SQL to current thread.
+     *
+     * @param tokens tokens to be bound
+     */
+    public static void bind(final List<Token> tokens) {
+        BOUND_TOKENS.set(tokens);
+    }
+    
+    /**
+     * Unbind tokens from current thread.
+     */
+    public static void unbind() {
+        BOUND_TOKENS.remove();
+    }
+    
+    private SQLTemplateToken getBoundToken() {
+        List<Token> tokens = BOUND_TOKENS.get();
+        if (null == tokens || index < 0 || index >= tokens.size()) {
+            return this;
+        }
+        Token result = tokens.get(index);
+        return result instanceof SQLTemplateToken ? (SQLTemplateToken) result : this;
+    }
+    
+    private String getLexedText() {
+        return super.getText();
+    }
+    
+    @Override
+    public String getText() {
+        return getBoundToken().getLexedText();
+    }
+    
+    @Override
+    public int getStartIndex() {
+        return getBoundToken().start;
+    }
+    
+    @Override
+    public int getStopIndex() {
+        return getBoundToken().stop;
+    }
+    
+    @Override
+    public int getLine() {
+        return getBoundToken().line;
+    }
+    
+    @Override
+    public int getCharPositionInLine() {
+        return getBoundToken().charPositionInLine;
+    }
+}